@@ -20,19 +20,22 @@ import com.google.common.eventbus.AsyncEventBus;
 import com.google.common.eventbus.EventBus;
 import com.google.common.eventbus.SubscriberExceptionContext;
 import com.google.common.eventbus.SubscriberExceptionHandler;
-import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import io.vertx.core.Vertx;
 import java.lang.reflect.Method;
 import java.nio.file.Path;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.Optional;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
 import tech.pegasys.artemis.data.recorder.SSZTransitionRecorder;
+import tech.pegasys.artemis.data.recorder.TransitionRecordConfig;
+import tech.pegasys.artemis.datastructures.util.RetainedSszEncodings;
 import tech.pegasys.artemis.events.ChannelExceptionHandler;
+import tech.pegasys.artemis.events.EventBusExecutor;
 import tech.pegasys.artemis.events.EventChannels;
 import tech.pegasys.artemis.metrics.MetricsEndpoint;
+import tech.pegasys.artemis.service.serviceutils.AsyncRunnerPools;
 import tech.pegasys.artemis.service.serviceutils.ServiceConfig;
 import tech.pegasys.artemis.services.ServiceController;
+import tech.pegasys.artemis.util.bls.BLS;
 import tech.pegasys.artemis.util.config.ArtemisConfiguration;
 import tech.pegasys.artemis.util.config.Constants;
 import tech.pegasys.artemis.util.time.SystemTimeProvider;
@@ -44,15 +47,15 @@ import tech.pegasys.teku.logging.StatusLogger;
 public class BeaconNode {
 
   private final Vertx vertx = Vertx.vertx();
-  private final ExecutorService threadPool =
-      Executors.newCachedThreadPool(
-          new ThreadFactoryBuilder().setDaemon(true).setNameFormat("events-%d").build());
 
   private final ServiceController serviceController;
   private final ServiceConfig serviceConfig;
   private final EventChannels eventChannels;
+  private final EventBusExecutor eventBusExecutor;
+  private final AsyncRunnerPools asyncRunnerPools;
   private final MetricsEndpoint metricsEndpoint;
   private final EventBus eventBus;
+  private final Optional<SSZTransitionRecorder> transitionRecorder;
 
   public BeaconNode(final ArtemisConfiguration config) {
 
@@ -61,18 +64,40 @@ public class BeaconNode {
     final EventBusExceptionHandler subscriberExceptionHandler =
         new EventBusExceptionHandler(STATUS_LOG);
     this.eventChannels = new EventChannels(subscriberExceptionHandler, metricsSystem);
-    this.eventBus = new AsyncEventBus(threadPool, subscriberExceptionHandler);
+    this.eventBusExecutor = EventBusExecutor.create(config.getEventBusThreads(), metricsSystem);
+    this.eventBus = new AsyncEventBus(eventBusExecutor, subscriberExceptionHandler);
+    this.asyncRunnerPools =
+        AsyncRunnerPools.create(
+            config.getAsyncCpuThreads(), config.getAsyncIoThreads(), metricsSystem);
 
     this.serviceConfig =
-        new ServiceConfig(new SystemTimeProvider(), eventBus, eventChannels, metricsSystem, config);
+        new ServiceConfig(
+            new SystemTimeProvider(),
+            eventBus,
+            eventChannels,
+            metricsSystem,
+            asyncRunnerPools,
+            RetainedSszEncodings.create(),
+            config);
     this.serviceConfig.getConfig().validateConfig();
     Constants.setConstants(config.getNetwork());
+    BLS.setBackend(config.getBlsBackend());
 
     final String transitionRecordDir = config.getTransitionRecordDirectory();
     if (transitionRecordDir != null) {
       SSZTransitionRecorder sszTransitionRecorder =
-          new SSZTransitionRecorder(Path.of(transitionRecordDir));
+          new SSZTransitionRecorder(
+              new TransitionRecordConfig(
+                  Path.of(transitionRecordDir),
+                  config.getTransitionRecordQueueCapacity(),
+                  config.isTransitionRecordCompressionEnabled(),
+                  config.isTransitionRecordDiffStatesEnabled(),
+                  config.getTransitionRecordMaxSlots(),
+                  config.getTransitionRecordMaxBytes()));
       eventBus.register(sszTransitionRecorder);
+      this.transitionRecorder = Optional.of(sszTransitionRecorder);
+    } else {
+      this.transitionRecorder = Optional.empty();
     }
 
     this.serviceController = new ServiceController(serviceConfig);
@@ -93,7 +118,10 @@ public class BeaconNode {
 
   public void stop() {
     serviceController.stop().reportExceptions();
+    transitionRecorder.ifPresent(SSZTransitionRecorder::stop);
     eventChannels.stop();
+    eventBusExecutor.stop();
+    asyncRunnerPools.stop();
     metricsEndpoint.stop();
     vertx.close();
   }
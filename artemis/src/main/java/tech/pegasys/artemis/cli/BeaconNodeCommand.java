@@ -27,6 +27,7 @@ import tech.pegasys.artemis.BeaconNode;
 import tech.pegasys.artemis.cli.options.BeaconRestApiOptions;
 import tech.pegasys.artemis.cli.options.DataOptions;
 import tech.pegasys.artemis.cli.options.DepositOptions;
+import tech.pegasys.artemis.cli.options.ExecutionOptions;
 import tech.pegasys.artemis.cli.options.InteropOptions;
 import tech.pegasys.artemis.cli.options.LoggingOptions;
 import tech.pegasys.artemis.cli.options.MetricsOptions;
@@ -97,6 +98,7 @@ public class BeaconNodeCommand implements Callable<Integer> {
   @Mixin private MetricsOptions metricsOptions;
   @Mixin private DataOptions dataOptions;
   @Mixin private BeaconRestApiOptions beaconRestApiOptions;
+  @Mixin private ExecutionOptions executionOptions;
 
   private ArtemisConfiguration artemisConfiguration;
   private BeaconNode node;
@@ -190,6 +192,10 @@ public class BeaconNodeCommand implements Callable<Integer> {
     // TODO: validate option dependencies
     return ArtemisConfiguration.builder()
         .setNetwork(networkOptions.getNetwork())
+        .setBlsBackend(executionOptions.getBlsBackend())
+        .setEventBusThreads(executionOptions.getEventBusThreads())
+        .setAsyncCpuThreads(executionOptions.getAsyncCpuThreads())
+        .setAsyncIoThreads(executionOptions.getAsyncIoThreads())
         .setP2pEnabled(p2POptions.isP2pEnabled())
         .setP2pInterface(p2POptions.getP2pInterface())
         .setP2pPort(p2POptions.getP2pPort())
@@ -207,6 +213,7 @@ public class BeaconNodeCommand implements Callable<Integer> {
         .setInteropStartState(interopOptions.getInteropStartState())
         .setInteropNumberOfValidators(interopOptions.getInteropNumberOfValidators())
         .setInteropEnabled(interopOptions.isInteropEnabled())
+        .setInteropGenesisCacheDir(interopOptions.getInteropGenesisCacheDir())
         .setValidatorKeyFile(validatorOptions.getValidatorKeyFile())
         .setValidatorKeystoreFiles(validatorOptions.getValidatorKeystoreFiles())
         .setValidatorKeystorePasswordFiles(validatorOptions.getValidatorKeystorePasswordFiles())
@@ -214,6 +221,8 @@ public class BeaconNodeCommand implements Callable<Integer> {
             validatorOptions.getValidatorExternalSignerPublicKeys())
         .setValidatorExternalSignerUrl(validatorOptions.getValidatorExternalSignerUrl())
         .setValidatorExternalSignerTimeout(validatorOptions.getValidatorExternalSignerTimeout())
+        .setValidatorKeyCacheEnabled(validatorOptions.isValidatorKeyCacheEnabled())
+        .setValidatorKeyCacheSealingKeyFile(validatorOptions.getValidatorKeyCacheSealingKeyFile())
         .setEth1DepositContractAddress(depositOptions.getEth1DepositContractAddress())
         .setEth1Endpoint(depositOptions.getEth1Endpoint())
         .setLogColourEnabled(loggingOptions.isLogColourEnabled())
@@ -222,12 +231,18 @@ public class BeaconNodeCommand implements Callable<Integer> {
         .setLogFile(loggingOptions.getLogFile())
         .setLogFileNamePattern(loggingOptions.getLogFileNamePattern())
         .setTransitionRecordDirectory(outputOptions.getTransitionRecordDirectory())
+        .setTransitionRecordQueueCapacity(outputOptions.getTransitionRecordQueueCapacity())
+        .setTransitionRecordCompressionEnabled(outputOptions.isTransitionRecordCompressionEnabled())
+        .setTransitionRecordDiffStatesEnabled(outputOptions.isTransitionRecordDiffStatesEnabled())
+        .setTransitionRecordMaxSlots(outputOptions.getTransitionRecordMaxSlots())
+        .setTransitionRecordMaxBytes(outputOptions.getTransitionRecordMaxBytes())
         .setMetricsEnabled(metricsOptions.isMetricsEnabled())
         .setMetricsPort(metricsOptions.getMetricsPort())
         .setMetricsInterface(metricsOptions.getMetricsInterface())
         .setMetricsCategories(metricsOptions.getMetricsCategories())
         .setDataPath(dataOptions.getDataPath())
         .setDataStorageMode(dataOptions.getDataStorageMode())
+        .setHotStateCacheSize(dataOptions.getHotStateCacheSize())
         .setRestApiPort(beaconRestApiOptions.getRestApiPort())
         .setRestApiDocsEnabled(beaconRestApiOptions.isRestApiDocsEnabled())
         .setRestApiEnabled(beaconRestApiOptions.isRestApiEnabled())
@@ -19,9 +19,11 @@ public class DataOptions {
 
   public static final String DATA_PATH_OPTION_NAME = "--data-path";
   public static final String DATA_STORAGE_MODE_OPTION_NAME = "--data-storage-mode";
+  public static final String HOT_STATE_CACHE_SIZE_OPTION_NAME = "--Xdata-hot-state-cache-size";
 
   public static final String DEFAULT_DATA_PATH = ".";
   public static final String DEFAULT_DATA_STORAGE_MODE = "prune";
+  public static final int DEFAULT_X_HOT_STATE_CACHE_SIZE = 32;
 
   @CommandLine.Option(
       names = {DATA_PATH_OPTION_NAME},
@@ -38,6 +40,17 @@ public class DataOptions {
       arity = "1")
   private String dataStorageMode = DEFAULT_DATA_STORAGE_MODE;
 
+  @CommandLine.Option(
+      hidden = true,
+      names = {HOT_STATE_CACHE_SIZE_OPTION_NAME},
+      paramLabel = "<INTEGER>",
+      description =
+          "Maximum number of recently used non-finalized states to keep in memory in addition to "
+              + "checkpoint and epoch boundary states. Evicted states are regenerated on demand. "
+              + "Set to 0 to keep all states in memory",
+      arity = "1")
+  private int hotStateCacheSize = DEFAULT_X_HOT_STATE_CACHE_SIZE;
+
   public String getDataPath() {
     return dataPath;
   }
@@ -45,4 +58,8 @@ public class DataOptions {
   public String getDataStorageMode() {
     return dataStorageMode;
   }
+
+  public int getHotStateCacheSize() {
+    return hotStateCacheSize;
+  }
 }
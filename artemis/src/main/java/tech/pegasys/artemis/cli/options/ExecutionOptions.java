@@ -0,0 +1,77 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.artemis.cli.options;
+
+import picocli.CommandLine;
+
+public class ExecutionOptions {
+
+  public static final String BLS_BACKEND_OPTION_NAME = "--Xbls-backend";
+  public static final String EVENT_BUS_THREADS_OPTION_NAME = "--Xevent-bus-threads";
+  public static final String ASYNC_CPU_THREADS_OPTION_NAME = "--Xasync-cpu-threads";
+  public static final String ASYNC_IO_THREADS_OPTION_NAME = "--Xasync-io-threads";
+
+  public static final String DEFAULT_X_BLS_BACKEND = "milagro";
+  public static final int DEFAULT_X_EVENT_BUS_THREADS = 16;
+  public static final int DEFAULT_X_ASYNC_CPU_THREADS = 0;
+  public static final int DEFAULT_X_ASYNC_IO_THREADS = 16;
+
+  @CommandLine.Option(
+      hidden = true,
+      names = {BLS_BACKEND_OPTION_NAME},
+      paramLabel = "<BACKEND>",
+      description = "The BLS12-381 implementation used to sign and verify signatures",
+      arity = "1")
+  private String blsBackend = DEFAULT_X_BLS_BACKEND;
+
+  @CommandLine.Option(
+      hidden = true,
+      names = {EVENT_BUS_THREADS_OPTION_NAME},
+      paramLabel = "<INTEGER>",
+      description = "Number of threads used to dispatch internal event bus handlers",
+      arity = "1")
+  private int eventBusThreads = DEFAULT_X_EVENT_BUS_THREADS;
+
+  @CommandLine.Option(
+      hidden = true,
+      names = {ASYNC_CPU_THREADS_OPTION_NAME},
+      paramLabel = "<INTEGER>",
+      description = "Number of threads used for CPU bound async tasks (0 for one per processor)",
+      arity = "1")
+  private int asyncCpuThreads = DEFAULT_X_ASYNC_CPU_THREADS;
+
+  @CommandLine.Option(
+      hidden = true,
+      names = {ASYNC_IO_THREADS_OPTION_NAME},
+      paramLabel = "<INTEGER>",
+      description = "Number of threads used for async tasks that wait on disk or network requests",
+      arity = "1")
+  private int asyncIoThreads = DEFAULT_X_ASYNC_IO_THREADS;
+
+  public String getBlsBackend() {
+    return blsBackend;
+  }
+
+  public int getEventBusThreads() {
+    return eventBusThreads;
+  }
+
+  public int getAsyncCpuThreads() {
+    return asyncCpuThreads;
+  }
+
+  public int getAsyncIoThreads() {
+    return asyncIoThreads;
+  }
+}
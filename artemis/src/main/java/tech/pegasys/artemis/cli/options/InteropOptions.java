@@ -25,6 +25,7 @@ public class InteropOptions {
   public static final String INTEROP_NUMBER_OF_VALIDATORS_OPTION_NAME =
       "--Xinterop-number-of-validators";
   public static final String INTEROP_ENABLED_OPTION_NAME = "--Xinterop-enabled";
+  public static final String INTEROP_GENESIS_CACHE_DIR_OPTION_NAME = "--Xinterop-genesis-cache-dir";
 
   public static final Integer DEFAULT_X_INTEROP_GENESIS_TIME = null;
   public static final int DEFAULT_X_INTEROP_OWNED_VALIDATOR_START_INDEX = 0;
@@ -32,6 +33,7 @@ public class InteropOptions {
   public static final String DEFAULT_X_INTEROP_START_STATE = "";
   public static final int DEFAULT_X_INTEROP_NUMBER_OF_VALIDATORS = 64;
   public static final boolean DEFAULT_X_INTEROP_ENABLED = false;
+  public static final String DEFAULT_X_INTEROP_GENESIS_CACHE_DIR = null;
 
   @CommandLine.Option(
       hidden = true,
@@ -80,6 +82,16 @@ public class InteropOptions {
       arity = "1")
   private boolean interopEnabled = DEFAULT_X_INTEROP_ENABLED;
 
+  @CommandLine.Option(
+      hidden = true,
+      names = {INTEROP_GENESIS_CACHE_DIR_OPTION_NAME},
+      paramLabel = "<DIRECTORY>",
+      description =
+          "Directory to cache mock start genesis states in so they can be shared by nodes on the "
+              + "same machine (default: artemis-mock-genesis in the system temp directory)",
+      arity = "1")
+  private String interopGenesisCacheDir = DEFAULT_X_INTEROP_GENESIS_CACHE_DIR;
+
   public Integer getInteropGenesisTime() {
     return interopGenesisTime;
   }
@@ -103,4 +115,8 @@ public class InteropOptions {
   public boolean isInteropEnabled() {
     return interopEnabled;
   }
+
+  public String getInteropGenesisCacheDir() {
+    return interopGenesisCacheDir;
+  }
 }
@@ -20,7 +20,23 @@ public class OutputOptions {
   public static final String TRANSITION_RECORD_DIRECTORY_OPTION_NAME =
       "--Xtransition-record-directory";
 
+  public static final String TRANSITION_RECORD_QUEUE_CAPACITY_OPTION_NAME =
+      "--Xtransition-record-queue-capacity";
+  public static final String TRANSITION_RECORD_COMPRESSION_ENABLED_OPTION_NAME =
+      "--Xtransition-record-compression-enabled";
+  public static final String TRANSITION_RECORD_DIFF_STATES_ENABLED_OPTION_NAME =
+      "--Xtransition-record-diff-states-enabled";
+  public static final String TRANSITION_RECORD_MAX_SLOTS_OPTION_NAME =
+      "--Xtransition-record-max-slots";
+  public static final String TRANSITION_RECORD_MAX_BYTES_OPTION_NAME =
+      "--Xtransition-record-max-bytes";
+
   public static final String DEFAULT_X_TRANSITION_RECORD_DIRECTORY = null;
+  public static final int DEFAULT_X_TRANSITION_RECORD_QUEUE_CAPACITY = 16;
+  public static final boolean DEFAULT_X_TRANSITION_RECORD_COMPRESSION_ENABLED = false;
+  public static final boolean DEFAULT_X_TRANSITION_RECORD_DIFF_STATES_ENABLED = false;
+  public static final int DEFAULT_X_TRANSITION_RECORD_MAX_SLOTS = 0;
+  public static final long DEFAULT_X_TRANSITION_RECORD_MAX_BYTES = 0;
 
   @CommandLine.Option(
       hidden = true,
@@ -30,7 +46,69 @@ public class OutputOptions {
       arity = "1")
   private String transitionRecordDirectory = DEFAULT_X_TRANSITION_RECORD_DIRECTORY;
 
+  @CommandLine.Option(
+      hidden = true,
+      names = {TRANSITION_RECORD_QUEUE_CAPACITY_OPTION_NAME},
+      paramLabel = "<INTEGER>",
+      description = "Maximum number of transition records waiting to be written before dropping",
+      arity = "1")
+  private int transitionRecordQueueCapacity = DEFAULT_X_TRANSITION_RECORD_QUEUE_CAPACITY;
+
+  @CommandLine.Option(
+      hidden = true,
+      names = {TRANSITION_RECORD_COMPRESSION_ENABLED_OPTION_NAME},
+      paramLabel = "<BOOLEAN>",
+      description = "Snappy compress recorded transition files",
+      arity = "1")
+  private boolean transitionRecordCompressionEnabled =
+      DEFAULT_X_TRANSITION_RECORD_COMPRESSION_ENABLED;
+
+  @CommandLine.Option(
+      hidden = true,
+      names = {TRANSITION_RECORD_DIFF_STATES_ENABLED_OPTION_NAME},
+      paramLabel = "<BOOLEAN>",
+      description = "Record states as a diff against the previous state",
+      arity = "1")
+  private boolean transitionRecordDiffStatesEnabled =
+      DEFAULT_X_TRANSITION_RECORD_DIFF_STATES_ENABLED;
+
+  @CommandLine.Option(
+      hidden = true,
+      names = {TRANSITION_RECORD_MAX_SLOTS_OPTION_NAME},
+      paramLabel = "<INTEGER>",
+      description = "Number of most recent slots to retain transition records for (0 for no limit)",
+      arity = "1")
+  private int transitionRecordMaxSlots = DEFAULT_X_TRANSITION_RECORD_MAX_SLOTS;
+
+  @CommandLine.Option(
+      hidden = true,
+      names = {TRANSITION_RECORD_MAX_BYTES_OPTION_NAME},
+      paramLabel = "<INTEGER>",
+      description = "Maximum total size in bytes of retained transition records (0 for no limit)",
+      arity = "1")
+  private long transitionRecordMaxBytes = DEFAULT_X_TRANSITION_RECORD_MAX_BYTES;
+
   public String getTransitionRecordDirectory() {
     return transitionRecordDirectory;
   }
+
+  public int getTransitionRecordQueueCapacity() {
+    return transitionRecordQueueCapacity;
+  }
+
+  public boolean isTransitionRecordCompressionEnabled() {
+    return transitionRecordCompressionEnabled;
+  }
+
+  public boolean isTransitionRecordDiffStatesEnabled() {
+    return transitionRecordDiffStatesEnabled;
+  }
+
+  public int getTransitionRecordMaxSlots() {
+    return transitionRecordMaxSlots;
+  }
+
+  public long getTransitionRecordMaxBytes() {
+    return transitionRecordMaxBytes;
+  }
 }
@@ -28,6 +28,10 @@ public class ValidatorOptions {
       "--validators-external-signer-url";
   public static final String VALIDATORS_EXTERNAL_SIGNER_TIMEOUT_OPTION_NAME =
       "--validators-external-signer-timeout";
+  public static final String VALIDATORS_KEY_CACHE_ENABLED_OPTION_NAME =
+      "--Xvalidators-key-cache-enabled";
+  public static final String VALIDATORS_KEY_CACHE_SEALING_KEY_FILE_OPTION_NAME =
+      "--Xvalidators-key-cache-sealing-key-file";
 
   public static final String DEFAULT_VALIDATORS_KEY_FILE = null;
   public static final ArrayList<String> DEFAULT_VALIDATORS_KEYSTORE_FILES = new ArrayList<>();
@@ -37,6 +41,8 @@ public class ValidatorOptions {
       new ArrayList<>();
   public static final String DEFAULT_VALIDATORS_EXTERNAL_SIGNER_URL = null;
   public static final int DEFAULT_VALIDATORS_EXTERNAL_SIGNER_TIMEOUT = 1000;
+  public static final boolean DEFAULT_X_VALIDATORS_KEY_CACHE_ENABLED = false;
+  public static final String DEFAULT_X_VALIDATORS_KEY_CACHE_SEALING_KEY_FILE = null;
 
   @CommandLine.Option(
       names = {VALIDATORS_KEY_FILE_OPTION_NAME},
@@ -85,6 +91,28 @@ public class ValidatorOptions {
       arity = "1")
   private int validatorExternalSignerTimeout = DEFAULT_VALIDATORS_EXTERNAL_SIGNER_TIMEOUT;
 
+  @CommandLine.Option(
+      hidden = true,
+      names = {VALIDATORS_KEY_CACHE_ENABLED_OPTION_NAME},
+      paramLabel = "<BOOLEAN>",
+      description =
+          "Cache decrypted validator keys so restarts can skip keystore decryption. "
+              + "Requires "
+              + VALIDATORS_KEY_CACHE_SEALING_KEY_FILE_OPTION_NAME,
+      arity = "1")
+  private boolean validatorKeyCacheEnabled = DEFAULT_X_VALIDATORS_KEY_CACHE_ENABLED;
+
+  @CommandLine.Option(
+      hidden = true,
+      names = {VALIDATORS_KEY_CACHE_SEALING_KEY_FILE_OPTION_NAME},
+      paramLabel = "<FILENAME>",
+      description =
+          "The file holding the key that encrypts the validator key cache, created if missing. "
+              + "Anyone who can read both this file and the data directory can recover the "
+              + "validator keys, so keep it outside the data directory and its backups",
+      arity = "1")
+  private String validatorKeyCacheSealingKeyFile = DEFAULT_X_VALIDATORS_KEY_CACHE_SEALING_KEY_FILE;
+
   public String getValidatorKeyFile() {
     return validatorKeyFile;
   }
@@ -108,4 +136,12 @@ public class ValidatorOptions {
   public int getValidatorExternalSignerTimeout() {
     return validatorExternalSignerTimeout;
   }
+
+  public boolean isValidatorKeyCacheEnabled() {
+    return validatorKeyCacheEnabled;
+  }
+
+  public String getValidatorKeyCacheSealingKeyFile() {
+    return validatorKeyCacheSealingKeyFile;
+  }
 }
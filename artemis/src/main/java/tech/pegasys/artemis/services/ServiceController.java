@@ -13,6 +13,7 @@
 
 package tech.pegasys.artemis.services;
 
+import com.google.common.annotations.VisibleForTesting;
 import java.util.Optional;
 import tech.pegasys.artemis.service.serviceutils.Service;
 import tech.pegasys.artemis.service.serviceutils.ServiceConfig;
@@ -29,22 +30,44 @@ public class ServiceController extends Service {
   private final Optional<PowchainService> powchainService;
 
   public ServiceController(final ServiceConfig config) {
-    timerService = new TimerService(config);
-    beaconChainService = new BeaconChainService(config);
-    chainStorageService = new ChainStorageService(config);
-    powchainService =
+    this(
+        new TimerService(config),
+        new BeaconChainService(config),
+        new ChainStorageService(config),
         config.getConfig().isInteropEnabled()
             ? Optional.empty()
-            : Optional.of(new PowchainService(config));
+            : Optional.of(new PowchainService(config)));
+  }
+
+  @VisibleForTesting
+  ServiceController(
+      final TimerService timerService,
+      final BeaconChainService beaconChainService,
+      final ChainStorageService chainStorageService,
+      final Optional<PowchainService> powchainService) {
+    this.timerService = timerService;
+    this.beaconChainService = beaconChainService;
+    this.chainStorageService = chainStorageService;
+    this.powchainService = powchainService;
   }
 
   @Override
   protected SafeFuture<?> doStart() {
-    return SafeFuture.allOfFailFast(
-        timerService.start(),
-        chainStorageService.start(),
-        beaconChainService.start(),
-        powchainService.map(PowchainService::start).orElse(SafeFuture.completedFuture(null)));
+    // Storage must be available before the powchain service replays stored deposits and the
+    // beacon chain must have subscribed to Eth1EventsChannel so the replayed deposits aren't lost
+    return chainStorageService
+        .start()
+        .thenCompose(
+            __ ->
+                SafeFuture.allOfFailFast(
+                    timerService.start(),
+                    beaconChainService.start().thenCompose(___ -> startPowchainService())));
+  }
+
+  private SafeFuture<?> startPowchainService() {
+    return powchainService
+        .<SafeFuture<?>>map(PowchainService::start)
+        .orElse(SafeFuture.completedFuture(null));
   }
 
   @Override
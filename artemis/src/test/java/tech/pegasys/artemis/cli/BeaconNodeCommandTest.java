@@ -16,6 +16,7 @@ package tech.pegasys.artemis.cli;
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.assertj.core.api.Assertions.assertThat;
 import static tech.pegasys.artemis.cli.BeaconNodeCommand.CONFIG_FILE_OPTION_NAME;
+import static tech.pegasys.artemis.cli.options.DataOptions.DEFAULT_X_HOT_STATE_CACHE_SIZE;
 import static tech.pegasys.artemis.cli.options.DepositOptions.DEFAULT_ETH1_DEPOSIT_CONTRACT_ADDRESS;
 import static tech.pegasys.artemis.cli.options.DepositOptions.DEFAULT_ETH1_ENDPOINT;
 import static tech.pegasys.artemis.cli.options.InteropOptions.DEFAULT_X_INTEROP_ENABLED;
@@ -69,6 +70,19 @@ public class BeaconNodeCommandTest {
     assertArtemisConfiguration(artemisConfiguration, expectedDefaultConfigurationBuilder().build());
   }
 
+  @Test
+  public void hotStateCacheIsEnabledByDefault() {
+    final String[] args = {"--data-path", dataPath.toString(), "--p2p-enabled", "false"};
+
+    beaconNodeCommand.parse(args);
+
+    final ArtemisConfiguration artemisConfiguration = beaconNodeCommand.getArtemisConfiguration();
+
+    assertThat(artemisConfiguration.getHotStateCacheSize())
+        .isEqualTo(DEFAULT_X_HOT_STATE_CACHE_SIZE)
+        .isGreaterThan(0);
+  }
+
   @Test
   public void overrideEnvironmentValuesIfKeyIsPresentInCLIOptions() {
     final String[] args = createCliArgs();
@@ -235,12 +249,23 @@ public class BeaconNodeCommandTest {
         .setValidatorKeystoreFiles(Collections.emptyList())
         .setValidatorKeystorePasswordFiles(Collections.emptyList())
         .setValidatorExternalSignerTimeout(1000)
+        .setValidatorKeyCacheEnabled(false)
         .setDataPath(dataPath.toString())
         .setDataStorageMode("prune")
         .setRestApiPort(5051)
         .setRestApiDocsEnabled(false)
         .setRestApiEnabled(false)
-        .setRestApiInterface("127.0.0.1");
+        .setRestApiInterface("127.0.0.1")
+        .setTransitionRecordQueueCapacity(16)
+        .setTransitionRecordCompressionEnabled(false)
+        .setTransitionRecordDiffStatesEnabled(false)
+        .setTransitionRecordMaxSlots(0)
+        .setTransitionRecordMaxBytes(0)
+        .setHotStateCacheSize(32)
+        .setBlsBackend("milagro")
+        .setEventBusThreads(16)
+        .setAsyncCpuThreads(0)
+        .setAsyncIoThreads(16);
   }
 
   private void assertArtemisConfiguration(
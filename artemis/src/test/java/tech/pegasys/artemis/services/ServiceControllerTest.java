@@ -0,0 +1,90 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.artemis.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.artemis.services.beaconchain.BeaconChainService;
+import tech.pegasys.artemis.services.chainstorage.ChainStorageService;
+import tech.pegasys.artemis.services.powchain.PowchainService;
+import tech.pegasys.artemis.services.timer.TimerService;
+import tech.pegasys.artemis.util.async.SafeFuture;
+
+class ServiceControllerTest {
+  private final TimerService timerService = mock(TimerService.class);
+  private final BeaconChainService beaconChainService = mock(BeaconChainService.class);
+  private final ChainStorageService chainStorageService = mock(ChainStorageService.class);
+  private final PowchainService powchainService = mock(PowchainService.class);
+
+  private final SafeFuture<Void> chainStorageStarted = new SafeFuture<>();
+  private final SafeFuture<Void> beaconChainStarted = new SafeFuture<>();
+
+  private final ServiceController serviceController =
+      new ServiceController(
+          timerService, beaconChainService, chainStorageService, Optional.of(powchainService));
+
+  @BeforeEach
+  public void setUp() {
+    doReturn(chainStorageStarted).when(chainStorageService).start();
+    doReturn(beaconChainStarted).when(beaconChainService).start();
+    doReturn(SafeFuture.completedFuture(null)).when(timerService).start();
+    doReturn(SafeFuture.completedFuture(null)).when(powchainService).start();
+  }
+
+  @Test
+  public void shouldStartChainStorageBeforeOtherServices() {
+    final SafeFuture<?> result = serviceController.start();
+
+    verify(chainStorageService).start();
+    verify(timerService, never()).start();
+    verify(beaconChainService, never()).start();
+    verify(powchainService, never()).start();
+    assertThat(result).isNotDone();
+  }
+
+  @Test
+  public void shouldNotStartPowchainUntilBeaconChainHasStarted() {
+    final SafeFuture<?> result = serviceController.start();
+    chainStorageStarted.complete(null);
+
+    verify(timerService).start();
+    verify(beaconChainService).start();
+    // Stored deposits are replayed when powchain starts so the beacon chain must be subscribed
+    verify(powchainService, never()).start();
+    assertThat(result).isNotDone();
+
+    beaconChainStarted.complete(null);
+    verify(powchainService).start();
+    assertThat(result).isCompleted();
+  }
+
+  @Test
+  public void shouldStartWithoutPowchainService() {
+    final ServiceController controller =
+        new ServiceController(
+            timerService, beaconChainService, chainStorageService, Optional.empty());
+    final SafeFuture<?> result = controller.start();
+    chainStorageStarted.complete(null);
+    beaconChainStarted.complete(null);
+
+    assertThat(result).isCompleted();
+  }
+}
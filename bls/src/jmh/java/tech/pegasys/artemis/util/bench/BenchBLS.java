@@ -13,7 +13,10 @@
 
 package tech.pegasys.artemis.util.bench;
 
+import java.util.List;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import org.apache.tuweni.bytes.Bytes;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
@@ -21,13 +24,18 @@ import org.openjdk.jmh.annotations.Fork;
 import org.openjdk.jmh.annotations.Measurement;
 import org.openjdk.jmh.annotations.Mode;
 import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.annotations.Warmup;
 import org.openjdk.jmh.infra.Blackhole;
 import tech.pegasys.artemis.util.hashToG2.HashToCurve;
+import tech.pegasys.artemis.util.mikuli.BLS12381;
 import tech.pegasys.artemis.util.mikuli.G2Point;
+import tech.pegasys.artemis.util.mikuli.KeyPair;
+import tech.pegasys.artemis.util.mikuli.PublicKey;
+import tech.pegasys.artemis.util.mikuli.Signature;
 
 @BenchmarkMode(Mode.AverageTime)
 @OutputTimeUnit(TimeUnit.MILLISECONDS)
@@ -37,12 +45,38 @@ import tech.pegasys.artemis.util.mikuli.G2Point;
 @Measurement(iterations = 8, time = 10)
 public class BenchBLS {
 
+  @Param({"1", "16", "128"})
+  private int aggregateSize;
+
   private Bytes message;
   private Bytes suite = Bytes.fromHexString("0x02");
 
+  private PublicKey publicKey;
+  private Signature signature;
+  private List<PublicKey> publicKeys;
+  private List<Bytes> messages;
+  private Signature aggregateSignature;
+
   @Setup
   public void setup() {
     message = Bytes.random(32);
+
+    final KeyPair keyPair = KeyPair.random(0);
+    publicKey = keyPair.publicKey();
+    signature = BLS12381.sign(keyPair.secretKey(), message);
+
+    final List<KeyPair> keyPairs =
+        IntStream.range(0, aggregateSize).mapToObj(KeyPair::random).collect(Collectors.toList());
+    publicKeys = keyPairs.stream().map(KeyPair::publicKey).collect(Collectors.toList());
+    messages =
+        IntStream.range(0, aggregateSize)
+            .mapToObj(__ -> Bytes.random(32))
+            .collect(Collectors.toList());
+    final List<Signature> signatures =
+        IntStream.range(0, aggregateSize)
+            .mapToObj(i -> BLS12381.sign(keyPairs.get(i).secretKey(), messages.get(i)))
+            .collect(Collectors.toList());
+    aggregateSignature = BLS12381.aggregate(signatures);
   }
 
   @Benchmark
@@ -50,4 +84,18 @@ public class BenchBLS {
     G2Point result = new G2Point(HashToCurve.hashToG2(message, suite));
     blackhole.consume(result);
   }
+
+  @Benchmark
+  public void verify(Blackhole blackhole) {
+    blackhole.consume(BLS12381.verify(publicKey, message, signature));
+  }
+
+  /**
+   * Verifies an aggregate over aggregateSize distinct messages. Each message adds a Miller loop but
+   * only a single final exponentiation is performed regardless of the aggregate size.
+   */
+  @Benchmark
+  public void aggregateVerify(Blackhole blackhole) {
+    blackhole.consume(BLS12381.aggregateVerify(publicKeys, messages, aggregateSignature));
+  }
 }
@@ -14,6 +14,7 @@
 package tech.pegasys.artemis.util.bls;
 
 import java.util.List;
+import java.util.ServiceLoader;
 import java.util.stream.Collectors;
 import org.apache.tuweni.bytes.Bytes;
 import tech.pegasys.artemis.util.mikuli.BLS12381;
@@ -23,8 +24,54 @@ import tech.pegasys.artemis.util.mikuli.Signature;
 /**
  * Implements the standard interfaces for BLS methods as defined in
  * https://tools.ietf.org/html/draft-irtf-cfrg-bls-signature-00
+ *
+ * <p>The operations are performed by the configured {@link BLSBackend}, which defaults to the
+ * Milagro backend. Keys and signatures already hold deserialized Milagro points, so when that
+ * backend is selected they are used directly rather than round-tripping through their serialized
+ * form, which would decompress every public key on each verification.
  */
 public class BLS {
+  private static volatile BLSBackend backend = new MilagroBLSBackend();
+
+  /**
+   * Selects the backend used for all subsequent BLS operations.
+   *
+   * @param name the name of the backend, as returned by {@link BLSBackend#getName()}
+   * @throws IllegalArgumentException if no backend with that name is available
+   */
+  public static void setBackend(final String name) {
+    setBackend(loadBackend(name));
+  }
+
+  public static void setBackend(final BLSBackend backend) {
+    BLS.backend = backend;
+  }
+
+  public static BLSBackend getBackend() {
+    return backend;
+  }
+
+  /** @return all backends available on the classpath */
+  public static List<BLSBackend> getAvailableBackends() {
+    return ServiceLoader.load(BLSBackend.class).stream()
+        .map(ServiceLoader.Provider::get)
+        .collect(Collectors.toList());
+  }
+
+  static BLSBackend loadBackend(final String name) {
+    return getAvailableBackends().stream()
+        .filter(availableBackend -> availableBackend.getName().equals(name))
+        .findFirst()
+        .orElseThrow(
+            () ->
+                new IllegalArgumentException(
+                    "Unknown BLS backend '"
+                        + name
+                        + "'. Available backends: "
+                        + getAvailableBackends().stream()
+                            .map(BLSBackend::getName)
+                            .collect(Collectors.joining(", "))));
+  }
 
   /**
    * Generates a BLSSignature from a private key and message.
@@ -36,7 +83,11 @@ public class BLS {
    * @return The Signature, not null
    */
   public static BLSSignature sign(BLSSecretKey secretKey, Bytes message) {
-    return new BLSSignature(BLS12381.sign(secretKey.getSecretKey(), message));
+    final BLSBackend backend = BLS.backend;
+    if (backend instanceof MilagroBLSBackend) {
+      return new BLSSignature(BLS12381.sign(secretKey.getSecretKey(), message));
+    }
+    return BLSSignature.fromBytes(backend.sign(secretKey.toBytes(), message));
   }
 
   /**
@@ -50,7 +101,11 @@ public class BLS {
    * @return True if the verification is successful, false otherwise.
    */
   public static boolean verify(BLSPublicKey publicKey, Bytes message, BLSSignature signature) {
-    return BLS12381.verify(publicKey.getPublicKey(), message, signature.getSignature());
+    final BLSBackend backend = BLS.backend;
+    if (backend instanceof MilagroBLSBackend) {
+      return BLS12381.verify(publicKey.getPublicKey(), message, signature.getSignature());
+    }
+    return backend.verify(publicKey.toBytesCompressed(), message, signature.toBytes());
   }
 
   /**
@@ -62,9 +117,15 @@ public class BLS {
    * @return the aggregated signature
    */
   public static BLSSignature aggregate(List<BLSSignature> signatures) {
-    List<Signature> signatureObjects =
-        signatures.stream().map(BLSSignature::getSignature).collect(Collectors.toList());
-    return new BLSSignature(BLS12381.aggregate(signatureObjects));
+    final BLSBackend backend = BLS.backend;
+    if (backend instanceof MilagroBLSBackend) {
+      final List<Signature> signatureObjects =
+          signatures.stream().map(BLSSignature::getSignature).collect(Collectors.toList());
+      return new BLSSignature(BLS12381.aggregate(signatureObjects));
+    }
+    return BLSSignature.fromBytes(
+        backend.aggregate(
+            signatures.stream().map(BLSSignature::toBytes).collect(Collectors.toList())));
   }
 
   /**
@@ -80,9 +141,11 @@ public class BLS {
    */
   public static boolean aggregateVerify(
       List<BLSPublicKey> publicKeys, List<Bytes> messages, BLSSignature signature) {
-    List<PublicKey> publicKeyObjects =
-        publicKeys.stream().map(BLSPublicKey::getPublicKey).collect(Collectors.toList());
-    return BLS12381.aggregateVerify(publicKeyObjects, messages, signature.getSignature());
+    final BLSBackend backend = BLS.backend;
+    if (backend instanceof MilagroBLSBackend) {
+      return BLS12381.aggregateVerify(toPublicKeys(publicKeys), messages, signature.getSignature());
+    }
+    return backend.aggregateVerify(toBytes(publicKeys), messages, signature.toBytes());
   }
 
   /**
@@ -97,8 +160,19 @@ public class BLS {
    */
   public static boolean fastAggregateVerify(
       List<BLSPublicKey> publicKeys, Bytes message, BLSSignature signature) {
-    List<PublicKey> publicKeyObjects =
-        publicKeys.stream().map(BLSPublicKey::getPublicKey).collect(Collectors.toList());
-    return BLS12381.fastAggregateVerify(publicKeyObjects, message, signature.getSignature());
+    final BLSBackend backend = BLS.backend;
+    if (backend instanceof MilagroBLSBackend) {
+      return BLS12381.fastAggregateVerify(
+          toPublicKeys(publicKeys), message, signature.getSignature());
+    }
+    return backend.fastAggregateVerify(toBytes(publicKeys), message, signature.toBytes());
+  }
+
+  private static List<PublicKey> toPublicKeys(final List<BLSPublicKey> publicKeys) {
+    return publicKeys.stream().map(BLSPublicKey::getPublicKey).collect(Collectors.toList());
+  }
+
+  private static List<Bytes> toBytes(final List<BLSPublicKey> publicKeys) {
+    return publicKeys.stream().map(BLSPublicKey::toBytesCompressed).collect(Collectors.toList());
   }
 }
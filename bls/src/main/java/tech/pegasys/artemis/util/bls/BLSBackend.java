@@ -0,0 +1,47 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.artemis.util.bls;
+
+import java.util.List;
+import org.apache.tuweni.bytes.Bytes;
+
+/**
+ * An implementation of the BLS12-381 signature operations exposed by {@link BLS}.
+ *
+ * <p>Implementations are discovered using {@link java.util.ServiceLoader} and selected by name, so
+ * alternative implementations (e.g. wrapping a native library) can be added to the classpath
+ * without any changes to callers.
+ *
+ * <p>Keys and signatures are exchanged in their standard serialized forms so that implementations
+ * don't depend on the types of any other backend: secret keys are 32 byte big-endian scalars,
+ * public keys are 48 byte compressed G1 points and signatures are 96 byte compressed G2 points.
+ * Implementations throw {@link IllegalArgumentException} for inputs that can't be deserialized.
+ *
+ * <p>All implementations must produce identical results for the Eth2 BLS reference tests.
+ */
+public interface BLSBackend {
+
+  /** @return the name used to select this backend */
+  String getName();
+
+  Bytes sign(Bytes secretKey, Bytes message);
+
+  boolean verify(Bytes publicKey, Bytes message, Bytes signature);
+
+  Bytes aggregate(List<Bytes> signatures);
+
+  boolean aggregateVerify(List<Bytes> publicKeys, List<Bytes> messages, Bytes signature);
+
+  boolean fastAggregateVerify(List<Bytes> publicKeys, Bytes message, Bytes signature);
+}
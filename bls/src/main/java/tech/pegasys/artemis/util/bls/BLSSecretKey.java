@@ -46,6 +46,11 @@ public final class BLSSecretKey {
     return secretKey;
   }
 
+  /** @return the 32 byte big-endian serialization of the secret key */
+  public Bytes toBytes() {
+    return secretKey.toBytes().slice(16);
+  }
+
   @Override
   public boolean equals(final Object o) {
     if (this == o) return true;
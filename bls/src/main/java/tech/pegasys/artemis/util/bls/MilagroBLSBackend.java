@@ -0,0 +1,73 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.artemis.util.bls;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import org.apache.tuweni.bytes.Bytes;
+import tech.pegasys.artemis.util.mikuli.BLS12381;
+import tech.pegasys.artemis.util.mikuli.PublicKey;
+import tech.pegasys.artemis.util.mikuli.Signature;
+
+/** The default, pure Java BLS backend built on the mikuli implementation over Apache Milagro. */
+public final class MilagroBLSBackend implements BLSBackend {
+  public static final String NAME = "milagro";
+
+  @Override
+  public String getName() {
+    return NAME;
+  }
+
+  @Override
+  public Bytes sign(final Bytes secretKey, final Bytes message) {
+    return BLS12381.sign(BLSSecretKey.fromBytes(secretKey).getSecretKey(), message)
+        .toBytesCompressed();
+  }
+
+  @Override
+  public boolean verify(final Bytes publicKey, final Bytes message, final Bytes signature) {
+    return BLS12381.verify(toPublicKey(publicKey), message, toSignature(signature));
+  }
+
+  @Override
+  public Bytes aggregate(final List<Bytes> signatures) {
+    List<Signature> signatureObjects =
+        signatures.stream().map(MilagroBLSBackend::toSignature).collect(Collectors.toList());
+    return BLS12381.aggregate(signatureObjects).toBytesCompressed();
+  }
+
+  @Override
+  public boolean aggregateVerify(
+      final List<Bytes> publicKeys, final List<Bytes> messages, final Bytes signature) {
+    return BLS12381.aggregateVerify(toPublicKeys(publicKeys), messages, toSignature(signature));
+  }
+
+  @Override
+  public boolean fastAggregateVerify(
+      final List<Bytes> publicKeys, final Bytes message, final Bytes signature) {
+    return BLS12381.fastAggregateVerify(toPublicKeys(publicKeys), message, toSignature(signature));
+  }
+
+  private static PublicKey toPublicKey(final Bytes publicKey) {
+    return BLSPublicKey.fromBytes(publicKey).getPublicKey();
+  }
+
+  private static List<PublicKey> toPublicKeys(final List<Bytes> publicKeys) {
+    return publicKeys.stream().map(MilagroBLSBackend::toPublicKey).collect(Collectors.toList());
+  }
+
+  private static Signature toSignature(final Bytes signature) {
+    return BLSSignature.fromBytes(signature).getSignature();
+  }
+}
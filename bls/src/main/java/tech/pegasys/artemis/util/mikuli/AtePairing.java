@@ -13,37 +13,50 @@
 
 package tech.pegasys.artemis.util.mikuli;
 
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.util.List;
 import org.apache.milagro.amcl.BLS381.FP12;
 import org.apache.milagro.amcl.BLS381.PAIR;
 
 final class AtePairing {
 
   /**
-   * Calculate the Ate pairing of points p and q.
-   *
-   * @param p the point in Group1, not null
-   * @param q the point in Group2, not null
-   * @return GTPoint
-   */
-  static GTPoint pair(G1Point p, G2Point q) {
-    FP12 e = PAIR.ate(q.ecp2Point(), p.ecpPoint());
-    return new GTPoint(PAIR.fexp(e));
-  }
-
-  /**
-   * Calculates the product of pairings while performing the final exponentiation only once. This
-   * ought to be more efficient.
+   * Calculates the product of the pairings of each pair of points while performing the final
+   * exponentiation only once.
    *
-   * <p>If pair(-p, q) == pair(r, s) then the result of this is "one" in GT.
+   * <p>The Miller loops are evaluated two at a time so that each pair shares its line doubling
+   * steps, and the unreduced results are accumulated in FP12 before the single final
+   * exponentiation. This avoids paying for a final exponentiation per pairing, which dominates the
+   * cost of verifying aggregates over distinct messages.
    *
-   * @param p a point in Group1, not null
-   * @param q a point in Group2, not null
-   * @param r a point in Group1, not null
-   * @param s a point in Group2, not null
-   * @return The result of the double pairing
+   * @param g1Points the points in Group1, not empty, not null
+   * @param g2Points the points in Group2, the same length as g1Points, not null
+   * @return The product of pair(g1Points[i], g2Points[i]) for all i
    */
-  static GTPoint pair2(G1Point p, G2Point q, G1Point r, G2Point s) {
-    FP12 e = PAIR.ate2(q.ecp2Point(), p.ecpPoint(), s.ecp2Point(), r.ecpPoint());
-    return new GTPoint(PAIR.fexp(e));
+  static GTPoint pairProduct(List<G1Point> g1Points, List<G2Point> g2Points) {
+    checkArgument(
+        g1Points.size() == g2Points.size(), "List of G1 points and G2 points differ in length");
+    checkArgument(!g1Points.isEmpty(), "List of points is empty");
+    FP12 product = null;
+    for (int i = 0; i < g1Points.size(); i += 2) {
+      final FP12 millerLoop;
+      if (i + 1 < g1Points.size()) {
+        millerLoop =
+            PAIR.ate2(
+                g2Points.get(i).ecp2Point(),
+                g1Points.get(i).ecpPoint(),
+                g2Points.get(i + 1).ecp2Point(),
+                g1Points.get(i + 1).ecpPoint());
+      } else {
+        millerLoop = PAIR.ate(g2Points.get(i).ecp2Point(), g1Points.get(i).ecpPoint());
+      }
+      if (product == null) {
+        product = millerLoop;
+      } else {
+        product.mul(millerLoop);
+      }
+    }
+    return new GTPoint(PAIR.fexp(product));
   }
 }
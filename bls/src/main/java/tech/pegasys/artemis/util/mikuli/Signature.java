@@ -19,6 +19,7 @@ import static tech.pegasys.artemis.util.mikuli.KeyPair.g1Generator;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Suppliers;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.function.Supplier;
@@ -141,7 +142,9 @@ public final class Signature {
    */
   boolean verify(PublicKey publicKey, G2Point hashInG2) {
     try {
-      GTPoint e = AtePairing.pair2(publicKey.g1Point(), hashInG2, g1GeneratorNeg, point.get());
+      GTPoint e =
+          AtePairing.pairProduct(
+              List.of(publicKey.g1Point(), g1GeneratorNeg), List.of(hashInG2, point.get()));
       return e.isunity();
     } catch (RuntimeException e) {
       return false;
@@ -161,12 +164,16 @@ public final class Signature {
         "List of public keys and list of messages differ in length");
     checkArgument(publicKeys.size() > 0, "List of public keys is empty");
     try {
-      GTPoint gt1 = AtePairing.pair(publicKeys.get(0).g1Point(), hashesInG2.get(0));
-      for (int i = 1; i < publicKeys.size(); i++) {
-        gt1 = gt1.mul(AtePairing.pair(publicKeys.get(i).g1Point(), hashesInG2.get(i)));
+      // Check that the product of e(pk_i, H(m_i)) and e(-g1, sig) is one in GT
+      final List<G1Point> g1Points = new ArrayList<>(publicKeys.size() + 1);
+      final List<G2Point> g2Points = new ArrayList<>(publicKeys.size() + 1);
+      for (int i = 0; i < publicKeys.size(); i++) {
+        g1Points.add(publicKeys.get(i).g1Point());
+        g2Points.add(hashesInG2.get(i));
       }
-      GTPoint gt2 = AtePairing.pair(g1Generator, point.get());
-      return gt2.equals(gt1);
+      g1Points.add(g1GeneratorNeg);
+      g2Points.add(point.get());
+      return AtePairing.pairProduct(g1Points, g2Points).isunity();
     } catch (RuntimeException e) {
       return false;
     }
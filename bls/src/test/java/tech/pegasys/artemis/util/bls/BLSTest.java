@@ -16,6 +16,7 @@ package tech.pegasys.artemis.util.bls;
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -76,4 +77,83 @@ class BLSTest {
 
     assertTrue(BLS.fastAggregateVerify(publicKeys, message, aggregatedSignature));
   }
+
+  @Test
+  void defaultsToMilagroBackend() {
+    assertEquals(MilagroBLSBackend.NAME, BLS.getBackend().getName());
+  }
+
+  @Test
+  void loadsMilagroBackendByName() {
+    BLSBackend backend = BLS.loadBackend(MilagroBLSBackend.NAME);
+    assertNotNull(backend);
+    assertEquals(MilagroBLSBackend.class, backend.getClass());
+  }
+
+  @Test
+  void throwsWhenLoadingUnknownBackend() {
+    assertThrows(IllegalArgumentException.class, () -> BLS.loadBackend("unknown"));
+  }
+
+  @Test
+  void passesSerializedKeysAndSignaturesToOtherBackends() {
+    BLSKeyPair keyPair1 = BLSKeyPair.random(1);
+    BLSKeyPair keyPair2 = BLSKeyPair.random(2);
+    Bytes message = Bytes.wrap("Hello, world!".getBytes(UTF_8));
+    BLSSignature expectedSignature = BLS.sign(keyPair1.getSecretKey(), message);
+
+    BLS.setBackend(new SerializedFormBackend());
+    try {
+      BLSSignature signature1 = BLS.sign(keyPair1.getSecretKey(), message);
+      BLSSignature signature2 = BLS.sign(keyPair2.getSecretKey(), message);
+      assertEquals(expectedSignature, signature1);
+      assertTrue(BLS.verify(keyPair1.getPublicKey(), message, signature1));
+      assertFalse(BLS.verify(keyPair2.getPublicKey(), message, signature1));
+      assertTrue(
+          BLS.fastAggregateVerify(
+              List.of(keyPair1.getPublicKey(), keyPair2.getPublicKey()),
+              message,
+              BLS.aggregate(List.of(signature1, signature2))));
+    } finally {
+      BLS.setBackend(new MilagroBLSBackend());
+    }
+  }
+
+  /** Delegates to Milagro but, unlike it, only ever sees serialized keys and signatures. */
+  private static class SerializedFormBackend implements BLSBackend {
+    private final BLSBackend delegate = new MilagroBLSBackend();
+
+    @Override
+    public String getName() {
+      return "serialized";
+    }
+
+    @Override
+    public Bytes sign(final Bytes secretKey, final Bytes message) {
+      assertEquals(32, secretKey.size());
+      return delegate.sign(secretKey, message);
+    }
+
+    @Override
+    public boolean verify(final Bytes publicKey, final Bytes message, final Bytes signature) {
+      return delegate.verify(publicKey, message, signature);
+    }
+
+    @Override
+    public Bytes aggregate(final List<Bytes> signatures) {
+      return delegate.aggregate(signatures);
+    }
+
+    @Override
+    public boolean aggregateVerify(
+        final List<Bytes> publicKeys, final List<Bytes> messages, final Bytes signature) {
+      return delegate.aggregateVerify(publicKeys, messages, signature);
+    }
+
+    @Override
+    public boolean fastAggregateVerify(
+        final List<Bytes> publicKeys, final Bytes message, final Bytes signature) {
+      return delegate.fastAggregateVerify(publicKeys, message, signature);
+    }
+  }
 }
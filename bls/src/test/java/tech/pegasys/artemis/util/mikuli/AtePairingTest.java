@@ -14,21 +14,58 @@
 package tech.pegasys.artemis.util.mikuli;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.util.List;
+import org.apache.milagro.amcl.BLS381.PAIR;
 import org.junit.jupiter.api.Test;
 
 class AtePairingTest {
 
   @Test
-  void pairAndPair2AreEquivalent() {
+  void pairProductWithOddNumberOfPairsMatchesIndividualPairings() {
     G1Point p1 = G1Point.random(1L);
     G2Point q2 = G2Point.random(2L);
     G1Point r1 = G1Point.random(3L);
     G2Point s2 = G2Point.random(4L);
+    G1Point t1 = G1Point.random(5L);
+    G2Point u2 = G2Point.random(6L);
 
-    GTPoint expected = AtePairing.pair(p1, q2).mul(AtePairing.pair(r1, s2));
-    GTPoint actual = AtePairing.pair2(p1, q2, r1, s2);
+    GTPoint expected = pair(p1, q2).mul(pair(r1, s2)).mul(pair(t1, u2));
+    GTPoint actual = AtePairing.pairProduct(List.of(p1, r1, t1), List.of(q2, s2, u2));
 
     assertEquals(expected, actual);
   }
+
+  @Test
+  void pairProductWithEvenNumberOfPairsMatchesIndividualPairings() {
+    G1Point p1 = G1Point.random(1L);
+    G2Point q2 = G2Point.random(2L);
+    G1Point r1 = G1Point.random(3L);
+    G2Point s2 = G2Point.random(4L);
+
+    GTPoint expected = pair(p1, q2).mul(pair(r1, s2));
+    GTPoint actual = AtePairing.pairProduct(List.of(p1, r1), List.of(q2, s2));
+
+    assertEquals(expected, actual);
+  }
+
+  @Test
+  void pairProductOfSinglePairMatchesPair() {
+    G1Point p1 = G1Point.random(1L);
+    G2Point q2 = G2Point.random(2L);
+
+    assertEquals(pair(p1, q2), AtePairing.pairProduct(List.of(p1), List.of(q2)));
+  }
+
+  @Test
+  void pairProductRejectsMismatchedLists() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> AtePairing.pairProduct(List.of(G1Point.random(1L)), List.of()));
+  }
+
+  private static GTPoint pair(final G1Point p, final G2Point q) {
+    return new GTPoint(PAIR.fexp(PAIR.ate(q.ecp2Point(), p.ecpPoint())));
+  }
 }
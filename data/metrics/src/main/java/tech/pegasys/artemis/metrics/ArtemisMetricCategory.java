@@ -19,6 +19,8 @@ import org.hyperledger.besu.plugin.services.metrics.MetricCategory;
 public enum ArtemisMetricCategory implements MetricCategory {
   BEACONCHAIN("beaconchain"),
   EVENTBUS("eventbus"),
+  ETH1("eth1"),
+  EXECUTOR("executor"),
   NETWORK("network");
 
   private final String name;
@@ -15,9 +15,11 @@ package tech.pegasys.artemis.api.schema;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import tech.pegasys.artemis.provider.BitlistMaxSizeFrom;
 import tech.pegasys.artemis.util.SSZTypes.Bitlist;
 
 public class Attestation {
+  @BitlistMaxSizeFrom(tech.pegasys.artemis.datastructures.operations.Attestation.class)
   public final Bitlist aggregation_bits;
   public final AttestationData data;
   public final BLSSignature signature;
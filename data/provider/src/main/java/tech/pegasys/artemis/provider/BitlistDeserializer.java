@@ -15,17 +15,66 @@ package tech.pegasys.artemis.provider;
 
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.BeanProperty;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.deser.ContextualDeserializer;
 import java.io.IOException;
+import java.lang.reflect.Field;
+import java.util.OptionalLong;
 import org.apache.tuweni.bytes.Bytes;
 import tech.pegasys.artemis.util.SSZTypes.Bitlist;
 
-public class BitlistDeserializer extends JsonDeserializer<Bitlist> {
+/**
+ * Deserializes a {@link Bitlist} from its SSZ form.
+ *
+ * <p>The maximum size isn't part of the JSON so it is taken from the type the bitlist is being read
+ * into, in the same way as SSZ deserialization: from the field of the same name in a default
+ * constructed instance of the containing type, or of the type named by {@link BitlistMaxSizeFrom}.
+ */
+public class BitlistDeserializer extends JsonDeserializer<Bitlist>
+    implements ContextualDeserializer {
+  private final OptionalLong maxSize;
+
+  public BitlistDeserializer() {
+    this(OptionalLong.empty());
+  }
+
+  private BitlistDeserializer(final OptionalLong maxSize) {
+    this.maxSize = maxSize;
+  }
+
+  @Override
+  public JsonDeserializer<?> createContextual(
+      final DeserializationContext ctxt, final BeanProperty property) throws JsonMappingException {
+    if (property == null || property.getMember() == null) {
+      return this;
+    }
+    final BitlistMaxSizeFrom maxSizeFrom = property.getAnnotation(BitlistMaxSizeFrom.class);
+    final Class<?> containingType =
+        maxSizeFrom != null ? maxSizeFrom.value() : property.getMember().getDeclaringClass();
+    return new BitlistDeserializer(getMaxSize(containingType, property.getName()));
+  }
+
   @Override
   public Bitlist deserialize(JsonParser p, DeserializationContext ctxt)
       throws IOException, JsonProcessingException {
     Bytes data = Bytes.fromHexString(p.getValueAsString());
-    return new Bitlist(data.toArray(), data.bitLength());
+    // Without a containing type, only allow as many bits as were supplied
+    return Bitlist.fromBytes(data, maxSize.orElse(data.size() * Byte.SIZE));
+  }
+
+  private static OptionalLong getMaxSize(final Class<?> containingType, final String fieldName) {
+    try {
+      final Field field = containingType.getDeclaredField(fieldName);
+      field.setAccessible(true);
+      final Object defaultValue = field.get(containingType.getConstructor().newInstance());
+      return defaultValue instanceof Bitlist
+          ? OptionalLong.of(((Bitlist) defaultValue).getMaxSize())
+          : OptionalLong.empty();
+    } catch (final ReflectiveOperationException e) {
+      return OptionalLong.empty();
+    }
   }
 }
@@ -24,7 +24,8 @@ public class BitlistSerializer extends JsonSerializer<Bitlist> {
   @Override
   public void serialize(Bitlist value, JsonGenerator gen, SerializerProvider serializers)
       throws IOException {
-    Bytes in = Bytes.of(value.getByteArray());
+    // The SSZ form includes the length delimiter bit so the size survives the round trip
+    Bytes in = value.serialize();
     gen.writeString(in.toHexString().toLowerCase());
   }
 }
@@ -23,11 +23,13 @@ import java.util.List;
 import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
 import org.junit.jupiter.api.Test;
+import tech.pegasys.artemis.api.schema.Attestation;
 import tech.pegasys.artemis.api.schema.BLSPubKey;
 import tech.pegasys.artemis.api.schema.BeaconState;
 import tech.pegasys.artemis.api.schema.ValidatorsRequest;
 import tech.pegasys.artemis.datastructures.util.DataStructureUtil;
 import tech.pegasys.artemis.util.SSZTypes.Bitlist;
+import tech.pegasys.artemis.util.config.Constants;
 
 class JsonProviderTest {
   private final DataStructureUtil dataStructureUtil = new DataStructureUtil();
@@ -57,12 +59,36 @@ class JsonProviderTest {
     Bytes bytes = Bytes.fromHexString(hexString);
     Bitlist data = new Bitlist(bytes.toArray(), 64);
     String asJson = jsonProvider.objectToJSON(data);
-    assertEquals(Q + hexString + Q, asJson);
+    // Serialized as SSZ, including the length delimiter bit
+    assertEquals(Q + hexString + "01" + Q, asJson);
 
     Bitlist asData = jsonProvider.jsonToObject(asJson, Bitlist.class);
     assertEquals(data, asData);
   }
 
+  @Test
+  public void bitListShouldKeepSizeWhenNotAMultipleOfEight() throws JsonProcessingException {
+    Bitlist data = new Bitlist(13, 64);
+    data.setBit(0);
+    data.setBit(9);
+    data.setBit(12);
+    String asJson = jsonProvider.objectToJSON(data);
+
+    Bitlist asData = jsonProvider.jsonToObject(asJson, Bitlist.class);
+    assertEquals(13, asData.getCurrentSize());
+    assertEquals(data, asData);
+  }
+
+  @Test
+  public void attestationBitlistShouldTakeMaxSizeFromInternalType() throws JsonProcessingException {
+    Attestation attestation = new Attestation(dataStructureUtil.randomAttestation());
+    String asJson = jsonProvider.objectToJSON(attestation);
+
+    Attestation asData = jsonProvider.jsonToObject(asJson, Attestation.class);
+    assertEquals(attestation.aggregation_bits, asData.aggregation_bits);
+    assertEquals(Constants.MAX_VALIDATORS_PER_COMMITTEE, asData.aggregation_bits.getMaxSize());
+  }
+
   @Test
   public void stringShouldSerializeToJson() throws JsonProcessingException {
     String data = "test";
@@ -13,13 +13,15 @@
 
 package tech.pegasys.artemis.data.recorder;
 
-import static tech.pegasys.artemis.datastructures.util.SimpleOffsetSerializer.serialize;
-
 import com.google.common.eventbus.Subscribe;
 import com.google.common.primitives.UnsignedLong;
-import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.tuweni.bytes.Bytes32;
@@ -28,16 +30,30 @@ import tech.pegasys.artemis.datastructures.state.BeaconState;
 import tech.pegasys.artemis.datastructures.state.Checkpoint;
 import tech.pegasys.artemis.storage.Store;
 import tech.pegasys.artemis.util.config.Constants;
-import tech.pegasys.artemis.util.sos.SimpleOffsetSerializable;
 
+/**
+ * Records the pre state, block and post state of each imported block.
+ *
+ * <p>Events are only queued on the calling thread. Serialization and disk writes happen on a
+ * dedicated background thread so block import is never blocked on disk. If the queue is full,
+ * new records are dropped rather than applying back pressure to block import.
+ */
 public class SSZTransitionRecorder {
 
   private static final Logger LOG = LogManager.getLogger();
 
-  private final Path outputDirectory;
+  private final BlockingQueue<Runnable> pendingWrites;
+  private final TransitionRecordWriter writer;
+  private final ExecutorService executor =
+      Executors.newSingleThreadExecutor(
+          new ThreadFactoryBuilder().setDaemon(true).setNameFormat("transition-recorder").build());
+  private final AtomicBoolean stopped = new AtomicBoolean(false);
+  private final AtomicLong droppedRecords = new AtomicLong(0);
 
-  public SSZTransitionRecorder(final Path outputDirectory) {
-    this.outputDirectory = mkdirs(outputDirectory);
+  public SSZTransitionRecorder(final TransitionRecordConfig config) {
+    this.pendingWrites = new ArrayBlockingQueue<>(config.getQueueCapacity());
+    this.writer = new TransitionRecordWriter(config);
+    executor.execute(this::processPendingWrites);
   }
 
   @Subscribe
@@ -48,7 +64,7 @@ public class SSZTransitionRecorder {
     }
     final Bytes32 genesisRoot = finalizedCheckpoint.getRoot();
     final BeaconState genesisState = store.getBlockState(genesisRoot);
-    store(outputDirectory.resolve("genesis.ssz"), genesisState);
+    enqueue(() -> writer.writeGenesis(genesisState));
   }
 
   private boolean isNotGenesis(final Checkpoint finalizedCheckpoint) {
@@ -59,28 +75,40 @@ public class SSZTransitionRecorder {
 
   @Subscribe
   public void onBlockProcessingRecord(final BlockProcessingRecord record) {
-    final Path slotDirectory = slotDirectory(record.getBlock().getSlot());
-    store(slotDirectory.resolve("pre.ssz"), record.getPreState());
-    store(slotDirectory.resolve("block.ssz"), record.getBlock());
-    store(slotDirectory.resolve("post.ssz"), record.getPostState());
+    enqueue(
+        () ->
+            writer.writeRecord(
+                record.getBlock().getSlot(),
+                record.getPreState(),
+                record.getBlock(),
+                record.getPostState()));
   }
 
-  private void store(final Path file, SimpleOffsetSerializable data) {
-    try {
-      Files.write(file, serialize(data).toArrayUnsafe());
-    } catch (final IOException e) {
-      LOG.error("Failed to record data to " + file, e);
-    }
+  public void stop() {
+    stopped.set(true);
+    executor.shutdownNow();
   }
 
-  private Path mkdirs(final Path dir) {
-    if (!dir.toFile().mkdirs() && !dir.toFile().isDirectory()) {
-      LOG.error("Failed to create transition record directory {}", dir.toAbsolutePath());
+  private void enqueue(final Runnable write) {
+    if (stopped.get()) {
+      return;
+    }
+    if (!pendingWrites.offer(write)) {
+      LOG.warn(
+          "Transition recorder queue is full. {} records have been dropped",
+          droppedRecords.incrementAndGet());
     }
-    return dir;
   }
 
-  private Path slotDirectory(final UnsignedLong slot) {
-    return mkdirs(outputDirectory.resolve(slot.toString()));
+  private void processPendingWrites() {
+    while (!stopped.get()) {
+      try {
+        pendingWrites.take().run();
+      } catch (final InterruptedException e) {
+        LOG.debug("Interrupted while waiting for next transition record", e);
+      } catch (final Throwable t) {
+        LOG.error("Failed to write transition record", t);
+      }
+    }
   }
 }
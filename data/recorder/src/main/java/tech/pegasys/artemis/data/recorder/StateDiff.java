@@ -0,0 +1,59 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.artemis.data.recorder;
+
+import java.nio.ByteBuffer;
+import org.apache.tuweni.bytes.Bytes;
+
+/**
+ * Encodes a serialized state as the XOR of it against a base state.
+ *
+ * <p>Consecutive states differ in relatively few bytes so the diff is mostly zeros and compresses
+ * extremely well. The diff is prefixed with the length of the target so states of different sizes
+ * can be reconstructed.
+ */
+public final class StateDiff {
+  private static final int LENGTH_PREFIX_SIZE = Integer.BYTES;
+
+  private StateDiff() {}
+
+  public static Bytes diff(final Bytes base, final Bytes target) {
+    final ByteBuffer diff = ByteBuffer.allocate(LENGTH_PREFIX_SIZE + target.size());
+    diff.putInt(target.size());
+    for (int i = 0; i < target.size(); i++) {
+      diff.put((byte) (target.get(i) ^ byteAt(base, i)));
+    }
+    return Bytes.wrap(diff.array());
+  }
+
+  public static Bytes apply(final Bytes base, final Bytes diff) {
+    if (diff.size() < LENGTH_PREFIX_SIZE) {
+      throw new IllegalArgumentException("State diff is too short to contain a length prefix");
+    }
+    final int targetLength = diff.getInt(0);
+    if (diff.size() != LENGTH_PREFIX_SIZE + targetLength) {
+      throw new IllegalArgumentException(
+          "State diff length prefix " + targetLength + " does not match diff size " + diff.size());
+    }
+    final byte[] target = new byte[targetLength];
+    for (int i = 0; i < targetLength; i++) {
+      target[i] = (byte) (diff.get(LENGTH_PREFIX_SIZE + i) ^ byteAt(base, i));
+    }
+    return Bytes.wrap(target);
+  }
+
+  private static byte byteAt(final Bytes data, final int index) {
+    return index < data.size() ? data.get(index) : 0;
+  }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.artemis.data.recorder;
+
+import java.nio.file.Path;
+
+public class TransitionRecordConfig {
+
+  private final Path outputDirectory;
+  private final int queueCapacity;
+  private final boolean compressionEnabled;
+  private final boolean diffStatesEnabled;
+  private final int maxSlotsRetained;
+  private final long maxBytesRetained;
+
+  /**
+   * @param outputDirectory the directory to write records to
+   * @param queueCapacity the maximum number of records waiting to be written before new records
+   *     are dropped
+   * @param compressionEnabled whether record files should be snappy compressed
+   * @param diffStatesEnabled whether states should be stored as a diff against the previous state
+   * @param maxSlotsRetained the number of slot records to retain, or 0 to retain all records
+   * @param maxBytesRetained the total size of slot records to retain, or 0 to retain all records
+   */
+  public TransitionRecordConfig(
+      final Path outputDirectory,
+      final int queueCapacity,
+      final boolean compressionEnabled,
+      final boolean diffStatesEnabled,
+      final int maxSlotsRetained,
+      final long maxBytesRetained) {
+    if (queueCapacity < 1) {
+      throw new IllegalArgumentException("Transition record queue capacity must be at least 1");
+    }
+    this.outputDirectory = outputDirectory;
+    this.queueCapacity = queueCapacity;
+    this.compressionEnabled = compressionEnabled;
+    this.diffStatesEnabled = diffStatesEnabled;
+    this.maxSlotsRetained = maxSlotsRetained;
+    this.maxBytesRetained = maxBytesRetained;
+  }
+
+  public Path getOutputDirectory() {
+    return outputDirectory;
+  }
+
+  public int getQueueCapacity() {
+    return queueCapacity;
+  }
+
+  public boolean isCompressionEnabled() {
+    return compressionEnabled;
+  }
+
+  public boolean isDiffStatesEnabled() {
+    return diffStatesEnabled;
+  }
+
+  public int getMaxSlotsRetained() {
+    return maxSlotsRetained;
+  }
+
+  public long getMaxBytesRetained() {
+    return maxBytesRetained;
+  }
+}
@@ -0,0 +1,260 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.artemis.data.recorder;
+
+import static tech.pegasys.artemis.datastructures.util.SimpleOffsetSerializer.serialize;
+
+import com.google.common.primitives.UnsignedLong;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.stream.Stream;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.tuweni.bytes.Bytes;
+import org.xerial.snappy.Snappy;
+import tech.pegasys.artemis.datastructures.blocks.SignedBeaconBlock;
+import tech.pegasys.artemis.datastructures.state.BeaconState;
+
+/**
+ * Writes transition records to disk, one directory per slot, and prunes the oldest slot
+ * directories once the configured retention limits are exceeded.
+ *
+ * <p>When state diffs are enabled, the pre state of each record is stored as a diff against the
+ * post state of the previous record and the post state as a diff against the pre state. A full
+ * pre state is written as a keyframe for the first record after startup and at least every {@link
+ * #KEYFRAME_INTERVAL} records, and pruning always removes a keyframe together with the records
+ * diffed from it so every retained record can be reconstructed.
+ *
+ * <p>Not thread safe. Records are expected to be written from a single thread.
+ */
+class TransitionRecordWriter {
+  private static final Logger LOG = LogManager.getLogger();
+
+  static final String SSZ_EXTENSION = ".ssz";
+  static final String DIFF_EXTENSION = ".diff";
+  static final String SNAPPY_EXTENSION = ".snappy";
+  static final int KEYFRAME_INTERVAL = 32;
+
+  private final TransitionRecordConfig config;
+  private final Path outputDirectory;
+  private final int keyframeInterval;
+  private final NavigableMap<UnsignedLong, Long> retainedSlotSizes = new TreeMap<>();
+  private final NavigableSet<UnsignedLong> keyframeSlots = new TreeSet<>();
+  private long retainedBytes = 0;
+  private Optional<Bytes> previousPostState = Optional.empty();
+  private int recordsSinceKeyframe = 0;
+
+  TransitionRecordWriter(final TransitionRecordConfig config) {
+    this.config = config;
+    this.outputDirectory = mkdirs(config.getOutputDirectory());
+    // Pruning removes a keyframe with its diffs, so keep groups small relative to the slot limit
+    this.keyframeInterval =
+        config.getMaxSlotsRetained() > 0
+            ? Math.max(1, Math.min(KEYFRAME_INTERVAL, config.getMaxSlotsRetained() / 2))
+            : KEYFRAME_INTERVAL;
+    loadExistingSlotDirectories();
+  }
+
+  void writeGenesis(final BeaconState genesisState) {
+    write(outputDirectory, "genesis", serialize(genesisState));
+  }
+
+  void writeRecord(
+      final UnsignedLong slot,
+      final BeaconState preState,
+      final SignedBeaconBlock block,
+      final BeaconState postState) {
+    final Path slotDirectory = mkdirs(outputDirectory.resolve(slot.toString()));
+    final Bytes preStateBytes = serialize(preState);
+    final Bytes postStateBytes = serialize(postState);
+    if (!config.isDiffStatesEnabled()) {
+      write(slotDirectory, "pre", preStateBytes);
+      keyframeSlots.add(slot);
+    } else if (previousPostState.isPresent() && recordsSinceKeyframe < keyframeInterval) {
+      write(
+          slotDirectory,
+          "pre",
+          DIFF_EXTENSION,
+          StateDiff.diff(previousPostState.get(), preStateBytes));
+      recordsSinceKeyframe++;
+    } else {
+      write(slotDirectory, "pre", preStateBytes);
+      keyframeSlots.add(slot);
+      recordsSinceKeyframe = 1;
+    }
+    write(slotDirectory, "block", serialize(block));
+    if (config.isDiffStatesEnabled()) {
+      write(slotDirectory, "post", DIFF_EXTENSION, StateDiff.diff(preStateBytes, postStateBytes));
+      previousPostState = Optional.of(postStateBytes);
+    } else {
+      write(slotDirectory, "post", postStateBytes);
+    }
+    updateRetainedSize(slot, directorySize(slotDirectory));
+    prune();
+  }
+
+  /**
+   * Reconstructs the pre or post state of a record, applying diffs back to the closest keyframe.
+   *
+   * @param outputDirectory the directory records were written to
+   * @param slot the slot of the record
+   * @param name either "pre" or "post"
+   * @return the SSZ bytes of the state
+   * @throws IOException if a record file could not be read
+   */
+  static Bytes readState(final Path outputDirectory, final UnsignedLong slot, final String name)
+      throws IOException {
+    final Path slotDirectory = outputDirectory.resolve(slot.toString());
+    final Path fullFile = findRecordFile(slotDirectory, name + SSZ_EXTENSION);
+    if (fullFile.toFile().exists()) {
+      return readRecordFile(fullFile);
+    }
+    final Bytes diff =
+        readRecordFile(findRecordFile(slotDirectory, name + SSZ_EXTENSION + DIFF_EXTENSION));
+    if (name.equals("post")) {
+      return StateDiff.apply(readState(outputDirectory, slot, "pre"), diff);
+    }
+    final UnsignedLong previousSlot = findSlotDirectories(outputDirectory).lower(slot);
+    if (previousSlot == null) {
+      throw new IOException("No keyframe found for transition record at slot " + slot);
+    }
+    return StateDiff.apply(readState(outputDirectory, previousSlot, "post"), diff);
+  }
+
+  /**
+   * Reads a record file written by this class, reversing any compression applied.
+   *
+   * @param file the file to read
+   * @return the SSZ bytes, or the state diff bytes for diff files
+   * @throws IOException if the file could not be read
+   */
+  static Bytes readRecordFile(final Path file) throws IOException {
+    final byte[] data = Files.readAllBytes(file);
+    if (file.getFileName().toString().endsWith(SNAPPY_EXTENSION)) {
+      return Bytes.wrap(Snappy.uncompress(data));
+    }
+    return Bytes.wrap(data);
+  }
+
+  private static Path findRecordFile(final Path directory, final String filename) {
+    final Path compressedFile = directory.resolve(filename + SNAPPY_EXTENSION);
+    return compressedFile.toFile().exists() ? compressedFile : directory.resolve(filename);
+  }
+
+  private static NavigableSet<UnsignedLong> findSlotDirectories(final Path directory) {
+    final NavigableSet<UnsignedLong> slots = new TreeSet<>();
+    final File[] existingFiles = directory.toFile().listFiles(File::isDirectory);
+    if (existingFiles == null) {
+      return slots;
+    }
+    for (File file : existingFiles) {
+      try {
+        slots.add(UnsignedLong.valueOf(file.getName()));
+      } catch (final NumberFormatException e) {
+        LOG.debug("Ignoring non-slot directory {} in transition record directory", file);
+      }
+    }
+    return slots;
+  }
+
+  private void write(final Path directory, final String name, final Bytes data) {
+    write(directory, name, "", data);
+  }
+
+  private void write(
+      final Path directory, final String name, final String suffix, final Bytes data) {
+    String filename = name + SSZ_EXTENSION + suffix;
+    try {
+      byte[] output = data.toArrayUnsafe();
+      if (config.isCompressionEnabled()) {
+        output = Snappy.compress(output);
+        filename += SNAPPY_EXTENSION;
+      }
+      Files.write(directory.resolve(filename), output);
+    } catch (final IOException e) {
+      LOG.error("Failed to record data to " + directory.resolve(filename), e);
+    }
+  }
+
+  private void updateRetainedSize(final UnsignedLong slot, final long size) {
+    final Long previousSize = retainedSlotSizes.put(slot, size);
+    retainedBytes += size - (previousSize != null ? previousSize : 0);
+  }
+
+  private void prune() {
+    while (isOverRetentionLimit()) {
+      // Records up to the next keyframe may be diffed from the oldest one so must go with it
+      final UnsignedLong nextKeyframe = keyframeSlots.higher(retainedSlotSizes.firstKey());
+      if (nextKeyframe == null) {
+        return;
+      }
+      while (retainedSlotSizes.firstKey().compareTo(nextKeyframe) < 0) {
+        final Map.Entry<UnsignedLong, Long> oldest = retainedSlotSizes.pollFirstEntry();
+        keyframeSlots.remove(oldest.getKey());
+        retainedBytes -= oldest.getValue();
+        deleteRecursively(outputDirectory.resolve(oldest.getKey().toString()));
+      }
+    }
+  }
+
+  private boolean isOverRetentionLimit() {
+    return (config.getMaxSlotsRetained() > 0
+            && retainedSlotSizes.size() > config.getMaxSlotsRetained())
+        || (config.getMaxBytesRetained() > 0 && retainedBytes > config.getMaxBytesRetained());
+  }
+
+  private void loadExistingSlotDirectories() {
+    for (UnsignedLong slot : findSlotDirectories(outputDirectory)) {
+      final Path slotDirectory = outputDirectory.resolve(slot.toString());
+      updateRetainedSize(slot, directorySize(slotDirectory));
+      if (findRecordFile(slotDirectory, "pre" + SSZ_EXTENSION).toFile().exists()) {
+        keyframeSlots.add(slot);
+      }
+    }
+    prune();
+  }
+
+  private static long directorySize(final Path directory) {
+    try (Stream<Path> files = Files.list(directory)) {
+      return files.mapToLong(file -> file.toFile().length()).sum();
+    } catch (final IOException e) {
+      LOG.warn("Unable to determine size of transition record directory {}", directory, e);
+      return 0;
+    }
+  }
+
+  private static void deleteRecursively(final Path directory) {
+    try (Stream<Path> files = Files.walk(directory)) {
+      files.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+    } catch (final IOException e) {
+      LOG.warn("Failed to prune transition record directory {}", directory, e);
+    }
+  }
+
+  private static Path mkdirs(final Path dir) {
+    if (!dir.toFile().mkdirs() && !dir.toFile().isDirectory()) {
+      LOG.error("Failed to create transition record directory {}", dir.toAbsolutePath());
+    }
+    return dir;
+  }
+}
@@ -0,0 +1,186 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.artemis.data.recorder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static tech.pegasys.artemis.datastructures.util.SimpleOffsetSerializer.serialize;
+
+import com.google.common.primitives.UnsignedLong;
+import java.io.IOException;
+import java.nio.file.Path;
+import org.apache.tuweni.bytes.Bytes;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import tech.pegasys.artemis.datastructures.blocks.SignedBeaconBlock;
+import tech.pegasys.artemis.datastructures.state.BeaconState;
+import tech.pegasys.artemis.datastructures.util.DataStructureUtil;
+
+class TransitionRecordWriterTest {
+
+  private final DataStructureUtil dataStructureUtil = new DataStructureUtil();
+  private final BeaconState preState = dataStructureUtil.randomBeaconState(UnsignedLong.ONE);
+  private final BeaconState postState = dataStructureUtil.randomBeaconState(UnsignedLong.ONE);
+  private final SignedBeaconBlock block = dataStructureUtil.randomSignedBeaconBlock(1);
+
+  @TempDir Path outputDirectory;
+
+  @Test
+  public void shouldWriteUncompressedRecords() throws IOException {
+    final TransitionRecordWriter writer = createWriter(false, false, 0, 0);
+    writer.writeRecord(UnsignedLong.ONE, preState, block, postState);
+
+    final Path slotDirectory = outputDirectory.resolve("1");
+    assertThat(TransitionRecordWriter.readRecordFile(slotDirectory.resolve("pre.ssz")))
+        .isEqualTo(serialize(preState));
+    assertThat(TransitionRecordWriter.readRecordFile(slotDirectory.resolve("block.ssz")))
+        .isEqualTo(serialize(block));
+    assertThat(TransitionRecordWriter.readRecordFile(slotDirectory.resolve("post.ssz")))
+        .isEqualTo(serialize(postState));
+  }
+
+  @Test
+  public void shouldWriteCompressedDiffedRecords() throws IOException {
+    final TransitionRecordWriter writer = createWriter(true, true, 0, 0);
+    writer.writeRecord(UnsignedLong.ONE, preState, block, postState);
+
+    final Path slotDirectory = outputDirectory.resolve("1");
+    final Bytes pre =
+        TransitionRecordWriter.readRecordFile(slotDirectory.resolve("pre.ssz.snappy"));
+    final Bytes diff =
+        TransitionRecordWriter.readRecordFile(slotDirectory.resolve("post.ssz.diff.snappy"));
+    assertThat(pre).isEqualTo(serialize(preState));
+    assertThat(StateDiff.apply(pre, diff)).isEqualTo(serialize(postState));
+  }
+
+  @Test
+  public void shouldDiffPreStateAgainstPreviousPostState() throws IOException {
+    final BeaconState nextPostState = dataStructureUtil.randomBeaconState(UnsignedLong.ONE);
+    final TransitionRecordWriter writer = createWriter(true, true, 0, 0);
+    writer.writeRecord(UnsignedLong.valueOf(1), preState, block, postState);
+    writer.writeRecord(UnsignedLong.valueOf(2), postState, block, nextPostState);
+
+    final Path slotDirectory = outputDirectory.resolve("2");
+    assertThat(slotDirectory.resolve("pre.ssz.snappy")).doesNotExist();
+    final Bytes diff =
+        TransitionRecordWriter.readRecordFile(slotDirectory.resolve("pre.ssz.diff.snappy"));
+    assertThat(diff.size()).isLessThan(serialize(postState).size() / 10);
+    assertThat(readState(2, "pre")).isEqualTo(serialize(postState));
+    assertThat(readState(2, "post")).isEqualTo(serialize(nextPostState));
+  }
+
+  @Test
+  public void shouldWriteKeyframeAtInterval() throws IOException {
+    final TransitionRecordWriter writer = createWriter(false, true, 0, 0);
+    for (int slot = 1; slot <= TransitionRecordWriter.KEYFRAME_INTERVAL + 1; slot++) {
+      writer.writeRecord(UnsignedLong.valueOf(slot), preState, block, postState);
+    }
+
+    assertThat(outputDirectory.resolve("1").resolve("pre.ssz")).exists();
+    assertThat(outputDirectory.resolve("2").resolve("pre.ssz")).doesNotExist();
+    final String keyframeSlot = String.valueOf(TransitionRecordWriter.KEYFRAME_INTERVAL + 1);
+    assertThat(outputDirectory.resolve(keyframeSlot).resolve("pre.ssz")).exists();
+    assertThat(readState(TransitionRecordWriter.KEYFRAME_INTERVAL, "post"))
+        .isEqualTo(serialize(postState));
+  }
+
+  @Test
+  public void shouldWriteKeyframeForFirstRecordAfterRestart() throws IOException {
+    createWriter(false, true, 0, 0)
+        .writeRecord(UnsignedLong.valueOf(1), preState, block, postState);
+
+    createWriter(false, true, 0, 0)
+        .writeRecord(UnsignedLong.valueOf(2), preState, block, postState);
+
+    assertThat(outputDirectory.resolve("2").resolve("pre.ssz")).exists();
+    assertThat(readState(2, "post")).isEqualTo(serialize(postState));
+  }
+
+  @Test
+  public void shouldPruneDiffedRecordsTogetherWithTheirKeyframe() throws IOException {
+    final TransitionRecordWriter writer = createWriter(false, true, 4, 0);
+    for (int slot = 1; slot <= 5; slot++) {
+      writer.writeRecord(UnsignedLong.valueOf(slot), preState, block, postState);
+    }
+
+    // Keyframes are written at slots 1, 3 and 5 so slot 2 is pruned along with slot 1
+    assertThat(outputDirectory.resolve("1")).doesNotExist();
+    assertThat(outputDirectory.resolve("2")).doesNotExist();
+    assertThat(outputDirectory.resolve("3")).isDirectory();
+    assertThat(outputDirectory.resolve("4")).isDirectory();
+    assertThat(outputDirectory.resolve("5")).isDirectory();
+    assertThat(readState(4, "post")).isEqualTo(serialize(postState));
+  }
+
+  @Test
+  public void shouldPruneOldestSlotsWhenSlotLimitExceeded() {
+    final TransitionRecordWriter writer = createWriter(false, false, 2, 0);
+    writer.writeRecord(UnsignedLong.valueOf(1), preState, block, postState);
+    writer.writeRecord(UnsignedLong.valueOf(2), preState, block, postState);
+    writer.writeRecord(UnsignedLong.valueOf(3), preState, block, postState);
+
+    assertThat(outputDirectory.resolve("1")).doesNotExist();
+    assertThat(outputDirectory.resolve("2")).isDirectory();
+    assertThat(outputDirectory.resolve("3")).isDirectory();
+  }
+
+  @Test
+  public void shouldPruneOldestSlotsWhenByteLimitExceeded() {
+    final long recordSize =
+        serialize(preState).size() + serialize(block).size() + serialize(postState).size();
+    final TransitionRecordWriter writer = createWriter(false, false, 0, recordSize * 2);
+    writer.writeRecord(UnsignedLong.valueOf(1), preState, block, postState);
+    writer.writeRecord(UnsignedLong.valueOf(2), preState, block, postState);
+    writer.writeRecord(UnsignedLong.valueOf(3), preState, block, postState);
+
+    assertThat(outputDirectory.resolve("1")).doesNotExist();
+    assertThat(outputDirectory.resolve("2")).isDirectory();
+    assertThat(outputDirectory.resolve("3")).isDirectory();
+  }
+
+  @Test
+  public void shouldIncludeExistingRecordsInRetention() {
+    createWriter(false, false, 0, 0)
+        .writeRecord(UnsignedLong.valueOf(1), preState, block, postState);
+
+    final TransitionRecordWriter writer = createWriter(false, false, 1, 0);
+    writer.writeRecord(UnsignedLong.valueOf(2), preState, block, postState);
+
+    assertThat(outputDirectory.resolve("1")).doesNotExist();
+    assertThat(outputDirectory.resolve("2")).isDirectory();
+  }
+
+  @Test
+  public void stateDiff_shouldRoundTripStatesOfDifferentLengths() {
+    final Bytes base = Bytes.fromHexString("0x0102030405");
+    final Bytes longer = Bytes.fromHexString("0x01020304050607");
+    final Bytes shorter = Bytes.fromHexString("0x0103");
+
+    assertThat(StateDiff.apply(base, StateDiff.diff(base, longer))).isEqualTo(longer);
+    assertThat(StateDiff.apply(base, StateDiff.diff(base, shorter))).isEqualTo(shorter);
+  }
+
+  private Bytes readState(final int slot, final String name) throws IOException {
+    return TransitionRecordWriter.readState(outputDirectory, UnsignedLong.valueOf(slot), name);
+  }
+
+  private TransitionRecordWriter createWriter(
+      final boolean compressionEnabled,
+      final boolean diffStatesEnabled,
+      final int maxSlots,
+      final long maxBytes) {
+    return new TransitionRecordWriter(
+        new TransitionRecordConfig(
+            outputDirectory, 1, compressionEnabled, diffStatesEnabled, maxSlots, maxBytes));
+  }
+}
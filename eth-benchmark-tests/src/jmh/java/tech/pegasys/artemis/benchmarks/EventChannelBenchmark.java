@@ -0,0 +1,115 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.artemis.benchmarks;
+
+import static tech.pegasys.artemis.events.LoggingChannelExceptionHandler.LOGGING_EXCEPTION_HANDLER;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import tech.pegasys.artemis.events.EventChannel;
+import tech.pegasys.artemis.events.OverflowPolicy;
+import tech.pegasys.artemis.events.WaitStrategy;
+
+/**
+ * Compares the blocking queue and ring buffer event deliverers. Throughput is measured by
+ * publishing batches of events, and tail latency by sampling the time for a single event to
+ * reach its subscriber.
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+public class EventChannelBenchmark {
+  private static final int BATCH_SIZE = 1000;
+  private static final int RING_BUFFER_SIZE = 1024;
+
+  @Param({"blocking_queue", "ring_buffer"})
+  String deliverer;
+
+  // Only used by the ring buffer
+  @Param({"SLEEPING", "YIELDING"})
+  WaitStrategy waitStrategy;
+
+  private final AtomicLong delivered = new AtomicLong();
+  private EventChannel<BenchmarkChannel> channel;
+  private BenchmarkChannel publisher;
+  private long published;
+
+  @Setup
+  public void setup() {
+    final NoOpMetricsSystem metricsSystem = new NoOpMetricsSystem();
+    if (deliverer.equals("ring_buffer")) {
+      channel =
+          EventChannel.createRingBuffer(
+              BenchmarkChannel.class,
+              RING_BUFFER_SIZE,
+              waitStrategy,
+              OverflowPolicy.BLOCK,
+              LOGGING_EXCEPTION_HANDLER,
+              metricsSystem);
+    } else {
+      channel = EventChannel.createAsync(BenchmarkChannel.class, metricsSystem);
+    }
+    channel.subscribe(sequence -> delivered.incrementAndGet());
+    publisher = channel.getPublisher();
+  }
+
+  @TearDown
+  public void tearDown() {
+    channel.stop();
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.Throughput)
+  @OutputTimeUnit(TimeUnit.SECONDS)
+  @OperationsPerInvocation(BATCH_SIZE)
+  public void publishBatch() {
+    for (int i = 0; i < BATCH_SIZE; i++) {
+      publisher.onEvent(published++);
+    }
+    awaitDelivery();
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.SampleTime)
+  @OutputTimeUnit(TimeUnit.MICROSECONDS)
+  public void singleEventLatency() {
+    publisher.onEvent(published++);
+    awaitDelivery();
+  }
+
+  private void awaitDelivery() {
+    while (delivered.get() < published) {
+      Thread.onSpinWait();
+    }
+  }
+
+  public interface BenchmarkChannel {
+    void onEvent(long sequence);
+  }
+}
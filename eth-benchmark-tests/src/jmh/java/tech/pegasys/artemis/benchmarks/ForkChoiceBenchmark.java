@@ -0,0 +1,99 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.artemis.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.apache.tuweni.bytes.Bytes32;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tech.pegasys.artemis.benchmarks.gen.ForkedChainGenerator;
+import tech.pegasys.artemis.datastructures.operations.Attestation;
+import tech.pegasys.artemis.statetransition.StateTransition;
+import tech.pegasys.artemis.statetransition.attestation.AttestationProcessingResult;
+import tech.pegasys.artemis.statetransition.util.ForkChoiceUtil;
+import tech.pegasys.artemis.storage.ChainStorageClient;
+import tech.pegasys.artemis.storage.Store;
+import tech.pegasys.artemis.storage.Store.Transaction;
+
+/**
+ * Measures LMD-GHOST head selection and attestation processing against a non-finalizing chain.
+ * Every validator has a latest message, spread evenly across {@code forksCount} competing
+ * branches.
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class ForkChoiceBenchmark {
+
+  @Param({"16384", "65536", "262144"})
+  int validatorsCount;
+
+  @Param({"1", "16"})
+  int forksCount;
+
+  private ChainStorageClient storageClient;
+  private StateTransition stateTransition;
+  private Store store;
+  private List<Attestation> attestations;
+  private int attestationIndex;
+
+  @Setup
+  public void init() throws Exception {
+    final ForkedChainGenerator generator = ForkedChainGenerator.create(validatorsCount);
+    generator.createForks(forksCount);
+    generator.spreadLatestMessages();
+    storageClient = generator.getStorageClient();
+    stateTransition = generator.getStateTransition();
+    store = storageClient.getStore();
+    attestations = generator.createAttestations(generator.getForkHeads().get(0));
+
+    // Store the target checkpoint state up front so it isn't recalculated by every invocation
+    final Transaction transaction = storageClient.startStoreTransaction();
+    final AttestationProcessingResult result =
+        ForkChoiceUtil.on_attestation(transaction, attestations.get(0), stateTransition);
+    if (!result.isSuccessful()) {
+      throw new IllegalStateException(
+          "Unable to process attestation: " + result.getFailureMessage());
+    }
+    transaction.commit().join();
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  @OutputTimeUnit(TimeUnit.MILLISECONDS)
+  public Bytes32 getHead() {
+    return ForkChoiceUtil.get_head(store);
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.Throughput)
+  @OutputTimeUnit(TimeUnit.SECONDS)
+  public AttestationProcessingResult onAttestation() {
+    final Attestation attestation = attestations.get(attestationIndex);
+    attestationIndex = (attestationIndex + 1) % attestations.size();
+    final Transaction transaction = storageClient.startStoreTransaction();
+    return ForkChoiceUtil.on_attestation(transaction, attestation, stateTransition);
+  }
+}
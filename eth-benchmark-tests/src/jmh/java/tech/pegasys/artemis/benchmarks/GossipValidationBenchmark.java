@@ -0,0 +1,98 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.artemis.benchmarks;
+
+import static org.mockito.Mockito.mock;
+
+import com.google.common.eventbus.EventBus;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.apache.tuweni.bytes.Bytes;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tech.pegasys.artemis.benchmarks.gen.ForkedChainGenerator;
+import tech.pegasys.artemis.datastructures.util.RetainedSszEncodings;
+import tech.pegasys.artemis.datastructures.util.SimpleOffsetSerializer;
+import tech.pegasys.artemis.networking.eth2.gossip.topics.AttestationTopicHandler;
+import tech.pegasys.artemis.networking.eth2.gossip.topics.BlockTopicHandler;
+import tech.pegasys.artemis.storage.ChainStorageClient;
+
+/**
+ * Measures the throughput of validating gossiped blocks and attestations, from the raw SSZ bytes
+ * through to the accept decision.
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class GossipValidationBenchmark {
+  private static final int FORKS_COUNT = 16;
+
+  @Param({"16384", "65536", "262144"})
+  int validatorsCount;
+
+  private BlockTopicHandler blockTopicHandler;
+  private AttestationTopicHandler attestationTopicHandler;
+  private List<Bytes> blocks;
+  private List<Bytes> attestations;
+  private int blockIndex;
+  private int attestationIndex;
+
+  @Setup
+  public void init() throws Exception {
+    final ForkedChainGenerator generator = ForkedChainGenerator.create(validatorsCount);
+    generator.createForks(FORKS_COUNT);
+    blocks =
+        generator.createBlocksOnForkHeads().stream()
+            .map(SimpleOffsetSerializer::serialize)
+            .collect(Collectors.toList());
+    attestations =
+        generator.createAttestations(generator.getForkHeads().get(0)).stream()
+            .map(SimpleOffsetSerializer::serialize)
+            .collect(Collectors.toList());
+
+    final EventBus eventBus = mock(EventBus.class);
+    final ChainStorageClient storageClient = generator.getStorageClient();
+    final RetainedSszEncodings retainedSszEncodings = RetainedSszEncodings.create();
+    blockTopicHandler = new BlockTopicHandler(eventBus, storageClient, retainedSszEncodings);
+    attestationTopicHandler =
+        new AttestationTopicHandler(eventBus, storageClient, 0, retainedSszEncodings);
+  }
+
+  @Benchmark
+  public boolean validateBlock() {
+    final Bytes block = blocks.get(blockIndex);
+    blockIndex = (blockIndex + 1) % blocks.size();
+    return blockTopicHandler.handleMessage(block);
+  }
+
+  @Benchmark
+  public boolean validateAttestation() {
+    final Bytes attestation = attestations.get(attestationIndex);
+    attestationIndex = (attestationIndex + 1) % attestations.size();
+    return attestationTopicHandler.handleMessage(attestation);
+  }
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.artemis.benchmarks;
+
+import static tech.pegasys.artemis.util.config.Constants.GENESIS_EPOCH;
+
+import com.google.common.io.MoreFiles;
+import com.google.common.io.RecursiveDeleteOption;
+import com.google.common.primitives.UnsignedLong;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.apache.tuweni.bytes.Bytes32;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import tech.pegasys.artemis.benchmarks.gen.ForkedChainGenerator;
+import tech.pegasys.artemis.datastructures.blocks.SignedBeaconBlock;
+import tech.pegasys.artemis.datastructures.state.BeaconState;
+import tech.pegasys.artemis.datastructures.state.Checkpoint;
+import tech.pegasys.artemis.datastructures.util.RetainedSszEncodings;
+import tech.pegasys.artemis.storage.ChainStorageClient;
+import tech.pegasys.artemis.storage.Database;
+import tech.pegasys.artemis.storage.MapDbDatabase;
+import tech.pegasys.artemis.storage.StateStorageMode;
+import tech.pegasys.artemis.storage.Store;
+import tech.pegasys.artemis.storage.Store.Transaction;
+import tech.pegasys.artemis.storage.events.diskupdates.StorageUpdate;
+import tech.pegasys.artemis.storage.events.diskupdates.StorageUpdateResult;
+import tech.pegasys.artemis.util.async.SafeFuture;
+
+/**
+ * Measures the latency of committing block imports and latest message updates to an on-disk
+ * {@link MapDbDatabase}, and the overhead of the in-memory {@link Store.Transaction} that precedes
+ * each of them.
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class StorageBenchmark {
+  private static final int FORKS_COUNT = 16;
+
+  @Param({"16384", "65536", "262144"})
+  int validatorsCount;
+
+  private Path databaseDir;
+  private Database database;
+  private ChainStorageClient storageClient;
+  private final List<SignedBeaconBlock> blocks = new ArrayList<>();
+  private final List<BeaconState> states = new ArrayList<>();
+  private final List<Map<UnsignedLong, Checkpoint>> latestMessages = new ArrayList<>();
+  private int updateIndex;
+
+  @Setup
+  public void init() throws Exception {
+    final ForkedChainGenerator generator = ForkedChainGenerator.create(validatorsCount);
+    storageClient = generator.getStorageClient();
+    final Store store = storageClient.getStore();
+    final BeaconState genesisState = store.getBlockState(store.getFinalizedCheckpoint().getRoot());
+    generator.createForks(FORKS_COUNT);
+
+    for (Bytes32 head : generator.getForkHeads()) {
+      blocks.add(store.getSignedBlock(head));
+      states.add(store.getBlockState(head));
+      latestMessages.add(createLatestMessages(head));
+    }
+
+    databaseDir = Files.createTempDirectory("storage-benchmark");
+    database =
+        MapDbDatabase.createOnDisk(
+            databaseDir.toFile(), StateStorageMode.PRUNE, RetainedSszEncodings.create());
+    database.storeGenesis(Store.get_genesis_store(genesisState));
+  }
+
+  @TearDown
+  public void dispose() throws Exception {
+    database.close();
+    MoreFiles.deleteRecursively(databaseDir, RecursiveDeleteOption.ALLOW_INSECURE);
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.SampleTime)
+  @OutputTimeUnit(TimeUnit.MILLISECONDS)
+  public StorageUpdateResult databaseBlockUpdate() {
+    final int index = nextUpdateIndex();
+    final Bytes32 root = blocks.get(index).getMessage().hash_tree_root();
+    return database.update(
+        createUpdate(Map.of(root, blocks.get(index)), Map.of(root, states.get(index)), Map.of()));
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.SampleTime)
+  @OutputTimeUnit(TimeUnit.MILLISECONDS)
+  public StorageUpdateResult databaseLatestMessagesUpdate() {
+    return database.update(createUpdate(Map.of(), Map.of(), latestMessages.get(nextUpdateIndex())));
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.SampleTime)
+  @OutputTimeUnit(TimeUnit.MICROSECONDS)
+  public SafeFuture<Void> storeTransactionCommit() {
+    final int index = nextUpdateIndex();
+    final SignedBeaconBlock block = blocks.get(index);
+    final Bytes32 root = block.getMessage().hash_tree_root();
+    final Transaction transaction = storageClient.startStoreTransaction();
+    transaction.putBlock(root, block);
+    transaction.putBlockState(root, states.get(index));
+    latestMessages.get(index).forEach(transaction::putLatestMessage);
+    return transaction.commit();
+  }
+
+  private int nextUpdateIndex() {
+    final int index = updateIndex;
+    updateIndex = (updateIndex + 1) % blocks.size();
+    return index;
+  }
+
+  /** Creates the latest messages a full epoch of attestations to the given head would produce. */
+  private Map<UnsignedLong, Checkpoint> createLatestMessages(final Bytes32 head) {
+    final Checkpoint checkpoint = new Checkpoint(UnsignedLong.valueOf(GENESIS_EPOCH), head);
+    final Map<UnsignedLong, Checkpoint> messages = new HashMap<>();
+    for (int i = 0; i < validatorsCount; i++) {
+      messages.put(UnsignedLong.valueOf(i), checkpoint);
+    }
+    return Collections.unmodifiableMap(messages);
+  }
+
+  private StorageUpdate createUpdate(
+      final Map<Bytes32, SignedBeaconBlock> newBlocks,
+      final Map<Bytes32, BeaconState> newStates,
+      final Map<UnsignedLong, Checkpoint> newLatestMessages) {
+    return new StorageUpdate(
+        Optional.empty(),
+        Optional.empty(),
+        Optional.empty(),
+        Optional.empty(),
+        newBlocks,
+        newStates,
+        Map.of(),
+        newLatestMessages);
+  }
+}
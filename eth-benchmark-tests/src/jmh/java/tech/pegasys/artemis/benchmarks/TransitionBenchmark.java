@@ -16,6 +16,7 @@ package tech.pegasys.artemis.benchmarks;
 import static org.mockito.Mockito.mock;
 
 import com.google.common.eventbus.EventBus;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import org.openjdk.jmh.annotations.Benchmark;
@@ -31,8 +32,10 @@ import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.annotations.TearDown;
 import org.openjdk.jmh.annotations.Threads;
 import org.openjdk.jmh.annotations.Warmup;
+import tech.pegasys.artemis.benchmarks.gen.BenchmarkDataGenerator;
 import tech.pegasys.artemis.benchmarks.gen.BlockIO;
 import tech.pegasys.artemis.benchmarks.gen.BlsKeyPairIO;
+import tech.pegasys.artemis.benchmarks.gen.StateIO;
 import tech.pegasys.artemis.datastructures.blocks.SignedBeaconBlock;
 import tech.pegasys.artemis.datastructures.util.BeaconStateUtil;
 import tech.pegasys.artemis.statetransition.BeaconChainUtil;
@@ -43,7 +46,13 @@ import tech.pegasys.artemis.storage.api.StorageUpdateChannel;
 import tech.pegasys.artemis.util.bls.BLSKeyPair;
 import tech.pegasys.artemis.util.config.Constants;
 
-/** JMH base class for measuring state transitions performance */
+/**
+ * JMH base class for measuring state transitions performance
+ *
+ * <p>Chains are read from the {@code blocks} resources. When a matching pre-state exists in the
+ * {@code states} resources the genesis state is loaded from it instead of being generated from key
+ * pairs, which allows benchmarking validator counts produced by {@link BenchmarkDataGenerator}.
+ */
 @BenchmarkMode(Mode.SingleShotTime)
 @State(Scope.Thread)
 @Fork(0)
@@ -65,23 +74,24 @@ public abstract class TransitionBenchmark {
     Constants.setConstants("mainnet");
     BeaconStateUtil.BLS_VERIFY_DEPOSIT = false;
 
-    String blocksFile =
-        "/blocks/blocks_epoch_"
-            + Constants.SLOTS_PER_EPOCH
-            + "_validators_"
-            + validatorsCount
-            + ".ssz.gz";
-    String keysFile = "/bls-key-pairs/bls-key-pairs-100k-seed-0.txt.gz";
-
-    System.out.println("Generating keypairs from " + keysFile);
-    List<BLSKeyPair> validatorKeys =
-        BlsKeyPairIO.createReaderForResource(keysFile).readAll(validatorsCount);
+    String blocksFile = "/blocks/" + BenchmarkDataGenerator.getBlocksFileName(validatorsCount);
+    String preStateFile = "/states/" + BenchmarkDataGenerator.getPreStateFileName(validatorsCount);
 
     EventBus localEventBus = mock(EventBus.class);
     StorageUpdateChannel storageUpdateChannel = mock(StorageUpdateChannel.class);
     localStorage = ChainStorageClient.memoryOnlyClient(localEventBus, storageUpdateChannel);
-    localChain = BeaconChainUtil.create(localStorage, validatorKeys, false);
-    localChain.initializeStorage();
+    if (StateIO.resourceExists(preStateFile)) {
+      System.out.println("Loading pre-state from " + preStateFile);
+      localChain = BeaconChainUtil.create(localStorage, Collections.emptyList(), false);
+      localStorage.initializeFromGenesis(StateIO.readResource(preStateFile));
+    } else {
+      String keysFile = "/bls-key-pairs/bls-key-pairs-100k-seed-0.txt.gz";
+      System.out.println("Generating keypairs from " + keysFile);
+      List<BLSKeyPair> validatorKeys =
+          BlsKeyPairIO.createReaderForResource(keysFile).readAll(validatorsCount);
+      localChain = BeaconChainUtil.create(localStorage, validatorKeys, false);
+      localChain.initializeStorage();
+    }
 
     blockImporter = new BlockImporter(localStorage, localEventBus);
     blockIterator = BlockIO.createResourceReader(blocksFile).iterator();
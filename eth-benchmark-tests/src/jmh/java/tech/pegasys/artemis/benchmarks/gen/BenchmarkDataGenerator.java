@@ -0,0 +1,195 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.artemis.benchmarks.gen;
+
+import static tech.pegasys.artemis.datastructures.util.BeaconStateUtil.compute_signing_root;
+import static tech.pegasys.artemis.datastructures.util.BeaconStateUtil.get_committee_count_at_slot;
+import static tech.pegasys.artemis.datastructures.util.BeaconStateUtil.get_domain;
+import static tech.pegasys.artemis.datastructures.util.CommitteeUtil.get_beacon_committee;
+import static tech.pegasys.artemis.util.config.Constants.DOMAIN_BEACON_ATTESTER;
+import static tech.pegasys.artemis.util.config.Constants.MAX_VALIDATORS_PER_COMMITTEE;
+
+import com.google.common.eventbus.EventBus;
+import com.google.common.primitives.UnsignedLong;
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.apache.tuweni.bytes.Bytes;
+import tech.pegasys.artemis.datastructures.blocks.BeaconBlock;
+import tech.pegasys.artemis.datastructures.blocks.SignedBeaconBlock;
+import tech.pegasys.artemis.datastructures.operations.Attestation;
+import tech.pegasys.artemis.datastructures.operations.AttestationData;
+import tech.pegasys.artemis.datastructures.state.BeaconState;
+import tech.pegasys.artemis.datastructures.util.AttestationUtil;
+import tech.pegasys.artemis.datastructures.util.BeaconStateUtil;
+import tech.pegasys.artemis.datastructures.util.MockStartValidatorKeyPairFactory;
+import tech.pegasys.artemis.statetransition.BeaconChainUtil;
+import tech.pegasys.artemis.storage.ChainStorageClient;
+import tech.pegasys.artemis.storage.StubStorageUpdateChannel;
+import tech.pegasys.artemis.util.SSZTypes.Bitlist;
+import tech.pegasys.artemis.util.bls.BLS;
+import tech.pegasys.artemis.util.bls.BLSKeyPair;
+import tech.pegasys.artemis.util.bls.BLSSignature;
+import tech.pegasys.artemis.util.config.Constants;
+
+/**
+ * Standalone tool generating the block streams and pre-states used by {@code TransitionBenchmark}
+ * for validator sets too large for the bundled key pairs.
+ *
+ * <p>Interop key pairs are derived in parallel and cached in the output directory, so repeated runs
+ * with the same validator count skip the derivation. Every block includes a fully aggregated
+ * attestation for each committee of the previous slot, with the committee members signing in
+ * parallel.
+ *
+ * <p>Usage: {@code BenchmarkDataGenerator <validatorsCount> <epochs> <outputDir>}, or {@code
+ * gradle :eth-benchmark-tests:generateBenchmarkData -Pvalidators=327680 -Pepochs=50}. Copy the
+ * resulting files into the {@code blocks} and {@code states} resource folders to benchmark them.
+ */
+public class BenchmarkDataGenerator {
+  private static final int KEYS_PER_BATCH = 1024;
+
+  private final int validatorsCount;
+  private final int epochs;
+  private final Path outputDir;
+
+  public BenchmarkDataGenerator(final int validatorsCount, final int epochs, final Path outputDir) {
+    this.validatorsCount = validatorsCount;
+    this.epochs = epochs;
+    this.outputDir = outputDir;
+  }
+
+  public static void main(String[] args) throws Exception {
+    if (args.length != 3) {
+      System.err.println("Usage: BenchmarkDataGenerator <validatorsCount> <epochs> <outputDir>");
+      System.exit(1);
+    }
+    final int validatorsCount = Integer.parseInt(args[0]);
+    final int epochs = Integer.parseInt(args[1]);
+    new BenchmarkDataGenerator(validatorsCount, epochs, Path.of(args[2])).generate();
+  }
+
+  public static String getBlocksFileName(final int validatorsCount) {
+    return "blocks_epoch_"
+        + Constants.SLOTS_PER_EPOCH
+        + "_validators_"
+        + validatorsCount
+        + ".ssz.gz";
+  }
+
+  public static String getPreStateFileName(final int validatorsCount) {
+    return "genesis_validators_" + validatorsCount + ".ssz.gz";
+  }
+
+  public void generate() throws Exception {
+    Constants.setConstants("mainnet");
+    BeaconStateUtil.BLS_VERIFY_DEPOSIT = false;
+    Files.createDirectories(outputDir);
+
+    final List<BLSKeyPair> validatorKeys = loadKeyPairs();
+
+    System.out.println("Creating genesis state");
+    final ChainStorageClient localStorage =
+        ChainStorageClient.memoryOnlyClient(new EventBus(), new StubStorageUpdateChannel());
+    final BeaconChainUtil localChain = BeaconChainUtil.create(localStorage, validatorKeys, false);
+    localChain.initializeStorage();
+    final String preStateFile = outputDir.resolve(getPreStateFileName(validatorsCount)).toString();
+    StateIO.writeFile(preStateFile, localStorage.getBestBlockRootState().orElseThrow());
+    System.out.println("Pre-state written to " + preStateFile);
+
+    final String blocksFile = outputDir.resolve(getBlocksFileName(validatorsCount)).toString();
+    try (BlockIO.Writer writer = BlockIO.createFileWriter(blocksFile)) {
+      UnsignedLong slot = localStorage.getBestSlot();
+      List<Attestation> attestations = Collections.emptyList();
+      for (int i = 0; i < epochs * Constants.SLOTS_PER_EPOCH; i++) {
+        final long start = System.currentTimeMillis();
+        slot = slot.plus(UnsignedLong.ONE);
+
+        final SignedBeaconBlock block = localChain.createAndImportBlockAtSlot(slot, attestations);
+        writer.accept(block);
+        final BeaconState postState =
+            localStorage.getBlockState(block.getMessage().hash_tree_root()).orElseThrow();
+        attestations = createAttestations(validatorKeys, postState, block.getMessage());
+
+        System.out.println(
+            "Processed: " + slot + ", " + (System.currentTimeMillis() - start) + " ms");
+      }
+    }
+    System.out.println("Blocks written to " + blocksFile);
+  }
+
+  private List<BLSKeyPair> loadKeyPairs() throws Exception {
+    final File keysFile =
+        outputDir.resolve("bls-key-pairs-interop-" + validatorsCount + ".txt.gz").toFile();
+    if (keysFile.exists()) {
+      System.out.println("Reading keypairs from " + keysFile);
+      return BlsKeyPairIO.createReaderForFile(keysFile.getPath()).readAll(validatorsCount);
+    }
+
+    System.out.println("Deriving " + validatorsCount + " interop keypairs");
+    final MockStartValidatorKeyPairFactory keyPairFactory = new MockStartValidatorKeyPairFactory();
+    final int batches = (validatorsCount + KEYS_PER_BATCH - 1) / KEYS_PER_BATCH;
+    final List<BLSKeyPair> validatorKeys =
+        IntStream.range(0, batches)
+            .parallel()
+            .mapToObj(
+                batch ->
+                    keyPairFactory.generateKeyPairs(
+                        batch * KEYS_PER_BATCH,
+                        Math.min((batch + 1) * KEYS_PER_BATCH, validatorsCount)))
+            .flatMap(List::stream)
+            .collect(Collectors.toList());
+
+    final Iterator<BLSKeyPair> keyPairIterator = validatorKeys.iterator();
+    try (BlsKeyPairIO.Writer writer = BlsKeyPairIO.createWriter(keysFile, keyPairIterator::next)) {
+      writer.write(validatorsCount);
+    }
+    System.out.println("Keypairs cached in " + keysFile);
+    return validatorKeys;
+  }
+
+  /** Creates an attestation for each committee at the state's slot, signed by every member. */
+  private List<Attestation> createAttestations(
+      final List<BLSKeyPair> validatorKeys, final BeaconState state, final BeaconBlock block) {
+    final UnsignedLong slot = state.getSlot();
+    final AttestationData genericData = AttestationUtil.getGenericAttestationData(state, block);
+    final Bytes domain =
+        get_domain(state, DOMAIN_BEACON_ATTESTER, genericData.getTarget().getEpoch());
+
+    final List<Attestation> attestations = new ArrayList<>();
+    final UnsignedLong committeeCount = get_committee_count_at_slot(state, slot);
+    for (UnsignedLong index = UnsignedLong.ZERO;
+        index.compareTo(committeeCount) < 0;
+        index = index.plus(UnsignedLong.ONE)) {
+      final List<Integer> committee = get_beacon_committee(state, slot, index);
+      final AttestationData data = genericData.withIndex(index);
+      final Bytes signingRoot = compute_signing_root(data, domain);
+      final List<BLSSignature> signatures =
+          committee.parallelStream()
+              .map(validatorIndex -> validatorKeys.get(validatorIndex).getSecretKey())
+              .map(secretKey -> BLS.sign(secretKey, signingRoot))
+              .collect(Collectors.toList());
+
+      final Bitlist aggregationBits = new Bitlist(committee.size(), MAX_VALIDATORS_PER_COMMITTEE);
+      IntStream.range(0, committee.size()).forEach(aggregationBits::setBit);
+      attestations.add(new Attestation(aggregationBits, data, BLS.aggregate(signatures)));
+    }
+    return attestations;
+  }
+}
@@ -20,6 +20,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
+import java.io.OutputStream;
 import java.util.Iterator;
 import java.util.List;
 import java.util.function.Consumer;
@@ -27,12 +28,17 @@ import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 import org.apache.tuweni.bytes.Bytes;
 import org.jetbrains.annotations.NotNull;
 import tech.pegasys.artemis.datastructures.blocks.SignedBeaconBlock;
 import tech.pegasys.artemis.datastructures.util.SimpleOffsetSerializer;
 
-/** Utility class to read/write SSZ serialized blocks */
+/**
+ * Utility class to read/write SSZ serialized blocks
+ *
+ * <p>Supports GZIP format, requires ".gz" suffix.
+ */
 public class BlockIO {
 
   public static class Reader
@@ -106,7 +112,11 @@ public class BlockIO {
 
   public static Writer createFileWriter(String outFile) {
     try {
-      return new Writer(new ObjectOutputStream(new FileOutputStream(outFile)));
+      OutputStream outputStream = new FileOutputStream(outFile);
+      if (outFile.endsWith(".gz")) {
+        outputStream = new GZIPOutputStream(outputStream);
+      }
+      return new Writer(new ObjectOutputStream(outputStream));
     } catch (IOException e) {
       throw new RuntimeException(e);
     }
@@ -19,16 +19,19 @@ import java.io.BufferedReader;
 import java.io.BufferedWriter;
 import java.io.File;
 import java.io.FileInputStream;
-import java.io.FileWriter;
+import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
 import java.util.Iterator;
 import java.util.List;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 import org.apache.tuweni.bytes.Bytes;
 import org.jetbrains.annotations.NotNull;
 import tech.pegasys.artemis.util.bls.BLSKeyPair;
@@ -38,7 +41,7 @@ import tech.pegasys.artemis.util.bls.BLSSecretKey;
 /**
  * Given a file or resource reads BLS {@link BLSKeyPair} instances from it.
  *
- * <p>Supports inputs in GZIP format, requires ".gz" suffix.
+ * <p>Supports inputs and outputs in GZIP format, requires ".gz" suffix.
  */
 public class BlsKeyPairIO {
 
@@ -178,7 +181,11 @@ public class BlsKeyPairIO {
 
   public static Writer createWriter(File outFile, Supplier<BLSKeyPair> generator) {
     try {
-      return new Writer(generator, new BufferedWriter(new FileWriter(outFile, UTF_8)));
+      OutputStream outputStream = new FileOutputStream(outFile);
+      if (outFile.getName().endsWith(".gz")) {
+        outputStream = new GZIPOutputStream(outputStream);
+      }
+      return new Writer(generator, new BufferedWriter(new OutputStreamWriter(outputStream, UTF_8)));
     } catch (IOException e) {
       throw new RuntimeException(e);
     }
@@ -0,0 +1,214 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.artemis.benchmarks.gen;
+
+import static org.mockito.Mockito.mock;
+import static tech.pegasys.artemis.datastructures.util.BeaconStateUtil.compute_signing_root;
+import static tech.pegasys.artemis.datastructures.util.BeaconStateUtil.get_committee_count_at_slot;
+import static tech.pegasys.artemis.datastructures.util.BeaconStateUtil.get_domain;
+import static tech.pegasys.artemis.datastructures.util.CommitteeUtil.get_beacon_committee;
+import static tech.pegasys.artemis.util.config.Constants.DOMAIN_BEACON_ATTESTER;
+
+import com.google.common.eventbus.EventBus;
+import com.google.common.primitives.UnsignedLong;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import tech.pegasys.artemis.datastructures.blocks.BeaconBlock;
+import tech.pegasys.artemis.datastructures.blocks.SignedBeaconBlock;
+import tech.pegasys.artemis.datastructures.operations.Attestation;
+import tech.pegasys.artemis.datastructures.operations.AttestationData;
+import tech.pegasys.artemis.datastructures.state.BeaconState;
+import tech.pegasys.artemis.datastructures.state.Checkpoint;
+import tech.pegasys.artemis.datastructures.util.AttestationUtil;
+import tech.pegasys.artemis.datastructures.util.BeaconStateUtil;
+import tech.pegasys.artemis.statetransition.BeaconChainUtil;
+import tech.pegasys.artemis.statetransition.StateTransition;
+import tech.pegasys.artemis.statetransition.blockimport.BlockImportResult;
+import tech.pegasys.artemis.statetransition.util.ForkChoiceUtil;
+import tech.pegasys.artemis.storage.ChainStorageClient;
+import tech.pegasys.artemis.storage.Store;
+import tech.pegasys.artemis.storage.Store.Transaction;
+import tech.pegasys.artemis.storage.StubStorageUpdateChannel;
+import tech.pegasys.artemis.util.bls.BLS;
+import tech.pegasys.artemis.util.bls.BLSKeyPair;
+import tech.pegasys.artemis.util.bls.BLSSignature;
+import tech.pegasys.artemis.util.config.Constants;
+
+/**
+ * Builds an in-memory chain for the fork choice, storage and gossip benchmarks.
+ *
+ * <p>The chain stays within the genesis epoch so nothing is ever finalized. Each fork branches off
+ * the genesis block with its own slot and is then extended by one more block, so the fork choice
+ * has to weigh every branch against the full validator set.
+ */
+public class ForkedChainGenerator {
+  private static final String KEYS_RESOURCE = "/bls-key-pairs/bls-key-pairs-100k-seed-0.txt.gz";
+  private static final int KEYS_IN_RESOURCE = 100_000;
+
+  private final StateTransition stateTransition = new StateTransition();
+  private final List<BLSKeyPair> validatorKeys;
+  private final ChainStorageClient storageClient;
+  private final BeaconChainUtil chainUtil;
+  private final List<Bytes32> forkHeads = new ArrayList<>();
+
+  private ForkedChainGenerator(
+      final List<BLSKeyPair> validatorKeys, final ChainStorageClient storageClient) {
+    this.validatorKeys = validatorKeys;
+    this.storageClient = storageClient;
+    this.chainUtil = BeaconChainUtil.create(storageClient, validatorKeys, false);
+  }
+
+  public static ForkedChainGenerator create(final int validatorsCount) {
+    Constants.setConstants("mainnet");
+    BeaconStateUtil.BLS_VERIFY_DEPOSIT = false;
+
+    System.out.println("Loading " + validatorsCount + " keypairs");
+    final ChainStorageClient storageClient =
+        ChainStorageClient.memoryOnlyClient(mock(EventBus.class), new StubStorageUpdateChannel());
+    final ForkedChainGenerator generator =
+        new ForkedChainGenerator(loadKeyPairs(validatorsCount), storageClient);
+    System.out.println("Creating genesis state");
+    generator.chainUtil.initializeStorage();
+    return generator;
+  }
+
+  /**
+   * Reads key pairs from the bundled resource, deriving any pairs beyond it from the same seeds
+   * used to generate the resource.
+   */
+  public static List<BLSKeyPair> loadKeyPairs(final int count) {
+    final List<BLSKeyPair> keyPairs =
+        BlsKeyPairIO.createReaderForResource(KEYS_RESOURCE)
+            .readAll(Math.min(count, KEYS_IN_RESOURCE));
+    if (count <= KEYS_IN_RESOURCE) {
+      return keyPairs;
+    }
+    final List<BLSKeyPair> derivedKeyPairs =
+        IntStream.range(KEYS_IN_RESOURCE, count)
+            .parallel()
+            .mapToObj(BLSKeyPair::random)
+            .collect(Collectors.toList());
+    return Stream.concat(keyPairs.stream(), derivedKeyPairs.stream())
+        .collect(Collectors.toList());
+  }
+
+  /**
+   * Creates {@code forksCount} competing branches off the genesis block and moves the store time
+   * to the slot after the last block.
+   */
+  public void createForks(final int forksCount) throws Exception {
+    checkForkSlots(forksCount);
+    final Bytes32 genesisRoot = storageClient.getStore().getFinalizedCheckpoint().getRoot();
+    final UnsignedLong lastBlockSlot = UnsignedLong.valueOf(forksCount + 1);
+    chainUtil.setSlot(lastBlockSlot.plus(UnsignedLong.ONE));
+
+    for (int i = 0; i < forksCount; i++) {
+      final SignedBeaconBlock forkBlock =
+          chainUtil.createBlockAtSlot(UnsignedLong.valueOf(i + 1), genesisRoot);
+      importBlock(forkBlock);
+      final SignedBeaconBlock headBlock =
+          chainUtil.createBlockAtSlot(lastBlockSlot, forkBlock.getMessage().hash_tree_root());
+      importBlock(headBlock);
+      forkHeads.add(headBlock.getMessage().hash_tree_root());
+    }
+  }
+
+  /** Spreads the latest message of every validator evenly across the fork heads. */
+  public void spreadLatestMessages() {
+    final UnsignedLong epoch = UnsignedLong.valueOf(Constants.GENESIS_EPOCH);
+    final Transaction transaction = storageClient.startStoreTransaction();
+    for (int i = 0; i < validatorKeys.size(); i++) {
+      final Bytes32 head = forkHeads.get(i % forkHeads.size());
+      transaction.putLatestMessage(UnsignedLong.valueOf(i), new Checkpoint(epoch, head));
+    }
+    transaction.commit().join();
+  }
+
+  /** Creates one block on top of each fork head without importing them. */
+  public List<SignedBeaconBlock> createBlocksOnForkHeads() throws Exception {
+    final UnsignedLong slot = ForkChoiceUtil.get_current_slot(storageClient.getStore());
+    final List<SignedBeaconBlock> blocks = new ArrayList<>();
+    for (Bytes32 head : forkHeads) {
+      blocks.add(chainUtil.createBlockAtSlot(slot, head));
+    }
+    return blocks;
+  }
+
+  /**
+   * Creates a single-attester attestation for every member of each committee at the slot of the
+   * given block.
+   */
+  public List<Attestation> createAttestations(final Bytes32 blockRoot) {
+    final Store store = storageClient.getStore();
+    final BeaconBlock block = store.getBlock(blockRoot);
+    final BeaconState state = store.getBlockState(blockRoot);
+    final UnsignedLong slot = block.getSlot();
+    final AttestationData genericData = AttestationUtil.getGenericAttestationData(state, block);
+    final Bytes domain =
+        get_domain(state, DOMAIN_BEACON_ATTESTER, genericData.getTarget().getEpoch());
+
+    final List<Attestation> attestations = new ArrayList<>();
+    final UnsignedLong committeeCount = get_committee_count_at_slot(state, slot);
+    for (UnsignedLong index = UnsignedLong.ZERO;
+        index.compareTo(committeeCount) < 0;
+        index = index.plus(UnsignedLong.ONE)) {
+      final List<Integer> committee = get_beacon_committee(state, slot, index);
+      final AttestationData data = genericData.withIndex(index);
+      final Bytes signingRoot = compute_signing_root(data, domain);
+      for (int i = 0; i < committee.size(); i++) {
+        final BLSKeyPair keyPair = validatorKeys.get(committee.get(i));
+        final BLSSignature signature = BLS.sign(keyPair.getSecretKey(), signingRoot);
+        attestations.add(
+            new Attestation(
+                AttestationUtil.getAggregationBits(committee.size(), i), data, signature));
+      }
+    }
+    return attestations;
+  }
+
+  public ChainStorageClient getStorageClient() {
+    return storageClient;
+  }
+
+  public StateTransition getStateTransition() {
+    return stateTransition;
+  }
+
+  public List<Bytes32> getForkHeads() {
+    return forkHeads;
+  }
+
+  private void importBlock(final SignedBeaconBlock block) {
+    final Transaction transaction = storageClient.startStoreTransaction();
+    final BlockImportResult result = ForkChoiceUtil.on_block(transaction, block, stateTransition);
+    if (!result.isSuccessful()) {
+      throw new IllegalStateException("Unable to import block: " + result.getFailureReason());
+    }
+    transaction.commit().join();
+    storageClient.updateBestBlock(block.getMessage().hash_tree_root(), block.getSlot());
+  }
+
+  private static void checkForkSlots(final int forksCount) {
+    // Leave room for the head blocks and a block built on top of them within the genesis epoch
+    if (forksCount < 1 || forksCount + 2 >= Constants.SLOTS_PER_EPOCH) {
+      throw new IllegalArgumentException(
+          "Forks count must be between 1 and " + (Constants.SLOTS_PER_EPOCH - 3));
+    }
+  }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.artemis.benchmarks.gen;
+
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import org.apache.tuweni.bytes.Bytes;
+import tech.pegasys.artemis.datastructures.state.BeaconState;
+import tech.pegasys.artemis.datastructures.state.BeaconStateImpl;
+import tech.pegasys.artemis.datastructures.util.SimpleOffsetSerializer;
+
+/**
+ * Utility class to read/write SSZ serialized states
+ *
+ * <p>Supports GZIP format, requires ".gz" suffix.
+ */
+public class StateIO {
+
+  public static void writeFile(String outFile, BeaconState state) {
+    try (OutputStream outputStream = createOutputStream(outFile)) {
+      outputStream.write(SimpleOffsetSerializer.serialize(state).toArrayUnsafe());
+    } catch (IOException e) {
+      throw new RuntimeException("Error writing file " + outFile, e);
+    }
+  }
+
+  public static BeaconState readFile(String inFile) {
+    try {
+      return read(new FileInputStream(inFile), inFile.endsWith(".gz"));
+    } catch (IOException e) {
+      throw new RuntimeException("Error reading file " + inFile, e);
+    }
+  }
+
+  public static boolean resourceExists(String resourcePath) {
+    return StateIO.class.getResource(resourcePath) != null;
+  }
+
+  public static BeaconState readResource(String resourcePath) {
+    try {
+      return read(StateIO.class.getResourceAsStream(resourcePath), resourcePath.endsWith(".gz"));
+    } catch (IOException e) {
+      throw new RuntimeException("Error reading resource " + resourcePath, e);
+    }
+  }
+
+  private static BeaconState read(InputStream inputStream, boolean gzipped) throws IOException {
+    try (InputStream in = gzipped ? new GZIPInputStream(inputStream) : inputStream) {
+      return SimpleOffsetSerializer.deserialize(
+          Bytes.wrap(in.readAllBytes()), BeaconStateImpl.class);
+    }
+  }
+
+  private static OutputStream createOutputStream(String outFile) throws IOException {
+    OutputStream outputStream = new FileOutputStream(outFile);
+    return outFile.endsWith(".gz") ? new GZIPOutputStream(outputStream) : outputStream;
+  }
+}
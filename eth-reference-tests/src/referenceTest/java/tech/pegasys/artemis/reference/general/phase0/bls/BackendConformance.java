@@ -0,0 +1,136 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.artemis.reference.general.phase0.bls;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.google.errorprone.annotations.MustBeClosed;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.apache.tuweni.bytes.Bytes;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import tech.pegasys.artemis.ethtests.TestSuite;
+import tech.pegasys.artemis.util.bls.BLS;
+import tech.pegasys.artemis.util.bls.BLSBackend;
+import tech.pegasys.artemis.util.bls.BLSPublicKey;
+import tech.pegasys.artemis.util.bls.BLSSecretKey;
+import tech.pegasys.artemis.util.bls.BLSSignature;
+
+/** Runs the BLS reference tests against every {@link BLSBackend} available on the classpath. */
+class BackendConformance extends TestSuite {
+
+  private static final List<BLSBackend> BACKENDS = BLS.getAvailableBackends();
+
+  @ParameterizedTest(name = "{index}. sign {3}")
+  @MethodSource("signData")
+  void sign(Bytes message, BLSSecretKey secretKey, BLSSignature expected, String testname) {
+    for (BLSBackend backend : BACKENDS) {
+      assertEquals(
+          expected.toBytes(), backend.sign(secretKey.toBytes(), message), backend.getName());
+    }
+  }
+
+  @ParameterizedTest(name = "{index}. verify {4}")
+  @MethodSource("verifyData")
+  void verify(
+      BLSPublicKey publicKey,
+      Bytes message,
+      BLSSignature signature,
+      Boolean expected,
+      String testname) {
+    for (BLSBackend backend : BACKENDS) {
+      assertEquals(
+          expected,
+          backend.verify(publicKey.toBytesCompressed(), message, signature.toBytes()),
+          backend.getName());
+    }
+  }
+
+  @ParameterizedTest(name = "{index}. aggregate {2}")
+  @MethodSource("aggregateData")
+  void aggregate(List<BLSSignature> signatures, BLSSignature expected, String testname) {
+    for (BLSBackend backend : BACKENDS) {
+      assertEquals(
+          expected.toBytes(),
+          backend.aggregate(
+              signatures.stream().map(BLSSignature::toBytes).collect(Collectors.toList())),
+          backend.getName());
+    }
+  }
+
+  @ParameterizedTest(name = "{index}. aggregateVerify {4}")
+  @MethodSource("aggregateVerifyData")
+  void aggregateVerify(
+      List<BLSPublicKey> publicKeys,
+      List<Bytes> messages,
+      BLSSignature signature,
+      Boolean expected,
+      String testname) {
+    for (BLSBackend backend : BACKENDS) {
+      assertEquals(
+          expected,
+          backend.aggregateVerify(toBytes(publicKeys), messages, signature.toBytes()),
+          backend.getName());
+    }
+  }
+
+  @ParameterizedTest(name = "{index}. fastAggregateVerify {4}")
+  @MethodSource("fastAggregateVerifyData")
+  void fastAggregateVerify(
+      List<BLSPublicKey> publicKeys,
+      Bytes message,
+      BLSSignature signature,
+      Boolean expected,
+      String testname) {
+    for (BLSBackend backend : BACKENDS) {
+      assertEquals(
+          expected,
+          backend.fastAggregateVerify(toBytes(publicKeys), message, signature.toBytes()),
+          backend.getName());
+    }
+  }
+
+  private static List<Bytes> toBytes(final List<BLSPublicKey> publicKeys) {
+    return publicKeys.stream().map(BLSPublicKey::toBytesCompressed).collect(Collectors.toList());
+  }
+
+  @MustBeClosed
+  static Stream<Arguments> signData() {
+    return signSetup(Paths.get("/general/phase0/bls/sign/small"));
+  }
+
+  @MustBeClosed
+  static Stream<Arguments> verifyData() {
+    return verifySetup(Paths.get("/general/phase0/bls/verify/small"));
+  }
+
+  @MustBeClosed
+  static Stream<Arguments> aggregateData() {
+    return aggregateSetup(Paths.get("general/phase0/bls/aggregate/small"));
+  }
+
+  @MustBeClosed
+  static Stream<Arguments> aggregateVerifyData() {
+    return aggregateVerifySetup(Paths.get("general/phase0/bls/aggregate_verify/small"));
+  }
+
+  @MustBeClosed
+  static Stream<Arguments> fastAggregateVerifyData() {
+    return fastAggregateVerifySetup(Paths.get("general/phase0/bls/fast_aggregate_verify/small"));
+  }
+}
@@ -173,19 +173,18 @@ public class AttestationUtil {
   }
 
   // Set bits of the newAttestation on the oldBitlist
-  // return true if any new bit was set
+  // return true if any new bit was set, or false if the bitlist sizes don't match
   public static boolean setBitsForNewAttestation(Bitlist oldBitlist, Attestation newAttesation) {
     Bitlist newBitlist = newAttesation.getAggregation_bits();
-    if (oldBitlist.getCurrentSize() != newBitlist.getCurrentSize())
-      throw new UnsupportedOperationException("Attestation bitlist size's don't match");
-    boolean representsNewAttester = false;
-    for (int i = 0; i < oldBitlist.getCurrentSize(); i++) {
-      if (newBitlist.getBit(i) == 1 && oldBitlist.getBit(i) == 0) {
-        oldBitlist.setBit(i);
-        representsNewAttester = true;
-      }
+    if (oldBitlist.getCurrentSize() != newBitlist.getCurrentSize()) {
+      // Bits for different committees can't be combined and setAllBits would reject them
+      return false;
+    }
+    if (oldBitlist.isSuperset(newBitlist)) {
+      return false;
     }
-    return representsNewAttester;
+    oldBitlist.setAllBits(newBitlist);
+    return true;
   }
 
   public static boolean representsNewAttester(
@@ -196,26 +195,19 @@ public class AttestationUtil {
 
   // Returns the index of the first attester in the Attestation
   public static int getAttesterIndexIntoCommittee(Attestation attestation) {
-    Bitlist aggregationBits = attestation.getAggregation_bits();
-    for (int i = 0; i < aggregationBits.getCurrentSize(); i++) {
-      int bitfieldBit = aggregationBits.getBit(i);
-      if (bitfieldBit == 1) {
-        return i;
-      }
-    }
-    throw new UnsupportedOperationException("Attestation doesn't have any aggregation bit set");
+    return attestation
+        .getAggregation_bits()
+        .streamSetBits()
+        .findFirst()
+        .orElseThrow(
+            () ->
+                new UnsupportedOperationException(
+                    "Attestation doesn't have any aggregation bit set"));
   }
 
   // Returns the indices of the attesters in the Attestation
   public static List<Integer> getAttesterIndicesIntoCommittee(Bitlist aggregationBits) {
-    List<Integer> attesterIndices = new ArrayList<>();
-    for (int i = 0; i < aggregationBits.getCurrentSize(); i++) {
-      int bitfieldBit = aggregationBits.getBit(i);
-      if (bitfieldBit == 1) {
-        attesterIndices.add(i);
-      }
-    }
-    return attesterIndices;
+    return aggregationBits.streamSetBits().boxed().collect(Collectors.toList());
   }
 
   // Get attestation data that does not include attester specific shard or crosslink information
@@ -50,6 +50,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.OptionalInt;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import org.apache.logging.log4j.LogManager;
@@ -120,6 +121,19 @@ public class BeaconStateUtil {
       final MutableBeaconState state,
       final Deposit deposit,
       final Map<BLSPublicKey, Integer> pubKeyToIndexMap) {
+    process_deposit_without_checking_merkle_proof(
+        state, deposit, pubKeyToIndexMap, BeaconStateUtil::is_valid_deposit_signature);
+  }
+
+  /**
+   * Processes a deposit, using the supplied validator to check the deposit signature when the
+   * deposit creates a new validator. This allows callers to verify signatures ahead of time.
+   */
+  static void process_deposit_without_checking_merkle_proof(
+      final MutableBeaconState state,
+      final Deposit deposit,
+      final Map<BLSPublicKey, Integer> pubKeyToIndexMap,
+      final Predicate<Deposit> depositSignatureValidator) {
     state.setEth1_deposit_index(state.getEth1_deposit_index().plus(UnsignedLong.ONE));
 
     final BLSPublicKey pubkey = deposit.getData().getPubkey();
@@ -142,13 +156,7 @@ public class BeaconStateUtil {
       // Verify the deposit signature (proof of possession) which is not checked by the deposit
       // contract
       if (BLS_VERIFY_DEPOSIT) {
-        final DepositMessage deposit_message =
-            new DepositMessage(pubkey, deposit.getData().getWithdrawal_credentials(), amount);
-        final Bytes domain = compute_domain(DOMAIN_DEPOSIT);
-        final Bytes signing_root = compute_signing_root(deposit_message, domain);
-        boolean proof_is_valid =
-            !BLS_VERIFY_DEPOSIT
-                || BLS.verify(pubkey, signing_root, deposit.getData().getSignature());
+        boolean proof_is_valid = depositSignatureValidator.test(deposit);
         if (!proof_is_valid) {
           if (deposit instanceof DepositWithIndex) {
             LOG.warn(
@@ -190,6 +198,22 @@ public class BeaconStateUtil {
     }
   }
 
+  /**
+   * Verifies the deposit signature (proof of possession), which is not checked by the deposit
+   * contract.
+   *
+   * @param deposit
+   * @return true if the signature is valid for the deposit message
+   */
+  static boolean is_valid_deposit_signature(final Deposit deposit) {
+    final DepositData data = deposit.getData();
+    final DepositMessage deposit_message =
+        new DepositMessage(data.getPubkey(), data.getWithdrawal_credentials(), data.getAmount());
+    final Bytes domain = compute_domain(DOMAIN_DEPOSIT);
+    final Bytes signing_root = compute_signing_root(deposit_message, domain);
+    return BLS.verify(data.getPubkey(), signing_root, data.getSignature());
+  }
+
   public static boolean is_valid_genesis_state(BeaconState state) {
     return isItMinGenesisTimeYet(state) && isThereEnoughNumberOfValidators(state);
   }
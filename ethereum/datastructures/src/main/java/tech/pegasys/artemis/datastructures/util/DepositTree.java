@@ -0,0 +1,197 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.artemis.datastructures.util;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkState;
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import org.apache.tuweni.crypto.Hash;
+import tech.pegasys.artemis.util.SSZTypes.SSZVector;
+
+/**
+ * An append-only deposit Merkle tree which can produce proofs for any deposit at any deposit count
+ * since the last snapshot.
+ *
+ * <p>Only complete subtrees are stored. Their roots never change once complete so appending a
+ * deposit hashes and stores at most one node per level. The roots of partially filled subtrees
+ * needed for a proof are calculated from the complete subtrees beneath them, so a proof costs
+ * O(depth) hashes regardless of the number of deposits.
+ *
+ * <p>{@link #prune(long)} discards everything before a deposit count, keeping only the {@link
+ * DepositTreeSnapshot} branch at that count, so memory is bounded by the number of deposits not yet
+ * included in a finalized state.
+ */
+public class DepositTree {
+  private final int treeDepth;
+  private final List<Bytes32> zeroHashes;
+
+  // Complete nodes at each level, with nodes before levelOffsets[level] pruned
+  private final List<List<Bytes32>> levels = new ArrayList<>();
+  private final long[] levelOffsets;
+  private List<Bytes32> snapshotBranch;
+  private long snapshotDepositCount;
+  private long depositCount;
+
+  public DepositTree(final int treeDepth) {
+    this(treeDepth, new DepositTreeSnapshot(0, Collections.nCopies(treeDepth, Bytes32.ZERO)));
+  }
+
+  public DepositTree(final int treeDepth, final DepositTreeSnapshot snapshot) {
+    checkArgument(treeDepth > 1, "DepositTree: treeDepth must be greater than 1");
+    checkArgument(
+        snapshot.getBranch().size() == treeDepth,
+        "DepositTree: snapshot branch must have one node per level");
+    this.treeDepth = treeDepth;
+    this.zeroHashes = MerkleTree.generateZeroHashes(treeDepth + 1);
+    this.levelOffsets = new long[treeDepth + 1];
+    for (int level = 0; level <= treeDepth; level++) {
+      levels.add(new ArrayList<>());
+    }
+    setSnapshot(snapshot);
+    this.depositCount = snapshot.getDepositCount();
+  }
+
+  public synchronized void add(final Bytes32 leaf) {
+    checkState(depositCount < (1L << treeDepth), "DepositTree: tree is full");
+    long index = depositCount;
+    depositCount++;
+    Bytes32 node = leaf;
+    levels.get(0).add(node);
+    // Each odd index completes its parent
+    for (int level = 0; level < treeDepth && (index & 1) == 1; level++) {
+      node = hash(getCompleteNode(level, index - 1), node);
+      levels.get(level + 1).add(node);
+      index >>= 1;
+    }
+  }
+
+  public synchronized long getDepositCount() {
+    return depositCount;
+  }
+
+  public synchronized Bytes32 getRoot() {
+    return hash(getNode(treeDepth, 0, depositCount), calcMixInValue(depositCount));
+  }
+
+  /**
+   * @param index of the deposit
+   * @param viewLimit number of deposits in the tree the proof is for
+   * @return proof (i.e. collection of siblings on the way to root for the given deposit)
+   */
+  public synchronized SSZVector<Bytes32> getProofWithViewBoundary(
+      final long index, final long viewLimit) {
+    checkArgument(index < viewLimit, "DepositTree: Index must be less than the view limit");
+    checkArgument(viewLimit <= depositCount, "DepositTree: Tree is too small for given view limit");
+    checkArgument(index >= snapshotDepositCount, "DepositTree: Deposit %s has been pruned", index);
+
+    final List<Bytes32> proof = new ArrayList<>(treeDepth + 1);
+    long nodeIndex = index;
+    for (int level = 0; level < treeDepth; level++) {
+      proof.add(getNode(level, nodeIndex ^ 1, viewLimit));
+      nodeIndex >>= 1;
+    }
+    proof.add(calcMixInValue(viewLimit));
+    return SSZVector.createMutable(proof, Bytes32.class);
+  }
+
+  /**
+   * Returns the branch needed to continue the tree from the given deposit count.
+   *
+   * @param depositCount number of deposits to include in the snapshot
+   * @return the snapshot
+   */
+  public synchronized DepositTreeSnapshot getSnapshot(final long depositCount) {
+    checkArgument(
+        depositCount >= snapshotDepositCount && depositCount <= this.depositCount,
+        "DepositTree: Cannot create snapshot at deposit count %s",
+        depositCount);
+    final List<Bytes32> branch = new ArrayList<>(treeDepth);
+    for (int level = 0; level < treeDepth; level++) {
+      branch.add(
+          ((depositCount >> level) & 1) == 1
+              ? getCompleteNode(level, (depositCount >> level) - 1)
+              : Bytes32.ZERO);
+    }
+    return new DepositTreeSnapshot(depositCount, branch);
+  }
+
+  /**
+   * Discards the nodes only needed for proofs of deposits before the given deposit count. Proofs
+   * can still be produced for later deposits, with a view limit of at least the deposit count.
+   *
+   * @param depositCount the number of deposits to prune
+   */
+  public synchronized void prune(final long depositCount) {
+    if (depositCount <= snapshotDepositCount) {
+      return;
+    }
+    setSnapshot(getSnapshot(depositCount));
+  }
+
+  private void setSnapshot(final DepositTreeSnapshot snapshot) {
+    final long count = snapshot.getDepositCount();
+    for (int level = 0; level <= treeDepth; level++) {
+      final long newOffset = count >> level;
+      final List<Bytes32> nodes = levels.get(level);
+      final int prunedNodeCount = (int) Math.min(newOffset - levelOffsets[level], nodes.size());
+      nodes.subList(0, prunedNodeCount).clear();
+      levelOffsets[level] = newOffset;
+    }
+    snapshotBranch = snapshot.getBranch();
+    snapshotDepositCount = count;
+  }
+
+  private Bytes32 getNode(final int level, final long index, final long viewLimit) {
+    final long firstLeafIndex = index << level;
+    if (firstLeafIndex >= viewLimit) {
+      return zeroHashes.get(level);
+    }
+    if (firstLeafIndex + (1L << level) <= viewLimit) {
+      return getCompleteNode(level, index);
+    }
+    // Partially filled so calculate from its children
+    return hash(
+        getNode(level - 1, index * 2, viewLimit), getNode(level - 1, index * 2 + 1, viewLimit));
+  }
+
+  private Bytes32 getCompleteNode(final int level, final long index) {
+    if (index >= levelOffsets[level]) {
+      return levels.get(level).get((int) (index - levelOffsets[level]));
+    }
+    // The only complete node before the snapshot that is still needed is on the snapshot branch
+    checkArgument(
+        level < treeDepth
+            && ((snapshotDepositCount >> level) & 1) == 1
+            && index == (snapshotDepositCount >> level) - 1,
+        "DepositTree: Node %s at level %s has been pruned",
+        index,
+        level);
+    return snapshotBranch.get(level);
+  }
+
+  private static Bytes32 hash(final Bytes32 left, final Bytes32 right) {
+    return Hash.sha2_256(Bytes.concatenate(left, right));
+  }
+
+  private static Bytes32 calcMixInValue(final long viewLimit) {
+    return (Bytes32)
+        Bytes.concatenate(Bytes.ofUnsignedLong(viewLimit, LITTLE_ENDIAN), Bytes.wrap(new byte[24]));
+  }
+}
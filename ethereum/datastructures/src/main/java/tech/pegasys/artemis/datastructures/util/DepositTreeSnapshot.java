@@ -0,0 +1,69 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.artemis.datastructures.util;
+
+import com.google.common.base.MoreObjects;
+import java.util.List;
+import java.util.Objects;
+import org.apache.tuweni.bytes.Bytes32;
+
+/**
+ * The frontier of a {@link DepositTree} at a given deposit count, which is all that is needed to
+ * append later deposits and produce proofs for them.
+ *
+ * <p>{@code branch.get(h)} is the root of the complete subtree of height {@code h} immediately to
+ * the left of the next deposit, or {@link Bytes32#ZERO} if there is no such subtree at that height.
+ */
+public class DepositTreeSnapshot {
+  private final long depositCount;
+  private final List<Bytes32> branch;
+
+  public DepositTreeSnapshot(final long depositCount, final List<Bytes32> branch) {
+    this.depositCount = depositCount;
+    this.branch = List.copyOf(branch);
+  }
+
+  public long getDepositCount() {
+    return depositCount;
+  }
+
+  public List<Bytes32> getBranch() {
+    return branch;
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    final DepositTreeSnapshot that = (DepositTreeSnapshot) o;
+    return depositCount == that.depositCount && Objects.equals(branch, that.branch);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(depositCount, branch);
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+        .add("depositCount", depositCount)
+        .add("branch", branch)
+        .toString();
+  }
+}
@@ -13,6 +13,8 @@
 
 package tech.pegasys.artemis.datastructures.util;
 
+import static tech.pegasys.artemis.datastructures.util.BeaconStateUtil.BLS_VERIFY_DEPOSIT;
+import static tech.pegasys.artemis.datastructures.util.BeaconStateUtil.is_valid_deposit_signature;
 import static tech.pegasys.artemis.datastructures.util.BeaconStateUtil.process_deposit_without_checking_merkle_proof;
 import static tech.pegasys.artemis.util.config.Constants.DEPOSIT_CONTRACT_TREE_DEPTH;
 import static tech.pegasys.artemis.util.config.Constants.EFFECTIVE_BALANCE_INCREMENT;
@@ -22,11 +24,15 @@ import static tech.pegasys.artemis.util.config.Constants.MAX_EFFECTIVE_BALANCE;
 import static tech.pegasys.artemis.util.config.Constants.MIN_GENESIS_DELAY;
 
 import com.google.common.primitives.UnsignedLong;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
 import java.util.function.Predicate;
+import java.util.stream.IntStream;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.tuweni.bytes.Bytes32;
@@ -34,15 +40,11 @@ import tech.pegasys.artemis.datastructures.blocks.BeaconBlockBody;
 import tech.pegasys.artemis.datastructures.blocks.BeaconBlockHeader;
 import tech.pegasys.artemis.datastructures.blocks.Eth1Data;
 import tech.pegasys.artemis.datastructures.operations.Deposit;
-import tech.pegasys.artemis.datastructures.operations.DepositData;
 import tech.pegasys.artemis.datastructures.state.BeaconState;
 import tech.pegasys.artemis.datastructures.state.Fork;
 import tech.pegasys.artemis.datastructures.state.MutableBeaconState;
 import tech.pegasys.artemis.datastructures.state.MutableValidator;
-import tech.pegasys.artemis.util.SSZTypes.SSZList;
-import tech.pegasys.artemis.util.SSZTypes.SSZMutableList;
 import tech.pegasys.artemis.util.bls.BLSPublicKey;
-import tech.pegasys.artemis.util.hashtree.HashTreeUtil;
 
 public class GenesisGenerator {
 
@@ -50,11 +52,19 @@ public class GenesisGenerator {
 
   private final MutableBeaconState state = MutableBeaconState.createBuilder();
   private final Map<BLSPublicKey, Integer> keyCache = new HashMap<>();
-  private final long depositListLength = ((long) 1) << DEPOSIT_CONTRACT_TREE_DEPTH;
-  private final SSZMutableList<DepositData> depositDataList =
-      SSZList.createMutable(DepositData.class, depositListLength);
+  private final DepositTree depositTree = new DepositTree(DEPOSIT_CONTRACT_TREE_DEPTH);
+  private final boolean verifyDepositSignatures;
 
   public GenesisGenerator() {
+    this(true);
+  }
+
+  /**
+   * @param verifyDepositSignatures false to trust all deposit signatures, which is only safe when
+   *     the deposits were generated locally
+   */
+  public GenesisGenerator(final boolean verifyDepositSignatures) {
+    this.verifyDepositSignatures = verifyDepositSignatures;
     Bytes32 latestBlockRoot = new BeaconBlockBody().hash_tree_root();
     BeaconBlockHeader beaconBlockHeader =
         new BeaconBlockHeader(UnsignedLong.ZERO, Bytes32.ZERO, Bytes32.ZERO, latestBlockRoot);
@@ -70,29 +80,53 @@ public class GenesisGenerator {
     state.setEth1_data(
         new Eth1Data(
             Bytes32.ZERO,
-            UnsignedLong.valueOf(depositDataList.size() + deposits.size()),
+            UnsignedLong.valueOf(depositTree.getDepositCount() + deposits.size()),
             eth1BlockHash));
 
-    // Process deposits
-    deposits.forEach(
-        deposit -> {
-          LOG.debug("About to process deposit: " + depositDataList.size());
-          depositDataList.add(deposit.getData());
+    final boolean[] validSignatures = verifyNewValidatorSignatures(deposits);
 
-          // Skip verifying the merkle proof as these deposits come directly from an Eth1 event.
-          // We do still verify the signature
-          process_deposit_without_checking_merkle_proof(state, deposit, keyCache);
+    // Process deposits
+    final Set<Integer> updatedValidators = new TreeSet<>();
+    for (int i = 0; i < deposits.size(); i++) {
+      final Deposit deposit = deposits.get(i);
+      final boolean isSignatureValid = validSignatures[i];
+      LOG.debug("About to process deposit: " + depositTree.getDepositCount());
+      depositTree.add(deposit.getData().hash_tree_root());
+
+      // Skip verifying the merkle proof as these deposits come directly from an Eth1 event.
+      // The signature has already been verified for deposits that may create a new validator
+      process_deposit_without_checking_merkle_proof(
+          state, deposit, keyCache, __ -> isSignatureValid);
+
+      final Integer index = keyCache.get(deposit.getData().getPubkey());
+      // Could be null if the deposit was invalid
+      if (index != null) {
+        updatedValidators.add(index);
+      }
+    }
 
-          processActivation(deposit);
-        });
+    // Effective balance only depends on the final balance so activate each validator once
+    updatedValidators.forEach(this::processActivation);
   }
 
-  private void processActivation(final Deposit deposit) {
-    final Integer index = keyCache.get(deposit.getData().getPubkey());
-    if (index == null) {
-      // Could be null if the deposit was invalid
-      return;
+  /**
+   * Verifies the signatures of all deposits for public keys that don't yet have a validator in
+   * parallel. Deposits for existing validators are top-ups which don't require a valid signature.
+   */
+  private boolean[] verifyNewValidatorSignatures(final List<? extends Deposit> deposits) {
+    final boolean[] validSignatures = new boolean[deposits.size()];
+    if (!BLS_VERIFY_DEPOSIT || !verifyDepositSignatures) {
+      Arrays.fill(validSignatures, true);
+      return validSignatures;
     }
+    IntStream.range(0, deposits.size())
+        .parallel()
+        .filter(i -> !keyCache.containsKey(deposits.get(i).getData().getPubkey()))
+        .forEach(i -> validSignatures[i] = is_valid_deposit_signature(deposits.get(i)));
+    return validSignatures;
+  }
+
+  private void processActivation(final int index) {
     MutableValidator validator = state.getValidators().get(index);
     UnsignedLong balance = state.getBalances().get(index);
     UnsignedLong effective_balance =
@@ -137,7 +171,7 @@ public class GenesisGenerator {
     Eth1Data eth1Data = state.getEth1_data();
     state.setEth1_data(
         new Eth1Data(
-            HashTreeUtil.hash_tree_root(HashTreeUtil.SSZTypes.LIST_OF_COMPOSITE, depositDataList),
+            depositTree.getRoot(),
             eth1Data.getDeposit_count(),
             eth1Data.getBlock_hash()));
   }
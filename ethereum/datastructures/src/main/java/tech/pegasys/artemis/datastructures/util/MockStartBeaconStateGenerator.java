@@ -33,6 +33,20 @@ public class MockStartBeaconStateGenerator {
     BLOCK_HASH = Bytes32.wrap(eth1BlockHashBytes);
   }
 
+  private final boolean verifyDepositSignatures;
+
+  public MockStartBeaconStateGenerator() {
+    this(true);
+  }
+
+  /**
+   * @param verifyDepositSignatures false to skip verifying the deposit signatures when the deposits
+   *     were signed locally by {@link MockStartDepositGenerator}
+   */
+  public MockStartBeaconStateGenerator(final boolean verifyDepositSignatures) {
+    this.verifyDepositSignatures = verifyDepositSignatures;
+  }
+
   public BeaconState createInitialBeaconState(
       final UnsignedLong genesisTime, final List<DepositData> initialDepositData) {
     final List<DepositWithIndex> deposits = new ArrayList<>();
@@ -41,9 +55,9 @@ public class MockStartBeaconStateGenerator {
       DepositWithIndex deposit = new DepositWithIndex(data, UnsignedLong.valueOf(index));
       deposits.add(deposit);
     }
-    final MutableBeaconState initialState =
-        BeaconStateUtil.initialize_beacon_state_from_eth1(BLOCK_HASH, genesisTime, deposits)
-            .createWritableCopy();
+    final GenesisGenerator genesisGenerator = new GenesisGenerator(verifyDepositSignatures);
+    genesisGenerator.updateCandidateState(BLOCK_HASH, genesisTime, deposits);
+    final MutableBeaconState initialState = genesisGenerator.getGenesisState();
     initialState.setGenesis_time(genesisTime);
     return initialState.commitChanges();
   }
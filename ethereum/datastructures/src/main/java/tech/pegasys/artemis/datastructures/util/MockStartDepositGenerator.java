@@ -32,8 +32,9 @@ public class MockStartDepositGenerator {
     this.depositGenerator = depositGenerator;
   }
 
+  /** Creates a deposit for each validator, signing them in parallel. */
   public List<DepositData> createDeposits(final List<BLSKeyPair> validatorKeys) {
-    return validatorKeys.stream().map(this::createDepositData).collect(toList());
+    return validatorKeys.parallelStream().map(this::createDepositData).collect(toList());
   }
 
   private DepositData createDepositData(final BLSKeyPair keyPair) {
@@ -28,12 +28,19 @@ import tech.pegasys.artemis.util.message.BouncyCastleMessageDigestFactory;
 
 public class MockStartValidatorKeyPairFactory {
   private static final int KEY_LENGTH = 48;
+  private static final ThreadLocal<MessageDigest> SHA256_DIGEST =
+      ThreadLocal.withInitial(MockStartValidatorKeyPairFactory::createSha256Digest);
   private static final BigInteger CURVE_ORDER =
       new BigInteger(
           "52435875175126190479447740508185965837690552500527637822603658699938581184513");
 
+  /**
+   * Derives the interop key pairs for the given range of validator indices. Deriving the public key
+   * dominates the cost, so keys are derived in parallel.
+   */
   public List<BLSKeyPair> generateKeyPairs(final int startIndex, final int endIndex) {
     return IntStream.range(startIndex, endIndex)
+        .parallel()
         .mapToObj(this::createKeyPairForValidator)
         .collect(Collectors.toList());
   }
@@ -47,12 +54,12 @@ public class MockStartValidatorKeyPairFactory {
   }
 
   private Bytes sha256(final Bytes indexBytes) {
-    final MessageDigest sha256Digest = getSha256Digest();
+    final MessageDigest sha256Digest = SHA256_DIGEST.get();
     indexBytes.update(sha256Digest);
     return Bytes.wrap(sha256Digest.digest());
   }
 
-  private MessageDigest getSha256Digest() {
+  private static MessageDigest createSha256Digest() {
     try {
       return BouncyCastleMessageDigestFactory.create("sha256");
     } catch (NoSuchAlgorithmException e) {
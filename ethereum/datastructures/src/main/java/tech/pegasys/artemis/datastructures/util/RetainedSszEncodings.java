@@ -0,0 +1,106 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.artemis.datastructures.util;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.util.Map;
+import org.apache.tuweni.bytes.Bytes;
+import tech.pegasys.artemis.datastructures.blocks.SignedBeaconBlock;
+import tech.pegasys.artemis.datastructures.operations.Attestation;
+import tech.pegasys.artemis.util.sos.SimpleOffsetSerializable;
+
+/**
+ * Retains the SSZ encoding of blocks and attestations which were decoded from the network or disk
+ * so serving, gossiping or persisting the same instance again doesn't need to re-serialize it.
+ *
+ * <p>Encodings are tracked by object identity and the instances are only weakly referenced, so an
+ * equal but separately created object is always serialized from scratch. Only top level values
+ * are ever looked up, never values nested inside another container. An encoding must only be
+ * retained for an instance which is not modified afterwards.
+ *
+ * <p>Blocks and attestations are bounded separately so the far more numerous attestations can't
+ * evict the blocks.
+ */
+public class RetainedSszEncodings {
+  public static final int DEFAULT_MAX_RETAINED_BLOCKS = 256;
+  public static final int DEFAULT_MAX_RETAINED_ATTESTATIONS = 1024;
+
+  private final Map<Class<?>, Cache<Object, Bytes>> encodingsByType;
+
+  public RetainedSszEncodings(final int maxRetainedBlocks, final int maxRetainedAttestations) {
+    this.encodingsByType =
+        Map.of(
+            SignedBeaconBlock.class,
+            createCache(maxRetainedBlocks),
+            Attestation.class,
+            createCache(maxRetainedAttestations));
+  }
+
+  public static RetainedSszEncodings create() {
+    return new RetainedSszEncodings(DEFAULT_MAX_RETAINED_BLOCKS, DEFAULT_MAX_RETAINED_ATTESTATIONS);
+  }
+
+  /** @return an instance which never retains an encoding, so every value is serialized afresh */
+  public static RetainedSszEncodings disabled() {
+    return new RetainedSszEncodings(0, 0);
+  }
+
+  private static Cache<Object, Bytes> createCache(final int maximumSize) {
+    return CacheBuilder.newBuilder().weakKeys().maximumSize(maximumSize).build();
+  }
+
+  /**
+   * Deserializes the given SSZ bytes, retaining them as the encoding of the result if it is a
+   * block or attestation.
+   *
+   * @param bytes the SSZ bytes, which must not be modified after this call
+   * @param classInfo the type to deserialize
+   * @return the deserialized value
+   */
+  public <T> T deserialize(final Bytes bytes, final Class<T> classInfo) {
+    final T value = SimpleOffsetSerializer.deserialize(bytes, classInfo);
+    retain(value, bytes);
+    return value;
+  }
+
+  /**
+   * Returns the retained encoding of the value if there is one, otherwise serializes it.
+   *
+   * @param value the value to serialize
+   * @return the SSZ encoding of the value
+   */
+  public Bytes serialize(final SimpleOffsetSerializable value) {
+    final Cache<Object, Bytes> encodings = encodingsByType.get(value.getClass());
+    final Bytes retained = encodings != null ? encodings.getIfPresent(value) : null;
+    return retained != null ? retained : SimpleOffsetSerializer.serialize(value);
+  }
+
+  /**
+   * Records the encoding of a block or attestation which won't be modified again. Values of any
+   * other type are ignored.
+   *
+   * @param value the value that was encoded
+   * @param encoding the SSZ encoding of the value
+   */
+  public void retain(final Object value, final Bytes encoding) {
+    if (value == null) {
+      return;
+    }
+    final Cache<Object, Bytes> encodings = encodingsByType.get(value.getClass());
+    if (encodings != null) {
+      encodings.put(value, encoding);
+    }
+  }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.artemis.datastructures.merkletree;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static tech.pegasys.artemis.datastructures.util.BeaconStateUtil.is_valid_merkle_branch;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.apache.tuweni.bytes.Bytes32;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.artemis.datastructures.util.DataStructureUtil;
+import tech.pegasys.artemis.datastructures.util.DepositTree;
+import tech.pegasys.artemis.datastructures.util.MerkleTree;
+import tech.pegasys.artemis.datastructures.util.OptimizedMerkleTree;
+
+public class DepositTreeTest {
+  private static final int TREE_DEPTH = 5;
+
+  private final DataStructureUtil dataStructureUtil = new DataStructureUtil();
+  private final List<Bytes32> leaves =
+      IntStream.range(0, 20)
+          .mapToObj(i -> dataStructureUtil.randomBytes32())
+          .collect(Collectors.toList());
+
+  private final DepositTree depositTree = new DepositTree(TREE_DEPTH);
+  private final MerkleTree merkleTree = new OptimizedMerkleTree(TREE_DEPTH);
+
+  @Test
+  void shouldMatchMerkleTreeRootAsDepositsAreAdded() {
+    for (Bytes32 leaf : leaves) {
+      depositTree.add(leaf);
+      merkleTree.add(leaf);
+      assertThat(depositTree.getRoot()).isEqualTo(merkleTree.getRoot());
+    }
+  }
+
+  @Test
+  void shouldMatchMerkleTreeProofsForEveryViewLimit() {
+    leaves.forEach(depositTree::add);
+    leaves.forEach(merkleTree::add);
+
+    for (int viewLimit = 1; viewLimit <= leaves.size(); viewLimit++) {
+      for (int index = 0; index < viewLimit; index++) {
+        assertThat(depositTree.getProofWithViewBoundary(index, viewLimit))
+            .isEqualTo(merkleTree.getProofWithViewBoundary(index, viewLimit));
+      }
+    }
+  }
+
+  @Test
+  void shouldProduceValidProofsAfterPruning() {
+    leaves.subList(0, 11).forEach(depositTree::add);
+    depositTree.prune(7);
+    leaves.subList(11, leaves.size()).forEach(depositTree::add);
+    leaves.forEach(merkleTree::add);
+
+    assertThat(depositTree.getRoot()).isEqualTo(merkleTree.getRoot());
+    for (int viewLimit = 7; viewLimit <= leaves.size(); viewLimit++) {
+      final MerkleTree expectedTree = new OptimizedMerkleTree(TREE_DEPTH);
+      leaves.subList(0, viewLimit).forEach(expectedTree::add);
+      for (int index = 7; index < viewLimit; index++) {
+        assertThat(
+                is_valid_merkle_branch(
+                    leaves.get(index),
+                    depositTree.getProofWithViewBoundary(index, viewLimit),
+                    TREE_DEPTH + 1,
+                    index,
+                    expectedTree.getRoot()))
+            .isTrue();
+      }
+    }
+  }
+
+  @Test
+  void shouldRejectProofsForPrunedDeposits() {
+    leaves.forEach(depositTree::add);
+    depositTree.prune(8);
+
+    assertThatThrownBy(() -> depositTree.getProofWithViewBoundary(7, 10))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void shouldContinueFromSnapshot() {
+    leaves.subList(0, 13).forEach(depositTree::add);
+    final DepositTree restoredTree = new DepositTree(TREE_DEPTH, depositTree.getSnapshot(13));
+
+    leaves.subList(13, leaves.size()).forEach(depositTree::add);
+    leaves.subList(13, leaves.size()).forEach(restoredTree::add);
+
+    assertThat(restoredTree.getDepositCount()).isEqualTo(leaves.size());
+    assertThat(restoredTree.getRoot()).isEqualTo(depositTree.getRoot());
+    assertThat(restoredTree.getProofWithViewBoundary(15, 18))
+        .isEqualTo(depositTree.getProofWithViewBoundary(15, 18));
+  }
+}
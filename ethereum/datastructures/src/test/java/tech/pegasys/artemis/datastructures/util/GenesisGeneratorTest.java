@@ -17,6 +17,7 @@ import static java.util.stream.Collectors.toList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static tech.pegasys.artemis.datastructures.util.ValidatorsUtil.get_active_validator_indices;
 import static tech.pegasys.artemis.datastructures.util.ValidatorsUtil.is_active_validator;
+import static tech.pegasys.artemis.util.hashtree.HashTreeUtil.SSZTypes.LIST_OF_COMPOSITE;
 
 import com.google.common.primitives.UnsignedLong;
 import java.util.ArrayList;
@@ -35,10 +36,13 @@ import tech.pegasys.artemis.datastructures.state.BeaconStateCache;
 import tech.pegasys.artemis.datastructures.state.MutableBeaconState;
 import tech.pegasys.artemis.datastructures.state.TransitionCaches;
 import tech.pegasys.artemis.datastructures.state.Validator;
+import tech.pegasys.artemis.util.SSZTypes.SSZList;
+import tech.pegasys.artemis.util.SSZTypes.SSZMutableList;
 import tech.pegasys.artemis.util.bls.BLSKeyGenerator;
 import tech.pegasys.artemis.util.bls.BLSKeyPair;
 import tech.pegasys.artemis.util.bls.BLSSignature;
 import tech.pegasys.artemis.util.config.Constants;
+import tech.pegasys.artemis.util.hashtree.HashTreeUtil;
 
 // Note that genesis generation is also covered by the initialization acceptance test
 class GenesisGeneratorTest {
@@ -143,6 +147,53 @@ class GenesisGeneratorTest {
     assertThat(is_active_validator(validator, GENESIS_EPOCH)).isTrue();
   }
 
+  @Test
+  public void shouldActivateValidatorWhenTopUpInSameBatchReachesMaxEffectiveBalance() {
+    final BLSKeyPair keyPair = VALIDATOR_KEYS.get(0);
+    final UnsignedLong halfBalance =
+        UnsignedLong.valueOf(Constants.MAX_EFFECTIVE_BALANCE).dividedBy(UnsignedLong.valueOf(2));
+    final DepositData initialData =
+        new DepositGenerator(true).createDepositData(keyPair, halfBalance, keyPair.getPublicKey());
+    // Top-ups don't require a valid signature
+    final DepositData topUpData =
+        new DepositData(
+            initialData.getPubkey(),
+            initialData.getWithdrawal_credentials(),
+            halfBalance,
+            BLSSignature.empty());
+
+    genesisGenerator.updateCandidateState(
+        Bytes32.ZERO,
+        UnsignedLong.ZERO,
+        List.of(
+            new DepositWithIndex(initialData, UnsignedLong.ZERO),
+            new DepositWithIndex(topUpData, UnsignedLong.ONE)));
+
+    final BeaconState state = genesisGenerator.getGenesisState();
+    assertThat(state.getValidators()).hasSize(1);
+    final Validator validator = state.getValidators().get(0);
+    assertThat(validator.getEffective_balance())
+        .isEqualTo(UnsignedLong.valueOf(Constants.MAX_EFFECTIVE_BALANCE));
+    assertThat(is_active_validator(validator, GENESIS_EPOCH)).isTrue();
+  }
+
+  @Test
+  public void shouldCalculateDepositRootIncrementally() {
+    final SSZMutableList<DepositData> depositDataList =
+        SSZList.createMutable(DepositData.class, 1L << Constants.DEPOSIT_CONTRACT_TREE_DEPTH);
+    INITIAL_DEPOSIT_DATA.forEach(depositDataList::add);
+
+    genesisGenerator.updateCandidateState(
+        Bytes32.ZERO, UnsignedLong.ZERO, INITIAL_DEPOSITS.subList(0, 5));
+    genesisGenerator.getGenesisState();
+    genesisGenerator.updateCandidateState(
+        Bytes32.ZERO, UnsignedLong.ZERO, INITIAL_DEPOSITS.subList(5, INITIAL_DEPOSITS.size()));
+
+    final BeaconState state = genesisGenerator.getGenesisState();
+    assertThat(state.getEth1_data().getDeposit_root())
+        .isEqualTo(HashTreeUtil.hash_tree_root(LIST_OF_COMPOSITE, depositDataList));
+  }
+
   @Test
   public void shouldReturnEmptyWhenValidityCriteriaAreNotMet() {
     assertThat(genesisGenerator.getGenesisStateIfValid(state -> false)).isEmpty();
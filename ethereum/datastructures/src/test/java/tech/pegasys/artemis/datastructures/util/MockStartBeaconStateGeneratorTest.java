@@ -240,7 +240,7 @@ class MockStartBeaconStateGeneratorTest {
         Bitvector.class,
         (JsonSerializer<Bitvector>)
             (src, typeOfSrc, context) ->
-                new JsonPrimitive(Bytes.wrap(src.getByteArray()).toHexString().toLowerCase()));
+                new JsonPrimitive(src.serialize().toHexString().toLowerCase()));
     builder.registerTypeAdapter(
         Bitvector.class,
         (JsonDeserializer<Bitvector>)
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.artemis.datastructures.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.apache.tuweni.bytes.Bytes;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.artemis.datastructures.blocks.BeaconBlock;
+import tech.pegasys.artemis.datastructures.blocks.SignedBeaconBlock;
+import tech.pegasys.artemis.datastructures.operations.Attestation;
+
+class RetainedSszEncodingsTest {
+  private final DataStructureUtil dataStructureUtil = new DataStructureUtil();
+  private final RetainedSszEncodings retainedEncodings = RetainedSszEncodings.create();
+
+  @Test
+  public void shouldReuseEncodingOfDecodedBlock() {
+    final Bytes encoded =
+        SimpleOffsetSerializer.serialize(dataStructureUtil.randomSignedBeaconBlock(5));
+    final SignedBeaconBlock block =
+        retainedEncodings.deserialize(encoded, SignedBeaconBlock.class);
+
+    assertThat(retainedEncodings.serialize(block)).isSameAs(encoded);
+  }
+
+  @Test
+  public void shouldReuseEncodingOfDecodedAttestation() {
+    final Bytes encoded = SimpleOffsetSerializer.serialize(dataStructureUtil.randomAttestation());
+    final Attestation attestation = retainedEncodings.deserialize(encoded, Attestation.class);
+
+    assertThat(retainedEncodings.serialize(attestation)).isSameAs(encoded);
+  }
+
+  @Test
+  public void shouldSerializeEqualButDifferentInstances() {
+    final SignedBeaconBlock original = dataStructureUtil.randomSignedBeaconBlock(5);
+    final Bytes encoded = SimpleOffsetSerializer.serialize(original);
+    retainedEncodings.deserialize(encoded, SignedBeaconBlock.class);
+
+    final Bytes result = retainedEncodings.serialize(original);
+    assertThat(result).isNotSameAs(encoded);
+    assertThat(result).isEqualTo(encoded);
+  }
+
+  @Test
+  public void shouldNotRetainEncodingOfOtherTypes() {
+    final Bytes encoded =
+        SimpleOffsetSerializer.serialize(dataStructureUtil.randomSignedBeaconBlock(5).getMessage());
+    final BeaconBlock block = retainedEncodings.deserialize(encoded, BeaconBlock.class);
+
+    final Bytes result = retainedEncodings.serialize(block);
+    assertThat(result).isNotSameAs(encoded);
+    assertThat(result).isEqualTo(encoded);
+  }
+
+  @Test
+  public void shouldReuseExplicitlyRetainedEncoding() {
+    final SignedBeaconBlock block = dataStructureUtil.randomSignedBeaconBlock(5);
+    final Bytes encoded = SimpleOffsetSerializer.serialize(block);
+    retainedEncodings.retain(block, encoded);
+
+    assertThat(retainedEncodings.serialize(block)).isSameAs(encoded);
+  }
+
+  @Test
+  public void shouldKeepBlockEncodingsWhenAttestationLimitIsReached() {
+    final RetainedSszEncodings encodings = new RetainedSszEncodings(1, 1);
+    final Bytes blockEncoding =
+        SimpleOffsetSerializer.serialize(dataStructureUtil.randomSignedBeaconBlock(5));
+    final SignedBeaconBlock block = encodings.deserialize(blockEncoding, SignedBeaconBlock.class);
+    for (int i = 0; i < 3; i++) {
+      encodings.deserialize(
+          SimpleOffsetSerializer.serialize(dataStructureUtil.randomAttestation()),
+          Attestation.class);
+    }
+
+    assertThat(encodings.serialize(block)).isSameAs(blockEncoding);
+  }
+
+  @Test
+  public void shouldNotRetainEncodingsWhenDisabled() {
+    final RetainedSszEncodings encodings = RetainedSszEncodings.disabled();
+    final Bytes encoded =
+        SimpleOffsetSerializer.serialize(dataStructureUtil.randomSignedBeaconBlock(5));
+    final SignedBeaconBlock block = encodings.deserialize(encoded, SignedBeaconBlock.class);
+
+    final Bytes result = encodings.serialize(block);
+    assertThat(result).isNotSameAs(encoded);
+    assertThat(result).isEqualTo(encoded);
+  }
+}
@@ -13,48 +13,49 @@
 
 package tech.pegasys.artemis.statetransition;
 
-import static tech.pegasys.artemis.datastructures.util.AttestationUtil.getAttesterIndicesIntoCommittee;
-import static tech.pegasys.artemis.datastructures.util.AttestationUtil.setBitsForNewAttestation;
-
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.primitives.UnsignedLong;
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Queue;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.PriorityBlockingQueue;
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
 import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.artemis.datastructures.blocks.BeaconBlockBodyLists;
 import tech.pegasys.artemis.datastructures.operations.Attestation;
-import tech.pegasys.artemis.storage.ChainStorage;
+import tech.pegasys.artemis.datastructures.operations.AttestationData;
 import tech.pegasys.artemis.util.SSZTypes.Bitlist;
 import tech.pegasys.artemis.util.SSZTypes.SSZList;
 import tech.pegasys.artemis.util.SSZTypes.SSZMutableList;
+import tech.pegasys.artemis.util.bls.BLS;
+import tech.pegasys.artemis.util.bls.BLSSignature;
 import tech.pegasys.artemis.util.config.Constants;
 
+/**
+ * Holds aggregate attestations that are candidates for inclusion in blocks we propose.
+ *
+ * <p>Aggregates are grouped by the root of their {@link AttestationData}. Aggregates with
+ * non-overlapping attesters are merged as they arrive, so each group usually holds only a handful
+ * of aggregates. When a block is produced, aggregates are picked greedily by the number of
+ * validators they add that are not yet covered on-chain or by an earlier pick, weighted by the
+ * inclusion delay reward those validators would receive.
+ */
 public class BlockAttestationsPool {
 
-  // TODO: memory clean up code brought over from ChainStorageClient,
-  // requires to be updated to new data structures to make it work.
-  // Memory Cleaning
-  //  private final ConcurrentHashMap<Bytes32, UnsignedLong> dataRootToSlot = new
-  // ConcurrentHashMap<>();
-
-  @VisibleForTesting
-  final ConcurrentHashMap<Bytes32, Bitlist> unprocessedAttestationsBitlist =
-      new ConcurrentHashMap<>();
+  /** Caps the number of overlapping aggregates kept for a single attestation data. */
+  static final int MAX_AGGREGATES_PER_DATA = 16;
 
   @VisibleForTesting
-  final ConcurrentHashMap<Bytes32, Bitlist> processedAttestationsBitlist =
-      new ConcurrentHashMap<>();
-
-  private final int QUEUE_INITIAL_CAPACITY = 1024;
+  final Map<Bytes32, Bitlist> processedAttestationsBitlist = new HashMap<>();
 
-  @VisibleForTesting
-  final Queue<Attestation> aggregateAttestationsQueue =
-      new PriorityBlockingQueue<>(
-          QUEUE_INITIAL_CAPACITY, Comparator.comparing(a -> a.getData().getSlot()));
+  private final Map<Bytes32, AttestationGroup> attestationGroupsByDataRoot = new HashMap<>();
+  private final NavigableMap<UnsignedLong, Set<Bytes32>> dataRootsBySlot = new TreeMap<>();
 
   public SSZList<Attestation> getAttestationsForSlot(final UnsignedLong slot) {
     SSZList<Attestation> attestations = BeaconBlockBodyLists.createAttestations();
@@ -62,112 +63,308 @@ public class BlockAttestationsPool {
             UnsignedLong.valueOf(
                 Constants.GENESIS_SLOT + Constants.MIN_ATTESTATION_INCLUSION_DELAY))
         >= 0) {
-
-      UnsignedLong attestation_slot =
-          slot.minus(UnsignedLong.valueOf(Constants.MIN_ATTESTATION_INCLUSION_DELAY));
-
-      attestations = getAggregatedAttestationsForBlockAtSlot(attestation_slot);
+      attestations = getAggregatedAttestationsForBlockAtSlot(slot);
     }
     return attestations;
   }
 
   public void addUnprocessedAggregateAttestationToQueue(Attestation newAttestation) {
+    final Bytes32 attestationDataHash = newAttestation.getData().hash_tree_root();
+    while (true) {
+      final AttestationGroup group;
+      final Merge merge;
+      synchronized (this) {
+        final Bitlist processedBits = processedAttestationsBitlist.get(attestationDataHash);
+        final Bitlist newBits = newAttestation.getAggregation_bits();
+        if (processedBits != null
+            && (processedBits.getCurrentSize() != newBits.getCurrentSize()
+                || processedBits.isSuperset(newBits))) {
+          // Either every attester is already included on-chain or the bits don't match the
+          // committee size of the attestations that were
+          return;
+        }
+        group =
+            attestationGroupsByDataRoot.computeIfAbsent(
+                attestationDataHash,
+                key -> {
+                  dataRootsBySlot
+                      .computeIfAbsent(newAttestation.getData().getSlot(), slot -> new HashSet<>())
+                      .add(key);
+                  return new AttestationGroup(newAttestation.getData());
+                });
+        merge = group.prepareMerge(newAttestation);
+        if (merge == null) {
+          return;
+        }
+      }
 
-    Bytes32 attestationDataHash = newAttestation.getData().hash_tree_root();
-    AtomicBoolean oldBitlistPresent = new AtomicBoolean(true);
-    final Bitlist oldBitlist =
-        unprocessedAttestationsBitlist.computeIfAbsent(
-            attestationDataHash,
-            (key) -> {
-              oldBitlistPresent.set(false);
-              return newAttestation.getAggregation_bits().copy();
-            });
+      // Aggregating signatures is by far the most expensive step so it's done without the lock
+      final Attestation aggregate = merge.createAggregate();
 
-    if (oldBitlistPresent.get()) {
-      if (!setBitsForNewAttestation(oldBitlist, newAttestation)) {
+      synchronized (this) {
+        if (attestationGroupsByDataRoot.get(attestationDataHash) != group
+            || !group.isUnchangedSince(merge)) {
+          // The aggregates we merged with may have been removed or replaced, so start over
+          continue;
+        }
+        group.add(aggregate);
         return;
       }
     }
-
-    aggregateAttestationsQueue.add(newAttestation);
-
-    //    ChainStorage.add(attestationDataHash, newAttestation.getData().getSlot(), dataRootToSlot);
   }
 
-  public void addAggregateAttestationProcessedInBlock(Attestation attestation) {
-    Bytes32 attestationDataHash = attestation.getData().hash_tree_root();
+  public synchronized void addAggregateAttestationProcessedInBlock(Attestation attestation) {
+    final Bytes32 attestationDataHash = attestation.getData().hash_tree_root();
     final Bitlist bitlist =
         processedAttestationsBitlist.computeIfAbsent(
             attestationDataHash,
-            (key) -> {
-              //              ChainStorage.add(
-              //                  attestationDataHash, attestation.getData().getSlot(),
-              // dataRootToSlot);
+            key -> {
+              dataRootsBySlot
+                  .computeIfAbsent(attestation.getData().getSlot(), slot -> new HashSet<>())
+                  .add(key);
               return attestation.getAggregation_bits().copy();
             });
+    if (bitlist.getCurrentSize() != attestation.getAggregation_bits().getCurrentSize()) {
+      // Can't be for the same committee as the attestations already processed
+      return;
+    }
+    bitlist.setAllBits(attestation.getAggregation_bits());
+
+    final AttestationGroup group = attestationGroupsByDataRoot.get(attestationDataHash);
+    if (group != null) {
+      group.removeCoveredBy(bitlist);
+      if (group.isEmpty()) {
+        attestationGroupsByDataRoot.remove(attestationDataHash);
+      }
+    }
+  }
 
-    for (int i = 0; i < attestation.getAggregation_bits().getCurrentSize(); i++) {
-      if (attestation.getAggregation_bits().getBit(i) == 1) bitlist.setBit(i);
+  /**
+   * Drops everything for attestation data that can no longer be included in a block at the given
+   * slot.
+   */
+  public synchronized void onSlot(final UnsignedLong slot) {
+    final UnsignedLong inclusionWindow = UnsignedLong.valueOf(Constants.SLOTS_PER_EPOCH);
+    if (slot.compareTo(inclusionWindow) <= 0) {
+      return;
     }
+    final Map<UnsignedLong, Set<Bytes32>> expired =
+        dataRootsBySlot.headMap(slot.minus(inclusionWindow), false);
+    expired
+        .values()
+        .forEach(
+            roots ->
+                roots.forEach(
+                    root -> {
+                      attestationGroupsByDataRoot.remove(root);
+                      processedAttestationsBitlist.remove(root);
+                    }));
+    expired.clear();
+  }
+
+  @VisibleForTesting
+  synchronized List<Attestation> getAggregates() {
+    return attestationGroupsByDataRoot.values().stream()
+        .flatMap(group -> group.aggregates.stream())
+        .collect(Collectors.toList());
   }
 
-  private SSZList<Attestation> getAggregatedAttestationsForBlockAtSlot(UnsignedLong slot) {
-    SSZMutableList<Attestation> attestations =
+  /**
+   * Lazy greedy max-coverage selection. A candidate's value can only fall as other aggregates with
+   * the same data are picked, so a candidate whose recomputed value still beats the best
+   * remaining estimate is the true best pick. Each candidate is only re-evaluated when an earlier
+   * pick shared its data, which keeps the work close to a single sort of the pool.
+   */
+  private synchronized SSZList<Attestation> getAggregatedAttestationsForBlockAtSlot(
+      final UnsignedLong blockSlot) {
+    final UnsignedLong maxAttestationSlot =
+        blockSlot.minus(UnsignedLong.valueOf(Constants.MIN_ATTESTATION_INCLUSION_DELAY));
+    // The pool may not have been pruned for this slot yet so exclude attestations that are too old
+    final UnsignedLong inclusionWindow = UnsignedLong.valueOf(Constants.SLOTS_PER_EPOCH);
+    final UnsignedLong minAttestationSlot =
+        blockSlot.compareTo(inclusionWindow) > 0
+            ? blockSlot.minus(inclusionWindow)
+            : UnsignedLong.valueOf(Constants.GENESIS_SLOT);
+    final Map<Bytes32, Bitlist> coveredBitsByDataRoot = new HashMap<>();
+    final PriorityQueue<Candidate> candidates =
+        new PriorityQueue<>(Comparator.comparingDouble((Candidate c) -> c.value).reversed());
+
+    for (UnsignedLong slot :
+        dataRootsBySlot.subMap(minAttestationSlot, true, maxAttestationSlot, true).keySet()) {
+      final double rewardWeight = 1d / blockSlot.minus(slot).doubleValue();
+      for (Bytes32 dataRoot : dataRootsBySlot.get(slot)) {
+        final AttestationGroup group = attestationGroupsByDataRoot.get(dataRoot);
+        if (group == null) {
+          continue;
+        }
+        final Bitlist processedBits = processedAttestationsBitlist.get(dataRoot);
+        for (Attestation aggregate : group.aggregates) {
+          final Candidate candidate =
+              new Candidate(dataRoot, aggregate, rewardWeight, processedBits);
+          if (candidate.value > 0) {
+            candidates.add(candidate);
+          }
+        }
+      }
+    }
+
+    final SSZMutableList<Attestation> attestations =
         SSZList.createMutable(Attestation.class, Constants.MAX_ATTESTATIONS);
-    int numAttestations = 0;
-
-    while (aggregateAttestationsQueue.peek() != null
-        && aggregateAttestationsQueue.peek().getData().getSlot().compareTo(slot) <= 0
-        && numAttestations < Constants.MAX_ATTESTATIONS) {
-
-      Attestation aggregate = aggregateAttestationsQueue.remove();
-      Bytes32 attestationHashTreeRoot = aggregate.getData().hash_tree_root();
-
-      // Check if attestation has already been processed in successful block
-      if (ChainStorage.get(attestationHashTreeRoot, this.processedAttestationsBitlist)
-          .isPresent()) {
-        Bitlist bitlist =
-            ChainStorage.get(
-                    aggregate.getData().hash_tree_root(), this.processedAttestationsBitlist)
-                .get();
-        List<Integer> oldAttesters = getAttesterIndicesIntoCommittee(bitlist);
-        List<Integer> newAttesters =
-            getAttesterIndicesIntoCommittee(aggregate.getAggregation_bits());
-        if (oldAttesters.containsAll(newAttesters)) {
+    while (!candidates.isEmpty() && attestations.size() < Constants.MAX_ATTESTATIONS) {
+      final Candidate best = candidates.poll();
+      final Bitlist coveredBits = coveredBitsByDataRoot.get(best.dataRoot);
+      if (coveredBits != null && best.covered != coveredBits) {
+        best.updateValue(coveredBits);
+        if (best.value <= 0) {
+          continue;
+        }
+        if (!candidates.isEmpty() && candidates.peek().value > best.value) {
+          candidates.add(best);
           continue;
         }
       }
-      attestations.add(aggregate);
-      numAttestations++;
+      attestations.add(best.aggregate);
+      // Always a new instance, so candidates can tell their coverage is stale by identity
+      final Bitlist bits = best.aggregate.getAggregation_bits();
+      coveredBitsByDataRoot.put(
+          best.dataRoot, best.covered == null ? bits.copy() : best.covered.or(bits));
     }
     return attestations;
   }
 
-  /* // Memory Cleaning
+  private static class Candidate {
+    private final Bytes32 dataRoot;
+    private final Attestation aggregate;
+    private final double rewardWeight;
+    private Bitlist covered;
+    private double value;
+
+    private Candidate(
+        final Bytes32 dataRoot,
+        final Attestation aggregate,
+        final double rewardWeight,
+        final Bitlist covered) {
+      this.dataRoot = dataRoot;
+      this.aggregate = aggregate;
+      this.rewardWeight = rewardWeight;
+      updateValue(covered);
+    }
+
+    private void updateValue(final Bitlist covered) {
+      this.covered = covered;
+      final Bitlist bits = aggregate.getAggregation_bits();
+      final int alreadyCovered = covered == null ? 0 : bits.and(covered).cardinality();
+      this.value = (bits.cardinality() - alreadyCovered) * rewardWeight;
+    }
+  }
+
+  private static class AttestationGroup {
+    private final AttestationData data;
+    private final List<Attestation> aggregates = new ArrayList<>();
+    private long version;
+
+    private AttestationGroup(final AttestationData data) {
+      this.data = data;
+    }
+
+    /**
+     * Works out which held aggregates the attestation can be merged with. Returns null if the
+     * attestation adds no attesters beyond an aggregate already held or its bits are a different
+     * size to the held aggregates.
+     */
+    private Merge prepareMerge(final Attestation attestation) {
+      final Bitlist bits = attestation.getAggregation_bits();
+      for (Attestation aggregate : aggregates) {
+        if (aggregate.getAggregation_bits().getCurrentSize() != bits.getCurrentSize()
+            || aggregate.getAggregation_bits().isSuperset(bits)) {
+          return null;
+        }
+      }
+
+      final List<Attestation> mergeWith = new ArrayList<>();
+      Bitlist mergedBits = bits;
+      for (Attestation aggregate : aggregates) {
+        if (!aggregate.getAggregation_bits().intersects(mergedBits)) {
+          mergeWith.add(aggregate);
+          mergedBits = aggregate.getAggregation_bits().or(mergedBits);
+        }
+      }
+      return new Merge(data, attestation, mergeWith, mergedBits, version);
+    }
+
+    private boolean isUnchangedSince(final Merge merge) {
+      return version == merge.version;
+    }
+
+    /**
+     * Adds an aggregate built from {@link #prepareMerge(Attestation)}, replacing every aggregate it
+     * covers. Does nothing if the aggregate would immediately be evicted to keep the group within
+     * {@link #MAX_AGGREGATES_PER_DATA}.
+     */
+    private void add(final Attestation toAdd) {
+      final Bitlist mergedBits = toAdd.getAggregation_bits();
+      final int attesterCount = mergedBits.cardinality();
+      final long notSmallerCount =
+          aggregates.stream()
+              .map(Attestation::getAggregation_bits)
+              .filter(bits -> !mergedBits.isSuperset(bits) && bits.cardinality() >= attesterCount)
+              .count();
+      if (notSmallerCount >= MAX_AGGREGATES_PER_DATA) {
+        return;
+      }
+
+      aggregates.removeIf(aggregate -> mergedBits.isSuperset(aggregate.getAggregation_bits()));
+      aggregates.add(toAdd);
+      if (aggregates.size() > MAX_AGGREGATES_PER_DATA) {
+        aggregates.sort(
+            Comparator.comparingInt((Attestation a) -> a.getAggregation_bits().cardinality())
+                .reversed());
+        aggregates.subList(MAX_AGGREGATES_PER_DATA, aggregates.size()).clear();
+      }
+      version++;
+    }
 
-  public void cleanAttestationsUntilEpoch(UnsignedLong epoch) {
-    Iterator<Bytes32> it = processedAttestationsBitlist.keySet().iterator();
-    while (it.hasNext()) {
-      Bytes32 key = it.next();
-      UnsignedLong currentEpoch = dataRootToSlot.get(key);
-      if (currentEpoch.compareTo(epoch) < 0) {
-        it.remove();
-        dataRootToSlot.remove(key);
+    private void removeCoveredBy(final Bitlist processedBits) {
+      if (aggregates.removeIf(
+          aggregate -> processedBits.isSuperset(aggregate.getAggregation_bits()))) {
+        version++;
       }
     }
+
+    private boolean isEmpty() {
+      return aggregates.isEmpty();
+    }
   }
 
-  @Subscribe
-  public void onNewSlot(SlotEvent slotEvent) {
-    if (slotEvent
-            .getSlot()
-            .mod(UnsignedLong.valueOf(Constants.SLOTS_PER_EPOCH))
-            .compareTo(UnsignedLong.ZERO)
-            == 0) {
-      UnsignedLong epoch = BeaconStateUtil.compute_epoch_at_slot(slotEvent.getSlot());
-      if (epoch.compareTo(UnsignedLong.ONE) > 0) {
-        cleanAttestationsUntilEpoch(epoch.minus(UnsignedLong.ONE));
+  /** An attestation along with the held aggregates it can be merged into. */
+  private static class Merge {
+    private final AttestationData data;
+    private final Attestation attestation;
+    private final List<Attestation> mergeWith;
+    private final Bitlist mergedBits;
+    private final long version;
+
+    private Merge(
+        final AttestationData data,
+        final Attestation attestation,
+        final List<Attestation> mergeWith,
+        final Bitlist mergedBits,
+        final long version) {
+      this.data = data;
+      this.attestation = attestation;
+      this.mergeWith = mergeWith;
+      this.mergedBits = mergedBits;
+      this.version = version;
+    }
+
+    private Attestation createAggregate() {
+      if (mergeWith.isEmpty()) {
+        return new Attestation(attestation);
       }
+      final List<BLSSignature> signatures = new ArrayList<>();
+      signatures.add(attestation.getAggregate_signature());
+      mergeWith.forEach(aggregate -> signatures.add(aggregate.getAggregate_signature()));
+      return new Attestation(mergedBits, data, BLS.aggregate(signatures));
     }
-  }*/
+  }
 }
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.artemis.statetransition;
+
+import java.util.List;
+import tech.pegasys.artemis.datastructures.blocks.SignedBeaconBlock;
+import tech.pegasys.artemis.datastructures.state.BeaconState;
+import tech.pegasys.artemis.storage.StateRegenerator;
+
+public class BlockReplayStateRegenerator implements StateRegenerator {
+  private final StateTransition stateTransition;
+
+  public BlockReplayStateRegenerator(final StateTransition stateTransition) {
+    this.stateTransition = stateTransition;
+  }
+
+  @Override
+  public BeaconState regenerate(final BeaconState baseState, final List<SignedBeaconBlock> blocks) {
+    BeaconState state = baseState;
+    for (SignedBeaconBlock block : blocks) {
+      try {
+        // Blocks were fully validated when they were imported so skip signature verification
+        state = stateTransition.initiate(state, block, false);
+      } catch (final StateTransitionException e) {
+        throw new IllegalStateException(
+            "Failed to replay block " + block.getMessage().hash_tree_root(), e);
+      }
+    }
+    return state;
+  }
+}
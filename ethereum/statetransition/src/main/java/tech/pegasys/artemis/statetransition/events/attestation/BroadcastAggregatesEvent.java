@@ -13,7 +13,17 @@
 
 package tech.pegasys.artemis.statetransition.events.attestation;
 
+import com.google.common.primitives.UnsignedLong;
+
 public class BroadcastAggregatesEvent {
 
-  public BroadcastAggregatesEvent() {}
+  private final UnsignedLong nodeSlot;
+
+  public BroadcastAggregatesEvent(UnsignedLong nodeSlot) {
+    this.nodeSlot = nodeSlot;
+  }
+
+  public UnsignedLong getNodeSlot() {
+    return nodeSlot;
+  }
 }
@@ -370,7 +370,7 @@ public final class BlockProcessorUtil {
 
         List<Integer> committee = get_beacon_committee(state, data.getSlot(), data.getIndex());
         checkArgument(
-            attestation.getAggregation_bits().getByteArray().length == committee.size(),
+            attestation.getAggregation_bits().getCurrentSize() == committee.size(),
             "process_attestations: Attestation aggregation bit, custody bit, and committee doesn't have the same length");
 
         PendingAttestation pendingAttestation =
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.artemis.statetransition.util;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.crypto.Hash;
+import tech.pegasys.artemis.datastructures.state.BeaconState;
+import tech.pegasys.artemis.datastructures.util.SimpleOffsetSerializer;
+
+/**
+ * Caches mock-start genesis states on disk, keyed by network constants, validator count and
+ * genesis time, so nodes starting with the same interop settings skip deriving keys and signing
+ * deposits.
+ *
+ * <p>The directory may be shared by several nodes. Only the most recently generated genesis state
+ * is kept for each network.
+ */
+public class MockStartGenesisCache {
+  private static final Logger LOG = LogManager.getLogger();
+  private static final String FILE_PREFIX = "mock-genesis-";
+  private static final String FILE_SUFFIX = ".ssz";
+
+  private final Path directory;
+  private final String networkPrefix;
+
+  public MockStartGenesisCache(final Path directory, final String network) {
+    this.directory = directory;
+    this.networkPrefix = FILE_PREFIX + getNetworkId(network) + "-";
+  }
+
+  public Optional<BeaconState> get(final int validatorCount, final long genesisTime) {
+    final Path file = getFile(validatorCount, genesisTime);
+    if (!Files.exists(file)) {
+      return Optional.empty();
+    }
+    try {
+      final BeaconState state = StartupUtil.loadBeaconStateFromFile(file.toString());
+      if (state.getValidators().size() != validatorCount
+          || state.getGenesis_time().longValue() != genesisTime) {
+        LOG.warn("Ignoring cached genesis state {} which doesn't match its file name", file);
+        return Optional.empty();
+      }
+      return Optional.of(state);
+    } catch (final IOException | RuntimeException e) {
+      LOG.warn("Failed to load cached genesis state from {}", file, e);
+      return Optional.empty();
+    }
+  }
+
+  public void put(final int validatorCount, final long genesisTime, final BeaconState state) {
+    final Path file = getFile(validatorCount, genesisTime);
+    try {
+      Files.createDirectories(directory);
+      removeCachedStates();
+      final Path tempFile = Files.createTempFile(directory, FILE_PREFIX, ".tmp");
+      Files.write(tempFile, SimpleOffsetSerializer.serialize(state).toArrayUnsafe());
+      Files.move(tempFile, file, REPLACE_EXISTING, ATOMIC_MOVE);
+    } catch (final IOException e) {
+      LOG.warn("Failed to cache genesis state in {}", file, e);
+    }
+  }
+
+  private void removeCachedStates() throws IOException {
+    try (DirectoryStream<Path> files =
+        Files.newDirectoryStream(directory, networkPrefix + "*" + FILE_SUFFIX)) {
+      for (Path file : files) {
+        Files.delete(file);
+      }
+    }
+  }
+
+  private Path getFile(final int validatorCount, final long genesisTime) {
+    return directory.resolve(networkPrefix + validatorCount + "-" + genesisTime + FILE_SUFFIX);
+  }
+
+  private static String getNetworkId(final String network) {
+    final Bytes hash = Hash.sha2_256(Bytes.wrap(network.getBytes(StandardCharsets.UTF_8)));
+    return hash.slice(0, 8).toUnprefixedHexString();
+  }
+}
@@ -21,6 +21,7 @@ import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.util.List;
+import java.util.Optional;
 import org.apache.logging.log4j.Level;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -64,7 +65,8 @@ public final class StartupUtil {
     final List<DepositData> initialDepositData =
         new MockStartDepositGenerator(new DepositGenerator(signDeposits))
             .createDeposits(validatorKeys);
-    return new MockStartBeaconStateGenerator()
+    // Deposits signed here are known to be valid so there's no need to verify them again
+    return new MockStartBeaconStateGenerator(!signDeposits)
         .createInitialBeaconState(UnsignedLong.valueOf(genesisTime), initialDepositData);
   }
 
@@ -78,9 +80,41 @@ public final class StartupUtil {
       final long genesisTime,
       final String startState,
       final int numValidators) {
-    final List<BLSKeyPair> validatorKeys =
-        new MockStartValidatorKeyPairFactory().generateKeyPairs(0, numValidators);
-    setupInitialState(chainStorageClient, genesisTime, startState, validatorKeys, true);
+    setupInitialState(chainStorageClient, genesisTime, startState, numValidators, Optional.empty());
+  }
+
+  public static void setupInitialState(
+      final ChainStorageClient chainStorageClient,
+      final long genesisTime,
+      final String startState,
+      final int numValidators,
+      final Optional<MockStartGenesisCache> genesisCache) {
+    if (startState != null || genesisCache.isEmpty()) {
+      final List<BLSKeyPair> validatorKeys =
+          new MockStartValidatorKeyPairFactory().generateKeyPairs(0, numValidators);
+      setupInitialState(chainStorageClient, genesisTime, startState, validatorKeys, true);
+      return;
+    }
+
+    final MockStartGenesisCache cache = genesisCache.get();
+    final Optional<BeaconState> cachedState = cache.get(numValidators, genesisTime);
+    final BeaconState initialState;
+    if (cachedState.isPresent()) {
+      LOG.log(
+          Level.INFO,
+          "Loaded cached mock start genesis state with genesis time "
+              + genesisTime
+              + " and "
+              + numValidators
+              + " validators");
+      initialState = cachedState.get();
+    } else {
+      final List<BLSKeyPair> validatorKeys =
+          new MockStartValidatorKeyPairFactory().generateKeyPairs(0, numValidators);
+      initialState = createMockedStartInitialBeaconState(genesisTime, validatorKeys, true);
+      cache.put(numValidators, genesisTime, initialState);
+    }
+    chainStorageClient.initializeFromGenesis(initialState);
   }
 
   public static void setupInitialState(
@@ -18,15 +18,21 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 import static tech.pegasys.artemis.statetransition.AttestationGenerator.diffSlotAttestationData;
 import static tech.pegasys.artemis.statetransition.AttestationGenerator.withNewAttesterBits;
+import static tech.pegasys.artemis.statetransition.BlockAttestationsPool.MAX_AGGREGATES_PER_DATA;
 import static tech.pegasys.artemis.util.config.Constants.MAX_ATTESTATIONS;
+import static tech.pegasys.artemis.util.config.Constants.SLOTS_PER_EPOCH;
 
 import com.google.common.primitives.UnsignedLong;
+import java.util.ArrayList;
+import java.util.List;
 import org.apache.tuweni.bytes.Bytes32;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import tech.pegasys.artemis.datastructures.operations.Attestation;
+import tech.pegasys.artemis.datastructures.operations.AttestationData;
 import tech.pegasys.artemis.datastructures.util.DataStructureUtil;
 import tech.pegasys.artemis.util.SSZTypes.Bitlist;
+import tech.pegasys.artemis.util.bls.BLS;
 
 class BlockAttestationsPoolTest {
 
@@ -39,31 +45,21 @@ class BlockAttestationsPoolTest {
   }
 
   @Test
-  @SuppressWarnings("UnusedVariable")
   void unprocessedAggregate_NewData() {
     Attestation attestation = AttestationGenerator.aggregateAttestation(10);
     pool.addUnprocessedAggregateAttestationToQueue(attestation);
-    assertTrue(pool.aggregateAttestationsQueue.contains(attestation));
-    assertTrue(
-        pool.unprocessedAttestationsBitlist.containsValue(attestation.getAggregation_bits()));
+    assertTrue(pool.getAggregates().contains(attestation));
   }
 
   @Test
-  void unprocessedAggregate_OldData_DifferentBitlist_BitlistUpdated() {
+  void unprocessedAggregate_OldData_DifferentBitlist_ReplacesCoveredAggregate() {
     Attestation attestation = AttestationGenerator.aggregateAttestation(10);
     Attestation newAttestation = withNewAttesterBits(attestation, 1);
 
     pool.addUnprocessedAggregateAttestationToQueue(attestation);
     pool.addUnprocessedAggregateAttestationToQueue(newAttestation);
-    Bytes32 attestationDataHash = attestation.getData().hash_tree_root();
-    Bitlist bitlist = pool.unprocessedAttestationsBitlist.get(attestationDataHash);
-    for (int i = 0; i < attestation.getAggregation_bits().getCurrentSize(); i++) {
-      final int expected =
-          attestation.getAggregation_bits().getBit(i)
-              | newAttestation.getAggregation_bits().getBit(i);
-      assertEquals(bitlist.getBit(i), expected);
-    }
-    assert (pool.aggregateAttestationsQueue.size() == 2);
+    // The new aggregate covers every attester of the old one so only it is kept
+    assertEquals(pool.getAggregates(), List.of(newAttestation));
   }
 
   @Test
@@ -72,7 +68,7 @@ class BlockAttestationsPoolTest {
     pool.addUnprocessedAggregateAttestationToQueue(attestation);
     Attestation newAttestation = new Attestation(attestation);
     pool.addUnprocessedAggregateAttestationToQueue(newAttestation);
-    assert (pool.aggregateAttestationsQueue.size() == 1);
+    assertEquals(pool.getAggregates().size(), 1);
   }
 
   @Test
@@ -118,11 +114,13 @@ class BlockAttestationsPoolTest {
   void getAggregatedAttestations_DoesNotReturnAttestationsMoreThanMaxAttestations() {
     for (int i = 0; i < MAX_ATTESTATIONS + 1; i++) {
       Attestation attestation = dataStructureUtil.randomAttestation();
-      attestation.setData(diffSlotAttestationData(UnsignedLong.valueOf(i), attestation.getData()));
+      final UnsignedLong slot = UnsignedLong.valueOf(1 + i % SLOTS_PER_EPOCH);
+      attestation.setData(diffSlotAttestationData(slot, attestation.getData()));
       pool.addUnprocessedAggregateAttestationToQueue(attestation);
     }
 
-    assertEquals(pool.getAttestationsForSlot(UnsignedLong.MAX_VALUE).size(), MAX_ATTESTATIONS);
+    final UnsignedLong blockSlot = UnsignedLong.valueOf(SLOTS_PER_EPOCH + 1);
+    assertEquals(pool.getAttestationsForSlot(blockSlot).size(), MAX_ATTESTATIONS);
   }
 
   @Test
@@ -141,4 +139,154 @@ class BlockAttestationsPoolTest {
               assertTrue(attestation.getData().getSlot().compareTo(CUTOFF_SLOT) <= 0);
             });
   }
+
+  @Test
+  void unprocessedAggregate_NonOverlappingAggregatesAreMerged() {
+    final AttestationData data = dataStructureUtil.randomAttestationData();
+    final Attestation first = attestation(data, 0, 1);
+    final Attestation second = attestation(data, 2, 3);
+    pool.addUnprocessedAggregateAttestationToQueue(first);
+    pool.addUnprocessedAggregateAttestationToQueue(second);
+
+    final List<Attestation> aggregates = pool.getAggregates();
+    assertEquals(aggregates.size(), 1);
+    assertEquals(aggregates.get(0).getAggregation_bits(), bits(0, 1, 2, 3));
+    assertEquals(
+        aggregates.get(0).getAggregate_signature(),
+        BLS.aggregate(List.of(first.getAggregate_signature(), second.getAggregate_signature())));
+  }
+
+  @Test
+  void unprocessedAggregate_DifferentBitlistSizeShouldBeIgnored() {
+    final AttestationData data = dataStructureUtil.randomAttestationData();
+    final Attestation attestation = attestation(data, 0, 1);
+    final Bitlist largerBits = new Bitlist(16, 16);
+    largerBits.setBit(2);
+    pool.addUnprocessedAggregateAttestationToQueue(attestation);
+    pool.addUnprocessedAggregateAttestationToQueue(
+        new Attestation(largerBits, data, dataStructureUtil.randomSignature()));
+
+    assertEquals(pool.getAggregates(), List.of(attestation));
+  }
+
+  @Test
+  void processedAggregate_DifferentBitlistSizeShouldBeIgnored() {
+    final AttestationData data = dataStructureUtil.randomAttestationData();
+    final Bitlist largerBits = new Bitlist(16, 16);
+    largerBits.setBit(2);
+    pool.addAggregateAttestationProcessedInBlock(attestation(data, 0, 1));
+    pool.addAggregateAttestationProcessedInBlock(
+        new Attestation(largerBits, data, dataStructureUtil.randomSignature()));
+
+    assertEquals(pool.processedAttestationsBitlist.get(data.hash_tree_root()), bits(0, 1));
+  }
+
+  @Test
+  void unprocessedAggregate_NotAddedWhenItWouldBeEvictedFromFullGroup() {
+    final AttestationData data = dataStructureUtil.randomAttestationData();
+    // Every aggregate includes attester 0 so none of them can be merged
+    final List<Attestation> overlapping = new ArrayList<>();
+    for (int i = 1; i < 8; i++) {
+      for (int j = i + 1; j < 8; j++) {
+        overlapping.add(attestation(data, 0, i, j));
+      }
+    }
+    final List<Attestation> held = overlapping.subList(0, MAX_AGGREGATES_PER_DATA);
+    held.forEach(pool::addUnprocessedAggregateAttestationToQueue);
+    final Attestation rejected = overlapping.get(MAX_AGGREGATES_PER_DATA);
+
+    pool.addUnprocessedAggregateAttestationToQueue(rejected);
+
+    // It has no more attesters than any held aggregate so would be the one truncated
+    assertEquals(pool.getAggregates(), held);
+  }
+
+  @Test
+  void getAggregatedAttestations_SkipsAggregatesCoveredByEarlierPicks() {
+    final AttestationData data = attestationDataAtSlot(1);
+    final Attestation first = attestation(data, 0, 1, 2);
+    final Attestation second = attestation(data, 2, 3, 4);
+    final Attestation covered = attestation(data, 1, 2, 3);
+    pool.addUnprocessedAggregateAttestationToQueue(first);
+    pool.addUnprocessedAggregateAttestationToQueue(second);
+    pool.addUnprocessedAggregateAttestationToQueue(covered);
+    assertEquals(pool.getAggregates().size(), 3);
+
+    assertEquals(
+        pool.getAttestationsForSlot(UnsignedLong.valueOf(2)).asList(), List.of(first, second));
+  }
+
+  @Test
+  void getAggregatedAttestations_SkipsAttestersAlreadyIncludedOnChain() {
+    final AttestationData data = attestationDataAtSlot(1);
+    final Attestation large = attestation(data, 0, 1, 2, 3);
+    final Attestation small = attestation(data, 3, 4);
+    pool.addUnprocessedAggregateAttestationToQueue(large);
+    pool.addUnprocessedAggregateAttestationToQueue(small);
+    pool.addAggregateAttestationProcessedInBlock(attestation(data, 0, 1, 2));
+
+    // Only attester 3 of the larger aggregate is new, and the smaller one already includes it
+    assertEquals(pool.getAttestationsForSlot(UnsignedLong.valueOf(2)).asList(), List.of(small));
+  }
+
+  @Test
+  void getAggregatedAttestations_PrefersAttestationsWithShorterInclusionDelay() {
+    final Attestation old = attestation(attestationDataAtSlot(1), 0, 1, 2);
+    final Attestation recent = attestation(attestationDataAtSlot(4), 0, 1);
+    pool.addUnprocessedAggregateAttestationToQueue(old);
+    pool.addUnprocessedAggregateAttestationToQueue(recent);
+
+    assertEquals(
+        pool.getAttestationsForSlot(UnsignedLong.valueOf(5)).asList(), List.of(recent, old));
+  }
+
+  @Test
+  void getAggregatedAttestations_ExcludesAttestationsOutsideInclusionWindow() {
+    final UnsignedLong blockSlot = UnsignedLong.valueOf(SLOTS_PER_EPOCH + 10);
+    final Attestation stale = attestation(attestationDataAtSlot(9), 0);
+    final Attestation oldest = attestation(attestationDataAtSlot(10), 0);
+    pool.addUnprocessedAggregateAttestationToQueue(stale);
+    pool.addUnprocessedAggregateAttestationToQueue(oldest);
+
+    // The pool is only pruned after the block for the slot is produced
+    assertEquals(pool.getAttestationsForSlot(blockSlot).asList(), List.of(oldest));
+  }
+
+  @Test
+  void processedAggregate_RemovesCoveredAggregates() {
+    final AttestationData data = dataStructureUtil.randomAttestationData();
+    pool.addUnprocessedAggregateAttestationToQueue(attestation(data, 0, 1));
+    pool.addAggregateAttestationProcessedInBlock(attestation(data, 0, 1, 2));
+
+    assertTrue(pool.getAggregates().isEmpty());
+  }
+
+  @Test
+  void onSlot_PrunesAttestationsThatCanNoLongerBeIncluded() {
+    pool.addUnprocessedAggregateAttestationToQueue(attestation(attestationDataAtSlot(1), 0));
+    pool.addUnprocessedAggregateAttestationToQueue(attestation(attestationDataAtSlot(2), 0));
+
+    pool.onSlot(UnsignedLong.valueOf(SLOTS_PER_EPOCH + 2));
+
+    final List<Attestation> aggregates = pool.getAggregates();
+    assertEquals(aggregates.size(), 1);
+    assertEquals(aggregates.get(0).getData().getSlot(), UnsignedLong.valueOf(2));
+  }
+
+  private AttestationData attestationDataAtSlot(final long slot) {
+    return diffSlotAttestationData(
+        UnsignedLong.valueOf(slot), dataStructureUtil.randomAttestationData());
+  }
+
+  private Attestation attestation(final AttestationData data, final int... setBits) {
+    return new Attestation(bits(setBits), data, dataStructureUtil.randomSignature());
+  }
+
+  private Bitlist bits(final int... setBits) {
+    final Bitlist bitlist = new Bitlist(8, 8);
+    for (int bit : setBits) {
+      bitlist.setBit(bit);
+    }
+    return bitlist;
+  }
 }
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.artemis.statetransition.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import tech.pegasys.artemis.datastructures.state.BeaconState;
+import tech.pegasys.artemis.datastructures.util.MockStartValidatorKeyPairFactory;
+import tech.pegasys.artemis.util.bls.BLSKeyPair;
+
+class MockStartGenesisCacheTest {
+  private static final int VALIDATOR_COUNT = 4;
+  private static final long GENESIS_TIME = 1_000_000;
+  private static final String NETWORK = "minimal";
+
+  private final List<BLSKeyPair> validatorKeys =
+      new MockStartValidatorKeyPairFactory().generateKeyPairs(0, VALIDATOR_COUNT);
+
+  @Test
+  public void shouldReturnEmptyWhenNothingIsCached(@TempDir final Path tempDir) {
+    final MockStartGenesisCache cache = new MockStartGenesisCache(tempDir, NETWORK);
+
+    assertThat(cache.get(VALIDATOR_COUNT, GENESIS_TIME)).isEmpty();
+  }
+
+  @Test
+  public void shouldReturnCachedState(@TempDir final Path tempDir) {
+    final BeaconState state = createGenesisState(GENESIS_TIME);
+    new MockStartGenesisCache(tempDir, NETWORK).put(VALIDATOR_COUNT, GENESIS_TIME, state);
+
+    final Optional<BeaconState> cachedState =
+        new MockStartGenesisCache(tempDir, NETWORK).get(VALIDATOR_COUNT, GENESIS_TIME);
+
+    assertThat(cachedState).isPresent();
+    assertThat(cachedState.get().hash_tree_root()).isEqualTo(state.hash_tree_root());
+  }
+
+  @Test
+  public void shouldNotReturnStateForDifferentKey(@TempDir final Path tempDir) {
+    final MockStartGenesisCache cache = new MockStartGenesisCache(tempDir, NETWORK);
+    cache.put(VALIDATOR_COUNT, GENESIS_TIME, createGenesisState(GENESIS_TIME));
+
+    assertThat(cache.get(VALIDATOR_COUNT, GENESIS_TIME + 1)).isEmpty();
+    assertThat(cache.get(VALIDATOR_COUNT + 1, GENESIS_TIME)).isEmpty();
+  }
+
+  @Test
+  public void shouldNotReturnStateForDifferentNetwork(@TempDir final Path tempDir) {
+    new MockStartGenesisCache(tempDir, NETWORK)
+        .put(VALIDATOR_COUNT, GENESIS_TIME, createGenesisState(GENESIS_TIME));
+
+    assertThat(new MockStartGenesisCache(tempDir, "mainnet").get(VALIDATOR_COUNT, GENESIS_TIME))
+        .isEmpty();
+  }
+
+  @Test
+  public void shouldKeepStatesForOtherNetworks(@TempDir final Path tempDir) throws IOException {
+    final MockStartGenesisCache otherNetworkCache = new MockStartGenesisCache(tempDir, "mainnet");
+    otherNetworkCache.put(VALIDATOR_COUNT, GENESIS_TIME, createGenesisState(GENESIS_TIME));
+    new MockStartGenesisCache(tempDir, NETWORK)
+        .put(VALIDATOR_COUNT, GENESIS_TIME + 1, createGenesisState(GENESIS_TIME + 1));
+
+    assertThat(otherNetworkCache.get(VALIDATOR_COUNT, GENESIS_TIME)).isPresent();
+    assertThat(listFiles(tempDir)).hasSize(2);
+  }
+
+  @Test
+  public void shouldOnlyKeepMostRecentState(@TempDir final Path tempDir) throws IOException {
+    final MockStartGenesisCache cache = new MockStartGenesisCache(tempDir, NETWORK);
+    cache.put(VALIDATOR_COUNT, GENESIS_TIME, createGenesisState(GENESIS_TIME));
+    cache.put(VALIDATOR_COUNT, GENESIS_TIME + 1, createGenesisState(GENESIS_TIME + 1));
+
+    assertThat(cache.get(VALIDATOR_COUNT, GENESIS_TIME)).isEmpty();
+    assertThat(cache.get(VALIDATOR_COUNT, GENESIS_TIME + 1)).isPresent();
+    assertThat(listFiles(tempDir)).hasSize(1);
+  }
+
+  @Test
+  public void shouldIgnoreCorruptCacheFile(@TempDir final Path tempDir) throws IOException {
+    final MockStartGenesisCache cache = new MockStartGenesisCache(tempDir, NETWORK);
+    cache.put(VALIDATOR_COUNT, GENESIS_TIME, createGenesisState(GENESIS_TIME));
+    final Path cacheFile = listFiles(tempDir).get(0);
+    Files.write(cacheFile, new byte[] {1, 2, 3});
+
+    assertThat(cache.get(VALIDATOR_COUNT, GENESIS_TIME)).isEmpty();
+  }
+
+  private BeaconState createGenesisState(final long genesisTime) {
+    return StartupUtil.createMockedStartInitialBeaconState(genesisTime, validatorKeys);
+  }
+
+  private List<Path> listFiles(final Path directory) throws IOException {
+    try (Stream<Path> files = Files.list(directory)) {
+      return files.collect(Collectors.toList());
+    }
+  }
+}
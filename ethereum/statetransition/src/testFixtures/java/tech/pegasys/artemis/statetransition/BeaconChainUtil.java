@@ -110,6 +110,15 @@ public class BeaconChainUtil {
     return createBlockAtSlot(slot, true);
   }
 
+  public SignedBeaconBlock createBlockAtSlot(final UnsignedLong slot, final Bytes32 parentRoot)
+      throws Exception {
+    final BeaconState preState = storageClient.getStore().getBlockState(parentRoot);
+    checkArgument(preState != null, "Unknown parent block: %s", parentRoot);
+    checkArgument(preState.getSlot().compareTo(slot) < 0, "Slot must be in the future.");
+    final int proposerIndex = blockCreator.getProposerIndexForSlot(preState, slot);
+    return blockCreator.createEmptyBlock(getSigner(proposerIndex), slot, preState, parentRoot);
+  }
+
   public SignedBeaconBlock createAndImportBlockAtSlot(final long slot) throws Exception {
     return createAndImportBlockAtSlot(UnsignedLong.valueOf(slot));
   }
@@ -15,17 +15,23 @@ package tech.pegasys.artemis.events;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 import static java.util.Collections.synchronizedMap;
+import static tech.pegasys.artemis.metrics.ArtemisMetricCategory.EVENTBUS;
 
 import java.lang.reflect.Method;
 import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
+import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
 import tech.pegasys.artemis.util.async.SafeFuture;
 
 public class AsyncEventDeliverer<T> extends DirectEventDeliverer<T> {
@@ -34,15 +40,47 @@ public class AsyncEventDeliverer<T> extends DirectEventDeliverer<T> {
 
   private final Map<T, BlockingQueue<Runnable>> eventQueuesBySubscriber =
       synchronizedMap(new IdentityHashMap<>());
+  private final List<ExecutorService> executors = new CopyOnWriteArrayList<>();
   private final AtomicBoolean stopped = new AtomicBoolean(false);
-  private final ExecutorService executor;
+  private final ExecutorFactory executorFactory;
+  private final LabelledMetric<Counter> queuedEventCounter;
+  private final LabelledMetric<Counter> queueWaitTimeCounter;
+  private final LabelledMetric<Counter> processingTimeCounter;
 
   public AsyncEventDeliverer(
       final ExecutorService executor,
       final ChannelExceptionHandler exceptionHandler,
       final MetricsSystem metricsSystem) {
+    this((subscriberName, numberOfThreads) -> executor, exceptionHandler, metricsSystem);
+  }
+
+  public AsyncEventDeliverer(
+      final ExecutorFactory executorFactory,
+      final ChannelExceptionHandler exceptionHandler,
+      final MetricsSystem metricsSystem) {
     super(exceptionHandler, metricsSystem);
-    this.executor = executor;
+    this.executorFactory = executorFactory;
+    queuedEventCounter =
+        metricsSystem.createLabelledCounter(
+            EVENTBUS,
+            "event_queued_count",
+            "Total number of events queued for async subscribers",
+            "channel",
+            "subscriber");
+    queueWaitTimeCounter =
+        metricsSystem.createLabelledCounter(
+            EVENTBUS,
+            "event_queue_wait_us_total",
+            "Total microseconds events spent queued before delivery started",
+            "channel",
+            "subscriber");
+    processingTimeCounter =
+        metricsSystem.createLabelledCounter(
+            EVENTBUS,
+            "event_processing_us_total",
+            "Total microseconds async subscribers spent processing events",
+            "channel",
+            "subscriber");
   }
 
   @Override
@@ -50,6 +88,9 @@ public class AsyncEventDeliverer<T> extends DirectEventDeliverer<T> {
     final BlockingQueue<Runnable> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
     eventQueuesBySubscriber.put(subscriber, queue);
     super.subscribe(subscriber, numberOfThreads);
+    final ExecutorService executor =
+        executorFactory.create(subscriber.getClass().getSimpleName(), numberOfThreads);
+    executors.add(executor);
     for (int i = 0; i < numberOfThreads; i++) {
       executor.execute(new QueueReader(queue));
     }
@@ -73,9 +114,27 @@ public class AsyncEventDeliverer<T> extends DirectEventDeliverer<T> {
 
   private void enqueueDelivery(final T subscriber, final Method method, final Runnable action) {
     final BlockingQueue<Runnable> queue = checkNotNull(eventQueuesBySubscriber.get(subscriber));
+    final String channelName = method.getDeclaringClass().getSimpleName();
+    final String subscriberName = subscriber.getClass().getSimpleName();
+    final long queuedAt = System.nanoTime();
+    final Runnable timedAction =
+        () -> {
+          final long startedAt = System.nanoTime();
+          queueWaitTimeCounter
+              .labels(channelName, subscriberName)
+              .inc(microsBetween(queuedAt, startedAt));
+          try {
+            action.run();
+          } finally {
+            processingTimeCounter
+                .labels(channelName, subscriberName)
+                .inc(microsBetween(startedAt, System.nanoTime()));
+          }
+        };
     while (!stopped.get()) {
       try {
-        queue.put(action);
+        queue.put(timedAction);
+        queuedEventCounter.labels(channelName, subscriberName).inc();
         return;
       } catch (final InterruptedException e) {
         LOG.debug("Interrupted while trying to publish event {}", method::getName);
@@ -83,10 +142,26 @@ public class AsyncEventDeliverer<T> extends DirectEventDeliverer<T> {
     }
   }
 
+  private static long microsBetween(final long startNanos, final long endNanos) {
+    return TimeUnit.NANOSECONDS.toMicros(endNanos - startNanos);
+  }
+
+  @Override
+  int getQueueDepth() {
+    synchronized (eventQueuesBySubscriber) {
+      return eventQueuesBySubscriber.values().stream().mapToInt(BlockingQueue::size).sum();
+    }
+  }
+
   @Override
   public void stop() {
     stopped.set(true);
-    executor.shutdownNow();
+    executors.forEach(ExecutorService::shutdownNow);
+  }
+
+  /** Creates the executor that runs the queue readers for a single subscriber. */
+  public interface ExecutorFactory {
+    ExecutorService create(String subscriberName, int numberOfThreads);
   }
 
   class QueueReader implements Runnable {
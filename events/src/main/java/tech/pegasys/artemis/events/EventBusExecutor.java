@@ -0,0 +1,122 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.artemis.events;
+
+import static tech.pegasys.artemis.metrics.ArtemisMetricCategory.EVENTBUS;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
+
+/**
+ * A fixed size, bounded executor for dispatching Guava event bus handlers.
+ *
+ * <p>When the queue is full, the handler is dropped and counted rather than run on the publishing
+ * thread, so a slow subscriber can't stall gossip or timer threads. The queue is sized so this only
+ * happens when subscribers have fallen far behind.
+ */
+public class EventBusExecutor implements Executor {
+  private static final Logger LOG = LogManager.getLogger();
+  static final int QUEUE_CAPACITY = 10_000;
+  private static final int DROPPED_HANDLER_LOG_INTERVAL = 1000;
+
+  private final ThreadPoolExecutor executor;
+  private final Counter queueWaitTimeCounter;
+  private final Counter processingTimeCounter;
+  private final Counter droppedHandlerCounter;
+  private final AtomicLong droppedHandlerCount = new AtomicLong();
+
+  EventBusExecutor(
+      final int threadCount, final int queueCapacity, final MetricsSystem metricsSystem) {
+    this.executor =
+        new ThreadPoolExecutor(
+            threadCount,
+            threadCount,
+            0,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            new ThreadFactoryBuilder().setDaemon(true).setNameFormat("events-%d").build(),
+            this::dropHandler);
+    queueWaitTimeCounter =
+        metricsSystem.createCounter(
+            EVENTBUS,
+            "event_bus_queue_wait_us_total",
+            "Total microseconds event bus handlers spent queued before being run");
+    processingTimeCounter =
+        metricsSystem.createCounter(
+            EVENTBUS,
+            "event_bus_processing_us_total",
+            "Total microseconds spent running event bus handlers");
+    droppedHandlerCounter =
+        metricsSystem.createCounter(
+            EVENTBUS,
+            "event_bus_dropped_handler_count",
+            "Number of event bus handlers dropped because the queue was full");
+    metricsSystem.createGauge(
+        EVENTBUS,
+        "event_bus_queue_depth",
+        "Number of event bus handlers waiting to be run",
+        () -> executor.getQueue().size());
+    metricsSystem.createGauge(
+        EVENTBUS,
+        "event_bus_active_threads",
+        "Number of threads currently running event bus handlers",
+        executor::getActiveCount);
+  }
+
+  public static EventBusExecutor create(final int threadCount, final MetricsSystem metricsSystem) {
+    return new EventBusExecutor(threadCount, QUEUE_CAPACITY, metricsSystem);
+  }
+
+  @Override
+  public void execute(final Runnable command) {
+    final long queuedAt = System.nanoTime();
+    executor.execute(
+        () -> {
+          final long startedAt = System.nanoTime();
+          queueWaitTimeCounter.inc(microsBetween(queuedAt, startedAt));
+          try {
+            command.run();
+          } finally {
+            processingTimeCounter.inc(microsBetween(startedAt, System.nanoTime()));
+          }
+        });
+  }
+
+  private void dropHandler(final Runnable task, final ThreadPoolExecutor pool) {
+    if (pool.isShutdown()) {
+      return;
+    }
+    droppedHandlerCounter.inc();
+    final long dropped = droppedHandlerCount.incrementAndGet();
+    if (dropped % DROPPED_HANDLER_LOG_INTERVAL == 1) {
+      LOG.warn("Event bus queue is full. {} event handlers have been dropped", dropped);
+    }
+  }
+
+  private static long microsBetween(final long startNanos, final long endNanos) {
+    return TimeUnit.NANOSECONDS.toMicros(endNanos - startNanos);
+  }
+
+  public void stop() {
+    executor.shutdownNow();
+  }
+}
@@ -26,6 +26,7 @@ import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Stream;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
+import tech.pegasys.artemis.events.AsyncEventDeliverer.ExecutorFactory;
 import tech.pegasys.artemis.util.async.SafeFuture;
 
 public class EventChannel<T> {
@@ -63,17 +64,73 @@ public class EventChannel<T> {
       final Class<T> channelInterface,
       final ChannelExceptionHandler exceptionHandler,
       final MetricsSystem metricsSystem) {
-    return createAsync(
+    return create(
         channelInterface,
-        Executors.newCachedThreadPool(
-            new ThreadFactoryBuilder()
-                .setDaemon(true)
-                .setNameFormat(channelInterface.getSimpleName() + "-%d")
-                .build()),
+        new AsyncEventDeliverer<>(
+            subscriberExecutorFactory(channelInterface), exceptionHandler, metricsSystem));
+  }
+
+  /**
+   * Creates an async channel which delivers events through a preallocated ring buffer per
+   * subscriber. Suited to channels with high event rates.
+   *
+   * @param channelInterface the channel interface
+   * @param bufferSize the number of events each subscriber can have waiting, must be a power of 2
+   * @param waitStrategy how subscriber threads wait when there are no events
+   * @param overflowPolicy what to do when a subscriber's buffer is full
+   * @param exceptionHandler the handler for exceptions thrown by subscribers
+   * @param metricsSystem the metrics system
+   */
+  public static <T> EventChannel<T> createRingBuffer(
+      final Class<T> channelInterface,
+      final int bufferSize,
+      final WaitStrategy waitStrategy,
+      final OverflowPolicy overflowPolicy,
+      final ChannelExceptionHandler exceptionHandler,
+      final MetricsSystem metricsSystem) {
+    return createRingBuffer(
+        channelInterface,
+        subscriberExecutorFactory(channelInterface),
+        bufferSize,
+        waitStrategy,
+        overflowPolicy,
         exceptionHandler,
         metricsSystem);
   }
 
+  static <T> EventChannel<T> createRingBuffer(
+      final Class<T> channelInterface,
+      final ExecutorFactory executorFactory,
+      final int bufferSize,
+      final WaitStrategy waitStrategy,
+      final OverflowPolicy overflowPolicy,
+      final ChannelExceptionHandler exceptionHandler,
+      final MetricsSystem metricsSystem) {
+    return create(
+        channelInterface,
+        new RingBufferEventDeliverer<>(
+            executorFactory,
+            bufferSize,
+            waitStrategy,
+            overflowPolicy,
+            exceptionHandler,
+            metricsSystem));
+  }
+
+  /**
+   * Each subscriber gets its own fixed size pool so thread usage is bounded by the parallelism
+   * subscribers request rather than by the rate events are published.
+   */
+  private static ExecutorFactory subscriberExecutorFactory(final Class<?> channelInterface) {
+    return (subscriberName, numberOfThreads) ->
+        Executors.newFixedThreadPool(
+            numberOfThreads,
+            new ThreadFactoryBuilder()
+                .setDaemon(true)
+                .setNameFormat(channelInterface.getSimpleName() + "-" + subscriberName + "-%d")
+                .build());
+  }
+
   static <T> EventChannel<T> createAsync(
       final Class<T> channelInterface,
       final ExecutorService executor,
@@ -158,6 +215,10 @@ public class EventChannel<T> {
     invoker.subscribe(listener, requestedParallelism);
   }
 
+  int getQueueDepth() {
+    return invoker.getQueueDepth();
+  }
+
   public void stop() {
     invoker.stop();
   }
@@ -13,6 +13,10 @@
 
 package tech.pegasys.artemis.events;
 
+import static com.google.common.base.Preconditions.checkState;
+import static tech.pegasys.artemis.metrics.ArtemisMetricCategory.EVENTBUS;
+
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.function.Function;
@@ -22,12 +26,27 @@ public class EventChannels {
 
   private final ConcurrentMap<Class<?>, EventChannel<?>> channels = new ConcurrentHashMap<>();
   private final Function<Class<?>, EventChannel<?>> eventChannelFactory;
+  private final Optional<RingBufferFactory> ringBufferFactory;
 
   public EventChannels(
       final ChannelExceptionHandler exceptionHandler, final MetricsSystem metricsSystem) {
     this(
         channelInterface ->
-            EventChannel.createAsync(channelInterface, exceptionHandler, metricsSystem));
+            EventChannel.createAsync(channelInterface, exceptionHandler, metricsSystem),
+        Optional.of(
+            (channelInterface, bufferSize, waitStrategy, overflowPolicy) ->
+                EventChannel.createRingBuffer(
+                    channelInterface,
+                    bufferSize,
+                    waitStrategy,
+                    overflowPolicy,
+                    exceptionHandler,
+                    metricsSystem)));
+    metricsSystem.createGauge(
+        EVENTBUS,
+        "event_queue_depth",
+        "Total number of events waiting to be delivered to async subscribers",
+        this::getQueueDepth);
   }
 
   public static EventChannels createSyncChannels(
@@ -37,7 +56,42 @@ public class EventChannels {
   }
 
   EventChannels(final Function<Class<?>, EventChannel<?>> eventChannelFactory) {
+    this(eventChannelFactory, Optional.empty());
+  }
+
+  private EventChannels(
+      final Function<Class<?>, EventChannel<?>> eventChannelFactory,
+      final Optional<RingBufferFactory> ringBufferFactory) {
     this.eventChannelFactory = eventChannelFactory;
+    this.ringBufferFactory = ringBufferFactory;
+  }
+
+  /**
+   * Configures a channel to deliver events through a ring buffer rather than a blocking queue.
+   * Must be called before the channel is first used.
+   *
+   * <p>Synchronous channels always deliver events on the publisher thread so are not affected.
+   *
+   * @param channelInterface the channel to configure
+   * @param bufferSize the number of events each subscriber can have waiting, must be a power of 2
+   * @param waitStrategy how subscriber threads wait when there are no events
+   * @param overflowPolicy what to do when a subscriber's buffer is full
+   */
+  public EventChannels useRingBuffer(
+      final Class<?> channelInterface,
+      final int bufferSize,
+      final WaitStrategy waitStrategy,
+      final OverflowPolicy overflowPolicy) {
+    ringBufferFactory.ifPresent(
+        factory -> {
+          final EventChannel<?> channel =
+              factory.create(channelInterface, bufferSize, waitStrategy, overflowPolicy);
+          checkState(
+              channels.putIfAbsent(channelInterface, channel) == null,
+              "Channel %s is already in use",
+              channelInterface.getSimpleName());
+        });
+    return this;
   }
 
   public <T> T getPublisher(final Class<T> channelInterface) {
@@ -72,7 +126,19 @@ public class EventChannels {
     return (EventChannel<T>) channels.computeIfAbsent(channelInterface, eventChannelFactory);
   }
 
+  int getQueueDepth() {
+    return channels.values().stream().mapToInt(EventChannel::getQueueDepth).sum();
+  }
+
   public void stop() {
     channels.values().forEach(EventChannel::stop);
   }
+
+  private interface RingBufferFactory {
+    EventChannel<?> create(
+        Class<?> channelInterface,
+        int bufferSize,
+        WaitStrategy waitStrategy,
+        OverflowPolicy overflowPolicy);
+  }
 }
@@ -69,5 +69,10 @@ abstract class EventDeliverer<T> implements InvocationHandler {
   protected abstract <X> SafeFuture<X> deliverToWithResponse(
       T subscriber, Method method, Object[] args);
 
+  /** Returns the number of events waiting to be delivered to subscribers. */
+  int getQueueDepth() {
+    return 0;
+  }
+
   public void stop() {}
 }
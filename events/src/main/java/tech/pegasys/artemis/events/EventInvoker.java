@@ -0,0 +1,63 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.artemis.events;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+
+/**
+ * Invokes a channel method on a subscriber through a {@link MethodHandle} rather than {@link
+ * Method#invoke}, avoiding the reflective access checks and argument boxing on every delivery.
+ */
+final class EventInvoker {
+  private static final Object[] NO_ARGS = new Object[0];
+  private static final MethodType INVOKER_TYPE =
+      MethodType.methodType(Object.class, Object.class, Object[].class);
+
+  private final MethodHandle handle;
+
+  private EventInvoker(final MethodHandle handle) {
+    this.handle = handle;
+  }
+
+  static EventInvoker create(final Method method) {
+    return new EventInvoker(
+        unreflect(method)
+            .asSpreader(Object[].class, method.getParameterCount())
+            .asType(INVOKER_TYPE));
+  }
+
+  private static MethodHandle unreflect(final Method method) {
+    final MethodHandles.Lookup lookup = MethodHandles.lookup();
+    try {
+      return lookup.unreflect(method);
+    } catch (final IllegalAccessException e) {
+      // Channel interfaces may be package-private, which reflection copes with but a lookup does
+      // not, so fall back to suppressing access checks.
+      try {
+        method.setAccessible(true);
+        return lookup.unreflect(method);
+      } catch (final IllegalAccessException | RuntimeException e2) {
+        throw new IllegalArgumentException("Unable to access channel method " + method, e2);
+      }
+    }
+  }
+
+  /** Invokes the method, returning null for void methods. Exceptions are thrown unwrapped. */
+  Object invoke(final Object subscriber, final Object[] args) throws Throwable {
+    return (Object) handle.invokeExact(subscriber, args == null ? NO_ARGS : args);
+  }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.artemis.events;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import tech.pegasys.artemis.util.async.SafeFuture;
+
+/**
+ * A bounded, lock-free, multi-producer multi-consumer ring buffer of preallocated event slots.
+ *
+ * <p>Each slot carries a sequence number recording whether it is free for the producer of a given
+ * lap or holds an event for the consumer of that lap. Producers and consumers claim positions with
+ * a single CAS and never allocate.
+ */
+class EventRingBuffer {
+  private final Slot[] slots;
+  private final AtomicLongArray sequences;
+  private final int mask;
+  private final AtomicLong producerPosition = new AtomicLong();
+  private final AtomicLong consumerPosition = new AtomicLong();
+
+  EventRingBuffer(final int capacity) {
+    checkArgument(
+        capacity > 1 && Integer.bitCount(capacity) == 1, "Capacity must be a power of two");
+    this.slots = new Slot[capacity];
+    this.sequences = new AtomicLongArray(capacity);
+    this.mask = capacity - 1;
+    for (int i = 0; i < capacity; i++) {
+      slots[i] = new Slot();
+      sequences.set(i, i);
+    }
+  }
+
+  /** Adds an event to the buffer, returning false if it is full. */
+  boolean offer(
+      final EventInvoker invoker,
+      final Method method,
+      final Object[] args,
+      final SafeFuture<Object> result) {
+    long position = producerPosition.get();
+    while (true) {
+      final int index = (int) (position & mask);
+      final long difference = sequences.get(index) - position;
+      if (difference == 0) {
+        if (producerPosition.compareAndSet(position, position + 1)) {
+          slots[index].set(invoker, method, args, result);
+          sequences.set(index, position + 1);
+          return true;
+        }
+        position = producerPosition.get();
+      } else if (difference < 0) {
+        return false;
+      } else {
+        position = producerPosition.get();
+      }
+    }
+  }
+
+  /**
+   * Moves the oldest event into {@code target}, returning false if the buffer is empty.
+   *
+   * @param target the consumer-owned slot to copy the event into
+   */
+  boolean poll(final Slot target) {
+    long position = consumerPosition.get();
+    while (true) {
+      final int index = (int) (position & mask);
+      final long difference = sequences.get(index) - (position + 1);
+      if (difference == 0) {
+        if (consumerPosition.compareAndSet(position, position + 1)) {
+          final Slot slot = slots[index];
+          target.set(slot.invoker, slot.method, slot.args, slot.result);
+          slot.clear();
+          sequences.set(index, position + mask + 1);
+          return true;
+        }
+        position = consumerPosition.get();
+      } else if (difference < 0) {
+        return false;
+      } else {
+        position = consumerPosition.get();
+      }
+    }
+  }
+
+  int size() {
+    return (int) Math.max(0, producerPosition.get() - consumerPosition.get());
+  }
+
+  static class Slot {
+    EventInvoker invoker;
+    Method method;
+    Object[] args;
+    SafeFuture<Object> result;
+
+    void set(
+        final EventInvoker invoker,
+        final Method method,
+        final Object[] args,
+        final SafeFuture<Object> result) {
+      this.invoker = invoker;
+      this.method = method;
+      this.args = args;
+      this.result = result;
+    }
+
+    void clear() {
+      set(null, null, null, null);
+    }
+  }
+}
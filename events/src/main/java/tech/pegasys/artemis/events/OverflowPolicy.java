@@ -0,0 +1,24 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.artemis.events;
+
+/** Controls what a ring buffer channel does when a subscriber's buffer is full. */
+public enum OverflowPolicy {
+  /** The publisher waits until the subscriber makes space. Events are never dropped. */
+  BLOCK,
+  /** The event being published is dropped. */
+  DROP_NEWEST,
+  /** The oldest event waiting in the buffer is dropped to make space. */
+  DROP_OLDEST
+}
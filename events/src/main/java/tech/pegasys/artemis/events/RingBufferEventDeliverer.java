@@ -0,0 +1,260 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.artemis.events;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.util.Collections.synchronizedMap;
+import static tech.pegasys.artemis.metrics.ArtemisMetricCategory.EVENTBUS;
+
+import java.lang.reflect.Method;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
+import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
+import tech.pegasys.artemis.events.AsyncEventDeliverer.ExecutorFactory;
+import tech.pegasys.artemis.events.EventRingBuffer.Slot;
+import tech.pegasys.artemis.events.WaitStrategy.Waiter;
+import tech.pegasys.artemis.util.async.SafeFuture;
+
+/**
+ * Delivers events to each subscriber through a preallocated ring buffer instead of a blocking
+ * queue, and invokes subscribers through method handles instead of reflection.
+ *
+ * <p>Consumers drain events in batches and only fall back to their {@link WaitStrategy} when their
+ * buffer is empty. When a buffer is full the channel's {@link OverflowPolicy} decides whether the
+ * publisher waits or an event is dropped.
+ */
+class RingBufferEventDeliverer<T> extends EventDeliverer<T> {
+  private static final Logger LOG = LogManager.getLogger();
+  static final int MAX_BATCH_SIZE = 256;
+  private static final long PUBLISHER_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+  private final Map<T, Ring> ringsBySubscriber = synchronizedMap(new IdentityHashMap<>());
+  private final Map<Method, EventInvoker> invokers = new ConcurrentHashMap<>();
+  private final List<ExecutorService> executors = new CopyOnWriteArrayList<>();
+  private final AtomicBoolean stopped = new AtomicBoolean(false);
+  // Publishers can run on any thread so each needs its own slot to drop events into
+  private final ThreadLocal<Slot> droppedEvent = ThreadLocal.withInitial(Slot::new);
+  private final ExecutorFactory executorFactory;
+  private final int bufferSize;
+  private final WaitStrategy waitStrategy;
+  private final OverflowPolicy overflowPolicy;
+  private final ChannelExceptionHandler exceptionHandler;
+  private final LabelledMetric<Counter> consumedEventCounter;
+  private final LabelledMetric<Counter> failedEventCounter;
+  private final LabelledMetric<Counter> droppedEventCounter;
+
+  RingBufferEventDeliverer(
+      final ExecutorFactory executorFactory,
+      final int bufferSize,
+      final WaitStrategy waitStrategy,
+      final OverflowPolicy overflowPolicy,
+      final ChannelExceptionHandler exceptionHandler,
+      final MetricsSystem metricsSystem) {
+    super(metricsSystem);
+    this.executorFactory = executorFactory;
+    this.bufferSize = bufferSize;
+    this.waitStrategy = waitStrategy;
+    this.overflowPolicy = overflowPolicy;
+    this.exceptionHandler = exceptionHandler;
+    consumedEventCounter =
+        metricsSystem.createLabelledCounter(
+            EVENTBUS,
+            "event_consumed_count",
+            "Total number of events consumed",
+            "channel",
+            "subscriber");
+    failedEventCounter =
+        metricsSystem.createLabelledCounter(
+            EVENTBUS,
+            "event_failed_count",
+            "Number of events which failed to be processed",
+            "channel",
+            "subscriber");
+    droppedEventCounter =
+        metricsSystem.createLabelledCounter(
+            EVENTBUS,
+            "event_dropped_count",
+            "Number of events dropped because the subscriber's buffer was full",
+            "channel",
+            "subscriber");
+  }
+
+  @Override
+  void subscribe(final T subscriber, final int numberOfThreads) {
+    final Ring ring = new Ring(new EventRingBuffer(bufferSize), waitStrategy.createWaiter());
+    ringsBySubscriber.put(subscriber, ring);
+    super.subscribe(subscriber, numberOfThreads);
+    final ExecutorService executor =
+        executorFactory.create(subscriber.getClass().getSimpleName(), numberOfThreads);
+    executors.add(executor);
+    for (int i = 0; i < numberOfThreads; i++) {
+      executor.execute(new RingConsumer(subscriber, ring));
+    }
+  }
+
+  @Override
+  protected void deliverTo(final T subscriber, final Method method, final Object[] args) {
+    publish(subscriber, method, args, null);
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  protected <X> SafeFuture<X> deliverToWithResponse(
+      final T subscriber, final Method method, final Object[] args) {
+    final SafeFuture<Object> result = new SafeFuture<>();
+    publish(subscriber, method, args, result);
+    return (SafeFuture<X>) result;
+  }
+
+  private void publish(
+      final T subscriber,
+      final Method method,
+      final Object[] args,
+      final SafeFuture<Object> result) {
+    final Ring ring = checkNotNull(ringsBySubscriber.get(subscriber));
+    final EventInvoker invoker = invokers.computeIfAbsent(method, EventInvoker::create);
+    final EventRingBuffer buffer = ring.buffer;
+    while (!buffer.offer(invoker, method, args, result)) {
+      if (stopped.get()) {
+        reject(result);
+        return;
+      }
+      switch (overflowPolicy) {
+        case BLOCK:
+          LockSupport.parkNanos(PUBLISHER_PARK_NANOS);
+          break;
+        case DROP_NEWEST:
+          incrementCounter(droppedEventCounter, subscriber, method);
+          reject(result);
+          return;
+        case DROP_OLDEST:
+          final Slot dropped = droppedEvent.get();
+          if (buffer.poll(dropped)) {
+            incrementCounter(droppedEventCounter, subscriber, dropped.method);
+            reject(dropped.result);
+            dropped.clear();
+          }
+          break;
+      }
+    }
+    ring.waiter.signal();
+  }
+
+  private void reject(final SafeFuture<Object> result) {
+    if (result != null) {
+      result.completeExceptionally(new RejectedExecutionException("Event was dropped"));
+    }
+  }
+
+  @Override
+  int getQueueDepth() {
+    synchronized (ringsBySubscriber) {
+      return ringsBySubscriber.values().stream().mapToInt(ring -> ring.buffer.size()).sum();
+    }
+  }
+
+  @Override
+  public void stop() {
+    stopped.set(true);
+    executors.forEach(ExecutorService::shutdownNow);
+  }
+
+  private void incrementCounter(
+      final LabelledMetric<Counter> counter, final T subscriber, final Method method) {
+    counter
+        .labels(method.getDeclaringClass().getSimpleName(), subscriber.getClass().getSimpleName())
+        .inc();
+  }
+
+  private static class Ring {
+    private final EventRingBuffer buffer;
+    private final Waiter waiter;
+
+    private Ring(final EventRingBuffer buffer, final Waiter waiter) {
+      this.buffer = buffer;
+      this.waiter = waiter;
+    }
+  }
+
+  class RingConsumer implements Runnable {
+    private final T subscriber;
+    private final Ring ring;
+    private final Slot event = new Slot();
+
+    RingConsumer(final T subscriber, final Ring ring) {
+      this.subscriber = subscriber;
+      this.ring = ring;
+    }
+
+    @Override
+    public void run() {
+      int idleCount = 0;
+      while (!stopped.get()) {
+        if (deliverBatch() > 0) {
+          idleCount = 0;
+          continue;
+        }
+        try {
+          ring.waiter.await(idleCount);
+          if (idleCount < Integer.MAX_VALUE) {
+            idleCount++;
+          }
+        } catch (final InterruptedException e) {
+          LOG.debug("Interrupted while waiting for next event", e);
+        }
+      }
+    }
+
+    /** Delivers up to {@link #MAX_BATCH_SIZE} events and returns the number delivered. */
+    int deliverBatch() {
+      int delivered = 0;
+      while (delivered < MAX_BATCH_SIZE && ring.buffer.poll(event)) {
+        deliver();
+        delivered++;
+      }
+      return delivered;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void deliver() {
+      try {
+        final Object response = event.invoker.invoke(subscriber, event.args);
+        if (event.result != null) {
+          ((SafeFuture<Object>) response).propagateTo(event.result);
+        }
+      } catch (final Throwable t) {
+        incrementCounter(failedEventCounter, subscriber, event.method);
+        exceptionHandler.handleException(t, subscriber, event.method, event.args);
+        if (event.result != null) {
+          event.result.completeExceptionally(t);
+        }
+      } finally {
+        incrementCounter(consumedEventCounter, subscriber, event.method);
+        event.clear();
+      }
+    }
+  }
+}
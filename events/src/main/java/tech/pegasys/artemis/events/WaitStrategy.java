@@ -0,0 +1,108 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.artemis.events;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/** Controls how ring buffer consumers wait for new events when their buffer is empty. */
+public enum WaitStrategy {
+  /** Spins continuously. Lowest latency but keeps a core busy for every consumer thread. */
+  BUSY_SPIN,
+  /** Spins briefly then yields the CPU between checks. */
+  YIELDING,
+  /** Spins, then yields, then parks for short periods. A good default for most channels. */
+  SLEEPING,
+  /** Blocks until a publisher signals a new event. Lowest CPU use but highest latency. */
+  BLOCKING;
+
+  private static final int SPIN_TRIES = 100;
+  private static final int YIELD_TRIES = 200;
+  private static final long PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+  private static final long MAX_BLOCK_MILLIS = 10;
+
+  Waiter createWaiter() {
+    switch (this) {
+      case BUSY_SPIN:
+        return new SpinningWaiter(Integer.MAX_VALUE, Integer.MAX_VALUE);
+      case YIELDING:
+        return new SpinningWaiter(SPIN_TRIES, Integer.MAX_VALUE);
+      case SLEEPING:
+        return new SpinningWaiter(SPIN_TRIES, YIELD_TRIES);
+      case BLOCKING:
+        return new BlockingWaiter();
+      default:
+        throw new IllegalStateException("Unknown wait strategy " + this);
+    }
+  }
+
+  interface Waiter {
+    /**
+     * Waits for a publisher to add an event.
+     *
+     * @param idleCount the number of consecutive times the consumer has found its buffer empty
+     */
+    void await(int idleCount) throws InterruptedException;
+
+    /** Called by publishers after adding an event. */
+    void signal();
+  }
+
+  private static class SpinningWaiter implements Waiter {
+    private final int spinTries;
+    private final int yieldTries;
+
+    private SpinningWaiter(final int spinTries, final int yieldTries) {
+      this.spinTries = spinTries;
+      this.yieldTries = yieldTries;
+    }
+
+    @Override
+    public void await(final int idleCount) throws InterruptedException {
+      if (idleCount < spinTries) {
+        Thread.onSpinWait();
+      } else if (idleCount < yieldTries) {
+        Thread.yield();
+      } else {
+        LockSupport.parkNanos(PARK_NANOS);
+        if (Thread.interrupted()) {
+          throw new InterruptedException();
+        }
+      }
+    }
+
+    @Override
+    public void signal() {}
+  }
+
+  private static class BlockingWaiter implements Waiter {
+    private boolean signalled = false;
+
+    @Override
+    public synchronized void await(final int idleCount) throws InterruptedException {
+      // Signals that arrive between the consumer finding the buffer empty and getting here are
+      // remembered so they aren't lost. The timeout is only a safety net.
+      if (!signalled) {
+        wait(MAX_BLOCK_MILLIS);
+      }
+      signalled = false;
+    }
+
+    @Override
+    public synchronized void signal() {
+      signalled = true;
+      notifyAll();
+    }
+  }
+}
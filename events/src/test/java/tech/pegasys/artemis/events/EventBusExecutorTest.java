@@ -0,0 +1,79 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.artemis.events;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class EventBusExecutorTest {
+  private final EventBusExecutor executor = new EventBusExecutor(1, 1, new NoOpMetricsSystem());
+
+  @AfterEach
+  public void tearDown() {
+    executor.stop();
+  }
+
+  @Test
+  public void shouldRunHandlersOnExecutorThreads() throws Exception {
+    final AtomicReference<Thread> handlerThread = new AtomicReference<>();
+    final CountDownLatch completed = new CountDownLatch(1);
+
+    executor.execute(
+        () -> {
+          handlerThread.set(Thread.currentThread());
+          completed.countDown();
+        });
+
+    assertThat(completed.await(5, TimeUnit.SECONDS)).isTrue();
+    assertThat(handlerThread.get()).isNotSameAs(Thread.currentThread());
+  }
+
+  @Test
+  public void shouldDropHandlersWhenQueueIsFull() throws Exception {
+    final CountDownLatch started = new CountDownLatch(1);
+    final CountDownLatch release = new CountDownLatch(1);
+    executor.execute(
+        () -> {
+          started.countDown();
+          awaitUninterruptibly(release);
+        });
+    assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+    // Fills the queue
+    final CountDownLatch queuedHandlerRun = new CountDownLatch(1);
+    executor.execute(queuedHandlerRun::countDown);
+
+    final AtomicBoolean droppedHandlerRun = new AtomicBoolean(false);
+    executor.execute(() -> droppedHandlerRun.set(true));
+    assertThat(droppedHandlerRun).isFalse();
+
+    release.countDown();
+    assertThat(queuedHandlerRun.await(5, TimeUnit.SECONDS)).isTrue();
+    assertThat(droppedHandlerRun).isFalse();
+  }
+
+  private static void awaitUninterruptibly(final CountDownLatch latch) {
+    try {
+      latch.await();
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -196,6 +196,25 @@ class EventChannelTest {
     inOrder.verifyNoMoreInteractions();
   }
 
+  @Test
+  @SuppressWarnings("rawtypes")
+  public void shouldReportEventsWaitingInAsyncQueues() throws Exception {
+    final ExecutorService executor = mock(ExecutorService.class);
+    final EventChannel<EventWithArgument> channel =
+        EventChannel.createAsync(EventWithArgument.class, executor, metricsSystem);
+    channel.subscribe(mock(EventWithArgument.class));
+    assertThat(channel.getQueueDepth()).isZero();
+
+    channel.getPublisher().method1("Event1");
+    channel.getPublisher().method2("Event2");
+    assertThat(channel.getQueueDepth()).isEqualTo(2);
+
+    final ArgumentCaptor<QueueReader> consumerCaptor = ArgumentCaptor.forClass(QueueReader.class);
+    verify(executor).execute(consumerCaptor.capture());
+    consumerCaptor.getValue().deliverNextEvent();
+    assertThat(channel.getQueueDepth()).isEqualTo(1);
+  }
+
   @Test
   public void shouldDeliverAsyncEventsOnMultipleThreads() throws Exception {
     executor =
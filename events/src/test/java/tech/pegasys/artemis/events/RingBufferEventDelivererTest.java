@@ -0,0 +1,217 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.artemis.events;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import tech.pegasys.artemis.events.RingBufferEventDeliverer.RingConsumer;
+import tech.pegasys.artemis.util.async.SafeFuture;
+
+class RingBufferEventDelivererTest {
+  private final MetricsSystem metricsSystem = new NoOpMetricsSystem();
+  private final ChannelExceptionHandler exceptionHandler = mock(ChannelExceptionHandler.class);
+  private final ExecutorService mockExecutor = mock(ExecutorService.class);
+  private ExecutorService executor;
+
+  @AfterEach
+  public void tearDown() {
+    if (executor != null) {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void shouldDeliverEventsInOrder() {
+    final EventChannel<EventWithArgument> channel = createChannel(4, OverflowPolicy.BLOCK);
+    final EventWithArgument subscriber = mock(EventWithArgument.class);
+    channel.subscribe(subscriber);
+
+    channel.getPublisher().method1("Event1");
+    channel.getPublisher().method2("Event2");
+    channel.getPublisher().method1("Event3");
+    verifyNoInteractions(subscriber);
+    assertThat(channel.getQueueDepth()).isEqualTo(3);
+
+    assertThat(getConsumer().deliverBatch()).isEqualTo(3);
+
+    final InOrder inOrder = inOrder(subscriber);
+    inOrder.verify(subscriber).method1("Event1");
+    inOrder.verify(subscriber).method2("Event2");
+    inOrder.verify(subscriber).method1("Event3");
+    inOrder.verifyNoMoreInteractions();
+    assertThat(channel.getQueueDepth()).isZero();
+  }
+
+  @Test
+  public void shouldDropNewestEventsWhenFull() {
+    final EventChannel<EventWithArgument> channel = createChannel(2, OverflowPolicy.DROP_NEWEST);
+    final EventWithArgument subscriber = mock(EventWithArgument.class);
+    channel.subscribe(subscriber);
+
+    channel.getPublisher().method1("Event1");
+    channel.getPublisher().method1("Event2");
+    channel.getPublisher().method1("Event3");
+    getConsumer().deliverBatch();
+
+    final InOrder inOrder = inOrder(subscriber);
+    inOrder.verify(subscriber).method1("Event1");
+    inOrder.verify(subscriber).method1("Event2");
+    inOrder.verifyNoMoreInteractions();
+  }
+
+  @Test
+  public void shouldDropOldestEventsWhenFull() {
+    final EventChannel<EventWithArgument> channel = createChannel(2, OverflowPolicy.DROP_OLDEST);
+    final EventWithArgument subscriber = mock(EventWithArgument.class);
+    channel.subscribe(subscriber);
+
+    channel.getPublisher().method1("Event1");
+    channel.getPublisher().method1("Event2");
+    channel.getPublisher().method1("Event3");
+    getConsumer().deliverBatch();
+
+    final InOrder inOrder = inOrder(subscriber);
+    inOrder.verify(subscriber).method1("Event2");
+    inOrder.verify(subscriber).method1("Event3");
+    inOrder.verifyNoMoreInteractions();
+  }
+
+  @Test
+  public void shouldFailFutureWhenEventIsDropped() {
+    final EventChannel<WithFuture> channel =
+        EventChannel.createRingBuffer(
+            WithFuture.class,
+            (subscriberName, numberOfThreads) -> mockExecutor,
+            2,
+            WaitStrategy.SLEEPING,
+            OverflowPolicy.DROP_NEWEST,
+            exceptionHandler,
+            metricsSystem);
+    channel.subscribe(() -> SafeFuture.completedFuture("Yay"));
+
+    final SafeFuture<String> result1 = channel.getPublisher().getFutureString();
+    final SafeFuture<String> result2 = channel.getPublisher().getFutureString();
+    final SafeFuture<String> result3 = channel.getPublisher().getFutureString();
+    assertThat(result3).isCompletedExceptionally();
+
+    getConsumer().deliverBatch();
+    assertThat(result1).isCompletedWithValue("Yay");
+    assertThat(result2).isCompletedWithValue("Yay");
+  }
+
+  @Test
+  public void shouldPassExceptionsToHandler() {
+    final EventChannel<EventWithArgument> channel = createChannel(4, OverflowPolicy.BLOCK);
+    final EventWithArgument subscriber = mock(EventWithArgument.class);
+    final RuntimeException error = new RuntimeException("Nope");
+    doThrow(error).when(subscriber).method1("Event1");
+    channel.subscribe(subscriber);
+
+    channel.getPublisher().method1("Event1");
+    channel.getPublisher().method2("Event2");
+    getConsumer().deliverBatch();
+
+    verify(exceptionHandler).handleException(eq(error), eq(subscriber), any(), any());
+    verify(subscriber).method2("Event2");
+  }
+
+  @Test
+  public void shouldDeliverEventsFromMultiplePublishers() throws Exception {
+    executor = Executors.newCachedThreadPool();
+    final int eventsPerPublisher = 10_000;
+    final int publisherCount = 4;
+    final CountDownLatch delivered = new CountDownLatch(eventsPerPublisher * publisherCount);
+    final AtomicInteger total = new AtomicInteger();
+    final EventChannel<EventWithArgument> channel =
+        EventChannel.createRingBuffer(
+            EventWithArgument.class,
+            (subscriberName, numberOfThreads) -> executor,
+            64,
+            WaitStrategy.YIELDING,
+            OverflowPolicy.BLOCK,
+            exceptionHandler,
+            metricsSystem);
+    channel.subscribe(
+        new EventWithArgument() {
+          @Override
+          public void method1(final String value) {
+            total.addAndGet(Integer.parseInt(value));
+            delivered.countDown();
+          }
+
+          @Override
+          public void method2(final String value) {}
+        });
+
+    for (int i = 0; i < publisherCount; i++) {
+      executor.execute(
+          () -> {
+            for (int j = 0; j < eventsPerPublisher; j++) {
+              channel.getPublisher().method1("1");
+            }
+          });
+    }
+
+    assertThat(delivered.await(30, TimeUnit.SECONDS)).isTrue();
+    assertThat(total.get()).isEqualTo(eventsPerPublisher * publisherCount);
+    channel.stop();
+  }
+
+  private EventChannel<EventWithArgument> createChannel(
+      final int bufferSize, final OverflowPolicy overflowPolicy) {
+    return EventChannel.createRingBuffer(
+        EventWithArgument.class,
+        (subscriberName, numberOfThreads) -> mockExecutor,
+        bufferSize,
+        WaitStrategy.SLEEPING,
+        overflowPolicy,
+        exceptionHandler,
+        metricsSystem);
+  }
+
+  @SuppressWarnings("rawtypes")
+  private RingConsumer getConsumer() {
+    final ArgumentCaptor<RingConsumer> consumerCaptor = ArgumentCaptor.forClass(RingConsumer.class);
+    verify(mockExecutor).execute(consumerCaptor.capture());
+    return consumerCaptor.getValue();
+  }
+
+  private interface EventWithArgument {
+    void method1(String value);
+
+    void method2(String value);
+  }
+
+  private interface WithFuture {
+    SafeFuture<String> getFutureString();
+  }
+}
@@ -17,6 +17,7 @@ import com.google.common.eventbus.EventBus;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Stream;
+import tech.pegasys.artemis.datastructures.util.RetainedSszEncodings;
 import tech.pegasys.artemis.networking.eth2.gossip.AggregateGossipManager;
 import tech.pegasys.artemis.networking.eth2.gossip.AttestationGossipManager;
 import tech.pegasys.artemis.networking.eth2.gossip.BlockGossipManager;
@@ -36,6 +37,7 @@ public class Eth2Network extends DelegatingP2PNetwork<Eth2Peer> implements P2PNe
   private final Eth2PeerManager peerManager;
   private final EventBus eventBus;
   private final ChainStorageClient chainStorageClient;
+  private final RetainedSszEncodings retainedSszEncodings;
   private final AtomicReference<State> state = new AtomicReference<>(State.IDLE);
 
   private BlockGossipManager blockGossipManager;
@@ -46,12 +48,14 @@ public class Eth2Network extends DelegatingP2PNetwork<Eth2Peer> implements P2PNe
       final P2PNetwork<?> network,
       final Eth2PeerManager peerManager,
       final EventBus eventBus,
-      final ChainStorageClient chainStorageClient) {
+      final ChainStorageClient chainStorageClient,
+      final RetainedSszEncodings retainedSszEncodings) {
     super(network);
     this.network = network;
     this.peerManager = peerManager;
     this.eventBus = eventBus;
     this.chainStorageClient = chainStorageClient;
+    this.retainedSszEncodings = retainedSszEncodings;
   }
 
   @Override
@@ -61,8 +65,10 @@ public class Eth2Network extends DelegatingP2PNetwork<Eth2Peer> implements P2PNe
 
   private void startup() {
     state.set(State.RUNNING);
-    blockGossipManager = new BlockGossipManager(network, eventBus, chainStorageClient);
-    attestationGossipManager = new AttestationGossipManager(network, eventBus, chainStorageClient);
+    blockGossipManager =
+        new BlockGossipManager(network, eventBus, chainStorageClient, retainedSszEncodings);
+    attestationGossipManager =
+        new AttestationGossipManager(network, eventBus, chainStorageClient, retainedSszEncodings);
     aggregateGossipManager = new AggregateGossipManager(network, eventBus, chainStorageClient);
   }
 
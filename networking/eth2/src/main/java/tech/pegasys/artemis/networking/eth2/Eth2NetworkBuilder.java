@@ -17,13 +17,18 @@ import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.base.Preconditions.checkState;
 
 import com.google.common.eventbus.EventBus;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
+import tech.pegasys.artemis.datastructures.util.RetainedSszEncodings;
 import tech.pegasys.artemis.networking.eth2.peers.Eth2Peer;
 import tech.pegasys.artemis.networking.eth2.peers.Eth2PeerManager;
 import tech.pegasys.artemis.networking.p2p.DiscoveryNetwork;
+import tech.pegasys.artemis.networking.p2p.connection.PeerCache;
+import tech.pegasys.artemis.networking.p2p.connection.PeerScorer;
 import tech.pegasys.artemis.networking.p2p.connection.ReputationManager;
 import tech.pegasys.artemis.networking.p2p.libp2p.LibP2PNetwork;
 import tech.pegasys.artemis.networking.p2p.network.NetworkConfig;
@@ -32,6 +37,7 @@ import tech.pegasys.artemis.networking.p2p.network.PeerHandler;
 import tech.pegasys.artemis.networking.p2p.rpc.RpcMethod;
 import tech.pegasys.artemis.storage.ChainStorageClient;
 import tech.pegasys.artemis.storage.HistoricalChainData;
+import tech.pegasys.artemis.util.async.AsyncRunner;
 import tech.pegasys.artemis.util.config.Constants;
 import tech.pegasys.artemis.util.time.TimeProvider;
 
@@ -44,6 +50,9 @@ public class Eth2NetworkBuilder {
   private List<RpcMethod> rpcMethods = new ArrayList<>();
   private List<PeerHandler> peerHandlers = new ArrayList<>();
   private TimeProvider timeProvider;
+  private AsyncRunner asyncRunner;
+  private Optional<Path> peerCacheFile = Optional.empty();
+  private RetainedSszEncodings retainedSszEncodings;
 
   private Eth2NetworkBuilder() {}
 
@@ -57,23 +66,37 @@ public class Eth2NetworkBuilder {
     // Setup eth2 handlers
     final HistoricalChainData historicalChainData = new HistoricalChainData(eventBus);
     final Eth2PeerManager eth2PeerManager =
-        Eth2PeerManager.create(chainStorageClient, historicalChainData, metricsSystem);
+        Eth2PeerManager.create(
+            asyncRunner,
+            chainStorageClient,
+            historicalChainData,
+            metricsSystem,
+            retainedSszEncodings);
     final Collection<RpcMethod> eth2RpcMethods = eth2PeerManager.getBeaconChainMethods().all();
     rpcMethods.addAll(eth2RpcMethods);
     peerHandlers.add(eth2PeerManager);
 
     // Build core network and inject eth2 handlers
-    final P2PNetwork<?> network = buildNetwork();
+    final P2PNetwork<?> network = buildNetwork(eth2PeerManager);
 
-    return new Eth2Network(network, eth2PeerManager, eventBus, chainStorageClient);
+    return new Eth2Network(
+        network, eth2PeerManager, eventBus, chainStorageClient, retainedSszEncodings);
   }
 
-  protected P2PNetwork<?> buildNetwork() {
+  protected P2PNetwork<?> buildNetwork(final PeerScorer peerScorer) {
     final ReputationManager reputationManager =
         new ReputationManager(timeProvider, Constants.REPUTATION_MANAGER_CAPACITY);
+    final PeerCache peerCache =
+        peerCacheFile
+            .map(file -> PeerCache.load(timeProvider, file))
+            .orElseGet(() -> PeerCache.inMemory(timeProvider));
     return DiscoveryNetwork.create(
-        new LibP2PNetwork(config, reputationManager, metricsSystem, rpcMethods, peerHandlers),
+        new LibP2PNetwork(
+            config, reputationManager, metricsSystem, asyncRunner, rpcMethods, peerHandlers),
         reputationManager,
+        peerScorer,
+        peerCache,
+        asyncRunner,
         config);
   }
 
@@ -83,6 +106,8 @@ public class Eth2NetworkBuilder {
     assertNotNull("metricsSystem", metricsSystem);
     assertNotNull("chainStorageClient", chainStorageClient);
     assertNotNull("timeProvider", timeProvider);
+    assertNotNull("asyncRunner", asyncRunner);
+    assertNotNull("retainedSszEncodings", retainedSszEncodings);
   }
 
   private void assertNotNull(String fieldName, Object fieldValue) {
@@ -118,6 +143,25 @@ public class Eth2NetworkBuilder {
     return this;
   }
 
+  public Eth2NetworkBuilder asyncRunner(final AsyncRunner asyncRunner) {
+    checkNotNull(asyncRunner);
+    this.asyncRunner = asyncRunner;
+    return this;
+  }
+
+  public Eth2NetworkBuilder retainedSszEncodings(
+      final RetainedSszEncodings retainedSszEncodings) {
+    checkNotNull(retainedSszEncodings);
+    this.retainedSszEncodings = retainedSszEncodings;
+    return this;
+  }
+
+  public Eth2NetworkBuilder peerCacheFile(final Path peerCacheFile) {
+    checkNotNull(peerCacheFile);
+    this.peerCacheFile = Optional.of(peerCacheFile);
+    return this;
+  }
+
   public Eth2NetworkBuilder rpcMethod(final RpcMethod rpcMethod) {
     checkNotNull(rpcMethod);
     rpcMethods.add(rpcMethod);
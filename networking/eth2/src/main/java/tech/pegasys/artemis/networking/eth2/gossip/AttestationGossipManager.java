@@ -25,7 +25,7 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.tuweni.bytes.Bytes;
 import tech.pegasys.artemis.datastructures.operations.Attestation;
-import tech.pegasys.artemis.datastructures.util.SimpleOffsetSerializer;
+import tech.pegasys.artemis.datastructures.util.RetainedSszEncodings;
 import tech.pegasys.artemis.networking.eth2.gossip.topics.AttestationTopicHandler;
 import tech.pegasys.artemis.networking.p2p.gossip.GossipNetwork;
 import tech.pegasys.artemis.networking.p2p.gossip.TopicChannel;
@@ -39,6 +39,7 @@ public class AttestationGossipManager {
   private final GossipNetwork gossipNetwork;
   private final EventBus eventBus;
   private final ChainStorageClient chainStorageClient;
+  private final RetainedSszEncodings retainedSszEncodings;
 
   private final Map<Integer, TopicChannel> attestationChannels = new ConcurrentHashMap<>();
   private final AtomicBoolean shutdown = new AtomicBoolean(false);
@@ -46,10 +47,12 @@ public class AttestationGossipManager {
   public AttestationGossipManager(
       final GossipNetwork gossipNetwork,
       final EventBus eventBus,
-      final ChainStorageClient chainStorageClient) {
+      final ChainStorageClient chainStorageClient,
+      final RetainedSszEncodings retainedSszEncodings) {
     this.gossipNetwork = gossipNetwork;
     this.eventBus = eventBus;
     this.chainStorageClient = chainStorageClient;
+    this.retainedSszEncodings = retainedSszEncodings;
     eventBus.register(this);
   }
 
@@ -64,7 +67,7 @@ public class AttestationGossipManager {
           committeeIndex);
       return;
     }
-    final Bytes data = SimpleOffsetSerializer.serialize(attestation);
+    final Bytes data = retainedSszEncodings.serialize(attestation);
     channel.gossip(data);
   }
 
@@ -91,7 +94,8 @@ public class AttestationGossipManager {
 
   private TopicChannel createChannelForCommitteeIndex(final int committeeIndex) {
     final AttestationTopicHandler topicHandler =
-        new AttestationTopicHandler(eventBus, chainStorageClient, committeeIndex);
+        new AttestationTopicHandler(
+            eventBus, chainStorageClient, committeeIndex, retainedSszEncodings);
     return gossipNetwork.subscribe(topicHandler.getTopic(), topicHandler);
   }
 
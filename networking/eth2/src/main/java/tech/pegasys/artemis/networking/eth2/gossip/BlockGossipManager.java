@@ -17,7 +17,8 @@ import com.google.common.eventbus.EventBus;
 import com.google.common.eventbus.Subscribe;
 import java.util.concurrent.atomic.AtomicBoolean;
 import org.apache.tuweni.bytes.Bytes;
-import tech.pegasys.artemis.datastructures.util.SimpleOffsetSerializer;
+import tech.pegasys.artemis.datastructures.blocks.SignedBeaconBlock;
+import tech.pegasys.artemis.datastructures.util.RetainedSszEncodings;
 import tech.pegasys.artemis.networking.eth2.gossip.topics.BlockTopicHandler;
 import tech.pegasys.artemis.networking.p2p.gossip.GossipNetwork;
 import tech.pegasys.artemis.networking.p2p.gossip.TopicChannel;
@@ -27,14 +28,18 @@ import tech.pegasys.artemis.storage.ChainStorageClient;
 public class BlockGossipManager {
   private final EventBus eventBus;
   private final TopicChannel channel;
+  private final RetainedSszEncodings retainedSszEncodings;
   private final AtomicBoolean shutdown = new AtomicBoolean(false);
 
   public BlockGossipManager(
       final GossipNetwork gossipNetwork,
       final EventBus eventBus,
-      final ChainStorageClient chainStorageClient) {
-    final BlockTopicHandler topicHandler = new BlockTopicHandler(eventBus, chainStorageClient);
+      final ChainStorageClient chainStorageClient,
+      final RetainedSszEncodings retainedSszEncodings) {
+    final BlockTopicHandler topicHandler =
+        new BlockTopicHandler(eventBus, chainStorageClient, retainedSszEncodings);
     this.eventBus = eventBus;
+    this.retainedSszEncodings = retainedSszEncodings;
     channel = gossipNetwork.subscribe(topicHandler.getTopic(), topicHandler);
     eventBus.register(this);
   }
@@ -42,7 +47,10 @@ public class BlockGossipManager {
   @Subscribe
   @SuppressWarnings("unused")
   void onBlockProposed(final ProposedBlockEvent blockProposedEvent) {
-    final Bytes data = SimpleOffsetSerializer.serialize(blockProposedEvent.getBlock());
+    final SignedBeaconBlock block = blockProposedEvent.getBlock();
+    final Bytes data = retainedSszEncodings.serialize(block);
+    // Proposed blocks are never modified so the encoding can be reused when the block is stored
+    retainedSszEncodings.retain(block, data);
     channel.gossip(data);
   }
 
@@ -24,7 +24,7 @@ import org.apache.tuweni.ssz.SSZException;
 import tech.pegasys.artemis.datastructures.operations.Attestation;
 import tech.pegasys.artemis.datastructures.operations.IndexedAttestation;
 import tech.pegasys.artemis.datastructures.state.BeaconState;
-import tech.pegasys.artemis.datastructures.util.SimpleOffsetSerializer;
+import tech.pegasys.artemis.datastructures.util.RetainedSszEncodings;
 import tech.pegasys.artemis.storage.ChainStorageClient;
 
 public class AttestationTopicHandler extends Eth2TopicHandler<Attestation> {
@@ -32,14 +32,17 @@ public class AttestationTopicHandler extends Eth2TopicHandler<Attestation> {
   private static final Logger LOG = LogManager.getLogger();
   private final String attestationsTopic;
   private final ChainStorageClient chainStorageClient;
+  private final RetainedSszEncodings retainedSszEncodings;
 
   public AttestationTopicHandler(
       final EventBus eventBus,
       final ChainStorageClient chainStorageClient,
-      final int committeeIndex) {
+      final int committeeIndex,
+      final RetainedSszEncodings retainedSszEncodings) {
     super(eventBus);
     this.attestationsTopic = getTopic(committeeIndex);
     this.chainStorageClient = chainStorageClient;
+    this.retainedSszEncodings = retainedSszEncodings;
   }
 
   private static String getTopic(final int committeeIndex) {
@@ -53,7 +56,7 @@ public class AttestationTopicHandler extends Eth2TopicHandler<Attestation> {
 
   @Override
   protected Attestation deserialize(final Bytes bytes) throws SSZException {
-    return SimpleOffsetSerializer.deserialize(bytes, Attestation.class);
+    return retainedSszEncodings.deserialize(bytes, Attestation.class);
   }
 
   @Override
@@ -29,7 +29,7 @@ import tech.pegasys.artemis.datastructures.blocks.SignedBeaconBlock;
 import tech.pegasys.artemis.datastructures.state.BeaconState;
 import tech.pegasys.artemis.datastructures.state.MutableBeaconState;
 import tech.pegasys.artemis.datastructures.state.Validator;
-import tech.pegasys.artemis.datastructures.util.SimpleOffsetSerializer;
+import tech.pegasys.artemis.datastructures.util.RetainedSszEncodings;
 import tech.pegasys.artemis.networking.eth2.gossip.events.GossipedBlockEvent;
 import tech.pegasys.artemis.statetransition.StateTransition;
 import tech.pegasys.artemis.statetransition.util.EpochProcessingException;
@@ -43,11 +43,16 @@ public class BlockTopicHandler extends Eth2TopicHandler<SignedBeaconBlock> {
   private static final Logger LOG = LogManager.getLogger();
   private final ChainStorageClient chainStorageClient;
   private final EventBus eventBus;
+  private final RetainedSszEncodings retainedSszEncodings;
 
-  public BlockTopicHandler(final EventBus eventBus, final ChainStorageClient chainStorageClient) {
+  public BlockTopicHandler(
+      final EventBus eventBus,
+      final ChainStorageClient chainStorageClient,
+      final RetainedSszEncodings retainedSszEncodings) {
     super(eventBus);
     this.eventBus = eventBus;
     this.chainStorageClient = chainStorageClient;
+    this.retainedSszEncodings = retainedSszEncodings;
   }
 
   @Override
@@ -62,7 +67,7 @@ public class BlockTopicHandler extends Eth2TopicHandler<SignedBeaconBlock> {
 
   @Override
   protected SignedBeaconBlock deserialize(final Bytes bytes) throws SSZException {
-    return SimpleOffsetSerializer.deserialize(bytes, SignedBeaconBlock.class);
+    return retainedSszEncodings.deserialize(bytes, SignedBeaconBlock.class);
   }
 
   @Override
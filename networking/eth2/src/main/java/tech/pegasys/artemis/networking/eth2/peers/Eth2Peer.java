@@ -14,6 +14,7 @@
 package tech.pegasys.artemis.networking.eth2.peers;
 
 import com.google.common.base.MoreObjects;
+import com.google.common.base.Throwables;
 import com.google.common.primitives.UnsignedLong;
 import java.util.List;
 import java.util.Objects;
@@ -32,11 +33,14 @@ import tech.pegasys.artemis.networking.eth2.rpc.beaconchain.BeaconChainMethods;
 import tech.pegasys.artemis.networking.eth2.rpc.beaconchain.methods.StatusMessageFactory;
 import tech.pegasys.artemis.networking.eth2.rpc.core.Eth2OutgoingRequestHandler;
 import tech.pegasys.artemis.networking.eth2.rpc.core.Eth2RpcMethod;
+import tech.pegasys.artemis.networking.eth2.rpc.core.InvalidResponseException;
 import tech.pegasys.artemis.networking.eth2.rpc.core.ResponseStream;
 import tech.pegasys.artemis.networking.eth2.rpc.core.ResponseStream.ResponseListener;
 import tech.pegasys.artemis.networking.eth2.rpc.core.ResponseStreamImpl;
+import tech.pegasys.artemis.networking.eth2.rpc.core.RpcException;
 import tech.pegasys.artemis.networking.p2p.peer.DelegatingPeer;
 import tech.pegasys.artemis.networking.p2p.peer.Peer;
+import tech.pegasys.artemis.networking.p2p.rpc.StreamTimeoutException;
 import tech.pegasys.artemis.util.async.SafeFuture;
 
 public class Eth2Peer extends DelegatingPeer implements Peer {
@@ -46,6 +50,7 @@ public class Eth2Peer extends DelegatingPeer implements Peer {
   private final SafeFuture<PeerStatus> initialStatus = new SafeFuture<>();
   private AtomicBoolean chainValidated = new AtomicBoolean(false);
   private AtomicInteger outstandingRequests = new AtomicInteger(0);
+  private final PeerPerformance performance = new PeerPerformance();
 
   public Eth2Peer(
       final Peer peer,
@@ -77,6 +82,14 @@ public class Eth2Peer extends DelegatingPeer implements Peer {
     return outstandingRequests.get();
   }
 
+  public PeerPerformance getPerformance() {
+    return performance;
+  }
+
+  public double getPerformanceScore() {
+    return performance.getScore();
+  }
+
   public boolean hasStatus() {
     return remoteStatus.isPresent();
   }
@@ -173,10 +186,33 @@ public class Eth2Peer extends DelegatingPeer implements Peer {
               final ResponseStreamImpl<O> stream = handler.getResponseStream();
               outstandingRequests.incrementAndGet();
               stream.subscribeCompleted((__) -> outstandingRequests.decrementAndGet());
+              recordPerformance(stream);
               return stream;
             });
   }
 
+  private void recordPerformance(final ResponseStreamImpl<?> stream) {
+    stream.subscribeCompleted(
+        successful -> {
+          if (successful) {
+            performance.recordSuccessfulRequest(
+                stream.getTimeToFirstResponse().orElse(null),
+                stream.getElapsedTime(),
+                stream.getResponseChunkCount());
+          }
+        });
+    stream.subscribeError(
+        error -> {
+          final Throwable rootCause = Throwables.getRootCause(error);
+          if (rootCause instanceof StreamTimeoutException) {
+            performance.recordTimeout();
+          } else if (rootCause instanceof RpcException
+              || rootCause instanceof InvalidResponseException) {
+            performance.recordInvalidResponse();
+          }
+        });
+  }
+
   @Override
   public boolean equals(final Object o) {
     if (o == this) {
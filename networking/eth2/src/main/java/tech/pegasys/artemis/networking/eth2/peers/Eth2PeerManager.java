@@ -22,8 +22,10 @@ import org.apache.logging.log4j.Logger;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
 import org.jetbrains.annotations.NotNull;
 import tech.pegasys.artemis.datastructures.networking.libp2p.rpc.GoodbyeMessage;
+import tech.pegasys.artemis.datastructures.util.RetainedSszEncodings;
 import tech.pegasys.artemis.networking.eth2.rpc.beaconchain.BeaconChainMethods;
 import tech.pegasys.artemis.networking.eth2.rpc.beaconchain.methods.StatusMessageFactory;
+import tech.pegasys.artemis.networking.p2p.connection.PeerScorer;
 import tech.pegasys.artemis.networking.p2p.network.PeerHandler;
 import tech.pegasys.artemis.networking.p2p.peer.DisconnectRequestHandler.DisconnectReason;
 import tech.pegasys.artemis.networking.p2p.peer.NodeId;
@@ -32,10 +34,10 @@ import tech.pegasys.artemis.networking.p2p.peer.PeerConnectedSubscriber;
 import tech.pegasys.artemis.storage.ChainStorageClient;
 import tech.pegasys.artemis.storage.CombinedChainDataClient;
 import tech.pegasys.artemis.storage.HistoricalChainData;
-import tech.pegasys.artemis.util.async.DelayedExecutorAsyncRunner;
+import tech.pegasys.artemis.util.async.AsyncRunner;
 import tech.pegasys.artemis.util.events.Subscribers;
 
-public class Eth2PeerManager implements PeerLookup, PeerHandler {
+public class Eth2PeerManager implements PeerLookup, PeerHandler, PeerScorer {
   private static final Logger LOG = LogManager.getLogger();
   private final StatusMessageFactory statusMessageFactory;
 
@@ -47,34 +49,41 @@ public class Eth2PeerManager implements PeerLookup, PeerHandler {
   private final PeerValidatorFactory peerValidatorFactory;
 
   Eth2PeerManager(
+      final AsyncRunner asyncRunner,
       final CombinedChainDataClient combinedChainDataClient,
       final ChainStorageClient storageClient,
       final MetricsSystem metricsSystem,
-      final PeerValidatorFactory peerValidatorFactory) {
+      final PeerValidatorFactory peerValidatorFactory,
+      final RetainedSszEncodings retainedSszEncodings) {
     this.statusMessageFactory = new StatusMessageFactory(storageClient);
     this.peerValidatorFactory = peerValidatorFactory;
     this.rpcMethods =
         BeaconChainMethods.create(
-            DelayedExecutorAsyncRunner.create(),
+            asyncRunner,
             this,
             combinedChainDataClient,
             storageClient,
             metricsSystem,
-            statusMessageFactory);
+            statusMessageFactory,
+            retainedSszEncodings);
   }
 
   public static Eth2PeerManager create(
+      final AsyncRunner asyncRunner,
       final ChainStorageClient storageClient,
       final HistoricalChainData historicalChainData,
-      final MetricsSystem metricsSystem) {
+      final MetricsSystem metricsSystem,
+      final RetainedSszEncodings retainedSszEncodings) {
     final PeerValidatorFactory peerValidatorFactory =
         (peer, status) ->
             PeerChainValidator.create(storageClient, historicalChainData, peer, status);
     return new Eth2PeerManager(
+        asyncRunner,
         new CombinedChainDataClient(storageClient, historicalChainData),
         storageClient,
         metricsSystem,
-        peerValidatorFactory);
+        peerValidatorFactory,
+        retainedSszEncodings);
   }
 
   @Override
@@ -112,6 +121,8 @@ public class Eth2PeerManager implements PeerLookup, PeerHandler {
     switch (reason) {
       case TOO_MANY_PEERS:
         return GoodbyeMessage.REASON_TOO_MANY_PEERS;
+      case POOR_PERFORMANCE:
+        return GoodbyeMessage.REASON_POOR_PERFORMANCE;
       case SHUTTING_DOWN:
         return GoodbyeMessage.REASON_CLIENT_SHUT_DOWN;
       case REMOTE_FAULT:
@@ -169,6 +180,20 @@ public class Eth2PeerManager implements PeerLookup, PeerHandler {
     return connectedPeerMap.values().stream().filter(this::peerIsReady);
   }
 
+  @Override
+  public double getScore(final NodeId peerId) {
+    return Optional.ofNullable(connectedPeerMap.get(peerId))
+        .map(Eth2Peer::getPerformanceScore)
+        .orElse(PeerPerformance.UNKNOWN_PEER_SCORE);
+  }
+
+  @Override
+  public boolean isPerformingPoorly(final NodeId peerId) {
+    return Optional.ofNullable(connectedPeerMap.get(peerId))
+        .map(peer -> peer.getPerformance().isPerformingPoorly())
+        .orElse(false);
+  }
+
   private boolean peerIsReady(Eth2Peer peer) {
     return peer.isChainValidated();
   }
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.artemis.networking.eth2.peers;
+
+import com.google.common.base.MoreObjects;
+import java.time.Duration;
+
+/**
+ * Tracks how quickly and reliably a peer responds to our RPC requests.
+ *
+ * <p>Each measurement is folded into an exponentially weighted moving average so the score
+ * reflects recent behaviour and a peer can recover from a brief period of poor performance.
+ */
+public class PeerPerformance {
+  // Weight given to each new sample in the moving averages
+  private static final double SAMPLE_WEIGHT = 0.2;
+  // Response latency and throughput at which a peer scores half marks for that metric
+  private static final double REFERENCE_RESPONSE_MILLIS = 500;
+  private static final double REFERENCE_ITEMS_PER_SECOND = 20;
+  // Peers are only considered to be performing poorly once we have enough samples to be sure
+  static final int MIN_REQUESTS_FOR_POOR_PERFORMANCE = 10;
+  static final double POOR_PERFORMANCE_SCORE = 0.2;
+  static final double UNKNOWN_PEER_SCORE = 0.5;
+
+  private int requestCount = 0;
+  private double averageResponseMillis = REFERENCE_RESPONSE_MILLIS;
+  private double averageItemsPerSecond = REFERENCE_ITEMS_PER_SECOND;
+  private double timeoutRate = 0;
+  private double invalidResponseRate = 0;
+
+  /**
+   * Records a request that completed successfully.
+   *
+   * @param timeToFirstResponse the time between sending the request and the first response chunk
+   *     arriving, or null if no response chunks were received
+   * @param duration the time taken for the request to complete
+   * @param responseCount the number of response chunks received
+   */
+  public synchronized void recordSuccessfulRequest(
+      final Duration timeToFirstResponse, final Duration duration, final int responseCount) {
+    requestCount++;
+    if (timeToFirstResponse != null) {
+      averageResponseMillis = average(averageResponseMillis, timeToFirstResponse.toMillis());
+    }
+    // Single item responses say more about latency than throughput
+    if (responseCount > 1 && !duration.isZero()) {
+      final double itemsPerSecond = responseCount * 1000d / duration.toMillis();
+      averageItemsPerSecond = average(averageItemsPerSecond, itemsPerSecond);
+    }
+    timeoutRate = average(timeoutRate, 0);
+    invalidResponseRate = average(invalidResponseRate, 0);
+  }
+
+  public synchronized void recordTimeout() {
+    requestCount++;
+    timeoutRate = average(timeoutRate, 1);
+    invalidResponseRate = average(invalidResponseRate, 0);
+  }
+
+  public synchronized void recordInvalidResponse() {
+    requestCount++;
+    timeoutRate = average(timeoutRate, 0);
+    invalidResponseRate = average(invalidResponseRate, 1);
+  }
+
+  /**
+   * Returns a score between 0 and 1 where higher scores indicate a faster, more reliable peer.
+   * Peers we haven't made any requests to yet are given an average score so they get a chance to
+   * prove themselves.
+   *
+   * @return the score for this peer
+   */
+  public synchronized double getScore() {
+    if (requestCount == 0) {
+      return UNKNOWN_PEER_SCORE;
+    }
+    final double latencyScore =
+        REFERENCE_RESPONSE_MILLIS / (REFERENCE_RESPONSE_MILLIS + averageResponseMillis);
+    final double throughputScore =
+        averageItemsPerSecond / (averageItemsPerSecond + REFERENCE_ITEMS_PER_SECOND);
+    final double reliability = (1 - timeoutRate) * (1 - invalidResponseRate);
+    return reliability * (latencyScore + throughputScore) / 2;
+  }
+
+  public synchronized boolean isPerformingPoorly() {
+    return requestCount >= MIN_REQUESTS_FOR_POOR_PERFORMANCE && getScore() < POOR_PERFORMANCE_SCORE;
+  }
+
+  private static double average(final double currentAverage, final double sample) {
+    return currentAverage + SAMPLE_WEIGHT * (sample - currentAverage);
+  }
+
+  @Override
+  public synchronized String toString() {
+    return MoreObjects.toStringHelper(this)
+        .add("requestCount", requestCount)
+        .add("averageResponseMillis", averageResponseMillis)
+        .add("averageItemsPerSecond", averageItemsPerSecond)
+        .add("timeoutRate", timeoutRate)
+        .add("invalidResponseRate", invalidResponseRate)
+        .toString();
+  }
+}
@@ -16,12 +16,14 @@ package tech.pegasys.artemis.networking.eth2.rpc.beaconchain;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
 import tech.pegasys.artemis.datastructures.blocks.SignedBeaconBlock;
 import tech.pegasys.artemis.datastructures.networking.libp2p.rpc.BeaconBlocksByRangeRequestMessage;
 import tech.pegasys.artemis.datastructures.networking.libp2p.rpc.BeaconBlocksByRootRequestMessage;
 import tech.pegasys.artemis.datastructures.networking.libp2p.rpc.GoodbyeMessage;
 import tech.pegasys.artemis.datastructures.networking.libp2p.rpc.StatusMessage;
+import tech.pegasys.artemis.datastructures.util.RetainedSszEncodings;
 import tech.pegasys.artemis.networking.eth2.peers.PeerLookup;
 import tech.pegasys.artemis.networking.eth2.rpc.beaconchain.methods.BeaconBlocksByRangeMessageHandler;
 import tech.pegasys.artemis.networking.eth2.rpc.beaconchain.methods.BeaconBlocksByRootMessageHandler;
@@ -29,11 +31,13 @@ import tech.pegasys.artemis.networking.eth2.rpc.beaconchain.methods.GoodbyeMessa
 import tech.pegasys.artemis.networking.eth2.rpc.beaconchain.methods.StatusMessageFactory;
 import tech.pegasys.artemis.networking.eth2.rpc.beaconchain.methods.StatusMessageHandler;
 import tech.pegasys.artemis.networking.eth2.rpc.core.Eth2RpcMethod;
+import tech.pegasys.artemis.networking.eth2.rpc.core.RpcRequestLimiter;
 import tech.pegasys.artemis.networking.eth2.rpc.core.encodings.RpcEncoding;
 import tech.pegasys.artemis.networking.p2p.rpc.RpcMethod;
 import tech.pegasys.artemis.storage.ChainStorageClient;
 import tech.pegasys.artemis.storage.CombinedChainDataClient;
 import tech.pegasys.artemis.util.async.AsyncRunner;
+import tech.pegasys.artemis.util.time.SystemTimeProvider;
 
 public class BeaconChainMethods {
   private static final String STATUS = "/eth2/beacon_chain/req/status/1";
@@ -71,81 +75,98 @@ public class BeaconChainMethods {
       final CombinedChainDataClient combinedChainDataClient,
       final ChainStorageClient chainStorageClient,
       final MetricsSystem metricsSystem,
-      final StatusMessageFactory statusMessageFactory) {
+      final StatusMessageFactory statusMessageFactory,
+      final RetainedSszEncodings retainedSszEncodings) {
+    final RpcEncoding encoding = RpcEncoding.createSsz(retainedSszEncodings);
+    // Block requests share a single serving budget
+    final RpcRequestLimiter blockRequestLimiter =
+        new RpcRequestLimiter(metricsSystem, new SystemTimeProvider());
     return new BeaconChainMethods(
-        createStatus(asyncRunner, statusMessageFactory, peerLookup),
-        createGoodBye(asyncRunner, metricsSystem, peerLookup),
-        createBeaconBlocksByRoot(asyncRunner, chainStorageClient, peerLookup),
-        createBeaconBlocksByRange(asyncRunner, combinedChainDataClient, peerLookup));
+        createStatus(asyncRunner, encoding, statusMessageFactory, peerLookup),
+        createGoodBye(asyncRunner, encoding, metricsSystem, peerLookup),
+        createBeaconBlocksByRoot(
+            asyncRunner, encoding, chainStorageClient, peerLookup, blockRequestLimiter),
+        createBeaconBlocksByRange(
+            asyncRunner, encoding, combinedChainDataClient, peerLookup, blockRequestLimiter));
   }
 
   private static Eth2RpcMethod<StatusMessage, StatusMessage> createStatus(
       final AsyncRunner asyncRunner,
+      final RpcEncoding encoding,
       final StatusMessageFactory statusMessageFactory,
       final PeerLookup peerLookup) {
     final StatusMessageHandler statusHandler = new StatusMessageHandler(statusMessageFactory);
     return new Eth2RpcMethod<>(
         asyncRunner,
         STATUS,
-        RpcEncoding.SSZ,
+        encoding,
         StatusMessage.class,
         StatusMessage.class,
         true,
         statusHandler,
-        peerLookup);
+        peerLookup,
+        Optional.empty());
   }
 
   private static Eth2RpcMethod<GoodbyeMessage, GoodbyeMessage> createGoodBye(
       final AsyncRunner asyncRunner,
+      final RpcEncoding encoding,
       final MetricsSystem metricsSystem,
       final PeerLookup peerLookup) {
     final GoodbyeMessageHandler goodbyeHandler = new GoodbyeMessageHandler(metricsSystem);
     return new Eth2RpcMethod<>(
         asyncRunner,
         GOODBYE,
-        RpcEncoding.SSZ,
+        encoding,
         GoodbyeMessage.class,
         GoodbyeMessage.class,
         false,
         goodbyeHandler,
-        peerLookup);
+        peerLookup,
+        Optional.empty());
   }
 
   private static Eth2RpcMethod<BeaconBlocksByRootRequestMessage, SignedBeaconBlock>
       createBeaconBlocksByRoot(
           final AsyncRunner asyncRunner,
+          final RpcEncoding encoding,
           final ChainStorageClient chainStorageClient,
-          final PeerLookup peerLookup) {
+          final PeerLookup peerLookup,
+          final RpcRequestLimiter requestLimiter) {
     final BeaconBlocksByRootMessageHandler beaconBlocksByRootHandler =
         new BeaconBlocksByRootMessageHandler(chainStorageClient);
     return new Eth2RpcMethod<>(
         asyncRunner,
         BEACON_BLOCKS_BY_ROOT,
-        RpcEncoding.SSZ,
+        encoding,
         BeaconBlocksByRootRequestMessage.class,
         SignedBeaconBlock.class,
         true,
         beaconBlocksByRootHandler,
-        peerLookup);
+        peerLookup,
+        Optional.of(requestLimiter));
   }
 
   private static Eth2RpcMethod<BeaconBlocksByRangeRequestMessage, SignedBeaconBlock>
       createBeaconBlocksByRange(
           final AsyncRunner asyncRunner,
+          final RpcEncoding encoding,
           final CombinedChainDataClient combinedChainDataClient,
-          final PeerLookup peerLookup) {
+          final PeerLookup peerLookup,
+          final RpcRequestLimiter requestLimiter) {
 
     final BeaconBlocksByRangeMessageHandler beaconBlocksByRangeHandler =
         new BeaconBlocksByRangeMessageHandler(combinedChainDataClient);
     return new Eth2RpcMethod<>(
         asyncRunner,
         BEACON_BLOCKS_BY_RANGE,
-        RpcEncoding.SSZ,
+        encoding,
         BeaconBlocksByRangeRequestMessage.class,
         SignedBeaconBlock.class,
         true,
         beaconBlocksByRangeHandler,
-        peerLookup);
+        peerLookup,
+        Optional.of(requestLimiter));
   }
 
   public Collection<RpcMethod> all() {
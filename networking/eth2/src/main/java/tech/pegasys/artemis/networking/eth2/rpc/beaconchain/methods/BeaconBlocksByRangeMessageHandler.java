@@ -19,6 +19,9 @@ import static tech.pegasys.artemis.util.async.SafeFuture.completedFuture;
 
 import com.google.common.base.Throwables;
 import com.google.common.primitives.UnsignedLong;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
 import org.apache.logging.log4j.LogManager;
 import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.artemis.datastructures.blocks.SignedBeaconBlock;
@@ -33,6 +36,7 @@ import tech.pegasys.artemis.util.async.SafeFuture;
 public class BeaconBlocksByRangeMessageHandler
     implements LocalMessageHandler<BeaconBlocksByRangeRequestMessage, SignedBeaconBlock> {
   private static final org.apache.logging.log4j.Logger LOG = LogManager.getLogger();
+  private static final int MAX_FINALIZED_BLOCKS_PER_BATCH = 64;
 
   private final CombinedChainDataClient storageClient;
 
@@ -81,6 +85,9 @@ public class BeaconBlocksByRangeMessageHandler
   }
 
   private SafeFuture<RequestState> sendNextBlock(final RequestState requestState) {
+    if (storageClient.isHistoricalData(requestState.currentSlot)) {
+      return sendFinalizedBlocks(requestState);
+    }
     return storageClient
         .getBlockAtSlotExact(requestState.currentSlot, requestState.headBlockRoot)
         .thenCompose(
@@ -94,6 +101,42 @@ public class BeaconBlocksByRangeMessageHandler
             });
   }
 
+  /**
+   * Sends a batch of finalized blocks loaded with a single range read from historical storage
+   * rather than looking each slot up individually.
+   *
+   * <p>The batch ends at the last slot finalized when the read is made. Slots finalized while the
+   * read is in progress aren't covered by it, so they are left for {@link #sendNextBlock} rather
+   * than being treated as empty.
+   */
+  private SafeFuture<RequestState> sendFinalizedBlocks(final RequestState requestState) {
+    int batchSize = requestState.getBatchSize(MAX_FINALIZED_BLOCKS_PER_BATCH);
+    while (batchSize > 1
+        && !storageClient.isHistoricalData(requestState.getBatchEndSlot(batchSize))) {
+      batchSize--;
+    }
+    final int finalizedBatchSize = batchSize;
+    return storageClient
+        .getFinalizedBlocksInRange(
+            requestState.currentSlot,
+            requestState.getBatchEndSlot(finalizedBatchSize),
+            requestState.step)
+        .thenCompose(
+            blocks -> {
+              final Map<UnsignedLong, SignedBeaconBlock> blocksBySlot =
+                  blocks.stream().collect(Collectors.toMap(SignedBeaconBlock::getSlot, b -> b));
+              for (int i = 0; i < finalizedBatchSize; i++) {
+                Optional.ofNullable(blocksBySlot.get(requestState.currentSlot))
+                    .ifPresent(requestState::sendBlock);
+                if (requestState.isComplete()) {
+                  return completedFuture(requestState);
+                }
+                requestState.incrementCurrentSlot();
+              }
+              return sendNextBlock(requestState);
+            });
+  }
+
   private static class RequestState {
     private final UnsignedLong headSlot;
     private final ResponseCallback<SignedBeaconBlock> callback;
@@ -128,6 +171,25 @@ public class BeaconBlocksByRangeMessageHandler
       return !needsMoreBlocks() || hasReachedHeadSlot();
     }
 
+    /**
+     * Returns the number of slots, starting from the current slot, which can be served together
+     * without passing the head slot or sending more blocks than requested.
+     */
+    int getBatchSize(final int maxBatchSize) {
+      if (hasReachedHeadSlot()) {
+        return 1;
+      }
+      UnsignedLong slotsAfterCurrent = headSlot.minus(currentSlot).dividedBy(step);
+      if (remainingBlocks.compareTo(slotsAfterCurrent) < 0) {
+        slotsAfterCurrent = remainingBlocks;
+      }
+      return (int) Math.min(slotsAfterCurrent.longValue(), maxBatchSize - 1) + 1;
+    }
+
+    UnsignedLong getBatchEndSlot(final int batchSize) {
+      return currentSlot.plus(step.times(UnsignedLong.valueOf(batchSize - 1)));
+    }
+
     void sendBlock(final SignedBeaconBlock block) {
       callback.respond(block);
     }
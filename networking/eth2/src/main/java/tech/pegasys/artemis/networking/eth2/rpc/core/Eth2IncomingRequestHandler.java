@@ -15,6 +15,7 @@ package tech.pegasys.artemis.networking.eth2.rpc.core;
 
 import io.netty.buffer.ByteBuf;
 import java.time.Duration;
+import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import org.apache.logging.log4j.LogManager;
@@ -22,6 +23,7 @@ import org.apache.logging.log4j.Logger;
 import tech.pegasys.artemis.datastructures.networking.libp2p.rpc.RpcRequest;
 import tech.pegasys.artemis.networking.eth2.peers.Eth2Peer;
 import tech.pegasys.artemis.networking.eth2.peers.PeerLookup;
+import tech.pegasys.artemis.networking.eth2.rpc.core.RpcRequestLimiter.RequestPermit;
 import tech.pegasys.artemis.networking.p2p.peer.NodeId;
 import tech.pegasys.artemis.networking.p2p.rpc.RpcRequestHandler;
 import tech.pegasys.artemis.networking.p2p.rpc.RpcStream;
@@ -34,10 +36,12 @@ public class Eth2IncomingRequestHandler<TRequest extends RpcRequest, TResponse>
   private final Eth2RpcMethod<TRequest, TResponse> method;
   private final PeerLookup peerLookup;
   private final LocalMessageHandler<TRequest, TResponse> localMessageHandler;
+  private final Optional<RpcRequestLimiter> requestLimiter;
   private final RpcEncoder rpcEncoder;
 
   private final RequestRpcDecoder<TRequest> requestReader;
   private ResponseCallback<TResponse> callback;
+  private Optional<RequestPermit> requestPermit = Optional.empty();
 
   private final AsyncRunner asyncRunner;
   private final AtomicBoolean requestReceived = new AtomicBoolean(false);
@@ -46,11 +50,13 @@ public class Eth2IncomingRequestHandler<TRequest extends RpcRequest, TResponse>
       final AsyncRunner asyncRunner,
       final Eth2RpcMethod<TRequest, TResponse> method,
       final PeerLookup peerLookup,
-      final LocalMessageHandler<TRequest, TResponse> localMessageHandler) {
+      final LocalMessageHandler<TRequest, TResponse> localMessageHandler,
+      final Optional<RpcRequestLimiter> requestLimiter) {
     this.asyncRunner = asyncRunner;
     this.method = method;
     this.peerLookup = peerLookup;
     this.localMessageHandler = localMessageHandler;
+    this.requestLimiter = requestLimiter;
     this.rpcEncoder = new RpcEncoder(method.getEncoding());
 
     requestReader = method.createRequestDecoder();
@@ -64,27 +70,31 @@ public class Eth2IncomingRequestHandler<TRequest extends RpcRequest, TResponse>
   @Override
   public void onData(final NodeId nodeId, final RpcStream rpcStream, final ByteBuf bytes) {
     final Eth2Peer peer = peerLookup.getConnectedPeer(nodeId);
-    if (callback == null) {
-      callback = new RpcResponseCallback<>(rpcStream, rpcEncoder);
-    }
     try {
       requestReader
           .onDataReceived(bytes)
-          .ifPresent(request -> handleRequest(peer, request, callback));
+          .ifPresent(request -> handleRequest(nodeId, peer, request, rpcStream));
     } catch (final RpcException e) {
-      callback.completeWithError(e);
+      getCallback(rpcStream).completeWithError(e);
     }
   }
 
   @Override
-  public void onRequestComplete() {
-    // Nothing to do
+  public synchronized void onRequestComplete() {
+    // Ensure the serving budget is returned even if the stream closed before the response completed
+    requestPermit.ifPresent(RequestPermit::release);
   }
 
   private void handleRequest(
-      Eth2Peer peer, TRequest request, ResponseCallback<TResponse> callback) {
+      final NodeId nodeId, final Eth2Peer peer, final TRequest request, final RpcStream rpcStream) {
+    requestReceived.set(true);
+    if (!acquireRequestPermit(nodeId)) {
+      LOG.debug("Rate limiting {} request from peer {}", method.getMultistreamId(), nodeId);
+      getCallback(rpcStream).completeWithError(RpcException.RATE_LIMITED);
+      return;
+    }
+    final ResponseCallback<TResponse> callback = getCallback(rpcStream);
     try {
-      requestReceived.set(true);
       localMessageHandler.onIncomingMessage(peer, request, callback);
     } catch (final Throwable t) {
       LOG.error("Unhandled error while processing request " + method.getMultistreamId(), t);
@@ -92,6 +102,21 @@ public class Eth2IncomingRequestHandler<TRequest extends RpcRequest, TResponse>
     }
   }
 
+  private synchronized boolean acquireRequestPermit(final NodeId nodeId) {
+    if (requestLimiter.isEmpty()) {
+      return true;
+    }
+    requestPermit = requestLimiter.get().tryAcquire(nodeId, method.getMultistreamId());
+    return requestPermit.isPresent();
+  }
+
+  private synchronized ResponseCallback<TResponse> getCallback(final RpcStream rpcStream) {
+    if (callback == null) {
+      callback = new RpcResponseCallback<>(rpcStream, rpcEncoder, requestPermit);
+    }
+    return callback;
+  }
+
   private void ensureRequestReceivedWithinTimeLimit(final RpcStream stream) {
     final Duration timeout = RpcTimeouts.RESP_TIMEOUT;
     asyncRunner
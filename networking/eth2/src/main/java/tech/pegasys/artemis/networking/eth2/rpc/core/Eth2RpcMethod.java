@@ -14,6 +14,7 @@
 package tech.pegasys.artemis.networking.eth2.rpc.core;
 
 import java.util.Objects;
+import java.util.Optional;
 import org.apache.tuweni.bytes.Bytes;
 import tech.pegasys.artemis.datastructures.networking.libp2p.rpc.RpcRequest;
 import tech.pegasys.artemis.networking.eth2.peers.PeerLookup;
@@ -33,6 +34,7 @@ public class Eth2RpcMethod<TRequest extends RpcRequest, TResponse> implements Rp
 
   private final LocalMessageHandler<TRequest, TResponse> localMessageHandler;
   private final PeerLookup peerLookup;
+  private final Optional<RpcRequestLimiter> requestLimiter;
 
   private final RpcEncoder rpcEncoder;
 
@@ -44,7 +46,8 @@ public class Eth2RpcMethod<TRequest extends RpcRequest, TResponse> implements Rp
       final Class<TResponse> responseType,
       final boolean expectResponseToRequest,
       final LocalMessageHandler<TRequest, TResponse> localMessageHandler,
-      final PeerLookup peerLookup) {
+      final PeerLookup peerLookup,
+      final Optional<RpcRequestLimiter> requestLimiter) {
     this.asyncRunner = asyncRunner;
     this.expectResponseToRequest = expectResponseToRequest;
     this.methodMultistreamId = methodMultistreamId + "/" + encoding.getName();
@@ -53,6 +56,7 @@ public class Eth2RpcMethod<TRequest extends RpcRequest, TResponse> implements Rp
     this.responseType = responseType;
     this.localMessageHandler = localMessageHandler;
     this.peerLookup = peerLookup;
+    this.requestLimiter = requestLimiter;
 
     this.rpcEncoder = new RpcEncoder(encoding);
   }
@@ -113,7 +117,8 @@ public class Eth2RpcMethod<TRequest extends RpcRequest, TResponse> implements Rp
 
   @Override
   public Eth2IncomingRequestHandler<TRequest, TResponse> createIncomingRequestHandler() {
-    return new Eth2IncomingRequestHandler<>(asyncRunner, this, peerLookup, localMessageHandler);
+    return new Eth2IncomingRequestHandler<>(
+        asyncRunner, this, peerLookup, localMessageHandler, requestLimiter);
   }
 
   public Eth2OutgoingRequestHandler<TRequest, TResponse> createOutgoingRequestHandler(
@@ -16,14 +16,19 @@ package tech.pegasys.artemis.networking.eth2.rpc.core;
 import static com.google.common.base.Preconditions.checkNotNull;
 
 import com.google.common.base.Preconditions;
+import java.time.Duration;
+import java.util.Optional;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 import tech.pegasys.artemis.util.async.SafeFuture;
 
 public class ResponseStreamImpl<O> implements ResponseStream<O> {
 
   private final SafeFuture<Void> completionFuture = new SafeFuture<>();
   private final AtomicInteger receivedResponseCount = new AtomicInteger(0);
+  private final long createdAtNanos = System.nanoTime();
+  private volatile Optional<Duration> timeToFirstResponse = Optional.empty();
   private volatile ResponseListener<O> responseListener;
 
   @Override
@@ -62,7 +67,9 @@ public class ResponseStreamImpl<O> implements ResponseStream<O> {
 
   public void respond(final O data) {
     checkNotNull(responseListener, "Must call an 'expect' method");
-    receivedResponseCount.incrementAndGet();
+    if (receivedResponseCount.incrementAndGet() == 1) {
+      timeToFirstResponse = Optional.of(Duration.ofNanos(System.nanoTime() - createdAtNanos));
+    }
     responseListener.onResponse(data);
   }
 
@@ -70,6 +77,20 @@ public class ResponseStreamImpl<O> implements ResponseStream<O> {
     return receivedResponseCount.get();
   }
 
+  /**
+   * Returns the time between this stream being created, just before the request was sent, and the
+   * first response chunk being received.
+   *
+   * @return the time to the first response, or empty if no responses have been received
+   */
+  public Optional<Duration> getTimeToFirstResponse() {
+    return timeToFirstResponse;
+  }
+
+  public Duration getElapsedTime() {
+    return Duration.ofNanos(System.nanoTime() - createdAtNanos);
+  }
+
   public void completeSuccessfully() {
     completionFuture.complete(null);
   }
@@ -83,6 +104,10 @@ public class ResponseStreamImpl<O> implements ResponseStream<O> {
         res -> subscriber.onRequestComplete(true), err -> subscriber.onRequestComplete(false));
   }
 
+  public void subscribeError(final Consumer<Throwable> subscriber) {
+    completionFuture.finish(res -> {}, subscriber);
+  }
+
   public interface RequestCompleteSubscriber {
     void onRequestComplete(boolean successful);
   }
@@ -19,6 +19,7 @@ public class RpcException extends Exception {
 
   private static final byte INVALID_REQUEST_CODE = 1;
   private static final byte SERVER_ERROR_CODE = 2;
+  private static final byte RESOURCE_UNAVAILABLE_CODE = 3;
 
   public static final RpcException MALFORMED_REQUEST_ERROR =
       new RpcException(INVALID_REQUEST_CODE, "Request was malformed");
@@ -33,6 +34,8 @@ public class RpcException extends Exception {
       new RpcException(INVALID_REQUEST_CODE, "Chunk exceeds maximum allowed length");
   public static final RpcException SERVER_ERROR =
       new RpcException(SERVER_ERROR_CODE, "Unexpected error");
+  public static final RpcException RATE_LIMITED =
+      new RpcException(RESOURCE_UNAVAILABLE_CODE, "Request rate limit exceeded");
 
   private final byte responseCode;
   private final String errorMessage;
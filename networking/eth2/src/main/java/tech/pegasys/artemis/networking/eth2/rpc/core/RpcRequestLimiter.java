@@ -0,0 +1,225 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.artemis.networking.eth2.rpc.core;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
+import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
+import tech.pegasys.artemis.datastructures.util.cache.Cache;
+import tech.pegasys.artemis.datastructures.util.cache.LRUCache;
+import tech.pegasys.artemis.metrics.ArtemisMetricCategory;
+import tech.pegasys.artemis.networking.p2p.peer.NodeId;
+import tech.pegasys.artemis.util.time.TimeProvider;
+
+/**
+ * Limits the resources spent serving incoming RPC requests, both per peer and across all peers.
+ *
+ * <p>Requests are admitted only while the number of concurrently served requests is below the
+ * limit and the block and byte budgets are positive. The actual number of blocks and bytes sent is
+ * charged against the budgets as each response chunk is written, so a single large request may
+ * push a budget into debt which must be repaid before that peer is served again.
+ */
+public class RpcRequestLimiter {
+  public static final int DEFAULT_MAX_CONCURRENT_REQUESTS_PER_PEER = 4;
+  public static final int DEFAULT_MAX_CONCURRENT_REQUESTS = 64;
+  public static final long DEFAULT_BLOCKS_PER_SECOND_PER_PEER = 128;
+  public static final long DEFAULT_BLOCKS_PER_SECOND = 2048;
+  public static final long DEFAULT_BYTES_PER_SECOND_PER_PEER = 4 * 1024 * 1024;
+  public static final long DEFAULT_BYTES_PER_SECOND = 64 * 1024 * 1024;
+  // Allow a full BeaconBlocksByRange request to be served without waiting for a refill.
+  private static final int BURST_SECONDS = 8;
+  private static final int MAX_TRACKED_PEERS = 1024;
+
+  private final TimeProvider timeProvider;
+  private final int maxConcurrentRequestsPerPeer;
+  private final int maxConcurrentRequests;
+  private final long blocksPerSecondPerPeer;
+  private final long bytesPerSecondPerPeer;
+  private final TokenBucket blockBudget;
+  private final TokenBucket byteBudget;
+  private final Cache<NodeId, PeerBudget> peerBudgets = new LRUCache<>(MAX_TRACKED_PEERS);
+  private final LabelledMetric<Counter> throttledRequestCounter;
+  private int activeRequests = 0;
+
+  public RpcRequestLimiter(final MetricsSystem metricsSystem, final TimeProvider timeProvider) {
+    this(
+        metricsSystem,
+        timeProvider,
+        DEFAULT_MAX_CONCURRENT_REQUESTS_PER_PEER,
+        DEFAULT_MAX_CONCURRENT_REQUESTS,
+        DEFAULT_BLOCKS_PER_SECOND_PER_PEER,
+        DEFAULT_BLOCKS_PER_SECOND,
+        DEFAULT_BYTES_PER_SECOND_PER_PEER,
+        DEFAULT_BYTES_PER_SECOND);
+  }
+
+  public RpcRequestLimiter(
+      final MetricsSystem metricsSystem,
+      final TimeProvider timeProvider,
+      final int maxConcurrentRequestsPerPeer,
+      final int maxConcurrentRequests,
+      final long blocksPerSecondPerPeer,
+      final long blocksPerSecond,
+      final long bytesPerSecondPerPeer,
+      final long bytesPerSecond) {
+    this.timeProvider = timeProvider;
+    this.maxConcurrentRequestsPerPeer = maxConcurrentRequestsPerPeer;
+    this.maxConcurrentRequests = maxConcurrentRequests;
+    this.blocksPerSecondPerPeer = blocksPerSecondPerPeer;
+    this.bytesPerSecondPerPeer = bytesPerSecondPerPeer;
+    this.blockBudget = new TokenBucket(blocksPerSecond, getCurrentTimeMillis());
+    this.byteBudget = new TokenBucket(bytesPerSecond, getCurrentTimeMillis());
+    this.throttledRequestCounter =
+        metricsSystem.createLabelledCounter(
+            ArtemisMetricCategory.NETWORK,
+            "rpc_requests_throttled_total",
+            "Total number of incoming rpc requests rejected because a serving budget was exceeded",
+            "method",
+            "reason");
+  }
+
+  /**
+   * Attempts to reserve capacity to serve a request from the specified peer.
+   *
+   * @param peerId the peer making the request
+   * @param method the name of the requested method, used to label metrics
+   * @return a permit which must be released once the response is complete, or empty if the
+   *     request should be rejected
+   */
+  public synchronized Optional<RequestPermit> tryAcquire(final NodeId peerId, final String method) {
+    final long now = getCurrentTimeMillis();
+    final PeerBudget peerBudget = peerBudgets.get(peerId, __ -> new PeerBudget(now));
+    final Optional<ThrottleReason> throttleReason = checkBudgets(peerBudget, now);
+    if (throttleReason.isPresent()) {
+      throttledRequestCounter.labels(method, throttleReason.get().getMetricLabel()).inc();
+      return Optional.empty();
+    }
+    activeRequests++;
+    peerBudget.activeRequests++;
+    return Optional.of(new RequestPermit(peerBudget));
+  }
+
+  private Optional<ThrottleReason> checkBudgets(final PeerBudget peerBudget, final long now) {
+    if (activeRequests >= maxConcurrentRequests
+        || peerBudget.activeRequests >= maxConcurrentRequestsPerPeer) {
+      return Optional.of(ThrottleReason.CONCURRENT_REQUESTS);
+    }
+    if (!blockBudget.hasTokens(now) || !peerBudget.blockBudget.hasTokens(now)) {
+      return Optional.of(ThrottleReason.BLOCKS);
+    }
+    if (!byteBudget.hasTokens(now) || !peerBudget.byteBudget.hasTokens(now)) {
+      return Optional.of(ThrottleReason.BYTES);
+    }
+    return Optional.empty();
+  }
+
+  private synchronized void onChunkSent(final PeerBudget peerBudget, final int sizeInBytes) {
+    final long now = getCurrentTimeMillis();
+    blockBudget.consume(1, now);
+    byteBudget.consume(sizeInBytes, now);
+    peerBudget.blockBudget.consume(1, now);
+    peerBudget.byteBudget.consume(sizeInBytes, now);
+  }
+
+  private synchronized void release(final PeerBudget peerBudget) {
+    activeRequests--;
+    peerBudget.activeRequests--;
+  }
+
+  private long getCurrentTimeMillis() {
+    return timeProvider.getTimeInMillis().longValue();
+  }
+
+  public class RequestPermit {
+    private final PeerBudget peerBudget;
+    private final AtomicBoolean released = new AtomicBoolean(false);
+
+    private RequestPermit(final PeerBudget peerBudget) {
+      this.peerBudget = peerBudget;
+    }
+
+    public void onChunkSent(final int sizeInBytes) {
+      RpcRequestLimiter.this.onChunkSent(peerBudget, sizeInBytes);
+    }
+
+    public void release() {
+      if (released.compareAndSet(false, true)) {
+        RpcRequestLimiter.this.release(peerBudget);
+      }
+    }
+  }
+
+  private class PeerBudget {
+    private final TokenBucket blockBudget;
+    private final TokenBucket byteBudget;
+    private int activeRequests = 0;
+
+    private PeerBudget(final long now) {
+      blockBudget = new TokenBucket(blocksPerSecondPerPeer, now);
+      byteBudget = new TokenBucket(bytesPerSecondPerPeer, now);
+    }
+  }
+
+  /** Not thread safe. Access is synchronized by the enclosing limiter. */
+  private static class TokenBucket {
+    private final long refillPerSecond;
+    private final long capacity;
+    private double tokens;
+    private long lastRefillMillis;
+
+    private TokenBucket(final long refillPerSecond, final long now) {
+      this.refillPerSecond = refillPerSecond;
+      this.capacity = refillPerSecond * BURST_SECONDS;
+      this.tokens = capacity;
+      this.lastRefillMillis = now;
+    }
+
+    boolean hasTokens(final long now) {
+      refill(now);
+      return tokens > 0;
+    }
+
+    void consume(final long amount, final long now) {
+      refill(now);
+      // Bound the debt so a single oversized response can't lock a peer out indefinitely.
+      tokens = Math.max(tokens - amount, -capacity);
+    }
+
+    private void refill(final long now) {
+      if (now > lastRefillMillis) {
+        final double refill = (now - lastRefillMillis) * refillPerSecond / 1000d;
+        tokens = Math.min(tokens + refill, capacity);
+        lastRefillMillis = now;
+      }
+    }
+  }
+
+  private enum ThrottleReason {
+    CONCURRENT_REQUESTS("concurrent_requests"),
+    BLOCKS("blocks"),
+    BYTES("bytes");
+
+    private final String metricLabel;
+
+    ThrottleReason(final String metricLabel) {
+      this.metricLabel = metricLabel;
+    }
+
+    String getMetricLabel() {
+      return metricLabel;
+    }
+  }
+}
@@ -13,33 +13,45 @@
 
 package tech.pegasys.artemis.networking.eth2.rpc.core;
 
+import java.util.Optional;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.apache.tuweni.bytes.Bytes;
+import tech.pegasys.artemis.networking.eth2.rpc.core.RpcRequestLimiter.RequestPermit;
 import tech.pegasys.artemis.networking.p2p.rpc.RpcStream;
 
 class RpcResponseCallback<TResponse> implements ResponseCallback<TResponse> {
   private static final Logger LOG = LogManager.getLogger();
   private final RpcEncoder rpcEncoder;
   private final RpcStream rpcStream;
+  private final Optional<RequestPermit> requestPermit;
 
-  public RpcResponseCallback(final RpcStream rpcStream, final RpcEncoder rpcEncoder) {
+  public RpcResponseCallback(
+      final RpcStream rpcStream,
+      final RpcEncoder rpcEncoder,
+      final Optional<RequestPermit> requestPermit) {
     this.rpcStream = rpcStream;
     this.rpcEncoder = rpcEncoder;
+    this.requestPermit = requestPermit;
   }
 
   @Override
   public void respond(final TResponse data) {
-    rpcStream.writeBytes(rpcEncoder.encodeSuccessfulResponse(data)).reportExceptions();
+    final Bytes response = rpcEncoder.encodeSuccessfulResponse(data);
+    requestPermit.ifPresent(permit -> permit.onChunkSent(response.size()));
+    rpcStream.writeBytes(response).reportExceptions();
   }
 
   @Override
   public void completeSuccessfully() {
+    requestPermit.ifPresent(RequestPermit::release);
     rpcStream.closeWriteStream().reportExceptions();
   }
 
   @Override
   public void completeWithError(final RpcException error) {
     LOG.debug("Responding to RPC request with error: {}", error.getErrorMessage());
+    requestPermit.ifPresent(RequestPermit::release);
     rpcStream.writeBytes(rpcEncoder.encodeErrorResponse(error)).reportExceptions();
     rpcStream.closeWriteStream().reportExceptions();
   }
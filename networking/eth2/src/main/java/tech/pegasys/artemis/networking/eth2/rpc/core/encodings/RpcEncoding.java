@@ -16,22 +16,27 @@ package tech.pegasys.artemis.networking.eth2.rpc.core.encodings;
 import java.util.OptionalInt;
 import org.apache.tuweni.bytes.Bytes;
 import tech.pegasys.artemis.datastructures.networking.libp2p.rpc.BeaconBlocksByRootRequestMessage;
+import tech.pegasys.artemis.datastructures.util.RetainedSszEncodings;
 import tech.pegasys.artemis.networking.eth2.rpc.core.RpcException;
 import tech.pegasys.artemis.networking.eth2.rpc.core.encodings.ssz.BeaconBlocksByRootRequestMessageEncoder;
 import tech.pegasys.artemis.networking.eth2.rpc.core.encodings.ssz.SimpleOffsetSszEncoder;
 import tech.pegasys.artemis.networking.eth2.rpc.core.encodings.ssz.StringSszEncoder;
 
 public interface RpcEncoding {
-  RpcEncoding SSZ =
-      new LengthPrefixedEncoding(
-          "ssz",
-          RpcPayloadEncoders.builder()
-              .withEncoder(
-                  BeaconBlocksByRootRequestMessage.class,
-                  new BeaconBlocksByRootRequestMessageEncoder())
-              .withEncoder(String.class, new StringSszEncoder())
-              .defaultEncoderProvider(SimpleOffsetSszEncoder::new)
-              .build());
+  RpcEncoding SSZ = createSsz(RetainedSszEncodings.disabled());
+
+  static RpcEncoding createSsz(final RetainedSszEncodings retainedSszEncodings) {
+    return new LengthPrefixedEncoding(
+        "ssz",
+        RpcPayloadEncoders.builder()
+            .withEncoder(
+                BeaconBlocksByRootRequestMessage.class,
+                new BeaconBlocksByRootRequestMessageEncoder())
+            .withEncoder(String.class, new StringSszEncoder())
+            .defaultEncoderProvider(
+                clazz -> new SimpleOffsetSszEncoder<>(clazz, retainedSszEncodings))
+            .build());
+  }
 
   <T> Bytes encode(T message);
 
@@ -17,7 +17,7 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.ssz.InvalidSSZTypeException;
-import tech.pegasys.artemis.datastructures.util.SimpleOffsetSerializer;
+import tech.pegasys.artemis.datastructures.util.RetainedSszEncodings;
 import tech.pegasys.artemis.networking.eth2.rpc.core.RpcException;
 import tech.pegasys.artemis.networking.eth2.rpc.core.encodings.RpcPayloadEncoder;
 import tech.pegasys.artemis.util.sos.SimpleOffsetSerializable;
@@ -25,20 +25,23 @@ import tech.pegasys.artemis.util.sos.SimpleOffsetSerializable;
 public class SimpleOffsetSszEncoder<T> implements RpcPayloadEncoder<T> {
   private static final Logger LOG = LogManager.getLogger();
   private final Class<T> clazz;
+  private final RetainedSszEncodings retainedSszEncodings;
 
-  public SimpleOffsetSszEncoder(final Class<T> clazz) {
+  public SimpleOffsetSszEncoder(
+      final Class<T> clazz, final RetainedSszEncodings retainedSszEncodings) {
     this.clazz = clazz;
+    this.retainedSszEncodings = retainedSszEncodings;
   }
 
   @Override
   public Bytes encode(final T message) {
-    return SimpleOffsetSerializer.serialize((SimpleOffsetSerializable) message);
+    return retainedSszEncodings.serialize((SimpleOffsetSerializable) message);
   }
 
   @Override
   public T decode(final Bytes message) throws RpcException {
     try {
-      return SimpleOffsetSerializer.deserialize(message, clazz);
+      return retainedSszEncodings.deserialize(message, clazz);
     } catch (final InvalidSSZTypeException e) {
       if (LOG.isTraceEnabled()) {
         LOG.trace("Failed to parse network message: " + message, e);
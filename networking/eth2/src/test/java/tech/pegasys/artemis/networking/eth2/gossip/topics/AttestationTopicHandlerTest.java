@@ -25,6 +25,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import tech.pegasys.artemis.datastructures.operations.Attestation;
 import tech.pegasys.artemis.datastructures.util.DataStructureUtil;
+import tech.pegasys.artemis.datastructures.util.RetainedSszEncodings;
 import tech.pegasys.artemis.datastructures.util.SimpleOffsetSerializer;
 import tech.pegasys.artemis.statetransition.AttestationGenerator;
 import tech.pegasys.artemis.statetransition.BeaconChainUtil;
@@ -41,7 +42,7 @@ public class AttestationTopicHandlerTest {
   private final ChainStorageClient storageClient =
       ChainStorageClient.memoryOnlyClient(eventBus, storageUpdateChannel);
   private final AttestationTopicHandler topicHandler =
-      new AttestationTopicHandler(eventBus, storageClient, 1);
+      new AttestationTopicHandler(eventBus, storageClient, 1, RetainedSszEncodings.create());
 
   @BeforeEach
   public void setup() {
@@ -90,7 +91,7 @@ public class AttestationTopicHandlerTest {
         ChainStorageClient.memoryOnlyClient(eventBus, storageUpdateChannel);
     storageClient.initializeFromGenesis(dataStructureUtil.randomBeaconState());
     final AttestationTopicHandler topicHandler =
-        new AttestationTopicHandler(eventBus, storageClient, 1);
+        new AttestationTopicHandler(eventBus, storageClient, 1, RetainedSszEncodings.create());
 
     final boolean result = topicHandler.handleMessage(serialized);
     assertThat(result).isEqualTo(false);
@@ -28,6 +28,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import tech.pegasys.artemis.datastructures.blocks.SignedBeaconBlock;
 import tech.pegasys.artemis.datastructures.util.DataStructureUtil;
+import tech.pegasys.artemis.datastructures.util.RetainedSszEncodings;
 import tech.pegasys.artemis.datastructures.util.SimpleOffsetSerializer;
 import tech.pegasys.artemis.networking.eth2.gossip.events.GossipedBlockEvent;
 import tech.pegasys.artemis.statetransition.BeaconChainUtil;
@@ -43,7 +44,8 @@ public class BlockTopicHandlerTest {
   private final ChainStorageClient storageClient =
       ChainStorageClient.memoryOnlyClient(eventBus, storageUpdateChannel);
   private final BeaconChainUtil beaconChainUtil = BeaconChainUtil.create(2, storageClient);
-  private final BlockTopicHandler topicHandler = new BlockTopicHandler(eventBus, storageClient);
+  private final BlockTopicHandler topicHandler =
+      new BlockTopicHandler(eventBus, storageClient, RetainedSszEncodings.create());
 
   @BeforeEach
   public void setup() {
@@ -22,12 +22,14 @@ import java.util.List;
 import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import tech.pegasys.artemis.datastructures.util.RetainedSszEncodings;
 import tech.pegasys.artemis.networking.eth2.peers.Eth2PeerManager.PeerValidatorFactory;
 import tech.pegasys.artemis.networking.eth2.rpc.beaconchain.methods.StatusMessageFactory;
 import tech.pegasys.artemis.networking.p2p.mock.MockNodeId;
 import tech.pegasys.artemis.networking.p2p.peer.Peer;
 import tech.pegasys.artemis.storage.ChainStorageClient;
 import tech.pegasys.artemis.storage.CombinedChainDataClient;
+import tech.pegasys.artemis.util.async.DelayedExecutorAsyncRunner;
 import tech.pegasys.artemis.util.async.SafeFuture;
 
 public class Eth2PeerManagerTest {
@@ -44,7 +46,12 @@ public class Eth2PeerManagerTest {
 
   private final Eth2PeerManager peerManager =
       new Eth2PeerManager(
-          combinedChainDataClient, storageClient, new NoOpMetricsSystem(), peerValidatorFactory);
+          DelayedExecutorAsyncRunner.create(),
+          combinedChainDataClient,
+          storageClient,
+          new NoOpMetricsSystem(),
+          peerValidatorFactory,
+          RetainedSszEncodings.create());
 
   @BeforeEach
   public void setup() {
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.artemis.networking.eth2.peers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+class PeerPerformanceTest {
+  private final PeerPerformance performance = new PeerPerformance();
+
+  @Test
+  public void shouldGiveUnknownPeersAnAverageScore() {
+    assertThat(performance.getScore()).isEqualTo(PeerPerformance.UNKNOWN_PEER_SCORE);
+    assertThat(performance.isPerformingPoorly()).isFalse();
+  }
+
+  @Test
+  public void shouldScoreFastPeersHigherThanSlowPeers() {
+    final PeerPerformance slowPerformance = new PeerPerformance();
+    for (int i = 0; i < 5; i++) {
+      performance.recordSuccessfulRequest(Duration.ofMillis(50), Duration.ofSeconds(1), 64);
+      slowPerformance.recordSuccessfulRequest(Duration.ofSeconds(2), Duration.ofSeconds(10), 64);
+    }
+
+    assertThat(performance.getScore()).isGreaterThan(PeerPerformance.UNKNOWN_PEER_SCORE);
+    assertThat(slowPerformance.getScore()).isLessThan(PeerPerformance.UNKNOWN_PEER_SCORE);
+  }
+
+  @Test
+  public void shouldReduceScoreWhenRequestsTimeOut() {
+    performance.recordSuccessfulRequest(Duration.ofMillis(500), Duration.ofSeconds(1), 20);
+    final double initialScore = performance.getScore();
+
+    performance.recordTimeout();
+
+    assertThat(performance.getScore()).isLessThan(initialScore);
+  }
+
+  @Test
+  public void shouldReduceScoreWhenResponsesAreInvalid() {
+    performance.recordSuccessfulRequest(Duration.ofMillis(500), Duration.ofSeconds(1), 20);
+    final double initialScore = performance.getScore();
+
+    performance.recordInvalidResponse();
+
+    assertThat(performance.getScore()).isLessThan(initialScore);
+  }
+
+  @Test
+  public void shouldOnlyReportPoorPerformanceAfterMinimumNumberOfRequests() {
+    for (int i = 0; i < PeerPerformance.MIN_REQUESTS_FOR_POOR_PERFORMANCE - 1; i++) {
+      performance.recordTimeout();
+    }
+    assertThat(performance.getScore()).isLessThan(PeerPerformance.POOR_PERFORMANCE_SCORE);
+    assertThat(performance.isPerformingPoorly()).isFalse();
+
+    performance.recordTimeout();
+    assertThat(performance.isPerformingPoorly()).isTrue();
+  }
+
+  @Test
+  public void shouldRecoverFromPoorPerformance() {
+    for (int i = 0; i < PeerPerformance.MIN_REQUESTS_FOR_POOR_PERFORMANCE; i++) {
+      performance.recordTimeout();
+    }
+    assertThat(performance.isPerformingPoorly()).isTrue();
+
+    for (int i = 0; i < 10; i++) {
+      performance.recordSuccessfulRequest(Duration.ofMillis(100), Duration.ofSeconds(1), 50);
+    }
+    assertThat(performance.isPerformingPoorly()).isFalse();
+  }
+}
@@ -26,6 +26,7 @@ import static tech.pegasys.artemis.util.async.SafeFuture.completedFuture;
 import com.google.common.primitives.UnsignedLong;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import org.apache.tuweni.bytes.Bytes32;
@@ -266,6 +267,99 @@ class BeaconBlocksByRangeMessageHandlerTest {
     verify(storageClient, never()).getBlockAtSlotExact(greaterThan(bestSlot), any());
   }
 
+  @Test
+  public void shouldReadFinalizedBlocksAsRangeAndOnlyLookUpUnfinalizedSlotsIndividually() {
+    final int startBlock = 2;
+    final int count = 6;
+    final int skip = 1;
+    final SignedBeaconBlock headBlock = BLOCKS.get(10);
+    final Bytes32 headBlockRoot = headBlock.getMessage().hash_tree_root();
+
+    withCanonicalHeadBlock(headBlock);
+    withFinalizedSlotsUpTo(4);
+    // Slot 3 is empty
+    withFinalizedBlocksInRange(2, 4, 1, 2, 4);
+    withBlockAtSlot(5, headBlockRoot);
+    withEmptySlot(6, headBlockRoot);
+    withBlockAtSlot(7, headBlockRoot);
+
+    handler.onIncomingMessage(
+        peer,
+        new BeaconBlocksByRangeRequestMessage(
+            headBlockRoot,
+            UnsignedLong.valueOf(startBlock),
+            UnsignedLong.valueOf(count),
+            UnsignedLong.valueOf(skip)),
+        listener);
+
+    verifyBlocksReturned(2, 4, 5, 7);
+    verify(storageClient, never()).getBlockAtSlotExact(lessThanOrEqualTo(4), any());
+  }
+
+  @Test
+  public void shouldReadFinalizedBlocksAsRangeWhenStepIsGreaterThanOne() {
+    final int startBlock = 1;
+    final int count = 5;
+    final int skip = 2;
+    final SignedBeaconBlock headBlock = BLOCKS.get(10);
+    final Bytes32 headBlockRoot = headBlock.getMessage().hash_tree_root();
+
+    withCanonicalHeadBlock(headBlock);
+    withFinalizedSlotsUpTo(10);
+    withFinalizedBlocksInRange(1, 9, 2, 1, 3, 5, 7, 9);
+
+    handler.onIncomingMessage(
+        peer,
+        new BeaconBlocksByRangeRequestMessage(
+            headBlockRoot,
+            UnsignedLong.valueOf(startBlock),
+            UnsignedLong.valueOf(count),
+            UnsignedLong.valueOf(skip)),
+        listener);
+
+    verifyBlocksReturned(1, 3, 5, 7, 9);
+    verify(storageClient, never()).getBlockAtSlotExact(any(), any());
+  }
+
+  @Test
+  public void shouldNotSkipSlotsFinalizedAfterRangeWasRead() {
+    final int startBlock = 2;
+    final int count = 6;
+    final int skip = 1;
+    final SignedBeaconBlock headBlock = BLOCKS.get(10);
+    final Bytes32 headBlockRoot = headBlock.getMessage().hash_tree_root();
+    final AtomicInteger finalizedSlot = new AtomicInteger(4);
+
+    withCanonicalHeadBlock(headBlock);
+    when(storageClient.isHistoricalData(any()))
+        .thenAnswer(
+            invocation -> {
+              final UnsignedLong slot = invocation.getArgument(0);
+              return slot.compareTo(UnsignedLong.valueOf(finalizedSlot.get())) <= 0;
+            });
+    // Slots up to 10 are finalized while the first range is being read
+    when(storageClient.getFinalizedBlocksInRange(
+            UnsignedLong.valueOf(2), UnsignedLong.valueOf(4), ONE))
+        .thenAnswer(
+            invocation -> {
+              finalizedSlot.set(10);
+              return completedFuture(List.of(BLOCKS.get(2), BLOCKS.get(4)));
+            });
+    withFinalizedBlocksInRange(5, 7, 1, 5, 7);
+
+    handler.onIncomingMessage(
+        peer,
+        new BeaconBlocksByRangeRequestMessage(
+            headBlockRoot,
+            UnsignedLong.valueOf(startBlock),
+            UnsignedLong.valueOf(count),
+            UnsignedLong.valueOf(skip)),
+        listener);
+
+    verifyBlocksReturned(2, 4, 5, 7);
+    verify(storageClient, never()).getBlockAtSlotExact(any(), any());
+  }
+
   @Test
   public void shouldRejectRequestWhenStepIsZero() {
     final int startBlock = 15;
@@ -324,6 +418,30 @@ class BeaconBlocksByRangeMessageHandlerTest {
         .thenReturn(completedFuture(Optional.empty()));
   }
 
+  private void withFinalizedSlotsUpTo(final int finalizedSlot) {
+    when(storageClient.isHistoricalData(any()))
+        .thenAnswer(
+            invocation -> {
+              final UnsignedLong slot = invocation.getArgument(0);
+              return slot.compareTo(UnsignedLong.valueOf(finalizedSlot)) <= 0;
+            });
+  }
+
+  private void withFinalizedBlocksInRange(
+      final int startSlot, final int endSlot, final int step, final int... blockSlots) {
+    final List<SignedBeaconBlock> blocks =
+        IntStream.of(blockSlots).mapToObj(BLOCKS::get).collect(Collectors.toList());
+    when(storageClient.getFinalizedBlocksInRange(
+            UnsignedLong.valueOf(startSlot),
+            UnsignedLong.valueOf(endSlot),
+            UnsignedLong.valueOf(step)))
+        .thenReturn(completedFuture(blocks));
+  }
+
+  private UnsignedLong lessThanOrEqualTo(final int slot) {
+    return argThat(argument -> argument.compareTo(UnsignedLong.valueOf(slot)) <= 0);
+  }
+
   private UnsignedLong greaterThan(final UnsignedLong bestSlot) {
     return argThat(argument -> argument.compareTo(bestSlot) > 0);
   }
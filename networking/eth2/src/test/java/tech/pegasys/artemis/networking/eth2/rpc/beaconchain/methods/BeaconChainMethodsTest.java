@@ -24,6 +24,7 @@ import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
 import org.junit.jupiter.api.Test;
 import tech.pegasys.artemis.datastructures.networking.libp2p.rpc.StatusMessage;
+import tech.pegasys.artemis.datastructures.util.RetainedSszEncodings;
 import tech.pegasys.artemis.networking.eth2.peers.PeerLookup;
 import tech.pegasys.artemis.networking.eth2.rpc.beaconchain.BeaconChainMethods;
 import tech.pegasys.artemis.networking.eth2.rpc.core.RequestRpcDecoder;
@@ -60,7 +61,8 @@ public class BeaconChainMethodsTest {
           combinedChainDataClient,
           chainStorageClient,
           metricsSystem,
-          statusMessageFactory);
+          statusMessageFactory,
+          RetainedSszEncodings.create());
 
   @Test
   void testStatusRoundtripSerialization() throws Exception {
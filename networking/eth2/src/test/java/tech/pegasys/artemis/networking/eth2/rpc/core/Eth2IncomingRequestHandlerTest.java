@@ -31,6 +31,7 @@ import tech.pegasys.artemis.datastructures.blocks.SignedBeaconBlock;
 import tech.pegasys.artemis.datastructures.networking.libp2p.rpc.BeaconBlocksByRangeRequestMessage;
 import tech.pegasys.artemis.datastructures.state.BeaconState;
 import tech.pegasys.artemis.datastructures.util.DataStructureUtil;
+import tech.pegasys.artemis.datastructures.util.RetainedSszEncodings;
 import tech.pegasys.artemis.networking.eth2.peers.Eth2Peer;
 import tech.pegasys.artemis.networking.eth2.peers.PeerLookup;
 import tech.pegasys.artemis.networking.eth2.rpc.beaconchain.BeaconChainMethods;
@@ -58,7 +59,8 @@ public class Eth2IncomingRequestHandlerTest {
           combinedChainDataClient,
           chainStorageClient,
           new NoOpMetricsSystem(),
-          new StatusMessageFactory(chainStorageClient));
+          new StatusMessageFactory(chainStorageClient),
+          RetainedSszEncodings.create());
 
   private final Eth2RpcMethod<BeaconBlocksByRangeRequestMessage, SignedBeaconBlock>
       blocksByRangeMethod = beaconChainMethods.beaconBlocksByRange();
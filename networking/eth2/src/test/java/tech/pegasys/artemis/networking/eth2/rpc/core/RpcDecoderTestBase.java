@@ -24,6 +24,7 @@ import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Stream;
 import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
@@ -31,6 +32,7 @@ import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
 import tech.pegasys.artemis.datastructures.networking.libp2p.rpc.BeaconBlocksByRootRequestMessage;
+import tech.pegasys.artemis.datastructures.util.RetainedSszEncodings;
 import tech.pegasys.artemis.networking.eth2.peers.PeerLookup;
 import tech.pegasys.artemis.networking.eth2.rpc.beaconchain.BeaconChainMethods;
 import tech.pegasys.artemis.networking.eth2.rpc.beaconchain.methods.StatusMessageFactory;
@@ -69,7 +71,8 @@ public class RpcDecoderTestBase {
           combinedChainDataClient,
           chainStorageClient,
           new NoOpMetricsSystem(),
-          new StatusMessageFactory(chainStorageClient));
+          new StatusMessageFactory(chainStorageClient),
+          RetainedSszEncodings.create());
 
   @SuppressWarnings("unchecked")
   protected static final Eth2RpcMethod<
@@ -83,7 +86,8 @@ public class RpcDecoderTestBase {
               BeaconBlocksByRootRequestMessage.class,
               false,
               mock(LocalMessageHandler.class),
-              peerLookup);
+              peerLookup,
+              Optional.empty());
 
   private final List<ByteBuf> allocatedBuffers = new ArrayList<>();
 
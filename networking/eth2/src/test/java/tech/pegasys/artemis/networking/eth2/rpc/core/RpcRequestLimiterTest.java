@@ -0,0 +1,133 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.artemis.networking.eth2.rpc.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Optional;
+import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.artemis.networking.eth2.rpc.core.RpcRequestLimiter.RequestPermit;
+import tech.pegasys.artemis.networking.p2p.mock.MockNodeId;
+import tech.pegasys.artemis.networking.p2p.peer.NodeId;
+import tech.pegasys.artemis.util.time.StubTimeProvider;
+
+class RpcRequestLimiterTest {
+  private static final String METHOD = "method";
+  private static final int MAX_CONCURRENT_REQUESTS_PER_PEER = 2;
+  private static final int MAX_CONCURRENT_REQUESTS = 3;
+  private static final long BLOCKS_PER_SECOND_PER_PEER = 10;
+  private static final long BLOCKS_PER_SECOND = 100;
+  private static final long BYTES_PER_SECOND_PER_PEER = 1000;
+  private static final long BYTES_PER_SECOND = 10000;
+
+  private final StubTimeProvider timeProvider = StubTimeProvider.withTimeInSeconds(1000);
+  private final NodeId peer1 = new MockNodeId(1);
+  private final NodeId peer2 = new MockNodeId(2);
+  private final NodeId peer3 = new MockNodeId(3);
+
+  private final RpcRequestLimiter limiter =
+      new RpcRequestLimiter(
+          new NoOpMetricsSystem(),
+          timeProvider,
+          MAX_CONCURRENT_REQUESTS_PER_PEER,
+          MAX_CONCURRENT_REQUESTS,
+          BLOCKS_PER_SECOND_PER_PEER,
+          BLOCKS_PER_SECOND,
+          BYTES_PER_SECOND_PER_PEER,
+          BYTES_PER_SECOND);
+
+  @Test
+  public void shouldLimitConcurrentRequestsPerPeer() {
+    final RequestPermit permit = acquire(peer1);
+    acquire(peer1);
+    assertThat(limiter.tryAcquire(peer1, METHOD)).isEmpty();
+    assertThat(limiter.tryAcquire(peer2, METHOD)).isPresent();
+
+    permit.release();
+    assertThat(limiter.tryAcquire(peer1, METHOD)).isPresent();
+  }
+
+  @Test
+  public void shouldLimitConcurrentRequestsAcrossAllPeers() {
+    acquire(peer1);
+    acquire(peer1);
+    final RequestPermit permit = acquire(peer2);
+    assertThat(limiter.tryAcquire(peer3, METHOD)).isEmpty();
+
+    permit.release();
+    assertThat(limiter.tryAcquire(peer3, METHOD)).isPresent();
+  }
+
+  @Test
+  public void shouldOnlyReleasePermitOnce() {
+    final RequestPermit permit = acquire(peer1);
+    acquire(peer1);
+    permit.release();
+    permit.release();
+
+    assertThat(limiter.tryAcquire(peer1, METHOD)).isPresent();
+    assertThat(limiter.tryAcquire(peer1, METHOD)).isEmpty();
+  }
+
+  @Test
+  public void shouldRejectRequestsUntilBlockBudgetIsRepaid() {
+    final RequestPermit permit = acquire(peer1);
+    // Use the full burst allowance and then go into debt by a further 2 seconds worth of blocks
+    sendChunks(permit, (int) (BLOCKS_PER_SECOND_PER_PEER * 10), 1);
+    permit.release();
+
+    assertThat(limiter.tryAcquire(peer1, METHOD)).isEmpty();
+    assertThat(limiter.tryAcquire(peer2, METHOD)).isPresent();
+
+    timeProvider.advanceTimeBySeconds(2);
+    assertThat(limiter.tryAcquire(peer1, METHOD)).isEmpty();
+
+    timeProvider.advanceTimeBySeconds(1);
+    assertThat(limiter.tryAcquire(peer1, METHOD)).isPresent();
+  }
+
+  @Test
+  public void shouldRejectRequestsWhenByteBudgetIsExhausted() {
+    final RequestPermit permit = acquire(peer1);
+    sendChunks(permit, 1, (int) (BYTES_PER_SECOND_PER_PEER * 9));
+    permit.release();
+
+    assertThat(limiter.tryAcquire(peer1, METHOD)).isEmpty();
+
+    timeProvider.advanceTimeBySeconds(2);
+    assertThat(limiter.tryAcquire(peer1, METHOD)).isPresent();
+  }
+
+  @Test
+  public void shouldApplyGlobalBlockBudgetAcrossPeers() {
+    final RequestPermit permit = acquire(peer1);
+    sendChunks(permit, (int) (BLOCKS_PER_SECOND * 8), 1);
+    permit.release();
+
+    assertThat(limiter.tryAcquire(peer2, METHOD)).isEmpty();
+  }
+
+  private RequestPermit acquire(final NodeId peer) {
+    final Optional<RequestPermit> permit = limiter.tryAcquire(peer, METHOD);
+    assertThat(permit).isPresent();
+    return permit.get();
+  }
+
+  private void sendChunks(final RequestPermit permit, final int count, final int sizeInBytes) {
+    for (int i = 0; i < count; i++) {
+      permit.onChunkSent(sizeInBytes);
+    }
+  }
+}
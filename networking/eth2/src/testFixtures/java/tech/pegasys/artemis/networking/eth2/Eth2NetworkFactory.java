@@ -34,6 +34,7 @@ import java.util.concurrent.TimeUnit;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
+import tech.pegasys.artemis.datastructures.util.RetainedSszEncodings;
 import tech.pegasys.artemis.networking.eth2.peers.Eth2PeerManager;
 import tech.pegasys.artemis.networking.p2p.DiscoveryNetwork;
 import tech.pegasys.artemis.networking.p2p.connection.ReputationManager;
@@ -48,6 +49,8 @@ import tech.pegasys.artemis.storage.HistoricalChainData;
 import tech.pegasys.artemis.storage.api.StorageUpdateChannel;
 import tech.pegasys.artemis.storage.events.diskupdates.StorageUpdateResult;
 import tech.pegasys.artemis.util.Waiter;
+import tech.pegasys.artemis.util.async.AsyncRunner;
+import tech.pegasys.artemis.util.async.DelayedExecutorAsyncRunner;
 import tech.pegasys.artemis.util.async.SafeFuture;
 import tech.pegasys.artemis.util.config.Constants;
 import tech.pegasys.artemis.util.time.StubTimeProvider;
@@ -77,6 +80,7 @@ public class Eth2NetworkFactory {
     protected ChainStorageClient chainStorageClient;
     protected List<RpcMethod> rpcMethods = new ArrayList<>();
     protected List<PeerHandler> peerHandlers = new ArrayList<>();
+    protected RetainedSszEncodings retainedSszEncodings = RetainedSszEncodings.create();
 
     public Eth2Network startNetwork() throws Exception {
       setDefaults();
@@ -116,8 +120,14 @@ public class Eth2NetworkFactory {
       {
         // Setup eth2 handlers
         final HistoricalChainData historicalChainData = new HistoricalChainData(eventBus);
+        final AsyncRunner asyncRunner = DelayedExecutorAsyncRunner.create();
         final Eth2PeerManager eth2PeerManager =
-            Eth2PeerManager.create(chainStorageClient, historicalChainData, METRICS_SYSTEM);
+            Eth2PeerManager.create(
+                asyncRunner,
+                chainStorageClient,
+                historicalChainData,
+                METRICS_SYSTEM,
+                retainedSszEncodings);
         final Collection<RpcMethod> eth2Protocols = eth2PeerManager.getBeaconChainMethods().all();
         // Configure eth2 handlers
         this.rpcMethods(eth2Protocols).peerHandler(eth2PeerManager);
@@ -128,11 +138,19 @@ public class Eth2NetworkFactory {
         final P2PNetwork<?> network =
             DiscoveryNetwork.create(
                 new LibP2PNetwork(
-                    config, reputationManager, METRICS_SYSTEM, rpcMethods, peerHandlers),
+                    config,
+                    reputationManager,
+                    METRICS_SYSTEM,
+                    asyncRunner,
+                    rpcMethods,
+                    peerHandlers),
                 reputationManager,
+                eth2PeerManager,
+                asyncRunner,
                 config);
 
-        return new Eth2Network(network, eth2PeerManager, eventBus, chainStorageClient);
+        return new Eth2Network(
+            network, eth2PeerManager, eventBus, chainStorageClient, retainedSszEncodings);
       }
     }
 
@@ -21,6 +21,8 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.tuweni.bytes.Bytes;
 import tech.pegasys.artemis.networking.p2p.connection.ConnectionManager;
+import tech.pegasys.artemis.networking.p2p.connection.PeerCache;
+import tech.pegasys.artemis.networking.p2p.connection.PeerScorer;
 import tech.pegasys.artemis.networking.p2p.connection.ReputationManager;
 import tech.pegasys.artemis.networking.p2p.discovery.DiscoveryService;
 import tech.pegasys.artemis.networking.p2p.discovery.discv5.DiscV5Service;
@@ -31,8 +33,9 @@ import tech.pegasys.artemis.networking.p2p.network.P2PNetwork;
 import tech.pegasys.artemis.networking.p2p.peer.NodeId;
 import tech.pegasys.artemis.networking.p2p.peer.Peer;
 import tech.pegasys.artemis.networking.p2p.peer.PeerConnectedSubscriber;
-import tech.pegasys.artemis.util.async.DelayedExecutorAsyncRunner;
+import tech.pegasys.artemis.util.async.AsyncRunner;
 import tech.pegasys.artemis.util.async.SafeFuture;
+import tech.pegasys.artemis.util.time.SystemTimeProvider;
 
 public class DiscoveryNetwork<P extends Peer> extends DelegatingP2PNetwork<P> {
   private static final Logger LOG = LogManager.getLogger();
@@ -53,13 +56,33 @@ public class DiscoveryNetwork<P extends Peer> extends DelegatingP2PNetwork<P> {
   public static <P extends Peer> DiscoveryNetwork<P> create(
       final P2PNetwork<P> p2pNetwork,
       final ReputationManager reputationManager,
+      final PeerScorer peerScorer,
+      final AsyncRunner asyncRunner,
+      final NetworkConfig p2pConfig) {
+    return create(
+        p2pNetwork,
+        reputationManager,
+        peerScorer,
+        PeerCache.inMemory(new SystemTimeProvider()),
+        asyncRunner,
+        p2pConfig);
+  }
+
+  public static <P extends Peer> DiscoveryNetwork<P> create(
+      final P2PNetwork<P> p2pNetwork,
+      final ReputationManager reputationManager,
+      final PeerScorer peerScorer,
+      final PeerCache peerCache,
+      final AsyncRunner asyncRunner,
       final NetworkConfig p2pConfig) {
     final DiscoveryService discoveryService = createDiscoveryService(p2pConfig);
     final ConnectionManager connectionManager =
         new ConnectionManager(
             discoveryService,
             reputationManager,
-            DelayedExecutorAsyncRunner.create(),
+            peerScorer,
+            peerCache,
+            asyncRunner,
             p2pNetwork,
             p2pConfig.getStaticPeers().stream()
                 .map(p2pNetwork::createPeerAddress)
@@ -14,12 +14,16 @@
 package tech.pegasys.artemis.networking.p2p.connection;
 
 import java.time.Duration;
+import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import tech.pegasys.artemis.networking.p2p.discovery.DiscoveryPeer;
 import tech.pegasys.artemis.networking.p2p.discovery.DiscoveryService;
 import tech.pegasys.artemis.networking.p2p.network.P2PNetwork;
 import tech.pegasys.artemis.networking.p2p.network.PeerAddress;
@@ -39,17 +43,23 @@ public class ConnectionManager extends Service {
   private final DiscoveryService discoveryService;
   private final TargetPeerRange targetPeerCountRange;
   private final ReputationManager reputationManager;
+  private final PeerScorer peerScorer;
+  private final PeerCache peerCache;
 
   private volatile long peerConnectedSubscriptionId;
 
   public ConnectionManager(
       final DiscoveryService discoveryService,
       final ReputationManager reputationManager,
+      final PeerScorer peerScorer,
+      final PeerCache peerCache,
       final AsyncRunner asyncRunner,
       final P2PNetwork<? extends Peer> network,
       final List<PeerAddress> peerAddresses,
       final TargetPeerRange targetPeerCountRange) {
     this.reputationManager = reputationManager;
+    this.peerScorer = peerScorer;
+    this.peerCache = peerCache;
     this.asyncRunner = asyncRunner;
     this.network = network;
     this.staticPeers = new HashSet<>(peerAddresses);
@@ -62,19 +72,31 @@ public class ConnectionManager extends Service {
     synchronized (this) {
       staticPeers.forEach(this::createPersistentConnection);
     }
-    connectToKnownPeers();
+    // Dial the peers that worked well last time while discovery is still finding new ones
+    connectToKnownPeers(peerCache.streamBestPeers());
     searchForPeers().reportExceptions();
     peerConnectedSubscriptionId = network.subscribeConnect(this::onPeerConnected);
     return SafeFuture.COMPLETE;
   }
 
   private void connectToKnownPeers() {
+    connectToKnownPeers(Stream.empty());
+  }
+
+  private void connectToKnownPeers(final Stream<DiscoveryPeer> cachedPeers) {
+    final List<DiscoveryPeer> discoveredPeers =
+        discoveryService.streamKnownPeers().collect(Collectors.toList());
+    discoveredPeers.forEach(peerCache::onPeerSeen);
+
     final int maxAttempts = targetPeerCountRange.getPeersToAdd(network.getPeerCount());
-    discoveryService
-        .streamKnownPeers()
-        .map(network::createPeerAddress)
-        .filter(reputationManager::isConnectionInitiationAllowed)
-        .filter(peerAddress -> !network.isConnected(peerAddress))
+    Stream.concat(cachedPeers, discoveredPeers.stream())
+        .distinct()
+        .filter(
+            discoveryPeer -> {
+              final PeerAddress peerAddress = network.createPeerAddress(discoveryPeer);
+              return reputationManager.isConnectionInitiationAllowed(peerAddress)
+                  && !network.isConnected(peerAddress);
+            })
         .limit(maxAttempts)
         .forEach(this::attemptConnection);
   }
@@ -92,32 +114,68 @@ public class ConnectionManager extends Service {
             })
         .thenCompose(
             __ -> {
+              replacePoorlyPerformingPeer();
               connectToKnownPeers();
+              peerCache.save();
               return asyncRunner.runAfterDelay(
                   this::searchForPeers, DISCOVERY_INTERVAL.toMillis(), TimeUnit.MILLISECONDS);
             });
   }
 
-  private void attemptConnection(final PeerAddress discoveryPeer) {
+  private void attemptConnection(final DiscoveryPeer discoveryPeer) {
+    final PeerAddress peerAddress = network.createPeerAddress(discoveryPeer);
     network
-        .connect(discoveryPeer)
+        .connect(peerAddress)
         .finish(
-            peer -> LOG.trace("Successfully connected to peer {}", peer.getId()),
-            error -> LOG.trace(() -> "Failed to connect to peer: " + discoveryPeer.getId(), error));
+            peer -> {
+              LOG.trace("Successfully connected to peer {}", peer.getId());
+              peerCache.onConnectionSucceeded(discoveryPeer);
+            },
+            error -> {
+              LOG.trace(() -> "Failed to connect to peer: " + peerAddress.getId(), error);
+              peerCache.onConnectionFailed(discoveryPeer);
+            });
   }
 
   private void onPeerConnected(final Peer peer) {
     final int peersToDrop = targetPeerCountRange.getPeersToDrop(network.getPeerCount());
-    network
-        .streamPeers()
-        .filter(candidate -> !staticPeers.contains(candidate.getAddress()))
+    if (peersToDrop == 0) {
+      return;
+    }
+    streamPeersByScore()
         .limit(peersToDrop)
         .forEach(peerToDrop -> peerToDrop.disconnectCleanly(DisconnectReason.TOO_MANY_PEERS));
   }
 
+  /**
+   * When we already have enough peers, disconnect the worst performing peer if it has been
+   * consistently slow or unreliable so that the slot can be filled by a newly discovered peer.
+   */
+  private void replacePoorlyPerformingPeer() {
+    if (targetPeerCountRange.getPeersToAdd(network.getPeerCount()) > 0) {
+      return;
+    }
+    streamPeersByScore()
+        .findFirst()
+        .filter(candidate -> peerScorer.isPerformingPoorly(candidate.getId()))
+        .ifPresent(
+            peerToDrop -> {
+              LOG.debug("Disconnecting poorly performing peer {}", peerToDrop.getId());
+              peerToDrop.disconnectCleanly(DisconnectReason.POOR_PERFORMANCE);
+            });
+  }
+
+  private Stream<? extends Peer> streamPeersByScore() {
+    return network
+        .streamPeers()
+        .filter(candidate -> !staticPeers.contains(candidate.getAddress()))
+        .sorted(Comparator.comparingDouble(candidate -> peerScorer.getScore(candidate.getId())));
+  }
+
   @Override
   protected SafeFuture<?> doStop() {
     network.unsubscribeConnect(peerConnectedSubscriptionId);
+    peerCache.save();
     return SafeFuture.COMPLETE;
   }
 
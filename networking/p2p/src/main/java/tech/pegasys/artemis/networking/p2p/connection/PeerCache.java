@@ -0,0 +1,199 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.artemis.networking.p2p.connection;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.primitives.UnsignedLong;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.tuweni.bytes.Bytes;
+import tech.pegasys.artemis.networking.p2p.discovery.DiscoveryPeer;
+import tech.pegasys.artemis.util.time.TimeProvider;
+
+/**
+ * Remembers the peers found by discovery along with how reliably we've been able to connect to
+ * them, so after a restart we can immediately dial peers that are likely to accept connections
+ * instead of waiting for discovery to find them again.
+ *
+ * <p>Peers are ranked by their connection success rate and then by when they were last seen. Only
+ * the best {@link #MAX_PEERS} are kept when the cache is saved.
+ */
+public class PeerCache {
+  private static final Logger LOG = LogManager.getLogger();
+  static final int MAX_PEERS = 1000;
+  private static final String SEPARATOR = ",";
+
+  private final TimeProvider timeProvider;
+  private final Optional<Path> file;
+  private final Map<DiscoveryPeer, PeerRecord> peers = new HashMap<>();
+
+  private PeerCache(final TimeProvider timeProvider, final Optional<Path> file) {
+    this.timeProvider = timeProvider;
+    this.file = file;
+  }
+
+  public static PeerCache inMemory(final TimeProvider timeProvider) {
+    return new PeerCache(timeProvider, Optional.empty());
+  }
+
+  public static PeerCache load(final TimeProvider timeProvider, final Path file) {
+    final PeerCache cache = new PeerCache(timeProvider, Optional.of(file));
+    if (!Files.exists(file)) {
+      return cache;
+    }
+    try (Stream<String> lines = Files.lines(file, UTF_8)) {
+      lines.forEach(cache::loadRecordSafely);
+      LOG.debug("Loaded {} cached peers from {}", cache.peers.size(), file);
+    } catch (final IOException | UncheckedIOException e) {
+      LOG.warn("Failed to load cached peers from {}", file, e);
+    }
+    return cache;
+  }
+
+  public synchronized void onPeerSeen(final DiscoveryPeer peer) {
+    getOrCreateRecord(peer).lastSeen = now();
+  }
+
+  public synchronized void onConnectionSucceeded(final DiscoveryPeer peer) {
+    final PeerRecord record = getOrCreateRecord(peer);
+    record.lastSeen = now();
+    record.successes++;
+  }
+
+  public synchronized void onConnectionFailed(final DiscoveryPeer peer) {
+    getOrCreateRecord(peer).failures++;
+  }
+
+  /** Returns the cached peers, most likely to accept a connection first. */
+  public synchronized Stream<DiscoveryPeer> streamBestPeers() {
+    return getBestRecords().stream().map(record -> record.peer);
+  }
+
+  /** Writes the best peers to disk and forgets the rest. */
+  public synchronized void save() {
+    final List<PeerRecord> records = getBestRecords();
+    records.stream().skip(MAX_PEERS).forEach(record -> peers.remove(record.peer));
+    if (file.isEmpty()) {
+      return;
+    }
+    final Path target = file.get().toAbsolutePath();
+    try {
+      Files.createDirectories(target.getParent());
+      final Path tempFile = Files.createTempFile(target.getParent(), "peers", ".tmp");
+      try (BufferedWriter writer = Files.newBufferedWriter(tempFile, UTF_8)) {
+        for (PeerRecord record : records.subList(0, Math.min(records.size(), MAX_PEERS))) {
+          writer.write(record.toLine());
+          writer.newLine();
+        }
+      }
+      Files.move(tempFile, target, REPLACE_EXISTING, ATOMIC_MOVE);
+    } catch (final IOException e) {
+      LOG.warn("Failed to save cached peers to {}", target, e);
+    }
+  }
+
+  @VisibleForTesting
+  synchronized int size() {
+    return peers.size();
+  }
+
+  private List<PeerRecord> getBestRecords() {
+    return peers.values().stream()
+        .sorted(
+            Comparator.comparingDouble(PeerRecord::getSuccessRate)
+                .thenComparing(record -> record.lastSeen)
+                .reversed())
+        .collect(Collectors.toList());
+  }
+
+  private PeerRecord getOrCreateRecord(final DiscoveryPeer peer) {
+    return peers.computeIfAbsent(peer, PeerRecord::new);
+  }
+
+  private void loadRecordSafely(final String line) {
+    try {
+      loadRecord(line);
+    } catch (final RuntimeException e) {
+      LOG.debug("Ignoring invalid cached peer: {}", line, e);
+    }
+  }
+
+  private void loadRecord(final String line) {
+    final String[] fields = line.split(SEPARATOR);
+    if (fields.length != 6) {
+      LOG.debug("Ignoring invalid cached peer: {}", line);
+      return;
+    }
+    final DiscoveryPeer peer =
+        new DiscoveryPeer(
+            Bytes.fromHexString(fields[0]),
+            new InetSocketAddress(fields[1], Integer.parseInt(fields[2])));
+    // Parse everything before creating the record so a bad field doesn't leave a partial entry
+    final UnsignedLong lastSeen = UnsignedLong.valueOf(fields[3]);
+    final int successes = Integer.parseInt(fields[4]);
+    final int failures = Integer.parseInt(fields[5]);
+    final PeerRecord record = getOrCreateRecord(peer);
+    record.lastSeen = lastSeen;
+    record.successes = successes;
+    record.failures = failures;
+  }
+
+  private UnsignedLong now() {
+    return timeProvider.getTimeInSeconds();
+  }
+
+  private static class PeerRecord {
+    private final DiscoveryPeer peer;
+    private UnsignedLong lastSeen = UnsignedLong.ZERO;
+    private int successes;
+    private int failures;
+
+    private PeerRecord(final DiscoveryPeer peer) {
+      this.peer = peer;
+    }
+
+    /** Starts at 50% for untried peers and moves towards the observed rate as attempts are made. */
+    private double getSuccessRate() {
+      return (successes + 1d) / (successes + failures + 2d);
+    }
+
+    private String toLine() {
+      return String.join(
+          SEPARATOR,
+          peer.getPublicKey().toHexString(),
+          peer.getNodeAddress().getHostString(),
+          Integer.toString(peer.getNodeAddress().getPort()),
+          lastSeen.toString(),
+          Integer.toString(successes),
+          Integer.toString(failures));
+    }
+  }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.artemis.networking.p2p.connection;
+
+import tech.pegasys.artemis.networking.p2p.peer.NodeId;
+
+/** Ranks connected peers so the least useful peers are the first to be disconnected. */
+public interface PeerScorer {
+  PeerScorer NOOP =
+      new PeerScorer() {
+        @Override
+        public double getScore(final NodeId peerId) {
+          return 0;
+        }
+
+        @Override
+        public boolean isPerformingPoorly(final NodeId peerId) {
+          return false;
+        }
+      };
+
+  /**
+   * Returns the current score for a connected peer. Higher scores are better.
+   *
+   * @param peerId the id of the peer
+   * @return the score for the peer
+   */
+  double getScore(NodeId peerId);
+
+  /**
+   * Returns true if the peer has consistently performed badly enough that it should be replaced
+   * with a new peer when possible.
+   *
+   * @param peerId the id of the peer
+   * @return true if the peer should be replaced
+   */
+  boolean isPerformingPoorly(NodeId peerId);
+}
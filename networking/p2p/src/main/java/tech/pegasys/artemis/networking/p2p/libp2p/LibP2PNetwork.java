@@ -62,7 +62,6 @@ import tech.pegasys.artemis.networking.p2p.peer.Peer;
 import tech.pegasys.artemis.networking.p2p.peer.PeerConnectedSubscriber;
 import tech.pegasys.artemis.networking.p2p.rpc.RpcMethod;
 import tech.pegasys.artemis.util.async.AsyncRunner;
-import tech.pegasys.artemis.util.async.DelayedExecutorAsyncRunner;
 import tech.pegasys.artemis.util.async.SafeFuture;
 import tech.pegasys.artemis.util.cli.VersionProvider;
 import tech.pegasys.artemis.util.network.NetworkUtility;
@@ -83,15 +82,17 @@ public class LibP2PNetwork implements P2PNetwork<Peer> {
 
   private final AtomicReference<State> state = new AtomicReference<>(State.IDLE);
   private final Map<RpcMethod, RpcHandler> rpcHandlers = new ConcurrentHashMap<>();
-  private final AsyncRunner asyncRunner = DelayedExecutorAsyncRunner.create();
+  private final AsyncRunner asyncRunner;
   private int listenPort;
 
   public LibP2PNetwork(
       final NetworkConfig config,
       final ReputationManager reputationManager,
       final MetricsSystem metricsSystem,
+      final AsyncRunner asyncRunner,
       final List<RpcMethod> rpcMethods,
       final List<PeerHandler> peerHandlers) {
+    this.asyncRunner = asyncRunner;
     this.privKey = config.getPrivateKey();
     this.nodeId = new LibP2PNodeId(PeerId.fromPubKey(privKey.publicKey()));
     this.config = config;
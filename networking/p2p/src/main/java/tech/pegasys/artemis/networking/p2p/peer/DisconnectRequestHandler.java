@@ -23,6 +23,7 @@ public interface DisconnectRequestHandler {
     IRRELEVANT_NETWORK,
     UNABLE_TO_VERIFY_NETWORK,
     TOO_MANY_PEERS,
+    POOR_PERFORMANCE,
     REMOTE_FAULT,
     SHUTTING_DOWN
   }
@@ -24,6 +24,7 @@ import java.util.Collections;
 import java.util.Optional;
 import org.junit.jupiter.api.Test;
 import tech.pegasys.artemis.networking.p2p.connection.ConnectionManager;
+import tech.pegasys.artemis.networking.p2p.connection.PeerScorer;
 import tech.pegasys.artemis.networking.p2p.connection.ReputationManager;
 import tech.pegasys.artemis.networking.p2p.connection.TargetPeerRange;
 import tech.pegasys.artemis.networking.p2p.discovery.DiscoveryService;
@@ -31,6 +32,7 @@ import tech.pegasys.artemis.networking.p2p.network.NetworkConfig;
 import tech.pegasys.artemis.networking.p2p.network.P2PNetwork;
 import tech.pegasys.artemis.networking.p2p.peer.Peer;
 import tech.pegasys.artemis.util.async.SafeFuture;
+import tech.pegasys.artemis.util.async.StubAsyncRunner;
 
 class DiscoveryNetworkTest {
   @SuppressWarnings("unchecked")
@@ -114,6 +116,8 @@ class DiscoveryNetworkTest {
         DiscoveryNetwork.create(
             p2pNetwork,
             reputationManager,
+            PeerScorer.NOOP,
+            new StubAsyncRunner(),
             new NetworkConfig(
                 null,
                 "127.0.0.1",
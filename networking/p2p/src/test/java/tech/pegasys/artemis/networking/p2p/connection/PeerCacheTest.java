@@ -0,0 +1,121 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.artemis.networking.p2p.connection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import org.apache.tuweni.bytes.Bytes;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import tech.pegasys.artemis.networking.p2p.discovery.DiscoveryPeer;
+import tech.pegasys.artemis.util.time.StubTimeProvider;
+
+class PeerCacheTest {
+  private static final DiscoveryPeer PEER1 =
+      new DiscoveryPeer(Bytes.of(1), new InetSocketAddress("127.0.0.1", 9001));
+  private static final DiscoveryPeer PEER2 =
+      new DiscoveryPeer(Bytes.of(2), new InetSocketAddress("127.0.0.1", 9002));
+  private static final DiscoveryPeer PEER3 =
+      new DiscoveryPeer(Bytes.of(3), new InetSocketAddress("127.0.0.1", 9003));
+
+  private final StubTimeProvider timeProvider = StubTimeProvider.withTimeInSeconds(10_000);
+
+  @Test
+  public void shouldRankPeersBySuccessRate() {
+    final PeerCache cache = PeerCache.inMemory(timeProvider);
+    cache.onConnectionFailed(PEER1);
+    cache.onPeerSeen(PEER2);
+    cache.onConnectionSucceeded(PEER3);
+
+    assertThat(cache.streamBestPeers()).containsExactly(PEER3, PEER2, PEER1);
+  }
+
+  @Test
+  public void shouldRankPeersWithEqualSuccessRateByLastSeen() {
+    final PeerCache cache = PeerCache.inMemory(timeProvider);
+    cache.onPeerSeen(PEER1);
+    timeProvider.advanceTimeBySeconds(10);
+    cache.onPeerSeen(PEER2);
+
+    assertThat(cache.streamBestPeers()).containsExactly(PEER2, PEER1);
+  }
+
+  @Test
+  public void shouldRestoreSavedPeers(@TempDir final Path tempDir) {
+    final Path file = tempDir.resolve("peers.txt");
+    final PeerCache cache = PeerCache.load(timeProvider, file);
+    cache.onConnectionFailed(PEER1);
+    cache.onConnectionSucceeded(PEER2);
+    cache.save();
+
+    final PeerCache loadedCache = PeerCache.load(timeProvider, file);
+    assertThat(loadedCache.streamBestPeers()).containsExactly(PEER2, PEER1);
+
+    // Connection history should be restored along with the peers
+    loadedCache.onPeerSeen(PEER3);
+    assertThat(loadedCache.streamBestPeers()).containsExactly(PEER2, PEER3, PEER1);
+  }
+
+  @Test
+  public void shouldStartEmptyWhenFileDoesNotExist(@TempDir final Path tempDir) {
+    final PeerCache cache = PeerCache.load(timeProvider, tempDir.resolve("peers.txt"));
+
+    assertThat(cache.streamBestPeers()).isEmpty();
+  }
+
+  @Test
+  public void shouldIgnoreInvalidLines(@TempDir final Path tempDir) throws IOException {
+    final Path file = tempDir.resolve("peers.txt");
+    final PeerCache cache = PeerCache.load(timeProvider, file);
+    cache.onConnectionSucceeded(PEER1);
+    cache.save();
+    Files.write(file, List.of("not a peer"), StandardOpenOption.APPEND);
+
+    assertThat(PeerCache.load(timeProvider, file).streamBestPeers()).containsExactly(PEER1);
+  }
+
+  @Test
+  public void shouldLoadLinesAfterMalformedLine(@TempDir final Path tempDir) throws IOException {
+    final Path file = tempDir.resolve("peers.txt");
+    Files.write(
+        file,
+        List.of(
+            "0x01,127.0.0.1,9001,10000,1,0",
+            "0x02,127.0.0.1,notAPort,10000,1,0",
+            "0x03,127.0.0.1,9003,10000,0,1"));
+
+    final PeerCache cache = PeerCache.load(timeProvider, file);
+    assertThat(cache.streamBestPeers()).containsExactly(PEER1, PEER3);
+  }
+
+  @Test
+  public void shouldOnlyKeepBestPeersWhenSaved() {
+    final PeerCache cache = PeerCache.inMemory(timeProvider);
+    for (int i = 0; i < PeerCache.MAX_PEERS + 10; i++) {
+      cache.onPeerSeen(new DiscoveryPeer(Bytes.ofUnsignedInt(i), new InetSocketAddress(i)));
+    }
+    cache.onConnectionSucceeded(PEER1);
+
+    cache.save();
+
+    assertThat(cache.size()).isEqualTo(PeerCache.MAX_PEERS);
+    assertThat(cache.streamBestPeers().findFirst()).contains(PEER1);
+  }
+}
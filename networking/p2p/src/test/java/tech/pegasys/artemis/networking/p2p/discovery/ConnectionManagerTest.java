@@ -30,6 +30,8 @@ import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import tech.pegasys.artemis.network.p2p.peer.StubPeer;
 import tech.pegasys.artemis.networking.p2p.connection.ConnectionManager;
+import tech.pegasys.artemis.networking.p2p.connection.PeerCache;
+import tech.pegasys.artemis.networking.p2p.connection.PeerScorer;
 import tech.pegasys.artemis.networking.p2p.connection.ReputationManager;
 import tech.pegasys.artemis.networking.p2p.connection.TargetPeerRange;
 import tech.pegasys.artemis.networking.p2p.mock.MockNodeId;
@@ -40,6 +42,7 @@ import tech.pegasys.artemis.networking.p2p.peer.Peer;
 import tech.pegasys.artemis.networking.p2p.peer.PeerConnectedSubscriber;
 import tech.pegasys.artemis.util.async.SafeFuture;
 import tech.pegasys.artemis.util.async.StubAsyncRunner;
+import tech.pegasys.artemis.util.time.StubTimeProvider;
 
 class ConnectionManagerTest {
 
@@ -61,6 +64,9 @@ class ConnectionManagerTest {
 
   private final DiscoveryService discoveryService = mock(DiscoveryService.class);
   private final ReputationManager reputationManager = mock(ReputationManager.class);
+  private final PeerScorer peerScorer = mock(PeerScorer.class);
+  private final PeerCache peerCache =
+      PeerCache.inMemory(StubTimeProvider.withTimeInSeconds(10_000));
 
   private final StubAsyncRunner asyncRunner = new StubAsyncRunner();
 
@@ -228,6 +234,50 @@ class ConnectionManagerTest {
     verify(network, times(1)).connect(PEER1); // No further attempts to connect
   }
 
+  @Test
+  public void shouldConnectToCachedPeersBeforeDiscoveredPeersWhenStarted() {
+    peerCache.onConnectionSucceeded(DISCOVERY_PEER3);
+    final ConnectionManager manager = createManager(new TargetPeerRange(1, 2));
+    when(discoveryService.streamKnownPeers())
+        .thenReturn(Stream.of(DISCOVERY_PEER1, DISCOVERY_PEER2));
+    when(network.connect(any(PeerAddress.class))).thenReturn(new SafeFuture<>());
+
+    manager.start().join();
+
+    verify(network).connect(PEER3);
+    verify(network).connect(PEER1);
+    verify(network, never()).connect(PEER2);
+  }
+
+  @Test
+  public void shouldNotConnectToCachedPeersTwiceWhenAlsoDiscovered() {
+    peerCache.onConnectionSucceeded(DISCOVERY_PEER1);
+    final ConnectionManager manager = createManager();
+    when(discoveryService.streamKnownPeers()).thenReturn(Stream.of(DISCOVERY_PEER1));
+    when(network.connect(any(PeerAddress.class))).thenReturn(new SafeFuture<>());
+
+    manager.start().join();
+
+    verify(network, times(1)).connect(PEER1);
+  }
+
+  @Test
+  public void shouldRecordConnectionResultsInPeerCache() {
+    final ConnectionManager manager = createManager();
+    when(discoveryService.streamKnownPeers())
+        .thenReturn(Stream.of(DISCOVERY_PEER1, DISCOVERY_PEER2));
+    final SafeFuture<Peer> connectionFuture1 = new SafeFuture<>();
+    final SafeFuture<Peer> connectionFuture2 = new SafeFuture<>();
+    when(network.connect(PEER1)).thenReturn(connectionFuture1);
+    when(network.connect(PEER2)).thenReturn(connectionFuture2);
+
+    manager.start().join();
+    connectionFuture1.completeExceptionally(new RuntimeException("Nope"));
+    connectionFuture2.complete(new StubPeer(new MockNodeId(2)));
+
+    assertThat(peerCache.streamBestPeers()).containsExactly(DISCOVERY_PEER2, DISCOVERY_PEER1);
+  }
+
   @Test
   public void shouldPeriodicallyTriggerNewDiscoverySearch() {
     final SafeFuture<Void> search1 = new SafeFuture<>();
@@ -406,6 +456,63 @@ class ConnectionManagerTest {
     assertThat(peer1.isConnected()).isTrue();
   }
 
+  @Test
+  public void shouldDisconnectLowestScoringPeersWhenPeerCountExceedsLimit() {
+    final ConnectionManager manager = createManager(new TargetPeerRange(1, 1));
+    manager.start().join();
+
+    final PeerConnectedSubscriber<Peer> peerConnectedSubscriber = getPeerConnectedSubscriber();
+
+    final StubPeer peer1 = new StubPeer(new MockNodeId(1));
+    final StubPeer peer2 = new StubPeer(new MockNodeId(2));
+    when(peerScorer.getScore(peer1.getId())).thenReturn(0.1);
+    when(peerScorer.getScore(peer2.getId())).thenReturn(0.9);
+    when(network.streamPeers()).thenReturn(Stream.of(peer2, peer1));
+    when(network.getPeerCount()).thenReturn(2);
+    peerConnectedSubscriber.onConnected(peer2);
+
+    assertThat(peer1.getDisconnectReason()).contains(DisconnectReason.TOO_MANY_PEERS);
+    assertThat(peer2.isConnected()).isTrue();
+  }
+
+  @Test
+  public void shouldReplacePoorlyPerformingPeerWhenEnoughPeersAreConnected() {
+    final SafeFuture<Void> search = new SafeFuture<>();
+    when(discoveryService.searchForPeers()).thenReturn(search);
+    when(discoveryService.streamKnownPeers()).thenAnswer(invocation -> Stream.empty());
+    final ConnectionManager manager = createManager(new TargetPeerRange(2, 3));
+    when(network.getPeerCount()).thenReturn(2);
+    manager.start().join();
+
+    final StubPeer peer1 = new StubPeer(new MockNodeId(1));
+    final StubPeer peer2 = new StubPeer(new MockNodeId(2));
+    when(peerScorer.getScore(peer1.getId())).thenReturn(0.9);
+    when(peerScorer.getScore(peer2.getId())).thenReturn(0.1);
+    when(peerScorer.isPerformingPoorly(peer2.getId())).thenReturn(true);
+    when(network.streamPeers()).thenReturn(Stream.of(peer1, peer2));
+    search.complete(null);
+
+    assertThat(peer2.getDisconnectReason()).contains(DisconnectReason.POOR_PERFORMANCE);
+    assertThat(peer1.isConnected()).isTrue();
+  }
+
+  @Test
+  public void shouldNotReplacePoorlyPerformingPeerWhenMorePeersAreNeeded() {
+    final SafeFuture<Void> search = new SafeFuture<>();
+    when(discoveryService.searchForPeers()).thenReturn(search);
+    when(discoveryService.streamKnownPeers()).thenAnswer(invocation -> Stream.empty());
+    final ConnectionManager manager = createManager(new TargetPeerRange(2, 3));
+    when(network.getPeerCount()).thenReturn(1);
+    manager.start().join();
+
+    final StubPeer peer1 = new StubPeer(new MockNodeId(1));
+    when(peerScorer.isPerformingPoorly(peer1.getId())).thenReturn(true);
+    when(network.streamPeers()).thenReturn(Stream.of(peer1));
+    search.complete(null);
+
+    assertThat(peer1.isConnected()).isTrue();
+  }
+
   private PeerConnectedSubscriber<Peer> getPeerConnectedSubscriber() {
     @SuppressWarnings("unchecked")
     final ArgumentCaptor<PeerConnectedSubscriber<Peer>> captor =
@@ -423,6 +530,8 @@ class ConnectionManagerTest {
     return new ConnectionManager(
         discoveryService,
         reputationManager,
+        peerScorer,
+        peerCache,
         asyncRunner,
         network,
         Arrays.asList(peers),
@@ -26,11 +26,14 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
 import tech.pegasys.artemis.networking.p2p.DiscoveryNetwork;
+import tech.pegasys.artemis.networking.p2p.connection.PeerScorer;
 import tech.pegasys.artemis.networking.p2p.connection.ReputationManager;
 import tech.pegasys.artemis.networking.p2p.connection.TargetPeerRange;
 import tech.pegasys.artemis.networking.p2p.libp2p.LibP2PNetwork;
 import tech.pegasys.artemis.networking.p2p.network.NetworkConfig;
 import tech.pegasys.artemis.networking.p2p.peer.Peer;
+import tech.pegasys.artemis.util.async.AsyncRunner;
+import tech.pegasys.artemis.util.async.DelayedExecutorAsyncRunner;
 import tech.pegasys.artemis.util.config.Constants;
 import tech.pegasys.artemis.util.time.StubTimeProvider;
 
@@ -90,15 +93,19 @@ public class DiscoveryNetworkFactory {
         final ReputationManager reputationManager =
             new ReputationManager(
                 StubTimeProvider.withTimeInSeconds(1000), Constants.REPUTATION_MANAGER_CAPACITY);
+        final AsyncRunner asyncRunner = DelayedExecutorAsyncRunner.create();
         final DiscoveryNetwork<Peer> network =
             DiscoveryNetwork.create(
                 new LibP2PNetwork(
                     config,
                     reputationManager,
                     METRICS_SYSTEM,
+                    asyncRunner,
                     Collections.emptyList(),
                     Collections.emptyList()),
                 reputationManager,
+                PeerScorer.NOOP,
+                asyncRunner,
                 config);
         try {
           network.start().get(30, TimeUnit.SECONDS);
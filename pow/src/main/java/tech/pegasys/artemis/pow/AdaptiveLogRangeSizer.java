@@ -0,0 +1,80 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.artemis.pow;
+
+import com.google.common.annotations.VisibleForTesting;
+import tech.pegasys.artemis.util.config.Constants;
+
+/**
+ * Chooses how many blocks to request logs for at once.
+ *
+ * <p>The range shrinks when a response contains too many logs, is slow or fails (many Eth1 nodes
+ * reject requests with large responses) and grows again while responses stay small and fast.
+ * Failed requests are retried with an exponential backoff.
+ */
+class AdaptiveLogRangeSizer {
+  static final long MIN_RANGE_SIZE = 1;
+  static final long MAX_RANGE_SIZE = 100_000;
+  static final long INITIAL_RANGE_SIZE = 10_000;
+  static final int TARGET_LOGS_PER_REQUEST = 1_000;
+  static final long TARGET_REQUEST_MILLIS = 5_000;
+  static final long MIN_RETRY_DELAY_MILLIS = 100;
+
+  private long rangeSize;
+  private int consecutiveFailures = 0;
+
+  AdaptiveLogRangeSizer() {
+    this(INITIAL_RANGE_SIZE);
+  }
+
+  @VisibleForTesting
+  AdaptiveLogRangeSizer(final long initialRangeSize) {
+    this.rangeSize = initialRangeSize;
+  }
+
+  synchronized long getRangeSize() {
+    return rangeSize;
+  }
+
+  synchronized void onSuccess(
+      final long requestedRangeSize, final int logCount, final long durationMillis) {
+    consecutiveFailures = 0;
+    if (logCount > TARGET_LOGS_PER_REQUEST) {
+      // Scale down in proportion to how far over the target the response was
+      setRangeSize(Math.min(rangeSize, requestedRangeSize * TARGET_LOGS_PER_REQUEST / logCount));
+    } else if (durationMillis > TARGET_REQUEST_MILLIS) {
+      setRangeSize(Math.min(rangeSize, requestedRangeSize / 2));
+    } else if (requestedRangeSize >= rangeSize
+        && logCount <= TARGET_LOGS_PER_REQUEST / 2
+        && durationMillis <= TARGET_REQUEST_MILLIS / 2) {
+      // Only grow after requests which used the full range, not a final partial range
+      setRangeSize(rangeSize * 2);
+    }
+  }
+
+  synchronized void onFailure(final long requestedRangeSize) {
+    consecutiveFailures++;
+    setRangeSize(Math.min(rangeSize, requestedRangeSize / 2));
+  }
+
+  synchronized long getRetryDelayMillis() {
+    final long maxRetryDelayMillis = Constants.ETH1_DEPOSIT_REQUEST_RETRY_TIMEOUT * 1000;
+    final int doublings = Math.min(Math.max(consecutiveFailures - 1, 0), 20);
+    return Math.min(MIN_RETRY_DELAY_MILLIS << doublings, maxRetryDelayMillis);
+  }
+
+  private void setRangeSize(final long newRangeSize) {
+    rangeSize = Math.max(MIN_RANGE_SIZE, Math.min(MAX_RANGE_SIZE, newRangeSize));
+  }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.artemis.pow;
+
+import com.fasterxml.jackson.databind.JavaType;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.http.HttpService;
+import org.web3j.utils.Async;
+
+/**
+ * An {@link HttpService} which can also send several JSON-RPC requests to the Eth1 node in a single
+ * HTTP round trip using a JSON-RPC batch.
+ */
+public class BatchingHttpService extends HttpService {
+
+  public BatchingHttpService(final String url) {
+    super(url);
+  }
+
+  public <T extends Response<?>> CompletableFuture<List<T>> sendBatchAsync(
+      final List<? extends Request<?, T>> requests, final Class<T> responseType) {
+    return Async.run(() -> sendBatch(requests, responseType));
+  }
+
+  /**
+   * Sends the requests as a single JSON-RPC batch.
+   *
+   * @return the responses in the same order as the requests
+   * @throws IOException if the batch could not be sent or a response is missing
+   */
+  public <T extends Response<?>> List<T> sendBatch(
+      final List<? extends Request<?, T>> requests, final Class<T> responseType)
+      throws IOException {
+    if (requests.isEmpty()) {
+      return Collections.emptyList();
+    }
+    final String payload = objectMapper.writeValueAsString(requests);
+    try (InputStream result = performIO(payload)) {
+      if (result == null) {
+        throw new IOException("No response received for batch of " + requests.size());
+      }
+      final JavaType listType =
+          objectMapper.getTypeFactory().constructCollectionType(List.class, responseType);
+      final List<T> responses = objectMapper.readValue(result, listType);
+
+      // Batch responses may be returned in any order so match them to requests by id
+      final Map<Long, T> responsesById =
+          responses.stream().collect(Collectors.toMap(Response::getId, Function.identity()));
+      final List<T> orderedResponses = new ArrayList<>(requests.size());
+      for (Request<?, T> request : requests) {
+        final T response = responsesById.get(request.getId());
+        if (response == null) {
+          throw new IOException("No response received for batched " + request.getMethod());
+        }
+        orderedResponses.add(response);
+      }
+      return orderedResponses;
+    }
+  }
+}
@@ -17,65 +17,148 @@ import static com.google.common.base.Preconditions.checkNotNull;
 import static java.util.stream.Collectors.groupingBy;
 import static java.util.stream.Collectors.toList;
 
+import com.google.common.collect.Lists;
 import com.google.common.primitives.UnsignedLong;
 import java.math.BigInteger;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.Deque;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Set;
 import java.util.SortedMap;
 import java.util.TreeMap;
 import java.util.concurrent.TimeUnit;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.tuweni.bytes.Bytes32;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
+import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
 import org.web3j.protocol.core.DefaultBlockParameter;
 import org.web3j.protocol.core.methods.response.EthBlock;
+import tech.pegasys.artemis.metrics.ArtemisMetricCategory;
 import tech.pegasys.artemis.pow.api.Eth1EventsChannel;
 import tech.pegasys.artemis.pow.contract.DepositContract;
 import tech.pegasys.artemis.pow.event.Deposit;
 import tech.pegasys.artemis.pow.event.DepositsFromBlockEvent;
 import tech.pegasys.artemis.util.async.AsyncRunner;
 import tech.pegasys.artemis.util.async.SafeFuture;
-import tech.pegasys.artemis.util.config.Constants;
 
 public class DepositFetcher {
 
   private static final Logger LOG = LogManager.getLogger();
+  static final int MAX_BLOCKS_PER_BATCH = 100;
 
   private final Eth1Provider eth1Provider;
   private final Eth1EventsChannel eth1EventsChannel;
   private final DepositContract depositContract;
   private final AsyncRunner asyncRunner;
+  private final AdaptiveLogRangeSizer rangeSizer;
+  private final LabelledMetric<Counter> logRequestCounter;
+  private final Counter logRequestDurationCounter;
+  private final Counter depositLogCounter;
 
   public DepositFetcher(
       Eth1Provider eth1Provider,
       Eth1EventsChannel eth1EventsChannel,
       DepositContract depositContract,
-      AsyncRunner asyncRunner) {
+      AsyncRunner asyncRunner,
+      MetricsSystem metricsSystem) {
+    this(
+        eth1Provider,
+        eth1EventsChannel,
+        depositContract,
+        asyncRunner,
+        metricsSystem,
+        new AdaptiveLogRangeSizer());
+  }
+
+  DepositFetcher(
+      Eth1Provider eth1Provider,
+      Eth1EventsChannel eth1EventsChannel,
+      DepositContract depositContract,
+      AsyncRunner asyncRunner,
+      MetricsSystem metricsSystem,
+      AdaptiveLogRangeSizer rangeSizer) {
     this.eth1Provider = eth1Provider;
     this.eth1EventsChannel = eth1EventsChannel;
     this.depositContract = depositContract;
     this.asyncRunner = asyncRunner;
+    this.rangeSizer = rangeSizer;
+
+    metricsSystem.createGauge(
+        ArtemisMetricCategory.ETH1,
+        "deposit_log_range_size",
+        "Number of blocks currently requested in each deposit log request",
+        rangeSizer::getRangeSize);
+    logRequestCounter =
+        metricsSystem.createLabelledCounter(
+            ArtemisMetricCategory.ETH1,
+            "deposit_log_request_count",
+            "Total number of deposit log requests sent to the Eth1 node",
+            "outcome");
+    logRequestDurationCounter =
+        metricsSystem.createCounter(
+            ArtemisMetricCategory.ETH1,
+            "deposit_log_request_us_total",
+            "Total microseconds spent waiting for deposit log responses");
+    depositLogCounter =
+        metricsSystem.createCounter(
+            ArtemisMetricCategory.ETH1,
+            "deposit_log_count",
+            "Total number of deposit logs received from the Eth1 node");
   }
 
   // Inclusive on both sides
   public synchronized SafeFuture<Void> fetchDepositsInRange(
       BigInteger fromBlockNumber, BigInteger toBlockNumber) {
+    if (fromBlockNumber.compareTo(toBlockNumber) > 0) {
+      return SafeFuture.COMPLETE;
+    }
+
+    // The range is split into chunks sized to keep each log response manageable
+    final long rangeSize = rangeSizer.getRangeSize();
+    final BigInteger chunkEndBlockNumber =
+        toBlockNumber.min(fromBlockNumber.add(BigInteger.valueOf(rangeSize - 1)));
 
     LOG.trace(
         "Attempting to fetch deposit events for block numbers in the range ({}, {})",
         fromBlockNumber,
-        toBlockNumber);
-
-    return getDepositEventsInRangeFromContract(fromBlockNumber, toBlockNumber)
-        .thenApply(this::groupDepositEventResponsesByBlockHash)
-        .thenCompose(
-            eventResponsesByBlockHash ->
-                postDepositEvents(
-                    getListOfEthBlockFutures(eventResponsesByBlockHash.keySet()),
-                    eventResponsesByBlockHash));
+        chunkEndBlockNumber);
+
+    return getDepositEventsInRangeFromContract(fromBlockNumber, chunkEndBlockNumber)
+        .handle(
+            (events, err) -> {
+              if (err != null) {
+                return retryAfterFailure(err, fromBlockNumber, chunkEndBlockNumber, toBlockNumber);
+              }
+              return postDepositEvents(groupDepositEventResponsesByBlockHash(events))
+                  .thenCompose(
+                      __ ->
+                          fetchDepositsInRange(
+                              chunkEndBlockNumber.add(BigInteger.ONE), toBlockNumber));
+            })
+        .thenCompose(future -> future);
+  }
+
+  private SafeFuture<Void> retryAfterFailure(
+      final Throwable err,
+      final BigInteger fromBlockNumber,
+      final BigInteger chunkEndBlockNumber,
+      final BigInteger toBlockNumber) {
+    final long retryDelayMillis = rangeSizer.getRetryDelayMillis();
+    LOG.warn(
+        "Failed to request deposit events for block numbers in the range ({}, {}). Retrying in {}ms with a range of {} blocks.",
+        fromBlockNumber,
+        chunkEndBlockNumber,
+        retryDelayMillis,
+        rangeSizer.getRangeSize(),
+        err);
+    return asyncRunner
+        .getDelayedFuture(retryDelayMillis, TimeUnit.MILLISECONDS)
+        .thenCompose(__ -> fetchDepositsInRange(fromBlockNumber, toBlockNumber));
   }
 
   private SafeFuture<List<DepositContract.DepositEventEventResponse>>
@@ -83,45 +166,63 @@ public class DepositFetcher {
 
     DefaultBlockParameter fromBlock = DefaultBlockParameter.valueOf(fromBlockNumber);
     DefaultBlockParameter toBlock = DefaultBlockParameter.valueOf(toBlockNumber);
+    final long requestedRangeSize =
+        toBlockNumber.subtract(fromBlockNumber).add(BigInteger.ONE).longValueExact();
+    final long startNanos = System.nanoTime();
 
     return depositContract
         .depositEventInRange(fromBlock, toBlock)
-        .exceptionallyCompose(
-            (err) -> {
-              LOG.warn(
-                  "Failed to request deposit events for block numbers in the range ({}, {}). Retrying.",
-                  fromBlockNumber,
-                  toBlockNumber,
-                  err);
-
-              return asyncRunner.runAfterDelay(
-                  () -> getDepositEventsInRangeFromContract(fromBlockNumber, toBlockNumber),
-                  Constants.ETH1_DEPOSIT_REQUEST_RETRY_TIMEOUT,
-                  TimeUnit.SECONDS);
+        .whenComplete(
+            (events, err) -> {
+              final long durationNanos = System.nanoTime() - startNanos;
+              final long durationMillis = TimeUnit.NANOSECONDS.toMillis(durationNanos);
+              logRequestDurationCounter.inc(TimeUnit.NANOSECONDS.toMicros(durationNanos));
+              if (err != null) {
+                logRequestCounter.labels("failure").inc();
+                rangeSizer.onFailure(requestedRangeSize);
+              } else {
+                logRequestCounter.labels("success").inc();
+                depositLogCounter.inc(events.size());
+                rangeSizer.onSuccess(requestedRangeSize, events.size(), durationMillis);
+              }
             });
   }
 
   private SafeFuture<Void> postDepositEvents(
-      List<SafeFuture<EthBlock.Block>> blockRequests,
+      SortedMap<BlockNumberAndHash, List<DepositContract.DepositEventEventResponse>>
+          depositEventsByBlock) {
+    // Blocks are requested in batches so each batch needs only a single round trip
+    final List<BlockNumberAndHash> blocks = new ArrayList<>(depositEventsByBlock.keySet());
+    final Deque<SafeFuture<List<EthBlock.Block>>> batchRequests = new ArrayDeque<>();
+    for (List<BlockNumberAndHash> batch : Lists.partition(blocks, MAX_BLOCKS_PER_BATCH)) {
+      final List<String> blockHashes =
+          batch.stream().map(BlockNumberAndHash::getHash).collect(toList());
+      batchRequests.add(eth1Provider.getGuaranteedEth1BlocksFuture(blockHashes));
+    }
+    return postDepositEvents(batchRequests, depositEventsByBlock);
+  }
+
+  private SafeFuture<Void> postDepositEvents(
+      Deque<SafeFuture<List<EthBlock.Block>>> batchRequests,
       Map<BlockNumberAndHash, List<DepositContract.DepositEventEventResponse>>
           depositEventsByBlock) {
 
     // First process completed requests using iteration.
     // Avoid StackOverflowException when there is a long string of requests already completed.
-    while (!blockRequests.isEmpty() && blockRequests.get(blockRequests.size() - 1).isDone()) {
-      final EthBlock.Block block = blockRequests.remove(blockRequests.size() - 1).join();
-      postEventsForBlock(block, depositEventsByBlock);
+    while (!batchRequests.isEmpty() && batchRequests.peekFirst().isDone()) {
+      final List<EthBlock.Block> blocks = batchRequests.removeFirst().join();
+      blocks.forEach(block -> postEventsForBlock(block, depositEventsByBlock));
     }
 
     // All requests have completed and been processed.
-    if (blockRequests.isEmpty()) {
+    if (batchRequests.isEmpty()) {
       return SafeFuture.COMPLETE;
     }
 
-    // Reached a block request that isn't complete so wait for it and recurse back into this method.
-    return blockRequests
-        .get(blockRequests.size() - 1)
-        .thenCompose(block -> postDepositEvents(blockRequests, depositEventsByBlock));
+    // Reached a batch that isn't complete so wait for it and recurse back into this method.
+    return batchRequests
+        .peekFirst()
+        .thenCompose(blocks -> postDepositEvents(batchRequests, depositEventsByBlock));
   }
 
   private synchronized void postEventsForBlock(
@@ -149,14 +250,6 @@ public class DepositFetcher {
             .collect(toList()));
   }
 
-  private List<SafeFuture<EthBlock.Block>> getListOfEthBlockFutures(
-      Set<BlockNumberAndHash> neededBlockHashes) {
-    return neededBlockHashes.stream()
-        .map(BlockNumberAndHash::getHash)
-        .map(eth1Provider::getGuaranteedEth1BlockFuture)
-        .collect(toList());
-  }
-
   private SortedMap<BlockNumberAndHash, List<DepositContract.DepositEventEventResponse>>
       groupDepositEventResponsesByBlockHash(
           List<DepositContract.DepositEventEventResponse> events) {
@@ -174,11 +267,10 @@ public class DepositFetcher {
   }
 
   private static class BlockNumberAndHash implements Comparable<BlockNumberAndHash> {
-    // in descending order for efficiency
+    // in ascending order so deposits are posted in the order they were made
     private static final Comparator<BlockNumberAndHash> COMPARATOR =
         Comparator.comparing(BlockNumberAndHash::getNumber)
-            .thenComparing(BlockNumberAndHash::getHash)
-            .reversed();
+            .thenComparing(BlockNumberAndHash::getHash);
 
     private final BigInteger number;
     private final String hash;
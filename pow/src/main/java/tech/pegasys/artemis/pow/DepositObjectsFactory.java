@@ -13,6 +13,8 @@
 
 package tech.pegasys.artemis.pow;
 
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import tech.pegasys.artemis.pow.api.Eth1DepositStorageChannel;
 import tech.pegasys.artemis.pow.api.Eth1EventsChannel;
 import tech.pegasys.artemis.pow.contract.DepositContract;
 import tech.pegasys.artemis.util.async.AsyncRunner;
@@ -21,22 +23,29 @@ public class DepositObjectsFactory {
 
   private final Eth1Provider eth1Provider;
   private final Eth1EventsChannel eth1EventsChannel;
+  private final Eth1DepositStorageChannel eth1DepositStorageChannel;
   private final DepositContract depositContract;
   private final AsyncRunner asyncRunner;
+  private final MetricsSystem metricsSystem;
 
   public DepositObjectsFactory(
       Eth1Provider eth1Provider,
       Eth1EventsChannel eth1EventsChannel,
+      Eth1DepositStorageChannel eth1DepositStorageChannel,
       DepositContract depositContract,
-      AsyncRunner asyncRunner) {
+      AsyncRunner asyncRunner,
+      MetricsSystem metricsSystem) {
     this.eth1Provider = eth1Provider;
     this.eth1EventsChannel = eth1EventsChannel;
+    this.eth1DepositStorageChannel = eth1DepositStorageChannel;
     this.depositContract = depositContract;
     this.asyncRunner = asyncRunner;
+    this.metricsSystem = metricsSystem;
   }
 
   public DepositFetcher createDepositsFetcher() {
-    return new DepositFetcher(eth1Provider, eth1EventsChannel, depositContract, asyncRunner);
+    return new DepositFetcher(
+        eth1Provider, eth1EventsChannel, depositContract, asyncRunner, metricsSystem);
   }
 
   public DepositProcessingController createDepositProcessingController() {
@@ -49,6 +58,7 @@ public class DepositObjectsFactory {
         eth1Provider,
         asyncRunner,
         eth1EventsChannel,
+        eth1DepositStorageChannel,
         createDepositProcessingController(),
         new MinimumGenesisTimeBlockFinder(eth1Provider));
   }
@@ -83,7 +83,16 @@ public class DepositProcessingController {
 
   // Inclusive
   public synchronized SafeFuture<Void> fetchDepositsFromGenesisTo(BigInteger toBlockNumber) {
-    return depositFetcher.fetchDepositsInRange(BigInteger.ZERO, toBlockNumber);
+    return fetchDepositsInRange(BigInteger.ZERO, toBlockNumber);
+  }
+
+  // Inclusive on both sides, does nothing if fromBlockNumber is after toBlockNumber
+  public synchronized SafeFuture<Void> fetchDepositsInRange(
+      BigInteger fromBlockNumber, BigInteger toBlockNumber) {
+    if (fromBlockNumber.compareTo(toBlockNumber) > 0) {
+      return SafeFuture.COMPLETE;
+    }
+    return depositFetcher.fetchDepositsInRange(fromBlockNumber, toBlockNumber);
   }
 
   private synchronized void onSubscriptionFailed(Throwable err) {
@@ -24,7 +24,9 @@ import com.google.common.eventbus.EventBus;
 import com.google.common.math.LongMath;
 import com.google.common.primitives.UnsignedLong;
 import java.math.RoundingMode;
+import java.util.Collections;
 import java.util.Date;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -33,6 +35,7 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.tuweni.bytes.Bytes32;
 import org.web3j.protocol.core.methods.response.EthBlock;
+import tech.pegasys.artemis.pow.api.Eth1DepositStorageChannel;
 import tech.pegasys.artemis.pow.event.CacheEth1BlockEvent;
 import tech.pegasys.artemis.util.async.AsyncRunner;
 import tech.pegasys.artemis.util.async.SafeFuture;
@@ -60,7 +63,9 @@ cache range =
 
 At startup: (implemented in this class)
   - Find the cache range
-  - Search Eth1 blocks to find blocks in the cache range (pseudo-code defined below)
+  - Load blocks stored by a previous run that are still in the cache range, and if there are any,
+  post them and request blocks after the latest stored block as described for Slot Events
+  - Otherwise, search Eth1 blocks to find blocks in the cache range (pseudo-code defined below)
 
 On every Slot Event: (implemented in this class)
   - Get the latest block number you have
@@ -96,6 +101,7 @@ public class Eth1DataManager implements TimeTickChannel {
 
   private final Eth1Provider eth1Provider;
   private final DepositContractAccessor depositContractAccessor;
+  private final Eth1DepositStorageChannel eth1DepositStorageChannel;
   private final EventBus eventBus;
   private final AsyncRunner asyncRunner;
   private final TimeProvider timeProvider;
@@ -108,17 +114,22 @@ public class Eth1DataManager implements TimeTickChannel {
       Eth1Provider eth1Provider,
       EventBus eventBus,
       DepositContractAccessor depositContractAccessor,
+      Eth1DepositStorageChannel eth1DepositStorageChannel,
       AsyncRunner asyncRunner,
       TimeProvider timeProvider) {
     this.eth1Provider = eth1Provider;
     this.eventBus = eventBus;
     this.depositContractAccessor = depositContractAccessor;
+    this.eth1DepositStorageChannel = eth1DepositStorageChannel;
     this.asyncRunner = asyncRunner;
     this.timeProvider = timeProvider;
   }
 
   public void start() {
-    doCacheStartup()
+    loadStoredBlocks()
+        .thenCompose(
+            storedBlocks ->
+                storedBlocks.isEmpty() ? doCacheStartup() : resumeFromStoredBlocks(storedBlocks))
         .finish(
             () -> {
               LOG.info("Eth1DataManager successfully ran cache startup logic");
@@ -155,6 +166,30 @@ public class Eth1DataManager implements TimeTickChannel {
     exploreBlocksInDirection(latestBlockNumber, true).reportExceptions();
   }
 
+  private SafeFuture<List<CacheEth1BlockEvent>> loadStoredBlocks() {
+    return eth1DepositStorageChannel
+        .loadEth1BlocksSince(getCacheRangeLowerBound())
+        .exceptionally(
+            err -> {
+              LOG.warn("Unable to load stored Eth1 blocks. Searching for cache range instead", err);
+              return Collections.emptyList();
+            });
+  }
+
+  private SafeFuture<Void> resumeFromStoredBlocks(final List<CacheEth1BlockEvent> storedBlocks) {
+    LOG.debug("Eth1DataManager restoring {} Eth1 blocks from storage", storedBlocks.size());
+    storedBlocks.forEach(eventBus::post);
+    final UnsignedLong latestStoredBlockNumber =
+        storedBlocks.get(storedBlocks.size() - 1).getBlockNumber();
+    return eth1Provider
+        .getGuaranteedEth1BlockFuture(latestStoredBlockNumber)
+        .thenCompose(
+            block -> {
+              latestBlockReference.set(block);
+              return exploreBlocksInDirection(latestStoredBlockNumber, true);
+            });
+  }
+
   private SafeFuture<Void> doCacheStartup() {
     final UnsignedLong cacheMidRangeTimestamp =
         getCacheMidRangeTimestamp(timeProvider.getTimeInSeconds());
@@ -346,9 +381,13 @@ public class Eth1DataManager implements TimeTickChannel {
   }
 
   public static UnsignedLong getCacheRangeLowerBound(UnsignedLong currentTime) {
-    return currentTime
-        .minus(UnsignedLong.valueOf(SLOTS_PER_ETH1_VOTING_PERIOD * SECONDS_PER_SLOT))
-        .minus(ETH1_FOLLOW_DISTANCE.times(SECONDS_PER_ETH1_BLOCK).times(UnsignedLong.valueOf(2)));
+    return currentTime.minus(getCacheRangeDuration());
+  }
+
+  /** Returns how many seconds before the current time the cache range begins. */
+  public static UnsignedLong getCacheRangeDuration() {
+    return UnsignedLong.valueOf(SLOTS_PER_ETH1_VOTING_PERIOD * SECONDS_PER_SLOT)
+        .plus(ETH1_FOLLOW_DISTANCE.times(SECONDS_PER_ETH1_BLOCK).times(UnsignedLong.valueOf(2)));
   }
 
   public UnsignedLong getCacheRangeLowerBound() {
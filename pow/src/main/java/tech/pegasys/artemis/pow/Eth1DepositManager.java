@@ -22,7 +22,9 @@ import java.util.concurrent.TimeUnit;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.web3j.protocol.core.methods.response.EthBlock;
+import tech.pegasys.artemis.pow.api.Eth1DepositStorageChannel;
 import tech.pegasys.artemis.pow.api.Eth1EventsChannel;
+import tech.pegasys.artemis.pow.api.ReplayDepositsResult;
 import tech.pegasys.artemis.util.async.AsyncRunner;
 import tech.pegasys.artemis.util.async.SafeFuture;
 import tech.pegasys.artemis.util.config.Constants;
@@ -34,6 +36,7 @@ public class Eth1DepositManager {
   private final Eth1Provider eth1Provider;
   private final AsyncRunner asyncRunner;
   private final Eth1EventsChannel eth1EventsChannel;
+  private final Eth1DepositStorageChannel eth1DepositStorageChannel;
   private final DepositProcessingController depositProcessingController;
   private final MinimumGenesisTimeBlockFinder minimumGenesisTimeBlockFinder;
 
@@ -41,24 +44,39 @@ public class Eth1DepositManager {
       Eth1Provider eth1Provider,
       AsyncRunner asyncRunner,
       Eth1EventsChannel eth1EventsChannel,
+      Eth1DepositStorageChannel eth1DepositStorageChannel,
       DepositProcessingController depositProcessingController,
       MinimumGenesisTimeBlockFinder minimumGenesisTimeBlockFinder) {
     this.eth1Provider = eth1Provider;
     this.asyncRunner = asyncRunner;
     this.eth1EventsChannel = eth1EventsChannel;
+    this.eth1DepositStorageChannel = eth1DepositStorageChannel;
     this.depositProcessingController = depositProcessingController;
     this.minimumGenesisTimeBlockFinder = minimumGenesisTimeBlockFinder;
   }
 
   public void start() {
-    getHead()
+    eth1DepositStorageChannel
+        .replayDepositEvents()
+        .exceptionally(
+            err -> {
+              LOG.warn("Unable to load stored deposits. Fetching all deposits from Eth1.", err);
+              return ReplayDepositsResult.empty();
+            })
         .thenCompose(
-            headBlock -> {
-              if (isBlockAfterMinGenesis(headBlock)) {
-                return headAfterMinGenesisMode(headBlock);
-              } else {
-                return headBeforeMinGenesisMode(headBlock);
+            replayResult -> {
+              if (replayResult.isPastMinGenesisBlock()) {
+                return resumeAfterMinGenesisMode(replayResult);
               }
+              return getHead()
+                  .thenCompose(
+                      headBlock -> {
+                        if (isBlockAfterMinGenesis(headBlock)) {
+                          return headAfterMinGenesisMode(headBlock, replayResult);
+                        } else {
+                          return headBeforeMinGenesisMode(headBlock, replayResult);
+                        }
+                      });
             })
         .finish(
             () -> LOG.info("Eth1DepositsManager successfully ran startup sequence."),
@@ -69,11 +87,18 @@ public class Eth1DepositManager {
     depositProcessingController.stopIfSubscribed();
   }
 
-  private SafeFuture<Void> headBeforeMinGenesisMode(EthBlock.Block headBlock) {
+  private SafeFuture<Void> resumeAfterMinGenesisMode(ReplayDepositsResult replayResult) {
+    LOG.debug("Eth1DepositsManager resuming after min genesis block from stored deposits");
+    depositProcessingController.startSubscription(replayResult.getFirstUnprocessedBlockNumber());
+    return SafeFuture.COMPLETE;
+  }
+
+  private SafeFuture<Void> headBeforeMinGenesisMode(
+      EthBlock.Block headBlock, ReplayDepositsResult replayResult) {
     LOG.debug("Eth1DepositsManager initiating head before genesis mode");
     BigInteger headBlockNumber = headBlock.getNumber();
     return depositProcessingController
-        .fetchDepositsFromGenesisTo(headBlockNumber)
+        .fetchDepositsInRange(replayResult.getFirstUnprocessedBlockNumber(), headBlockNumber)
         .thenRun(
             () -> {
               depositProcessingController.switchToBlockByBlockMode();
@@ -81,11 +106,12 @@ public class Eth1DepositManager {
             });
   }
 
-  private SafeFuture<Void> headAfterMinGenesisMode(EthBlock.Block headBlock) {
+  private SafeFuture<Void> headAfterMinGenesisMode(
+      EthBlock.Block headBlock, ReplayDepositsResult replayResult) {
     LOG.debug("Eth1DepositsManager initiating head after genesis mode");
     return minimumGenesisTimeBlockFinder
         .findMinGenesisTimeBlockInHistory(headBlock)
-        .thenCompose(this::sendDepositsUpToMinGenesis)
+        .thenCompose(block -> sendDepositsUpToMinGenesis(block, replayResult))
         .thenAccept(
             minGenesisTimeBlock -> {
               notifyMinGenesisTimeBlockReached(eth1EventsChannel, minGenesisTimeBlock);
@@ -94,9 +120,10 @@ public class Eth1DepositManager {
   }
 
   private SafeFuture<EthBlock.Block> sendDepositsUpToMinGenesis(
-      final EthBlock.Block minGenesisTimeBlock) {
+      final EthBlock.Block minGenesisTimeBlock, final ReplayDepositsResult replayResult) {
     return depositProcessingController
-        .fetchDepositsFromGenesisTo(minGenesisTimeBlock.getNumber())
+        .fetchDepositsInRange(
+            replayResult.getFirstUnprocessedBlockNumber(), minGenesisTimeBlock.getNumber())
         .thenApply(__ -> minGenesisTimeBlock);
   }
 
@@ -15,6 +15,7 @@ package tech.pegasys.artemis.pow;
 
 import com.google.common.primitives.UnsignedLong;
 import io.reactivex.Flowable;
+import java.util.List;
 import org.web3j.protocol.core.methods.response.EthBlock.Block;
 import org.web3j.protocol.core.methods.response.EthCall;
 import tech.pegasys.artemis.util.async.SafeFuture;
@@ -31,6 +32,14 @@ public interface Eth1Provider {
 
   SafeFuture<Block> getGuaranteedEth1BlockFuture(UnsignedLong blockNumber);
 
+  /**
+   * Requests several blocks together, retrying until all are retrieved.
+   *
+   * @param blockHashes the hashes of the blocks to retrieve
+   * @return the blocks in the same order as the hashes
+   */
+  SafeFuture<List<Block>> getGuaranteedEth1BlocksFuture(List<String> blockHashes);
+
   SafeFuture<Block> getLatestEth1BlockFuture();
 
   SafeFuture<EthCall> ethCall(String from, String to, String data, UnsignedLong blockNumber);
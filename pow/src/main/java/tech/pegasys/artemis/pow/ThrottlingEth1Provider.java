@@ -15,6 +15,7 @@ package tech.pegasys.artemis.pow;
 
 import com.google.common.primitives.UnsignedLong;
 import io.reactivex.Flowable;
+import java.util.List;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.function.Supplier;
@@ -53,6 +54,11 @@ public class ThrottlingEth1Provider implements Eth1Provider {
     return queueRequest(() -> delegate.getGuaranteedEth1BlockFuture(blockNumber));
   }
 
+  @Override
+  public SafeFuture<List<Block>> getGuaranteedEth1BlocksFuture(final List<String> blockHashes) {
+    return queueRequest(() -> delegate.getGuaranteedEth1BlocksFuture(blockHashes));
+  }
+
   @Override
   public SafeFuture<Block> getEth1BlockFuture(final String blockHash) {
     return queueRequest(() -> delegate.getEth1BlockFuture(blockHash));
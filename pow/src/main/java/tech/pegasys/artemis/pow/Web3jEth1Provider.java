@@ -13,17 +13,22 @@
 
 package tech.pegasys.artemis.pow;
 
+import static java.util.stream.Collectors.toList;
+
 import com.google.common.primitives.UnsignedLong;
 import io.reactivex.Flowable;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.web3j.protocol.Web3j;
 import org.web3j.protocol.core.DefaultBlockParameter;
 import org.web3j.protocol.core.DefaultBlockParameterName;
+import org.web3j.protocol.core.Request;
 import org.web3j.protocol.core.methods.request.Transaction;
 import org.web3j.protocol.core.methods.response.EthBlock;
 import org.web3j.protocol.core.methods.response.EthCall;
+import tech.pegasys.artemis.pow.exception.Eth1RequestException;
 import tech.pegasys.artemis.util.async.AsyncRunner;
 import tech.pegasys.artemis.util.async.SafeFuture;
 import tech.pegasys.artemis.util.config.Constants;
@@ -32,10 +37,12 @@ public class Web3jEth1Provider implements Eth1Provider {
   private static final Logger LOG = LogManager.getLogger();
 
   private final Web3j web3j;
+  private final BatchingHttpService batchService;
   private final AsyncRunner asyncRunner;
 
-  public Web3jEth1Provider(Web3j web3j, AsyncRunner asyncRunner) {
+  public Web3jEth1Provider(Web3j web3j, BatchingHttpService batchService, AsyncRunner asyncRunner) {
     this.web3j = web3j;
+    this.batchService = batchService;
     this.asyncRunner = asyncRunner;
   }
 
@@ -86,6 +93,38 @@ public class Web3jEth1Provider implements Eth1Provider {
             });
   }
 
+  @Override
+  public SafeFuture<List<EthBlock.Block>> getGuaranteedEth1BlocksFuture(
+      final List<String> blockHashes) {
+    return getEth1BlocksFuture(blockHashes)
+        .exceptionallyCompose(
+            (err) -> {
+              LOG.warn("Retrying Eth1 batch request for {} blocks", blockHashes.size(), err);
+              return asyncRunner
+                  .getDelayedFuture(
+                      Constants.ETH1_INDIVIDUAL_BLOCK_RETRY_TIMEOUT, TimeUnit.MILLISECONDS)
+                  .thenCompose(__ -> getGuaranteedEth1BlocksFuture(blockHashes));
+            });
+  }
+
+  private SafeFuture<List<EthBlock.Block>> getEth1BlocksFuture(final List<String> blockHashes) {
+    LOG.trace("Getting {} eth1 blocks in a batch", blockHashes.size());
+    final List<Request<?, EthBlock>> requests =
+        blockHashes.stream().map(hash -> web3j.ethGetBlockByHash(hash, false)).collect(toList());
+    return SafeFuture.of(batchService.sendBatchAsync(requests, EthBlock.class))
+        .thenApply(responses -> responses.stream().map(this::getBlock).collect(toList()));
+  }
+
+  private EthBlock.Block getBlock(final EthBlock response) {
+    if (response.hasError()) {
+      throw new Eth1RequestException(response.getError().getMessage());
+    }
+    if (response.getBlock() == null) {
+      throw new Eth1RequestException("Eth1 node returned no block for batched request");
+    }
+    return response.getBlock();
+  }
+
   private SafeFuture<EthBlock.Block> getEth1BlockFuture(DefaultBlockParameter blockParameter) {
     return SafeFuture.of(web3j.ethGetBlockByNumber(blockParameter, false).sendAsync())
         .thenApply(EthBlock::getBlock);
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.artemis.pow.api;
+
+import com.google.common.primitives.UnsignedLong;
+import java.util.List;
+import tech.pegasys.artemis.pow.event.CacheEth1BlockEvent;
+import tech.pegasys.artemis.util.async.SafeFuture;
+
+/**
+ * Provides access to the Eth1 data persisted by previous runs so it can be reloaded on restart
+ * instead of being requested from the Eth1 node again.
+ */
+public interface Eth1DepositStorageChannel {
+
+  /**
+   * Publishes every stored deposit event, followed by the minimum genesis time block if it was
+   * reached, to the {@link Eth1EventsChannel}.
+   *
+   * @return where deposit processing should resume from
+   */
+  SafeFuture<ReplayDepositsResult> replayDepositEvents();
+
+  /**
+   * Loads the stored Eth1 blocks with a timestamp at or after {@code minTimestamp}, in ascending
+   * block number order. Older blocks are no longer needed so are discarded.
+   *
+   * @param minTimestamp the earliest block timestamp to return
+   * @return the stored blocks
+   */
+  SafeFuture<List<CacheEth1BlockEvent>> loadEth1BlocksSince(UnsignedLong minTimestamp);
+}
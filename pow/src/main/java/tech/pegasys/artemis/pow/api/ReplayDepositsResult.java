@@ -0,0 +1,78 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.artemis.pow.api;
+
+import com.google.common.base.MoreObjects;
+import java.math.BigInteger;
+import java.util.Objects;
+
+public class ReplayDepositsResult {
+  private static final ReplayDepositsResult EMPTY =
+      new ReplayDepositsResult(BigInteger.ZERO, false);
+
+  private final BigInteger firstUnprocessedBlockNumber;
+  private final boolean pastMinGenesisBlock;
+
+  private ReplayDepositsResult(
+      final BigInteger firstUnprocessedBlockNumber, final boolean pastMinGenesisBlock) {
+    this.firstUnprocessedBlockNumber = firstUnprocessedBlockNumber;
+    this.pastMinGenesisBlock = pastMinGenesisBlock;
+  }
+
+  public static ReplayDepositsResult empty() {
+    return EMPTY;
+  }
+
+  public static ReplayDepositsResult create(
+      final BigInteger lastProcessedBlockNumber, final boolean pastMinGenesisBlock) {
+    return new ReplayDepositsResult(
+        lastProcessedBlockNumber.add(BigInteger.ONE), pastMinGenesisBlock);
+  }
+
+  /** Returns the first Eth1 block which may contain deposits that haven't been replayed. */
+  public BigInteger getFirstUnprocessedBlockNumber() {
+    return firstUnprocessedBlockNumber;
+  }
+
+  /** Returns true if the minimum genesis time block was reached and has been replayed. */
+  public boolean isPastMinGenesisBlock() {
+    return pastMinGenesisBlock;
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    final ReplayDepositsResult that = (ReplayDepositsResult) o;
+    return pastMinGenesisBlock == that.pastMinGenesisBlock
+        && Objects.equals(firstUnprocessedBlockNumber, that.firstUnprocessedBlockNumber);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(firstUnprocessedBlockNumber, pastMinGenesisBlock);
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+        .add("firstUnprocessedBlockNumber", firstUnprocessedBlockNumber)
+        .add("pastMinGenesisBlock", pastMinGenesisBlock)
+        .toString();
+  }
+}
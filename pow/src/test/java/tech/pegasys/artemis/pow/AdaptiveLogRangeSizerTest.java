@@ -0,0 +1,86 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.artemis.pow;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static tech.pegasys.artemis.pow.AdaptiveLogRangeSizer.MAX_RANGE_SIZE;
+import static tech.pegasys.artemis.pow.AdaptiveLogRangeSizer.MIN_RANGE_SIZE;
+import static tech.pegasys.artemis.pow.AdaptiveLogRangeSizer.MIN_RETRY_DELAY_MILLIS;
+import static tech.pegasys.artemis.pow.AdaptiveLogRangeSizer.TARGET_LOGS_PER_REQUEST;
+import static tech.pegasys.artemis.pow.AdaptiveLogRangeSizer.TARGET_REQUEST_MILLIS;
+
+import org.junit.jupiter.api.Test;
+import tech.pegasys.artemis.util.config.Constants;
+
+class AdaptiveLogRangeSizerTest {
+
+  private final AdaptiveLogRangeSizer sizer = new AdaptiveLogRangeSizer(1000);
+
+  @Test
+  void shouldGrowRangeWhenResponsesAreSmallAndFast() {
+    sizer.onSuccess(1000, 10, 100);
+    assertThat(sizer.getRangeSize()).isEqualTo(2000);
+  }
+
+  @Test
+  void shouldNotGrowRangeAfterPartialRange() {
+    sizer.onSuccess(10, 0, 100);
+    assertThat(sizer.getRangeSize()).isEqualTo(1000);
+  }
+
+  @Test
+  void shouldNotGrowBeyondMaximum() {
+    final AdaptiveLogRangeSizer sizer = new AdaptiveLogRangeSizer(MAX_RANGE_SIZE);
+    sizer.onSuccess(MAX_RANGE_SIZE, 0, 100);
+    assertThat(sizer.getRangeSize()).isEqualTo(MAX_RANGE_SIZE);
+  }
+
+  @Test
+  void shouldShrinkInProportionToLogCountWhenOverTarget() {
+    sizer.onSuccess(1000, TARGET_LOGS_PER_REQUEST * 4, 100);
+    assertThat(sizer.getRangeSize()).isEqualTo(250);
+  }
+
+  @Test
+  void shouldHalveRangeWhenResponsesAreSlow() {
+    sizer.onSuccess(1000, 10, TARGET_REQUEST_MILLIS + 1);
+    assertThat(sizer.getRangeSize()).isEqualTo(500);
+  }
+
+  @Test
+  void shouldHalveRangeOnFailureButNotBelowMinimum() {
+    sizer.onFailure(1000);
+    assertThat(sizer.getRangeSize()).isEqualTo(500);
+
+    sizer.onFailure(1);
+    assertThat(sizer.getRangeSize()).isEqualTo(MIN_RANGE_SIZE);
+  }
+
+  @Test
+  void shouldBackOffExponentiallyOnConsecutiveFailures() {
+    final long maxRetryDelayMillis = Constants.ETH1_DEPOSIT_REQUEST_RETRY_TIMEOUT * 1000;
+    sizer.onFailure(1000);
+    assertThat(sizer.getRetryDelayMillis()).isEqualTo(MIN_RETRY_DELAY_MILLIS);
+    sizer.onFailure(1000);
+    assertThat(sizer.getRetryDelayMillis()).isEqualTo(MIN_RETRY_DELAY_MILLIS * 2);
+
+    for (int i = 0; i < 30; i++) {
+      sizer.onFailure(1000);
+    }
+    assertThat(sizer.getRetryDelayMillis()).isEqualTo(maxRetryDelayMillis);
+
+    sizer.onSuccess(1, 0, 100);
+    assertThat(sizer.getRetryDelayMillis()).isEqualTo(MIN_RETRY_DELAY_MILLIS);
+  }
+}
@@ -13,6 +13,9 @@
 
 package tech.pegasys.artemis.pow;
 
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
@@ -22,8 +25,11 @@ import static org.mockito.Mockito.when;
 
 import com.google.common.primitives.Longs;
 import java.math.BigInteger;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import org.apache.tuweni.bytes.Bytes;
+import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentMatcher;
@@ -33,7 +39,6 @@ import org.web3j.utils.Numeric;
 import tech.pegasys.artemis.pow.api.Eth1EventsChannel;
 import tech.pegasys.artemis.pow.contract.DepositContract;
 import tech.pegasys.artemis.pow.event.DepositsFromBlockEvent;
-import tech.pegasys.artemis.util.async.AsyncRunner;
 import tech.pegasys.artemis.util.async.SafeFuture;
 import tech.pegasys.artemis.util.async.StubAsyncRunner;
 
@@ -42,7 +47,8 @@ public class DepositsFetcherTest {
   private Eth1Provider eth1Provider;
   private Eth1EventsChannel eth1EventsChannel;
   private DepositContract depositContract;
-  private AsyncRunner asyncRunner;
+  private StubAsyncRunner asyncRunner;
+  private final Map<String, EthBlock.Block> blocksByHash = new HashMap<>();
 
   private DepositFetcher depositFetcher;
 
@@ -54,7 +60,20 @@ public class DepositsFetcherTest {
     asyncRunner = new StubAsyncRunner();
 
     depositFetcher =
-        new DepositFetcher(eth1Provider, eth1EventsChannel, depositContract, asyncRunner);
+        new DepositFetcher(
+            eth1Provider,
+            eth1EventsChannel,
+            depositContract,
+            asyncRunner,
+            new NoOpMetricsSystem());
+
+    when(eth1Provider.getGuaranteedEth1BlocksFuture(any()))
+        .thenAnswer(
+            invocation -> {
+              final List<String> blockHashes = invocation.getArgument(0);
+              return SafeFuture.completedFuture(
+                  blockHashes.stream().map(blocksByHash::get).collect(toList()));
+            });
   }
 
   @Test
@@ -81,13 +100,36 @@ public class DepositsFetcherTest {
     verifyNoMoreInteractions(eth1EventsChannel);
   }
 
+  @Test
+  void shouldSplitRangeAndRetryWhenLogRequestFails() {
+    mockContractEventsInRange(0, 10).completeExceptionally(new RuntimeException("Too many logs"));
+    mockContractEventsInRange(0, 4)
+        .complete(List.of(mockDepositEventEventResponse(1, "0x1234", 1)));
+    // The range grows again after a successful request
+    mockContractEventsInRange(5, 10)
+        .complete(List.of(mockDepositEventEventResponse(2, "0x5678", 7)));
+
+    mockBlockForEth1Provider("0x1234", 1, 1000);
+    mockBlockForEth1Provider("0x5678", 7, 1084);
+
+    final SafeFuture<Void> result =
+        depositFetcher.fetchDepositsInRange(BigInteger.ZERO, BigInteger.valueOf(10));
+    assertThat(result).isNotDone();
+
+    asyncRunner.executeQueuedActions();
+
+    assertThat(result).isCompleted();
+    verify(eth1EventsChannel).onDepositsFromBlock(argThat(isEvent(1, 1)));
+    verify(eth1EventsChannel).onDepositsFromBlock(argThat(isEvent(7, 1)));
+    verifyNoMoreInteractions(eth1EventsChannel);
+  }
+
   private void mockBlockForEth1Provider(String blockHash, long blockNumber, long timestamp) {
     EthBlock.Block block = mock(EthBlock.Block.class);
     when(block.getTimestamp()).thenReturn(BigInteger.valueOf(timestamp));
     when(block.getNumber()).thenReturn(BigInteger.valueOf(blockNumber));
     when(block.getHash()).thenReturn(blockHash);
-    when(eth1Provider.getGuaranteedEth1BlockFuture(blockHash))
-        .thenReturn(SafeFuture.completedFuture(block));
+    blocksByHash.put(blockHash, block);
   }
 
   private SafeFuture<List<DepositContract.DepositEventEventResponse>> mockContractEventsInRange(
@@ -19,6 +19,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
@@ -33,6 +34,7 @@ import com.google.common.eventbus.EventBus;
 import com.google.common.primitives.UnsignedLong;
 import java.math.BigInteger;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Date;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
@@ -45,6 +47,7 @@ import org.web3j.protocol.core.DefaultBlockParameter;
 import org.web3j.protocol.core.DefaultBlockParameterName;
 import org.web3j.protocol.core.Request;
 import org.web3j.protocol.core.methods.response.EthBlock;
+import tech.pegasys.artemis.pow.api.Eth1DepositStorageChannel;
 import tech.pegasys.artemis.pow.event.CacheEth1BlockEvent;
 import tech.pegasys.artemis.util.EventSink;
 import tech.pegasys.artemis.util.async.SafeFuture;
@@ -56,9 +59,12 @@ import tech.pegasys.artemis.util.time.StubTimeProvider;
 public class Eth1DataManagerTest {
 
   private final Web3j web3j = mock(Web3j.class);
+  private final BatchingHttpService batchService = mock(BatchingHttpService.class);
   private final StubAsyncRunner asyncRunner = new StubAsyncRunner();
   private final DepositContractAccessor depositContractAccessor =
       mock(DepositContractAccessor.class);
+  private final Eth1DepositStorageChannel eth1DepositStorageChannel =
+      mock(Eth1DepositStorageChannel.class);
 
   private EventBus eventBus;
   private Eth1DataManager eth1DataManager;
@@ -99,12 +105,15 @@ public class Eth1DataManagerTest {
         .thenReturn(SafeFuture.completedFuture(UnsignedLong.valueOf(1234)));
     when(depositContractAccessor.getDepositRoot(any()))
         .thenReturn(SafeFuture.completedFuture(HEX_STRING));
+    when(eth1DepositStorageChannel.loadEth1BlocksSince(any()))
+        .thenReturn(SafeFuture.completedFuture(Collections.emptyList()));
 
     eth1DataManager =
         new Eth1DataManager(
-            new Web3jEth1Provider(web3j, asyncRunner),
+            new Web3jEth1Provider(web3j, batchService, asyncRunner),
             eventBus,
             depositContractAccessor,
+            eth1DepositStorageChannel,
             asyncRunner,
             timeProvider);
   }
@@ -185,6 +194,37 @@ public class Eth1DataManagerTest {
     assertThat(eth1BlockTimestamps).containsExactlyInAnyOrder(158, 138, 178);
   }
 
+  @Test
+  void cacheStartup_resumeFromStoredBlocks() {
+    final List<CacheEth1BlockEvent> storedBlocks =
+        List.of(createStoredBlock(14, 156), createStoredBlock(15, 162));
+    when(eth1DepositStorageChannel.loadEth1BlocksSince(UnsignedLong.valueOf(142)))
+        .thenReturn(SafeFuture.completedFuture(storedBlocks));
+    List<MockBlock> eth1Blocks =
+        Arrays.asList(
+            new MockBlock(15, 162),
+            new MockBlock(16, 168),
+            new MockBlock(17, 174),
+            // Cache Range Upper Bound: 177
+            new MockBlock(18, 180));
+
+    MockBlock latestBlockRequest = new MockBlock(21, 198);
+
+    setupWeb3jMockedBlockResponses(eth1Blocks, latestBlockRequest);
+
+    eth1DataManager.start();
+
+    List<Integer> eth1BlockTimestamps =
+        eventSink.stream()
+            .map(CacheEth1BlockEvent::getBlockTimestamp)
+            .map(UnsignedLong::intValue)
+            .collect(Collectors.toList());
+
+    // Stored blocks are reposted and only the blocks after them are requested
+    assertThat(eth1BlockTimestamps).containsExactly(156, 162, 168, 174, 180);
+    verify(web3j, never()).ethGetBlockByNumber(eq(DefaultBlockParameterName.LATEST), eq(false));
+  }
+
   @Test
   void cacheStartup_retryStartup() {
     Request mockRequest = mockFailedRequest();
@@ -207,9 +247,10 @@ public class Eth1DataManagerTest {
     eventBus = mock(EventBus.class);
     eth1DataManager =
         new Eth1DataManager(
-            new Web3jEth1Provider(web3j, asyncRunner),
+            new Web3jEth1Provider(web3j, batchService, asyncRunner),
             eventBus,
             depositContractAccessor,
+            eth1DepositStorageChannel,
             asyncRunner,
             timeProvider);
     verifyNoInteractions(eventBus);
@@ -219,9 +260,10 @@ public class Eth1DataManagerTest {
   void onTick_startupDoneGetNewBlocks() {
     eth1DataManager =
         new Eth1DataManager(
-            new Web3jEth1Provider(web3j, asyncRunner),
+            new Web3jEth1Provider(web3j, batchService, asyncRunner),
             eventBus,
             depositContractAccessor,
+            eth1DepositStorageChannel,
             asyncRunner,
             timeProvider);
 
@@ -268,9 +310,10 @@ public class Eth1DataManagerTest {
   void onTick_startupDone_LatestTimestampStillHigherThanUpperBound() {
     eth1DataManager =
         new Eth1DataManager(
-            new Web3jEth1Provider(web3j, asyncRunner),
+            new Web3jEth1Provider(web3j, batchService, asyncRunner),
             eventBus,
             depositContractAccessor,
+            eth1DepositStorageChannel,
             asyncRunner,
             timeProvider);
 
@@ -337,6 +380,15 @@ public class Eth1DataManagerTest {
                 UnsignedLong.valueOf(1500314596 * 2L)));
   }
 
+  private CacheEth1BlockEvent createStoredBlock(final long number, final long timestamp) {
+    return new CacheEth1BlockEvent(
+        UnsignedLong.valueOf(number),
+        HEX_STRING,
+        UnsignedLong.valueOf(timestamp),
+        HEX_STRING,
+        UnsignedLong.valueOf(1234));
+  }
+
   private Request mockFailedRequest() {
     Request mockRequest = mock(Request.class);
     when(mockRequest.sendAsync())
@@ -15,7 +15,6 @@ package tech.pegasys.artemis.services.beaconchain;
 
 import static tech.pegasys.artemis.datastructures.util.BeaconStateUtil.compute_epoch_at_slot;
 import static tech.pegasys.artemis.statetransition.util.ForkChoiceUtil.on_tick;
-import static tech.pegasys.artemis.util.config.Constants.SECONDS_PER_SLOT;
 import static tech.pegasys.artemis.util.config.Constants.SLOTS_PER_EPOCH;
 import static tech.pegasys.teku.logging.EventLogger.EVENT_LOG;
 
@@ -26,6 +25,7 @@ import io.libp2p.core.crypto.KeyKt;
 import io.libp2p.core.crypto.PrivKey;
 import java.io.IOException;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Date;
 import java.util.Optional;
@@ -36,7 +36,10 @@ import org.apache.tuweni.bytes.Bytes32;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
 import tech.pegasys.artemis.api.DataProvider;
 import tech.pegasys.artemis.beaconrestapi.BeaconRestApi;
+import tech.pegasys.artemis.datastructures.util.RetainedSszEncodings;
 import tech.pegasys.artemis.events.EventChannels;
+import tech.pegasys.artemis.events.OverflowPolicy;
+import tech.pegasys.artemis.events.WaitStrategy;
 import tech.pegasys.artemis.metrics.ArtemisMetricCategory;
 import tech.pegasys.artemis.metrics.SettableGauge;
 import tech.pegasys.artemis.networking.eth2.Eth2NetworkBuilder;
@@ -46,16 +49,21 @@ import tech.pegasys.artemis.networking.p2p.mock.MockP2PNetwork;
 import tech.pegasys.artemis.networking.p2p.network.NetworkConfig;
 import tech.pegasys.artemis.networking.p2p.network.P2PNetwork;
 import tech.pegasys.artemis.pow.api.Eth1EventsChannel;
+import tech.pegasys.artemis.service.serviceutils.AsyncRunnerPools;
 import tech.pegasys.artemis.service.serviceutils.Service;
+import tech.pegasys.artemis.services.beaconchain.SlotDeadlineScheduler.SlotDutyHandler;
 import tech.pegasys.artemis.statetransition.AttestationAggregator;
 import tech.pegasys.artemis.statetransition.BlockAttestationsPool;
 import tech.pegasys.artemis.statetransition.BlockProposalUtil;
+import tech.pegasys.artemis.statetransition.BlockReplayStateRegenerator;
 import tech.pegasys.artemis.statetransition.StateProcessor;
 import tech.pegasys.artemis.statetransition.StateTransition;
 import tech.pegasys.artemis.statetransition.blockimport.BlockImporter;
 import tech.pegasys.artemis.statetransition.events.attestation.BroadcastAggregatesEvent;
 import tech.pegasys.artemis.statetransition.events.attestation.BroadcastAttestationEvent;
+import tech.pegasys.artemis.statetransition.events.attestation.ProcessedAttestationsChannel;
 import tech.pegasys.artemis.statetransition.genesis.GenesisHandler;
+import tech.pegasys.artemis.statetransition.util.MockStartGenesisCache;
 import tech.pegasys.artemis.statetransition.util.StartupUtil;
 import tech.pegasys.artemis.storage.ChainStorageClient;
 import tech.pegasys.artemis.storage.CombinedChainDataClient;
@@ -69,35 +77,46 @@ import tech.pegasys.artemis.sync.DefaultSyncService;
 import tech.pegasys.artemis.sync.SyncManager;
 import tech.pegasys.artemis.sync.SyncService;
 import tech.pegasys.artemis.sync.util.NoopSyncService;
+import tech.pegasys.artemis.util.async.AsyncRunner;
 import tech.pegasys.artemis.util.async.SafeFuture;
 import tech.pegasys.artemis.util.config.ArtemisConfiguration;
 import tech.pegasys.artemis.util.time.TimeProvider;
 import tech.pegasys.artemis.util.time.channels.SlotEventsChannel;
 import tech.pegasys.artemis.util.time.channels.TimeTickChannel;
 import tech.pegasys.artemis.validator.api.ValidatorApiChannel;
+import tech.pegasys.artemis.validator.coordinator.AdvancedStateCache;
 import tech.pegasys.artemis.validator.coordinator.BlockFactory;
 import tech.pegasys.artemis.validator.coordinator.DepositProvider;
+import tech.pegasys.artemis.validator.coordinator.EpochDutiesCache;
 import tech.pegasys.artemis.validator.coordinator.Eth1DataCache;
 import tech.pegasys.artemis.validator.coordinator.ValidatorApiHandler;
 import tech.pegasys.artemis.validator.coordinator.ValidatorCoordinator;
 
-public class BeaconChainController extends Service implements TimeTickChannel {
+public class BeaconChainController extends Service implements TimeTickChannel, SlotDutyHandler {
   private static final Logger LOG = LogManager.getLogger();
+  private static final int PROCESSED_ATTESTATIONS_BUFFER_SIZE = 4096;
+  private static final String DEFAULT_GENESIS_CACHE_DIR = "artemis-mock-genesis";
+  private static final String PEER_CACHE_FILE = "known-peers.txt";
 
   private final EventChannels eventChannels;
   private final MetricsSystem metricsSystem;
+  private final AsyncRunnerPools asyncRunnerPools;
+  private final RetainedSszEncodings retainedSszEncodings;
   private final ArtemisConfiguration config;
   private final TimeProvider timeProvider;
   private final EventBus eventBus;
   private final boolean setupInitialState;
   private final SlotEventsChannel slotEventsChannelPublisher;
+  private final SlotDeadlineScheduler slotDeadlineScheduler;
+  private final EpochDutiesCache epochDutiesCache = new EpochDutiesCache();
+  private final AdvancedStateCache advancedStateCache =
+      new AdvancedStateCache(new StateTransition());
 
   private volatile ChainStorageClient chainStorageClient;
   private volatile P2PNetwork<Eth2Peer> p2pNetwork;
   private volatile SettableGauge currentSlotGauge;
   private volatile SettableGauge currentEpochGauge;
   private volatile StateProcessor stateProcessor;
-  private volatile UnsignedLong nodeSlot = UnsignedLong.ZERO;
   private volatile BeaconRestApi beaconRestAPI;
   private volatile AttestationAggregator attestationAggregator;
   private volatile BlockAttestationsPool blockAttestationsPool;
@@ -113,14 +132,21 @@ public class BeaconChainController extends Service implements TimeTickChannel {
       EventBus eventBus,
       EventChannels eventChannels,
       MetricsSystem metricsSystem,
+      AsyncRunnerPools asyncRunnerPools,
+      RetainedSszEncodings retainedSszEncodings,
       ArtemisConfiguration config) {
     this.timeProvider = timeProvider;
     this.eventBus = eventBus;
     this.eventChannels = eventChannels;
     this.config = config;
     this.metricsSystem = metricsSystem;
+    this.asyncRunnerPools = asyncRunnerPools;
+    this.retainedSszEncodings = retainedSszEncodings;
     this.slotEventsChannelPublisher = eventChannels.getPublisher(SlotEventsChannel.class);
     this.setupInitialState = config.isInteropEnabled() || config.getInteropStartState() != null;
+    this.slotDeadlineScheduler =
+        new SlotDeadlineScheduler(
+            asyncRunnerPools.getCpuRunner(), timeProvider, metricsSystem, this);
   }
 
   @Override
@@ -143,6 +169,7 @@ public class BeaconChainController extends Service implements TimeTickChannel {
     LOG.debug("Stopping {}", this.getClass().getSimpleName());
     return SafeFuture.allOf(
         SafeFuture.fromRunnable(() -> eventBus.unregister(this)),
+        SafeFuture.fromRunnable(slotDeadlineScheduler::stop),
         SafeFuture.fromRunnable(beaconRestAPI::stop),
         validatorCoordinator.stop(),
         syncService.stop(),
@@ -160,14 +187,15 @@ public class BeaconChainController extends Service implements TimeTickChannel {
               if (setupInitialState && chainStorageClient.getStore() == null) {
                 setupInitialState();
               }
-              chainStorageClient.subscribeStoreInitialized(this::onStoreInitialized);
               // Init other services
               this.initAll();
+              chainStorageClient.subscribeStoreInitialized(this::onStoreInitialized);
               eventChannels.subscribe(TimeTickChannel.class, this);
             });
   }
 
   public void initAll() {
+    initEventChannels();
     initCombinedChainDataClient();
     initMetrics();
     initAttestationAggregator();
@@ -184,6 +212,15 @@ public class BeaconChainController extends Service implements TimeTickChannel {
     initRestAPI();
   }
 
+  private void initEventChannels() {
+    // Every gossiped attestation and aggregate flows through this channel
+    eventChannels.useRingBuffer(
+        ProcessedAttestationsChannel.class,
+        PROCESSED_ATTESTATIONS_BUFFER_SIZE,
+        WaitStrategy.SLEEPING,
+        OverflowPolicy.BLOCK);
+  }
+
   private void initCombinedChainDataClient() {
     LOG.debug("BeaconChainController.initCombinedChainDataClient()");
     HistoricalChainData historicalChainData = new HistoricalChainData(eventBus);
@@ -230,24 +267,32 @@ public class BeaconChainController extends Service implements TimeTickChannel {
             attestationAggregator,
             blockAttestationsPool,
             eth1DataCache,
+            epochDutiesCache,
+            advancedStateCache,
+            asyncRunnerPools.getCpuRunner(),
             config);
-    eventChannels.subscribe(SlotEventsChannel.class, validatorCoordinator);
+    eventChannels
+        .subscribe(SlotEventsChannel.class, validatorCoordinator)
+        .subscribe(ProcessedAttestationsChannel.class, validatorCoordinator);
   }
 
   public void initValidatorApiHandler() {
     LOG.debug("BeaconChainController.initValidatorApiHandler()");
-    final StateTransition stateTransition = new StateTransition();
     final BlockFactory blockFactory =
         new BlockFactory(
-            new BlockProposalUtil(stateTransition),
-            stateTransition,
+            new BlockProposalUtil(new StateTransition()),
+            advancedStateCache,
             blockAttestationsPool,
             depositProvider,
             eth1DataCache);
     eventChannels.subscribe(
         ValidatorApiChannel.class,
         new ValidatorApiHandler(
-            combinedChainDataClient, blockFactory, attestationAggregator, eventBus));
+            combinedChainDataClient,
+            blockFactory,
+            attestationAggregator,
+            eventBus,
+            epochDutiesCache));
   }
 
   public void initStateProcessor() {
@@ -264,7 +309,11 @@ public class BeaconChainController extends Service implements TimeTickChannel {
   }
 
   private void initAttestationPropagationManager() {
-    attestationManager = AttestationManager.create(eventBus, chainStorageClient);
+    attestationManager =
+        AttestationManager.create(
+            eventBus,
+            chainStorageClient,
+            eventChannels.getPublisher(ProcessedAttestationsChannel.class));
     eventChannels.subscribe(SlotEventsChannel.class, attestationManager);
   }
 
@@ -299,6 +348,9 @@ public class BeaconChainController extends Service implements TimeTickChannel {
               .chainStorageClient(chainStorageClient)
               .metricsSystem(metricsSystem)
               .timeProvider(timeProvider)
+              .asyncRunner(asyncRunnerPools.getIoRunner())
+              .retainedSszEncodings(retainedSszEncodings)
+              .peerCacheFile(Paths.get(config.getDataPath(), PEER_CACHE_FILE))
               .build();
     }
   }
@@ -347,9 +399,12 @@ public class BeaconChainController extends Service implements TimeTickChannel {
       syncService = new NoopSyncService();
     } else {
       BlockImporter blockImporter = new BlockImporter(chainStorageClient, eventBus);
+      final AsyncRunner asyncRunner = asyncRunnerPools.getIoRunner();
       BlockPropagationManager blockPropagationManager =
-          BlockPropagationManager.create(eventBus, p2pNetwork, chainStorageClient, blockImporter);
-      SyncManager syncManager = SyncManager.create(p2pNetwork, chainStorageClient, blockImporter);
+          BlockPropagationManager.create(
+              asyncRunner, eventBus, p2pNetwork, chainStorageClient, blockImporter);
+      SyncManager syncManager =
+          SyncManager.create(asyncRunner, p2pNetwork, chainStorageClient, blockImporter);
       syncService =
           new DefaultSyncService(blockPropagationManager, syncManager, chainStorageClient);
       eventChannels.subscribe(SlotEventsChannel.class, blockPropagationManager);
@@ -361,64 +416,89 @@ public class BeaconChainController extends Service implements TimeTickChannel {
         chainStorageClient,
         config.getInteropGenesisTime(),
         config.getInteropStartState(),
-        config.getInteropNumberOfValidators());
+        config.getInteropNumberOfValidators(),
+        Optional.of(new MockStartGenesisCache(getGenesisCacheDir(), config.getNetwork())));
+  }
+
+  private Path getGenesisCacheDir() {
+    // Outside the data path by default so nodes of a local testnet can share cached states
+    return Optional.ofNullable(config.getInteropGenesisCacheDir())
+        .map(Path::of)
+        .orElseGet(() -> Path.of(System.getProperty("java.io.tmpdir"), DEFAULT_GENESIS_CACHE_DIR));
   }
 
   private void onStoreInitialized() {
-    UnsignedLong genesisTime = chainStorageClient.getGenesisTime();
-    UnsignedLong currentTime = UnsignedLong.valueOf(System.currentTimeMillis() / 1000);
-    UnsignedLong currentSlot = UnsignedLong.ZERO;
-    if (currentTime.compareTo(genesisTime) > 0) {
-      UnsignedLong deltaTime = currentTime.minus(genesisTime);
-      currentSlot = deltaTime.dividedBy(UnsignedLong.valueOf(SECONDS_PER_SLOT));
-    } else {
+    final UnsignedLong genesisTime = chainStorageClient.getGenesisTime();
+    final UnsignedLong currentTime = timeProvider.getTimeInSeconds();
+    if (currentTime.compareTo(genesisTime) < 0) {
       UnsignedLong timeUntilGenesis = genesisTime.minus(currentTime);
       LOG.info("{} seconds until genesis.", timeUntilGenesis);
     }
-    nodeSlot = currentSlot;
+    if (config.getHotStateCacheSize() > 0) {
+      chainStorageClient
+          .getStore()
+          .limitHotStates(
+              config.getHotStateCacheSize(),
+              new BlockReplayStateRegenerator(new StateTransition()),
+              metricsSystem);
+    }
+    slotDeadlineScheduler.start(genesisTime);
   }
 
   @Override
   public void onTick(Date date) {
-    if (chainStorageClient.isPreGenesis() || syncService.isSyncActive()) {
+    if (chainStorageClient.isPreGenesis()) {
       return;
     }
-    final UnsignedLong currentTime = UnsignedLong.valueOf(date.getTime() / 1000);
+    updateStoreTime(UnsignedLong.valueOf(date.getTime() / 1000));
+  }
+
+  private void updateStoreTime(final UnsignedLong currentTime) {
     final Store.Transaction transaction = chainStorageClient.startStoreTransaction();
     on_tick(transaction, currentTime);
     transaction.commit().join();
-    final UnsignedLong nextSlotStartTime =
-        chainStorageClient
-            .getGenesisTime()
-            .plus(nodeSlot.times(UnsignedLong.valueOf(SECONDS_PER_SLOT)));
-    if (chainStorageClient.getStore().getTime().compareTo(nextSlotStartTime) >= 0) {
-      processSlot();
+  }
+
+  private boolean isPerformingSlotDuties() {
+    return !chainStorageClient.isPreGenesis() && !syncService.isSyncActive();
+  }
+
+  @Override
+  public void onSlotStart(final UnsignedLong slot) {
+    if (!isPerformingSlotDuties()) {
+      return;
     }
+    // Ensure fork choice sees the new slot even if the next time tick hasn't arrived yet
+    updateStoreTime(timeProvider.getTimeInSeconds());
+    if (isFirstSlotOfNewEpoch(slot)) {
+      EVENT_LOG.epochEvent();
+    }
+
+    slotEventsChannelPublisher.onSlot(slot);
+    this.currentSlotGauge.set(slot.longValue());
+    this.currentEpochGauge.set(compute_epoch_at_slot(slot).longValue());
   }
 
-  private void processSlot() {
-    try {
-      if (isFirstSlotOfNewEpoch(nodeSlot)) {
-        EVENT_LOG.epochEvent();
-      }
+  @Override
+  public void onAttestationDue(final UnsignedLong slot) {
+    if (!isPerformingSlotDuties()) {
+      return;
+    }
+    Bytes32 headBlockRoot = this.stateProcessor.processHead();
+    EVENT_LOG.slotEvent(
+        slot,
+        chainStorageClient.getBestSlot(),
+        chainStorageClient.getStore().getJustifiedCheckpoint().getEpoch(),
+        chainStorageClient.getStore().getFinalizedCheckpoint().getEpoch());
+    this.eventBus.post(new BroadcastAttestationEvent(headBlockRoot, slot));
+  }
 
-      slotEventsChannelPublisher.onSlot(nodeSlot);
-      this.currentSlotGauge.set(nodeSlot.longValue());
-      this.currentEpochGauge.set(compute_epoch_at_slot(nodeSlot).longValue());
-      Thread.sleep(SECONDS_PER_SLOT * 1000 / 3);
-      Bytes32 headBlockRoot = this.stateProcessor.processHead();
-      EVENT_LOG.slotEvent(
-          nodeSlot,
-          chainStorageClient.getBestSlot(),
-          chainStorageClient.getStore().getJustifiedCheckpoint().getEpoch(),
-          chainStorageClient.getStore().getFinalizedCheckpoint().getEpoch());
-      this.eventBus.post(new BroadcastAttestationEvent(headBlockRoot, nodeSlot));
-      Thread.sleep(SECONDS_PER_SLOT * 1000 / 3);
-      this.eventBus.post(new BroadcastAggregatesEvent());
-      nodeSlot = nodeSlot.plus(UnsignedLong.ONE);
-    } catch (InterruptedException e) {
-      LOG.fatal("onTick: {}", e.toString(), e);
+  @Override
+  public void onAggregationDue(final UnsignedLong slot) {
+    if (!isPerformingSlotDuties()) {
+      return;
     }
+    this.eventBus.post(new BroadcastAggregatesEvent(slot));
   }
 
   private boolean isFirstSlotOfNewEpoch(final UnsignedLong slot) {
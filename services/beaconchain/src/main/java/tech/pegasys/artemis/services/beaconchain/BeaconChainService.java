@@ -28,6 +28,8 @@ public class BeaconChainService extends Service {
             config.getEventBus(),
             config.getEventChannels(),
             config.getMetricsSystem(),
+            config.getAsyncRunnerPools(),
+            config.getRetainedSszEncodings(),
             config.getConfig());
   }
 
@@ -0,0 +1,223 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.artemis.services.beaconchain;
+
+import static tech.pegasys.artemis.util.config.Constants.SECONDS_PER_SLOT;
+import static tech.pegasys.artemis.util.time.TimeProvider.MILLIS_PER_SECOND;
+
+import com.google.common.primitives.UnsignedLong;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
+import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
+import tech.pegasys.artemis.metrics.ArtemisMetricCategory;
+import tech.pegasys.artemis.metrics.SettableGauge;
+import tech.pegasys.artemis.util.async.AsyncRunner;
+import tech.pegasys.artemis.util.async.SafeFuture;
+import tech.pegasys.artemis.util.time.TimeProvider;
+
+/**
+ * Dispatches the per-slot duties at exact wall-clock deadlines derived from genesis time rather
+ * than from the arrival of time ticks.
+ *
+ * <p>Each deadline is calculated from the slot number and duty so delays in processing one duty
+ * never shift the deadline of the next. If the node falls more than a slot behind (e.g. after the
+ * host was suspended) the missed slots are skipped rather than replayed.
+ */
+public class SlotDeadlineScheduler {
+  private static final Logger LOG = LogManager.getLogger();
+
+  private final AsyncRunner asyncRunner;
+  private final TimeProvider timeProvider;
+  private final SlotDutyHandler handler;
+  private final LabelledMetric<Counter> dutyCounter;
+  private final LabelledMetric<Counter> dutyLatenessCounter;
+  private final Map<SlotDuty, SettableGauge> lastDutyLatenessGauges = new EnumMap<>(SlotDuty.class);
+  private final AtomicBoolean running = new AtomicBoolean(false);
+
+  private volatile UnsignedLong genesisTimeMillis = UnsignedLong.ZERO;
+
+  public SlotDeadlineScheduler(
+      final AsyncRunner asyncRunner,
+      final TimeProvider timeProvider,
+      final MetricsSystem metricsSystem,
+      final SlotDutyHandler handler) {
+    this.asyncRunner = asyncRunner;
+    this.timeProvider = timeProvider;
+    this.handler = handler;
+    this.dutyCounter =
+        metricsSystem.createLabelledCounter(
+            ArtemisMetricCategory.BEACONCHAIN,
+            "slot_duty_count",
+            "Total number of slot duties dispatched",
+            "duty");
+    this.dutyLatenessCounter =
+        metricsSystem.createLabelledCounter(
+            ArtemisMetricCategory.BEACONCHAIN,
+            "slot_duty_lateness_ms_total",
+            "Total milliseconds between slot duty deadlines and the duties being dispatched",
+            "duty");
+    for (SlotDuty duty : SlotDuty.values()) {
+      lastDutyLatenessGauges.put(
+          duty,
+          SettableGauge.create(
+              metricsSystem,
+              ArtemisMetricCategory.BEACONCHAIN,
+              duty.getMetricName() + "_lateness_ms",
+              "Milliseconds between the most recent "
+                  + duty.getMetricName()
+                  + " deadline and the duty being dispatched"));
+    }
+  }
+
+  public void start(final UnsignedLong genesisTime) {
+    if (!running.compareAndSet(false, true)) {
+      return;
+    }
+    genesisTimeMillis = genesisTime.times(MILLIS_PER_SECOND);
+    scheduleDuty(getCurrentSlot(), SlotDuty.SLOT_START);
+  }
+
+  public void stop() {
+    running.set(false);
+  }
+
+  UnsignedLong getDeadlineMillis(final UnsignedLong slot, final SlotDuty duty) {
+    return genesisTimeMillis.plus(slot.times(getMillisPerSlot())).plus(duty.getOffsetMillis());
+  }
+
+  private UnsignedLong getCurrentSlot() {
+    final UnsignedLong currentTime = timeProvider.getTimeInMillis();
+    if (currentTime.compareTo(genesisTimeMillis) <= 0) {
+      return UnsignedLong.ZERO;
+    }
+    return currentTime.minus(genesisTimeMillis).dividedBy(getMillisPerSlot());
+  }
+
+  private void scheduleDuty(final UnsignedLong slot, final SlotDuty duty) {
+    if (!running.get()) {
+      return;
+    }
+    final long delayMillis = -millisSince(getDeadlineMillis(slot, duty));
+    asyncRunner
+        .runAfterDelay(
+            () -> {
+              dispatchDuty(slot, duty);
+              return SafeFuture.COMPLETE;
+            },
+            Math.max(delayMillis, 0),
+            TimeUnit.MILLISECONDS)
+        .finish(
+            () -> {},
+            error -> LOG.error("Failed to schedule {} duty for slot {}", duty, slot, error));
+  }
+
+  private void dispatchDuty(final UnsignedLong slot, final SlotDuty duty) {
+    if (!running.get()) {
+      return;
+    }
+    final long latenessMillis = Math.max(millisSince(getDeadlineMillis(slot, duty)), 0);
+    dutyCounter.labels(duty.getMetricName()).inc();
+    dutyLatenessCounter.labels(duty.getMetricName()).inc(latenessMillis);
+    lastDutyLatenessGauges.get(duty).set(latenessMillis);
+    try {
+      duty.dispatch(handler, slot);
+    } catch (final Throwable t) {
+      LOG.error("Failed to process {} duty for slot {}", duty, slot, t);
+    } finally {
+      scheduleNextDuty(slot, duty);
+    }
+  }
+
+  private void scheduleNextDuty(final UnsignedLong slot, final SlotDuty duty) {
+    UnsignedLong nextSlot = slot;
+    SlotDuty nextDuty = duty.next();
+    if (nextDuty == SlotDuty.SLOT_START) {
+      nextSlot = slot.plus(UnsignedLong.ONE);
+    }
+
+    if (millisSince(getDeadlineMillis(nextSlot, nextDuty)) >= getMillisPerSlot().longValue()) {
+      final UnsignedLong currentSlot = getCurrentSlot();
+      LOG.warn(
+          "Slot duties fell behind by more than a slot. Skipping from slot {} to {}",
+          nextSlot,
+          currentSlot);
+      nextSlot = currentSlot;
+      nextDuty = SlotDuty.SLOT_START;
+    }
+    scheduleDuty(nextSlot, nextDuty);
+  }
+
+  private long millisSince(final UnsignedLong timeMillis) {
+    return timeProvider.getTimeInMillis().longValue() - timeMillis.longValue();
+  }
+
+  private static UnsignedLong getMillisPerSlot() {
+    return UnsignedLong.valueOf(SECONDS_PER_SLOT).times(MILLIS_PER_SECOND);
+  }
+
+  enum SlotDuty {
+    SLOT_START("slot_start"),
+    ATTESTATION("attestation"),
+    AGGREGATION("aggregation");
+
+    private final String metricName;
+
+    SlotDuty(final String metricName) {
+      this.metricName = metricName;
+    }
+
+    String getMetricName() {
+      return metricName;
+    }
+
+    /** Duties are spaced evenly through the slot, so the nth duty is due n thirds of the way in. */
+    UnsignedLong getOffsetMillis() {
+      return getMillisPerSlot()
+          .times(UnsignedLong.valueOf(ordinal()))
+          .dividedBy(UnsignedLong.valueOf(values().length));
+    }
+
+    SlotDuty next() {
+      return values()[(ordinal() + 1) % values().length];
+    }
+
+    void dispatch(final SlotDutyHandler handler, final UnsignedLong slot) {
+      switch (this) {
+        case SLOT_START:
+          handler.onSlotStart(slot);
+          break;
+        case ATTESTATION:
+          handler.onAttestationDue(slot);
+          break;
+        case AGGREGATION:
+          handler.onAggregationDue(slot);
+          break;
+      }
+    }
+  }
+
+  public interface SlotDutyHandler {
+    void onSlotStart(UnsignedLong slot);
+
+    void onAttestationDue(UnsignedLong slot);
+
+    void onAggregationDue(UnsignedLong slot);
+  }
+}
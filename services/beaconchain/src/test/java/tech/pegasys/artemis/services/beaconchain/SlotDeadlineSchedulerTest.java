@@ -0,0 +1,114 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.artemis.services.beaconchain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static tech.pegasys.artemis.util.config.Constants.SECONDS_PER_SLOT;
+
+import com.google.common.primitives.UnsignedLong;
+import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import tech.pegasys.artemis.services.beaconchain.SlotDeadlineScheduler.SlotDuty;
+import tech.pegasys.artemis.services.beaconchain.SlotDeadlineScheduler.SlotDutyHandler;
+import tech.pegasys.artemis.util.async.StubAsyncRunner;
+import tech.pegasys.artemis.util.time.StubTimeProvider;
+
+class SlotDeadlineSchedulerTest {
+  private static final UnsignedLong GENESIS_TIME = UnsignedLong.valueOf(1000);
+  private static final long MILLIS_PER_SLOT = SECONDS_PER_SLOT * 1000L;
+
+  private final StubAsyncRunner asyncRunner = new StubAsyncRunner();
+  private final StubTimeProvider timeProvider =
+      StubTimeProvider.withTimeInSeconds(GENESIS_TIME.longValue());
+  private final SlotDutyHandler handler = mock(SlotDutyHandler.class);
+
+  private final SlotDeadlineScheduler scheduler =
+      new SlotDeadlineScheduler(asyncRunner, timeProvider, new NoOpMetricsSystem(), handler);
+
+  @Test
+  public void getDeadlineMillis_shouldSplitSlotIntoThirds() {
+    scheduler.start(GENESIS_TIME);
+    final UnsignedLong slot = UnsignedLong.valueOf(5);
+    final long slotStart = GENESIS_TIME.longValue() * 1000 + 5 * MILLIS_PER_SLOT;
+
+    assertThat(scheduler.getDeadlineMillis(slot, SlotDuty.SLOT_START).longValue())
+        .isEqualTo(slotStart);
+    assertThat(scheduler.getDeadlineMillis(slot, SlotDuty.ATTESTATION).longValue())
+        .isEqualTo(slotStart + MILLIS_PER_SLOT / 3);
+    assertThat(scheduler.getDeadlineMillis(slot, SlotDuty.AGGREGATION).longValue())
+        .isEqualTo(slotStart + MILLIS_PER_SLOT * 2 / 3);
+  }
+
+  @Test
+  public void shouldDispatchDutiesInOrderStartingFromCurrentSlot() {
+    timeProvider.advanceTimeByMillis(2 * MILLIS_PER_SLOT + 100);
+    scheduler.start(GENESIS_TIME);
+
+    final InOrder inOrder = inOrder(handler);
+    runNextDuty(MILLIS_PER_SLOT / 3);
+    inOrder.verify(handler).onSlotStart(UnsignedLong.valueOf(2));
+    runNextDuty(MILLIS_PER_SLOT / 3);
+    inOrder.verify(handler).onAttestationDue(UnsignedLong.valueOf(2));
+    runNextDuty(MILLIS_PER_SLOT / 3);
+    inOrder.verify(handler).onAggregationDue(UnsignedLong.valueOf(2));
+    runNextDuty(MILLIS_PER_SLOT / 3);
+    inOrder.verify(handler).onSlotStart(UnsignedLong.valueOf(3));
+  }
+
+  @Test
+  public void shouldContinueSchedulingWhenDutyFails() {
+    doThrow(new RuntimeException("Oops")).when(handler).onSlotStart(UnsignedLong.ZERO);
+    scheduler.start(GENESIS_TIME);
+
+    runNextDuty(0);
+    runNextDuty(0);
+    verify(handler).onAttestationDue(UnsignedLong.ZERO);
+  }
+
+  @Test
+  public void shouldSkipToCurrentSlotWhenFallenBehind() {
+    scheduler.start(GENESIS_TIME);
+    runNextDuty(0);
+    verify(handler).onSlotStart(UnsignedLong.ZERO);
+
+    timeProvider.advanceTimeByMillis(10 * MILLIS_PER_SLOT);
+    runNextDuty(0);
+    verify(handler).onAttestationDue(UnsignedLong.ZERO);
+
+    runNextDuty(0);
+    verify(handler).onSlotStart(UnsignedLong.valueOf(10));
+  }
+
+  @Test
+  public void shouldNotDispatchDutiesAfterStop() {
+    scheduler.start(GENESIS_TIME);
+    scheduler.stop();
+
+    asyncRunner.executeQueuedActions();
+    verifyNoInteractions(handler);
+    assertThat(asyncRunner.hasDelayedActions()).isFalse();
+  }
+
+  private void runNextDuty(final long millisAfterPrevious) {
+    assertThat(asyncRunner.countDelayedActions()).isEqualTo(1);
+    asyncRunner.executeQueuedActions();
+    timeProvider.advanceTimeByMillis(millisAfterPrevious);
+  }
+}
@@ -13,6 +13,8 @@
 
 package tech.pegasys.artemis.services.chainstorage;
 
+import tech.pegasys.artemis.pow.api.Eth1DepositStorageChannel;
+import tech.pegasys.artemis.pow.api.Eth1EventsChannel;
 import tech.pegasys.artemis.service.serviceutils.Service;
 import tech.pegasys.artemis.service.serviceutils.ServiceConfig;
 import tech.pegasys.artemis.storage.ChainStorageServer;
@@ -23,8 +25,17 @@ public class ChainStorageService extends Service {
   private final ChainStorageServer server;
 
   public ChainStorageService(final ServiceConfig serviceConfig) {
-    this.server = ChainStorageServer.create(serviceConfig.getEventBus(), serviceConfig.getConfig());
-    serviceConfig.getEventChannels().subscribe(StorageUpdateChannel.class, server);
+    this.server =
+        ChainStorageServer.create(
+            serviceConfig.getEventBus(),
+            serviceConfig.getConfig(),
+            serviceConfig.getEventChannels().getPublisher(Eth1EventsChannel.class),
+            serviceConfig.getRetainedSszEncodings());
+    serviceConfig
+        .getEventChannels()
+        .subscribe(StorageUpdateChannel.class, server)
+        .subscribe(Eth1EventsChannel.class, server)
+        .subscribe(Eth1DepositStorageChannel.class, server);
   }
 
   @Override
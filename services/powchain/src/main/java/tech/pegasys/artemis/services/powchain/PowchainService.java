@@ -16,7 +16,7 @@ package tech.pegasys.artemis.services.powchain;
 import static tech.pegasys.artemis.util.config.Constants.MAXIMUM_CONCURRENT_ETH1_REQUESTS;
 
 import org.web3j.protocol.Web3j;
-import org.web3j.protocol.http.HttpService;
+import tech.pegasys.artemis.pow.BatchingHttpService;
 import tech.pegasys.artemis.pow.DepositContractAccessor;
 import tech.pegasys.artemis.pow.DepositObjectsFactory;
 import tech.pegasys.artemis.pow.Eth1DataManager;
@@ -24,11 +24,11 @@ import tech.pegasys.artemis.pow.Eth1DepositManager;
 import tech.pegasys.artemis.pow.Eth1Provider;
 import tech.pegasys.artemis.pow.ThrottlingEth1Provider;
 import tech.pegasys.artemis.pow.Web3jEth1Provider;
+import tech.pegasys.artemis.pow.api.Eth1DepositStorageChannel;
 import tech.pegasys.artemis.pow.api.Eth1EventsChannel;
 import tech.pegasys.artemis.service.serviceutils.Service;
 import tech.pegasys.artemis.service.serviceutils.ServiceConfig;
 import tech.pegasys.artemis.util.async.AsyncRunner;
-import tech.pegasys.artemis.util.async.DelayedExecutorAsyncRunner;
 import tech.pegasys.artemis.util.async.SafeFuture;
 import tech.pegasys.artemis.util.config.ArtemisConfiguration;
 import tech.pegasys.artemis.util.time.channels.TimeTickChannel;
@@ -41,13 +41,17 @@ public class PowchainService extends Service {
   public PowchainService(final ServiceConfig config) {
     ArtemisConfiguration artemisConfig = config.getConfig();
 
-    AsyncRunner asyncRunner = DelayedExecutorAsyncRunner.create();
+    AsyncRunner asyncRunner = config.getAsyncRunnerPools().getIoRunner();
+    Eth1DepositStorageChannel eth1DepositStorageChannel =
+        config.getEventChannels().getPublisher(Eth1DepositStorageChannel.class);
 
-    Web3j web3j = Web3j.build(new HttpService(artemisConfig.getEth1Endpoint()));
+    BatchingHttpService httpService = new BatchingHttpService(artemisConfig.getEth1Endpoint());
+    Web3j web3j = Web3j.build(httpService);
 
     final Eth1Provider eth1Provider =
         new ThrottlingEth1Provider(
-            new Web3jEth1Provider(web3j, asyncRunner), MAXIMUM_CONCURRENT_ETH1_REQUESTS);
+            new Web3jEth1Provider(web3j, httpService, asyncRunner),
+            MAXIMUM_CONCURRENT_ETH1_REQUESTS);
 
     DepositContractAccessor depositContractAccessor =
         DepositContractAccessor.create(
@@ -57,8 +61,10 @@ public class PowchainService extends Service {
         new DepositObjectsFactory(
             eth1Provider,
             config.getEventChannels().getPublisher(Eth1EventsChannel.class),
+            eth1DepositStorageChannel,
             depositContractAccessor.getContract(),
-            asyncRunner);
+            asyncRunner,
+            config.getMetricsSystem());
 
     eth1DepositManager = depositsObjectFactory.createEth1DepositsManager();
 
@@ -67,6 +73,7 @@ public class PowchainService extends Service {
             eth1Provider,
             config.getEventBus(),
             depositContractAccessor,
+            eth1DepositStorageChannel,
             asyncRunner,
             config.getTimeProvider());
 
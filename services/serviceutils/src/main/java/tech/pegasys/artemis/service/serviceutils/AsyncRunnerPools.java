@@ -0,0 +1,188 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.artemis.service.serviceutils;
+
+import static tech.pegasys.artemis.metrics.ArtemisMetricCategory.EXECUTOR;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
+import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
+import tech.pegasys.artemis.util.async.AsyncRunner;
+import tech.pegasys.artemis.util.async.DelayedExecutorAsyncRunner;
+
+/**
+ * The shared, instrumented thread pools that services use to run asynchronous work instead of the
+ * JVM wide common pool.
+ *
+ * <p>CPU bound work runs on a pool sized to the available processors while work that mostly waits
+ * on disk or remote nodes runs on a separate, larger I/O pool so it can't starve the CPU pool.
+ * Delayed tasks wait on a single timer thread and are handed to their pool when due.
+ */
+public class AsyncRunnerPools {
+  static final String CPU_POOL = "cpu";
+  static final String IO_POOL = "io";
+
+  private final ScheduledThreadPoolExecutor timer;
+  private final MonitoredPool cpuPool;
+  private final MonitoredPool ioPool;
+  private final AsyncRunner cpuRunner;
+  private final AsyncRunner ioRunner;
+
+  AsyncRunnerPools(final int cpuThreads, final int ioThreads, final MetricsSystem metricsSystem) {
+    final LabelledMetric<Counter> taskCounter =
+        metricsSystem.createLabelledCounter(
+            EXECUTOR, "async_runner_task_count", "Total number of tasks run", "pool");
+    final LabelledMetric<Counter> queueWaitTimeCounter =
+        metricsSystem.createLabelledCounter(
+            EXECUTOR,
+            "async_runner_queue_wait_us_total",
+            "Total microseconds tasks spent queued before being run",
+            "pool");
+    final LabelledMetric<Counter> processingTimeCounter =
+        metricsSystem.createLabelledCounter(
+            EXECUTOR,
+            "async_runner_processing_us_total",
+            "Total microseconds spent running tasks",
+            "pool");
+
+    timer =
+        new ScheduledThreadPoolExecutor(
+            1, new ThreadFactoryBuilder().setDaemon(true).setNameFormat("async-timer").build());
+    timer.setRemoveOnCancelPolicy(true);
+    metricsSystem.createGauge(
+        EXECUTOR,
+        "async_runner_timer_queue_depth",
+        "Number of delayed tasks waiting for their delay to expire",
+        () -> timer.getQueue().size());
+
+    cpuPool =
+        new MonitoredPool(
+            CPU_POOL,
+            cpuThreads,
+            metricsSystem,
+            taskCounter,
+            queueWaitTimeCounter,
+            processingTimeCounter);
+    ioPool =
+        new MonitoredPool(
+            IO_POOL,
+            ioThreads,
+            metricsSystem,
+            taskCounter,
+            queueWaitTimeCounter,
+            processingTimeCounter);
+    cpuRunner = DelayedExecutorAsyncRunner.create(cpuPool, timer);
+    ioRunner = DelayedExecutorAsyncRunner.create(ioPool, timer);
+  }
+
+  /**
+   * Creates the pools.
+   *
+   * @param cpuThreads the number of threads for CPU bound work, or 0 to use one per processor
+   * @param ioThreads the number of threads for I/O bound work
+   * @param metricsSystem the metrics system to report pool metrics to
+   */
+  public static AsyncRunnerPools create(
+      final int cpuThreads, final int ioThreads, final MetricsSystem metricsSystem) {
+    final int resolvedCpuThreads =
+        cpuThreads > 0 ? cpuThreads : Runtime.getRuntime().availableProcessors();
+    return new AsyncRunnerPools(resolvedCpuThreads, ioThreads, metricsSystem);
+  }
+
+  /** Returns the runner for work that keeps a CPU busy, such as signature verification. */
+  public AsyncRunner getCpuRunner() {
+    return cpuRunner;
+  }
+
+  /** Returns the runner for work that mostly waits on disk or network requests. */
+  public AsyncRunner getIoRunner() {
+    return ioRunner;
+  }
+
+  public void stop() {
+    timer.shutdownNow();
+    cpuPool.stop();
+    ioPool.stop();
+  }
+
+  private static class MonitoredPool implements Executor {
+    private final ThreadPoolExecutor executor;
+    private final Counter taskCounter;
+    private final Counter queueWaitTimeCounter;
+    private final Counter processingTimeCounter;
+
+    private MonitoredPool(
+        final String name,
+        final int threadCount,
+        final MetricsSystem metricsSystem,
+        final LabelledMetric<Counter> taskCounter,
+        final LabelledMetric<Counter> queueWaitTimeCounter,
+        final LabelledMetric<Counter> processingTimeCounter) {
+      this.executor =
+          new ThreadPoolExecutor(
+              threadCount,
+              threadCount,
+              0,
+              TimeUnit.MILLISECONDS,
+              new LinkedBlockingQueue<>(),
+              new ThreadFactoryBuilder()
+                  .setDaemon(true)
+                  .setNameFormat("async-" + name + "-%d")
+                  .build());
+      this.taskCounter = taskCounter.labels(name);
+      this.queueWaitTimeCounter = queueWaitTimeCounter.labels(name);
+      this.processingTimeCounter = processingTimeCounter.labels(name);
+      metricsSystem.createGauge(
+          EXECUTOR,
+          "async_runner_" + name + "_queue_depth",
+          "Number of tasks waiting to be run on the " + name + " pool",
+          () -> executor.getQueue().size());
+      metricsSystem.createGauge(
+          EXECUTOR,
+          "async_runner_" + name + "_active_threads",
+          "Number of threads currently running tasks on the " + name + " pool",
+          executor::getActiveCount);
+    }
+
+    @Override
+    public void execute(final Runnable command) {
+      final long queuedAt = System.nanoTime();
+      executor.execute(
+          () -> {
+            final long startedAt = System.nanoTime();
+            taskCounter.inc();
+            queueWaitTimeCounter.inc(microsBetween(queuedAt, startedAt));
+            try {
+              command.run();
+            } finally {
+              processingTimeCounter.inc(microsBetween(startedAt, System.nanoTime()));
+            }
+          });
+    }
+
+    private static long microsBetween(final long startNanos, final long endNanos) {
+      return TimeUnit.NANOSECONDS.toMicros(endNanos - startNanos);
+    }
+
+    private void stop() {
+      executor.shutdownNow();
+    }
+  }
+}
@@ -15,6 +15,7 @@ package tech.pegasys.artemis.service.serviceutils;
 
 import com.google.common.eventbus.EventBus;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
+import tech.pegasys.artemis.datastructures.util.RetainedSszEncodings;
 import tech.pegasys.artemis.events.EventChannels;
 import tech.pegasys.artemis.util.config.ArtemisConfiguration;
 import tech.pegasys.artemis.util.time.TimeProvider;
@@ -25,6 +26,8 @@ public class ServiceConfig {
   private final EventBus eventBus;
   private final EventChannels eventChannels;
   private final MetricsSystem metricsSystem;
+  private final AsyncRunnerPools asyncRunnerPools;
+  private final RetainedSszEncodings retainedSszEncodings;
   private final ArtemisConfiguration config;
 
   public ServiceConfig(
@@ -32,11 +35,15 @@ public class ServiceConfig {
       final EventBus eventBus,
       final EventChannels eventChannels,
       final MetricsSystem metricsSystem,
+      final AsyncRunnerPools asyncRunnerPools,
+      final RetainedSszEncodings retainedSszEncodings,
       final ArtemisConfiguration config) {
     this.timeProvider = timeProvider;
     this.eventBus = eventBus;
     this.eventChannels = eventChannels;
     this.metricsSystem = metricsSystem;
+    this.asyncRunnerPools = asyncRunnerPools;
+    this.retainedSszEncodings = retainedSszEncodings;
     this.config = config;
   }
 
@@ -59,4 +66,12 @@ public class ServiceConfig {
   public MetricsSystem getMetricsSystem() {
     return metricsSystem;
   }
+
+  public AsyncRunnerPools getAsyncRunnerPools() {
+    return asyncRunnerPools;
+  }
+
+  public RetainedSszEncodings getRetainedSszEncodings() {
+    return retainedSszEncodings;
+  }
 }
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.artemis.service.serviceutils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.artemis.util.async.SafeFuture;
+
+class AsyncRunnerPoolsTest {
+
+  private final AsyncRunnerPools pools = new AsyncRunnerPools(2, 2, new NoOpMetricsSystem());
+
+  @AfterEach
+  void tearDown() {
+    pools.stop();
+  }
+
+  @Test
+  public void shouldRunCpuTasksOnCpuPool() throws Exception {
+    final SafeFuture<String> result =
+        pools.getCpuRunner().runAsync(() -> SafeFuture.completedFuture(currentThreadName()));
+
+    assertThat(result.get(5, TimeUnit.SECONDS)).startsWith("async-cpu-");
+  }
+
+  @Test
+  public void shouldRunIoTasksOnIoPool() throws Exception {
+    final SafeFuture<String> result =
+        pools.getIoRunner().runAsync(() -> SafeFuture.completedFuture(currentThreadName()));
+
+    assertThat(result.get(5, TimeUnit.SECONDS)).startsWith("async-io-");
+  }
+
+  @Test
+  public void shouldRunDelayedTasksOnPoolRatherThanTimer() throws Exception {
+    final SafeFuture<String> result =
+        pools
+            .getCpuRunner()
+            .runAfterDelay(
+                () -> SafeFuture.completedFuture(currentThreadName()), 10, TimeUnit.MILLISECONDS);
+
+    assertThat(result.get(5, TimeUnit.SECONDS)).startsWith("async-cpu-");
+  }
+
+  @Test
+  public void create_shouldUseOneCpuThreadPerProcessorWhenNotSpecified() throws Exception {
+    final AsyncRunnerPools defaultPools = AsyncRunnerPools.create(0, 1, new NoOpMetricsSystem());
+    try {
+      final SafeFuture<String> result =
+          defaultPools.getCpuRunner().runAsync(() -> SafeFuture.completedFuture("done"));
+      assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("done");
+    } finally {
+      defaultPools.stop();
+    }
+  }
+
+  private static String currentThreadName() {
+    return Thread.currentThread().getName();
+  }
+}
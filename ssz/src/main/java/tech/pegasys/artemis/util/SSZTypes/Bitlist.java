@@ -21,33 +21,48 @@ import org.apache.tuweni.bytes.Bytes;
 
 public class Bitlist {
 
-  private byte[] byteArray;
-  private long maxSize;
+  private final int size;
+  private final long[] words;
+  private final long maxSize;
 
   public Bitlist(int arraySize, long maxSize) {
-    this.byteArray = new byte[arraySize];
+    this.size = arraySize;
+    this.words = new long[PackedBits.wordCount(arraySize)];
     this.maxSize = maxSize;
   }
 
   public Bitlist(Bitlist bitlist) {
-    this.byteArray = new byte[bitlist.getByteArray().length];
-    for (int i = 0; i < bitlist.getByteArray().length; i++) {
-      this.byteArray[i] = bitlist.getByteArray()[i];
-    }
+    this.size = bitlist.size;
+    this.words = bitlist.words.clone();
     this.maxSize = bitlist.getMaxSize();
   }
 
+  /**
+   * Creates a bitlist from bits packed in little-endian order, eight to a byte.
+   *
+   * @param bitlist the packed bits, which determine the size of the bitlist
+   * @param maxSize the maximum size of the bitlist
+   */
   public Bitlist(byte[] bitlist, long maxSize) {
-    this.byteArray = bitlist;
+    this.size = bitlist.length * Byte.SIZE;
+    this.words = PackedBits.fromBytes(Bytes.wrap(bitlist), size);
+    this.maxSize = maxSize;
+  }
+
+  private Bitlist(int size, long[] words, long maxSize) {
+    this.size = size;
+    this.words = words;
     this.maxSize = maxSize;
   }
 
   public void setBit(int i) {
-    this.byteArray[i] = 1;
+    PackedBits.checkIndex(i, size);
+    PackedBits.setBit(words, i);
   }
 
   public int getBit(int i) {
-    return byteArray[i];
+    PackedBits.checkIndex(i, size);
+    return PackedBits.isSet(words, i) ? 1 : 0;
   }
 
   /** Sets all bits in this bitlist which are set in the [other] list */
@@ -59,15 +74,41 @@ public class Bitlist {
               + " > "
               + getCurrentSize());
     }
-    for (int i = 0; i < other.getCurrentSize(); i++) {
-      if (other.getBit(i) > 0) {
-        setBit(i);
-      }
-    }
+    PackedBits.or(words, other.words);
+  }
+
+  /** Returns a new bitlist with the bits that are set in either this or the [other] list */
+  public Bitlist or(Bitlist other) {
+    final Bitlist result = copy();
+    result.setAllBits(other);
+    return result;
+  }
+
+  /** Returns a new bitlist with the bits that are set in both this and the [other] list */
+  public Bitlist and(Bitlist other) {
+    final long[] result = words.clone();
+    PackedBits.and(result, other.words);
+    return new Bitlist(size, result, maxSize);
+  }
+
+  /** Returns true if any bit is set in both this and the [other] list */
+  public boolean intersects(Bitlist other) {
+    return PackedBits.intersects(words, other.words);
+  }
+
+  /** Returns true if every bit set in the [other] list is also set in this list */
+  public boolean isSuperset(Bitlist other) {
+    return PackedBits.isSuperset(words, other.words);
+  }
+
+  /** Returns the number of bits set */
+  public int cardinality() {
+    return PackedBits.cardinality(words);
   }
 
-  public byte[] getByteArray() {
-    return byteArray;
+  /** Returns the indices of the set bits in ascending order */
+  public IntStream streamSetBits() {
+    return PackedBits.streamSetBits(words);
   }
 
   public long getMaxSize() {
@@ -75,35 +116,29 @@ public class Bitlist {
   }
 
   public int getCurrentSize() {
-    return byteArray.length;
+    return size;
+  }
+
+  /** Returns the bits packed in little-endian order, without the SSZ length delimiter bit. */
+  public Bytes toPackedBytes() {
+    return Bytes.wrap(PackedBits.toByteArray(words, (size + Byte.SIZE - 1) / Byte.SIZE));
   }
 
-  @SuppressWarnings("NarrowingCompoundAssignment")
   public Bytes serialize() {
-    int len = byteArray.length;
-    byte[] array = new byte[(len / 8) + 1];
-    IntStream.range(0, len).forEach(i -> array[i / 8] |= (((int) this.byteArray[i]) << (i % 8)));
-    array[len / 8] |= 1 << (len % 8);
+    final byte[] array = PackedBits.toByteArray(words, (size / Byte.SIZE) + 1);
+    array[size / Byte.SIZE] |= (byte) (1 << (size % Byte.SIZE));
     return Bytes.wrap(array);
   }
 
   public static Bitlist fromBytes(Bytes bytes, long maxSize) {
     int numBytes = bytes.size();
-    int leadingBitIndex = 0;
-    while ((bytes.get(numBytes - 1) >>> (7 - leadingBitIndex)) % 2 == 0) {
-      leadingBitIndex++;
+    if (numBytes == 0 || bytes.get(numBytes - 1) == 0) {
+      throw new IllegalArgumentException("Bitlist is missing the length delimiter bit");
     }
+    int leadingBitIndex = Integer.numberOfLeadingZeros(bytes.get(numBytes - 1) & 0xFF) - 24;
 
     int bitlistSize = (7 - leadingBitIndex) + (8 * (numBytes - 1));
-    byte[] byteArray = new byte[bitlistSize];
-
-    for (int i = bitlistSize - 1; i >= 0; i--) {
-      if (((bytes.get(i / 8) >>> (i % 8)) & 0x01) == 1) {
-        byteArray[i] = 1;
-      }
-    }
-
-    return new Bitlist(byteArray, maxSize);
+    return new Bitlist(bitlistSize, PackedBits.fromBytes(bytes, bitlistSize), maxSize);
   }
 
   public Bitlist copy() {
@@ -112,7 +147,7 @@ public class Bitlist {
 
   @Override
   public int hashCode() {
-    return Arrays.hashCode(byteArray);
+    return 31 * size + Arrays.hashCode(words);
   }
 
   @Override
@@ -127,7 +162,7 @@ public class Bitlist {
       return false;
     }
     Bitlist other = (Bitlist) obj;
-    return Arrays.equals(this.getByteArray(), other.getByteArray());
+    return size == other.size && Arrays.equals(this.words, other.words);
   }
 
   @Override
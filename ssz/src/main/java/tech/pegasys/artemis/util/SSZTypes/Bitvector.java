@@ -21,72 +21,97 @@ import org.apache.tuweni.bytes.Bytes;
 
 public class Bitvector {
 
-  private int size;
-  private byte[] byteArray;
+  private final int size;
+  private final long[] words;
 
   public Bitvector(int size) {
-    this.byteArray = new byte[size];
+    this.words = new long[PackedBits.wordCount(size)];
     this.size = size;
   }
 
-  public Bitvector(byte[] byteArray, int size) {
-    this.byteArray = byteArray;
+  private Bitvector(long[] words, int size) {
+    this.words = words;
     this.size = size;
   }
 
   public void setBit(int i) {
-    this.byteArray[i] = 1;
+    PackedBits.checkIndex(i, size);
+    PackedBits.setBit(words, i);
   }
 
   public int getBit(int i) {
-    return byteArray[i];
+    PackedBits.checkIndex(i, size);
+    return PackedBits.isSet(words, i) ? 1 : 0;
   }
 
   public int getSize() {
     return size;
   }
 
-  public byte[] getByteArray() {
-    return byteArray;
+  /** Returns a new bitvector with the bits that are set in either this or the [other] vector */
+  public Bitvector or(Bitvector other) {
+    checkSameSize(other);
+    final long[] result = words.clone();
+    PackedBits.or(result, other.words);
+    return new Bitvector(result, size);
   }
 
-  @SuppressWarnings("NarrowingCompoundAssignment")
-  public Bytes serialize() {
-    byte[] array = new byte[(size + 7) / 8];
-    IntStream.range(0, size).forEach(i -> array[i / 8] |= (((int) this.byteArray[i]) << (i % 8)));
-    return Bytes.wrap(array);
+  /** Returns a new bitvector with the bits that are set in both this and the [other] vector */
+  public Bitvector and(Bitvector other) {
+    checkSameSize(other);
+    final long[] result = words.clone();
+    PackedBits.and(result, other.words);
+    return new Bitvector(result, size);
   }
 
-  public static Bitvector fromBytes(Bytes bytes, int size) {
-    byte[] byteArray = new byte[size];
+  /** Returns true if any bit is set in both this and the [other] vector */
+  public boolean intersects(Bitvector other) {
+    return PackedBits.intersects(words, other.words);
+  }
 
-    for (int i = size - 1; i >= 0; i--) {
-      if (((bytes.get(i / 8) >>> (i % 8)) & 0x01) == 1) {
-        byteArray[i] = 1;
-      }
-    }
+  /** Returns true if every bit set in the [other] vector is also set in this vector */
+  public boolean isSuperset(Bitvector other) {
+    return PackedBits.isSuperset(words, other.words);
+  }
 
-    return new Bitvector(byteArray, size);
+  /** Returns the number of bits set */
+  public int cardinality() {
+    return PackedBits.cardinality(words);
+  }
+
+  /** Returns the indices of the set bits in ascending order */
+  public IntStream streamSetBits() {
+    return PackedBits.streamSetBits(words);
+  }
+
+  public Bytes serialize() {
+    return Bytes.wrap(PackedBits.toByteArray(words, (size + 7) / 8));
+  }
+
+  public static Bitvector fromBytes(Bytes bytes, int size) {
+    return new Bitvector(PackedBits.fromBytes(bytes, size), size);
   }
 
   public Bitvector rightShift(int i) {
-    int length = this.getSize();
-    Bitvector newBitvector = new Bitvector(new byte[length], length);
-    for (int j = 0; j < length - i; j++) {
-      if (this.getBit(j) == 1) {
-        newBitvector.setBit(j + i);
-      }
-    }
+    Bitvector newBitvector = new Bitvector(size);
+    streamSetBits().filter(j -> j < size - i).forEach(j -> newBitvector.setBit(j + i));
     return newBitvector;
   }
 
   public Bitvector copy() {
-    return new Bitvector(this.getByteArray(), this.getSize());
+    return new Bitvector(words.clone(), size);
+  }
+
+  private void checkSameSize(final Bitvector other) {
+    if (other.size != size) {
+      throw new IllegalArgumentException(
+          "Bitvector sizes do not match: " + other.getSize() + " != " + getSize());
+    }
   }
 
   @Override
   public int hashCode() {
-    return Arrays.hashCode(byteArray);
+    return 31 * size + Arrays.hashCode(words);
   }
 
   @Override
@@ -101,6 +126,6 @@ public class Bitvector {
       return false;
     }
     Bitvector other = (Bitvector) obj;
-    return Arrays.equals(this.getByteArray(), other.getByteArray());
+    return size == other.size && Arrays.equals(this.words, other.words);
   }
 }
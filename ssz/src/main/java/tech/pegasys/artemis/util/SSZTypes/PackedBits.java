@@ -0,0 +1,129 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.artemis.util.SSZTypes;
+
+import java.util.stream.IntStream;
+import org.apache.tuweni.bytes.Bytes;
+
+/**
+ * Operations on bits packed into {@code long} words, shared by {@link Bitlist} and {@link
+ * Bitvector}. Bit {@code i} is stored in word {@code i / 64} at position {@code i % 64}, which
+ * matches the little-endian bit order used by SSZ so conversion to and from bytes is direct.
+ *
+ * <p>All methods assume that bits beyond the logical size are zero.
+ */
+final class PackedBits {
+  private static final int BITS_PER_WORD = Long.SIZE;
+
+  private PackedBits() {}
+
+  static int wordCount(final int size) {
+    return (size + BITS_PER_WORD - 1) / BITS_PER_WORD;
+  }
+
+  static void checkIndex(final int i, final int size) {
+    if (i < 0 || i >= size) {
+      throw new IndexOutOfBoundsException("Bit index " + i + " out of bounds for size " + size);
+    }
+  }
+
+  static void setBit(final long[] words, final int i) {
+    words[i / BITS_PER_WORD] |= 1L << i;
+  }
+
+  static boolean isSet(final long[] words, final int i) {
+    return (words[i / BITS_PER_WORD] & (1L << i)) != 0;
+  }
+
+  static void or(final long[] target, final long[] source) {
+    for (int i = 0; i < source.length; i++) {
+      target[i] |= source[i];
+    }
+  }
+
+  static void and(final long[] target, final long[] source) {
+    for (int i = 0; i < target.length; i++) {
+      target[i] &= i < source.length ? source[i] : 0;
+    }
+  }
+
+  static boolean intersects(final long[] a, final long[] b) {
+    final int length = Math.min(a.length, b.length);
+    for (int i = 0; i < length; i++) {
+      if ((a[i] & b[i]) != 0) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  static boolean isSuperset(final long[] a, final long[] b) {
+    for (int i = 0; i < b.length; i++) {
+      final long word = i < a.length ? a[i] : 0;
+      if ((b[i] & ~word) != 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  static int cardinality(final long[] words) {
+    int count = 0;
+    for (long word : words) {
+      count += Long.bitCount(word);
+    }
+    return count;
+  }
+
+  static IntStream streamSetBits(final long[] words) {
+    return IntStream.range(0, words.length)
+        .filter(i -> words[i] != 0)
+        .flatMap(
+            i -> {
+              final IntStream.Builder builder = IntStream.builder();
+              long word = words[i];
+              while (word != 0) {
+                builder.add(i * BITS_PER_WORD + Long.numberOfTrailingZeros(word));
+                word &= word - 1;
+              }
+              return builder.build();
+            });
+  }
+
+  /** Writes the words to a little-endian byte array of the specified length. */
+  static byte[] toByteArray(final long[] words, final int byteCount) {
+    final byte[] bytes = new byte[byteCount];
+    for (int i = 0; i < byteCount && i / Long.BYTES < words.length; i++) {
+      bytes[i] = (byte) (words[i / Long.BYTES] >>> ((i % Long.BYTES) * Byte.SIZE));
+    }
+    return bytes;
+  }
+
+  /** Reads the first {@code size} bits from little-endian bytes, ignoring any later bits. */
+  static long[] fromBytes(final Bytes bytes, final int size) {
+    final long[] words = new long[wordCount(size)];
+    final int byteCount = Math.min(bytes.size(), (size + Byte.SIZE - 1) / Byte.SIZE);
+    for (int i = 0; i < byteCount; i++) {
+      words[i / Long.BYTES] |= (bytes.get(i) & 0xFFL) << ((i % Long.BYTES) * Byte.SIZE);
+    }
+    clearBitsFrom(words, size);
+    return words;
+  }
+
+  private static void clearBitsFrom(final long[] words, final int size) {
+    if (size % BITS_PER_WORD != 0) {
+      words[size / BITS_PER_WORD] &= (1L << size) - 1;
+    }
+  }
+}
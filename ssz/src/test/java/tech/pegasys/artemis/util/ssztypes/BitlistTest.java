@@ -13,6 +13,9 @@
 
 package tech.pegasys.artemis.util.ssztypes;
 
+import static java.util.stream.Collectors.toList;
+
+import java.util.List;
 import org.apache.tuweni.bytes.Bytes;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -100,4 +103,63 @@ class BitlistTest {
     Bitlist newBitlist = Bitlist.fromBytes(Bytes.fromHexString("0xf903"), bitlistMaxSize);
     Assertions.assertEquals(bitlist, newBitlist);
   }
+
+  @Test
+  void deserializationTestAcrossWordBoundary() {
+    Bitlist bitlist = new Bitlist(130, bitlistMaxSize);
+    bitlist.setBit(0);
+    bitlist.setBit(63);
+    bitlist.setBit(64);
+    bitlist.setBit(129);
+
+    Bitlist newBitlist = Bitlist.fromBytes(bitlist.serialize(), bitlistMaxSize);
+    Assertions.assertEquals(bitlist, newBitlist);
+    Assertions.assertEquals(130, newBitlist.getCurrentSize());
+    Assertions.assertEquals(
+        List.of(0, 63, 64, 129), newBitlist.streamSetBits().boxed().collect(toList()));
+  }
+
+  @Test
+  void setBitShouldRejectIndexOutOfRange() {
+    Bitlist bitlist = new Bitlist(10, bitlistMaxSize);
+    Assertions.assertThrows(IndexOutOfBoundsException.class, () -> bitlist.setBit(10));
+  }
+
+  @Test
+  void orAndTest() {
+    Bitlist bitlist = createBitlist();
+    Bitlist other = new Bitlist(18, bitlistMaxSize);
+    other.setBit(1);
+    other.setBit(2);
+
+    Bitlist or = bitlist.or(other);
+    Assertions.assertEquals(8, or.cardinality());
+    Assertions.assertEquals(1, or.getBit(2));
+    Assertions.assertEquals(0, bitlist.getBit(2));
+
+    Bitlist and = bitlist.and(other);
+    Assertions.assertEquals(List.of(1), and.streamSetBits().boxed().collect(toList()));
+  }
+
+  @Test
+  void intersectsAndSupersetTest() {
+    Bitlist bitlist = createBitlist();
+    Bitlist subset = new Bitlist(18, bitlistMaxSize);
+    subset.setBit(4);
+    subset.setBit(17);
+    Bitlist disjoint = new Bitlist(18, bitlistMaxSize);
+    disjoint.setBit(0);
+
+    Assertions.assertTrue(bitlist.intersects(subset));
+    Assertions.assertTrue(bitlist.isSuperset(subset));
+    Assertions.assertFalse(subset.isSuperset(bitlist));
+    Assertions.assertFalse(bitlist.intersects(disjoint));
+    Assertions.assertFalse(bitlist.isSuperset(disjoint));
+  }
+
+  @Test
+  void cardinalityTest() {
+    Assertions.assertEquals(7, createBitlist().cardinality());
+    Assertions.assertEquals(0, new Bitlist(10, bitlistMaxSize).cardinality());
+  }
 }
@@ -72,6 +72,36 @@ class BitvectorTest {
     Assertions.assertEquals(bitvector, newBitvector);
   }
 
+  @Test
+  void rightShiftTest() {
+    Bitvector shifted = createBitvector().rightShift(1);
+    Assertions.assertEquals(0, shifted.getBit(0));
+    Assertions.assertEquals(1, shifted.getBit(1));
+    Assertions.assertEquals(1, shifted.cardinality());
+  }
+
+  @Test
+  void copyShouldNotShareBits() {
+    Bitvector bitvector = createBitvector();
+    Bitvector copy = bitvector.copy();
+    copy.setBit(1);
+    Assertions.assertEquals(0, bitvector.getBit(1));
+  }
+
+  @Test
+  void orAndTest() {
+    Bitvector bitvector = createBitvector();
+    Bitvector other = new Bitvector(testBitvectorLength);
+    other.setBit(1);
+    other.setBit(3);
+
+    Assertions.assertEquals(3, bitvector.or(other).cardinality());
+    Assertions.assertEquals(1, bitvector.and(other).cardinality());
+    Assertions.assertTrue(bitvector.intersects(other));
+    Assertions.assertFalse(bitvector.isSuperset(other));
+    Assertions.assertTrue(bitvector.or(other).isSuperset(bitvector));
+  }
+
   @Test
   void bitlistHashTest() {
     Bitlist bitlist = new Bitlist(2048, 2048);
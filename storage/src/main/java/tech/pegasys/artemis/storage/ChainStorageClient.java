@@ -150,6 +150,9 @@ public class ChainStorageClient implements ChainStorage, StoreUpdateHandler {
   public void updateBestBlock(Bytes32 root, UnsignedLong slot) {
     this.bestBlockRoot = Optional.of(root);
     this.bestSlot = slot;
+    if (store != null) {
+      store.setHeadBlockRoot(root);
+    }
     bestBlockInitialized.complete(null);
   }
 
@@ -16,14 +16,29 @@ package tech.pegasys.artemis.storage;
 import com.google.common.eventbus.AllowConcurrentEvents;
 import com.google.common.eventbus.EventBus;
 import com.google.common.eventbus.Subscribe;
+import com.google.common.primitives.UnsignedLong;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import tech.pegasys.artemis.datastructures.blocks.SignedBeaconBlock;
 import tech.pegasys.artemis.datastructures.state.BeaconState;
+import tech.pegasys.artemis.datastructures.util.RetainedSszEncodings;
+import tech.pegasys.artemis.pow.Eth1DataManager;
+import tech.pegasys.artemis.pow.api.Eth1DepositStorageChannel;
+import tech.pegasys.artemis.pow.api.Eth1EventsChannel;
+import tech.pegasys.artemis.pow.api.ReplayDepositsResult;
+import tech.pegasys.artemis.pow.event.CacheEth1BlockEvent;
+import tech.pegasys.artemis.pow.event.DepositsFromBlockEvent;
+import tech.pegasys.artemis.pow.event.MinGenesisTimeBlockEvent;
 import tech.pegasys.artemis.storage.api.StorageUpdateChannel;
 import tech.pegasys.artemis.storage.events.GetBlockByBlockRootRequest;
 import tech.pegasys.artemis.storage.events.GetBlockByBlockRootResponse;
 import tech.pegasys.artemis.storage.events.GetFinalizedBlockAtSlotRequest;
 import tech.pegasys.artemis.storage.events.GetFinalizedBlockAtSlotResponse;
+import tech.pegasys.artemis.storage.events.GetFinalizedBlocksInRangeRequest;
+import tech.pegasys.artemis.storage.events.GetFinalizedBlocksInRangeResponse;
 import tech.pegasys.artemis.storage.events.GetFinalizedStateAtSlotRequest;
 import tech.pegasys.artemis.storage.events.GetFinalizedStateAtSlotResponse;
 import tech.pegasys.artemis.storage.events.GetFinalizedStateByBlockRootRequest;
@@ -38,20 +53,31 @@ import tech.pegasys.artemis.storage.events.diskupdates.StorageUpdateResult;
 import tech.pegasys.artemis.util.async.SafeFuture;
 import tech.pegasys.artemis.util.config.ArtemisConfiguration;
 
-public class ChainStorageServer implements StorageUpdateChannel {
+public class ChainStorageServer
+    implements StorageUpdateChannel, Eth1EventsChannel, Eth1DepositStorageChannel {
   private final EventBus eventBus;
   private final VersionedDatabaseFactory databaseFactory;
+  private final Eth1EventsChannel eth1EventsChannel;
 
   private volatile Database database;
   private volatile Optional<Store> cachedStore = Optional.empty();
 
-  private ChainStorageServer(EventBus eventBus, final VersionedDatabaseFactory dbFactory) {
+  private ChainStorageServer(
+      EventBus eventBus,
+      final VersionedDatabaseFactory dbFactory,
+      final Eth1EventsChannel eth1EventsChannel) {
     this.eventBus = eventBus;
     this.databaseFactory = dbFactory;
+    this.eth1EventsChannel = eth1EventsChannel;
   }
 
-  public static ChainStorageServer create(EventBus eventBus, ArtemisConfiguration config) {
-    return new ChainStorageServer(eventBus, new VersionedDatabaseFactory(config));
+  public static ChainStorageServer create(
+      EventBus eventBus,
+      ArtemisConfiguration config,
+      final Eth1EventsChannel eth1EventsChannel,
+      final RetainedSszEncodings retainedSszEncodings) {
+    return new ChainStorageServer(
+        eventBus, new VersionedDatabaseFactory(config, retainedSszEncodings), eth1EventsChannel);
   }
 
   public void start() {
@@ -105,6 +131,18 @@ public class ChainStorageServer implements StorageUpdateChannel {
     eventBus.post(new GetFinalizedBlockAtSlotResponse(request.getSlot(), block));
   }
 
+  @Subscribe
+  @AllowConcurrentEvents
+  public void onGetBlocksInRangeRequest(final GetFinalizedBlocksInRangeRequest request) {
+    final List<SignedBeaconBlock> blocks;
+    try (Stream<SignedBeaconBlock> stream =
+        database.streamFinalizedBlocks(
+            request.getStartSlot(), request.getEndSlot(), request.getStep())) {
+      blocks = stream.collect(Collectors.toList());
+    }
+    eventBus.post(new GetFinalizedBlocksInRangeResponse(request, blocks));
+  }
+
   @Subscribe
   @AllowConcurrentEvents
   public void onGetStateBySlotRequest(final GetFinalizedStateAtSlotRequest request) {
@@ -134,4 +172,89 @@ public class ChainStorageServer implements StorageUpdateChannel {
     final Optional<SignedBeaconBlock> block = database.getSignedBlock(request.getBlockRoot());
     eventBus.post(new GetBlockByBlockRootResponse(request.getBlockRoot(), block));
   }
+
+  @Override
+  public void onDepositsFromBlock(final DepositsFromBlockEvent event) {
+    database.addDepositsFromBlockEvent(event);
+  }
+
+  @Override
+  public void onMinGenesisTimeBlock(final MinGenesisTimeBlockEvent event) {
+    database.addMinGenesisTimeBlock(event);
+  }
+
+  @Override
+  public SafeFuture<ReplayDepositsResult> replayDepositEvents() {
+    return SafeFuture.of(
+        () -> {
+          final Optional<MinGenesisTimeBlockEvent> minGenesisTimeBlock =
+              database.getMinGenesisTimeBlock();
+          UnsignedLong lastProcessedBlockNumber = replayDeposits(minGenesisTimeBlock);
+          if (minGenesisTimeBlock.isPresent()) {
+            final UnsignedLong minGenesisBlockNumber = minGenesisTimeBlock.get().getBlockNumber();
+            if (lastProcessedBlockNumber == null
+                || lastProcessedBlockNumber.compareTo(minGenesisBlockNumber) < 0) {
+              lastProcessedBlockNumber = minGenesisBlockNumber;
+            }
+          }
+          return lastProcessedBlockNumber == null
+              ? ReplayDepositsResult.empty()
+              : ReplayDepositsResult.create(
+                  lastProcessedBlockNumber.bigIntegerValue(), minGenesisTimeBlock.isPresent());
+        });
+  }
+
+  /**
+   * Publishes the stored deposits, with the min genesis event in its original position so genesis
+   * is generated from the same deposits as the first time around.
+   *
+   * @return the number of the last block with deposits or null if there were none
+   */
+  private UnsignedLong replayDeposits(
+      final Optional<MinGenesisTimeBlockEvent> minGenesisTimeBlock) {
+    Optional<MinGenesisTimeBlockEvent> pendingMinGenesisTimeBlock = minGenesisTimeBlock;
+    UnsignedLong lastProcessedBlockNumber = null;
+    try (Stream<DepositsFromBlockEvent> deposits = database.streamDepositsFromBlocks()) {
+      final Iterator<DepositsFromBlockEvent> iterator = deposits.iterator();
+      while (iterator.hasNext()) {
+        final DepositsFromBlockEvent event = iterator.next();
+        if (pendingMinGenesisTimeBlock.isPresent()
+            && isAfter(event, pendingMinGenesisTimeBlock.get())) {
+          eth1EventsChannel.onMinGenesisTimeBlock(pendingMinGenesisTimeBlock.get());
+          pendingMinGenesisTimeBlock = Optional.empty();
+        }
+        eth1EventsChannel.onDepositsFromBlock(event);
+        lastProcessedBlockNumber = event.getBlockNumber();
+      }
+    }
+    pendingMinGenesisTimeBlock.ifPresent(eth1EventsChannel::onMinGenesisTimeBlock);
+    return lastProcessedBlockNumber;
+  }
+
+  private boolean isAfter(
+      final DepositsFromBlockEvent deposits, final MinGenesisTimeBlockEvent minGenesisTimeBlock) {
+    return deposits.getBlockNumber().compareTo(minGenesisTimeBlock.getBlockNumber()) > 0;
+  }
+
+  @Subscribe
+  public void onCacheEth1Block(final CacheEth1BlockEvent event) {
+    database.addEth1Block(event);
+    final UnsignedLong cacheRangeDuration = Eth1DataManager.getCacheRangeDuration();
+    if (event.getBlockTimestamp().compareTo(cacheRangeDuration) > 0) {
+      // Blocks older than the cache range relative to the newest block are never needed again
+      database.pruneEth1BlocksBefore(event.getBlockTimestamp().minus(cacheRangeDuration));
+    }
+  }
+
+  @Override
+  public SafeFuture<List<CacheEth1BlockEvent>> loadEth1BlocksSince(
+      final UnsignedLong minTimestamp) {
+    return SafeFuture.of(
+        () -> {
+          database.pruneEth1BlocksBefore(minTimestamp);
+          try (Stream<CacheEth1BlockEvent> blocks = database.streamEth1Blocks()) {
+            return blocks.collect(Collectors.toList());
+          }
+        });
+  }
 }
@@ -27,6 +27,7 @@ import static tech.pegasys.artemis.util.config.Constants.SLOTS_PER_HISTORICAL_RO
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.primitives.UnsignedLong;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import org.apache.logging.log4j.LogManager;
@@ -112,6 +113,28 @@ public class CombinedChainDataClient {
     return getBlockAtSlotFormHistoricalBlockRoots(slot, store, headState);
   }
 
+  /**
+   * Returns the finalized blocks proposed from <code>startSlot</code> to <code>endSlot</code>
+   * inclusive, in ascending slot order, with a single read of historical storage. Only slots which
+   * are <code>startSlot</code> plus a multiple of <code>step</code> are included and slots after
+   * the latest finalized slot are never included.
+   *
+   * @param startSlot the first slot to get the block for
+   * @param endSlot the last slot to get the block for
+   * @param step the number of slots between each requested slot
+   * @return the finalized blocks in the range, skipping any empty slots
+   */
+  public SafeFuture<List<SignedBeaconBlock>> getFinalizedBlocksInRange(
+      final UnsignedLong startSlot, final UnsignedLong endSlot, final UnsignedLong step) {
+    if (!isHistoricalData(startSlot)) {
+      return completedFuture(Collections.emptyList());
+    }
+    final UnsignedLong finalizedSlot =
+        compute_start_slot_at_epoch(recentChainData.getFinalizedEpoch());
+    final UnsignedLong lastSlot = endSlot.compareTo(finalizedSlot) < 0 ? endSlot : finalizedSlot;
+    return historicalChainData.getFinalizedBlocksInRange(startSlot, lastSlot, step);
+  }
+
   public SafeFuture<Optional<BeaconBlockAndState>> getBlockAndStateInEffectAtSlot(
       final UnsignedLong slot, final Bytes32 headBlockRoot) {
     return getBlockInEffectAtSlot(slot, headBlockRoot)
@@ -146,7 +169,14 @@ public class CombinedChainDataClient {
     return getBlockByBlockRoot(get_block_root_at_slot(state, slot));
   }
 
-  private boolean isHistoricalData(final UnsignedLong slot) {
+  /**
+   * Returns true if the block at the given slot is retrieved from historical storage rather than
+   * the store.
+   *
+   * @param slot the slot to check
+   * @return true if the slot is finalized and available from historical storage
+   */
+  public boolean isHistoricalData(final UnsignedLong slot) {
     final boolean finalizedPastFirstEpoch = !recentChainData.getFinalizedEpoch().equals(ZERO);
     return finalizedPastFirstEpoch && isFinalized(slot);
   }
@@ -16,9 +16,13 @@ package tech.pegasys.artemis.storage;
 import com.google.common.primitives.UnsignedLong;
 import java.io.Closeable;
 import java.util.Optional;
+import java.util.stream.Stream;
 import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.artemis.datastructures.blocks.SignedBeaconBlock;
 import tech.pegasys.artemis.datastructures.state.BeaconState;
+import tech.pegasys.artemis.pow.event.CacheEth1BlockEvent;
+import tech.pegasys.artemis.pow.event.DepositsFromBlockEvent;
+import tech.pegasys.artemis.pow.event.MinGenesisTimeBlockEvent;
 import tech.pegasys.artemis.storage.events.diskupdates.StorageUpdate;
 import tech.pegasys.artemis.storage.events.diskupdates.StorageUpdateResult;
 
@@ -48,5 +52,56 @@ public interface Database extends Closeable {
 
   Optional<SignedBeaconBlock> getSignedBlock(Bytes32 root);
 
+  /**
+   * Returns the finalized blocks proposed in slots from <code>startSlot</code> to <code>endSlot
+   * </code> inclusive, in ascending slot order. Only slots which are <code>startSlot</code> plus a
+   * multiple of <code>step</code> are included and empty slots are skipped. The returned stream
+   * must be closed.
+   *
+   * @param startSlot The first slot to include
+   * @param endSlot The last slot to include
+   * @param step The number of slots between each included slot
+   * @return The finalized blocks in the range
+   */
+  Stream<SignedBeaconBlock> streamFinalizedBlocks(
+      UnsignedLong startSlot, UnsignedLong endSlot, UnsignedLong step);
+
   Optional<BeaconState> getState(Bytes32 root);
+
+  /**
+   * Records the deposits found in an eth1 block. Blocks which have already been recorded are
+   * ignored.
+   *
+   * @param event The deposits from the block
+   */
+  void addDepositsFromBlockEvent(DepositsFromBlockEvent event);
+
+  /**
+   * Returns the recorded deposit events in ascending block number order. The returned stream must
+   * be closed.
+   *
+   * @return The recorded deposit events
+   */
+  Stream<DepositsFromBlockEvent> streamDepositsFromBlocks();
+
+  void addMinGenesisTimeBlock(MinGenesisTimeBlockEvent event);
+
+  Optional<MinGenesisTimeBlockEvent> getMinGenesisTimeBlock();
+
+  void addEth1Block(CacheEth1BlockEvent event);
+
+  /**
+   * Removes recorded eth1 blocks with a timestamp before the given time.
+   *
+   * @param timestamp The timestamp of the earliest block to retain
+   */
+  void pruneEth1BlocksBefore(UnsignedLong timestamp);
+
+  /**
+   * Returns the recorded eth1 blocks in ascending block number order. The returned stream must be
+   * closed.
+   *
+   * @return The recorded eth1 blocks
+   */
+  Stream<CacheEth1BlockEvent> streamEth1Blocks();
 }
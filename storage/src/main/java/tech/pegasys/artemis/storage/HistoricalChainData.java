@@ -18,6 +18,7 @@ import com.google.common.eventbus.EventBus;
 import com.google.common.eventbus.Subscribe;
 import com.google.common.primitives.UnsignedLong;
 import java.time.Duration;
+import java.util.List;
 import java.util.Optional;
 import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.artemis.datastructures.blocks.SignedBeaconBlock;
@@ -26,6 +27,8 @@ import tech.pegasys.artemis.storage.events.GetBlockByBlockRootRequest;
 import tech.pegasys.artemis.storage.events.GetBlockByBlockRootResponse;
 import tech.pegasys.artemis.storage.events.GetFinalizedBlockAtSlotRequest;
 import tech.pegasys.artemis.storage.events.GetFinalizedBlockAtSlotResponse;
+import tech.pegasys.artemis.storage.events.GetFinalizedBlocksInRangeRequest;
+import tech.pegasys.artemis.storage.events.GetFinalizedBlocksInRangeResponse;
 import tech.pegasys.artemis.storage.events.GetFinalizedStateAtSlotRequest;
 import tech.pegasys.artemis.storage.events.GetFinalizedStateAtSlotResponse;
 import tech.pegasys.artemis.storage.events.GetFinalizedStateByBlockRootRequest;
@@ -40,6 +43,8 @@ public class HistoricalChainData {
   private final AsyncEventTracker<UnsignedLong, Optional<SignedBeaconBlock>> blockAtSlotRequests;
   private final AsyncEventTracker<UnsignedLong, Optional<SignedBeaconBlock>>
       latestBlockAtSlotRequests;
+  private final AsyncEventTracker<GetFinalizedBlocksInRangeRequest, List<SignedBeaconBlock>>
+      blocksInRangeRequests;
   private final AsyncEventTracker<UnsignedLong, Optional<BeaconState>> stateAtSlotRequests;
   private final AsyncEventTracker<Bytes32, Optional<BeaconState>> stateByBlockRootRequests;
   private final AsyncEventTracker<Bytes32, Optional<SignedBeaconBlock>> blockByBlockRootRequests;
@@ -47,6 +52,7 @@ public class HistoricalChainData {
   public HistoricalChainData(final EventBus eventBus) {
     this.blockAtSlotRequests = new AsyncEventTracker<>(eventBus);
     this.latestBlockAtSlotRequests = new AsyncEventTracker<>(eventBus);
+    this.blocksInRangeRequests = new AsyncEventTracker<>(eventBus);
     this.stateAtSlotRequests = new AsyncEventTracker<>(eventBus);
     this.stateByBlockRootRequests = new AsyncEventTracker<>(eventBus);
     this.blockByBlockRootRequests = new AsyncEventTracker<>(eventBus);
@@ -64,6 +70,13 @@ public class HistoricalChainData {
         slot, new GetLatestFinalizedBlockAtSlotRequest(slot), QUERY_TIMEOUT);
   }
 
+  public SafeFuture<List<SignedBeaconBlock>> getFinalizedBlocksInRange(
+      final UnsignedLong startSlot, final UnsignedLong endSlot, final UnsignedLong step) {
+    final GetFinalizedBlocksInRangeRequest request =
+        new GetFinalizedBlocksInRangeRequest(startSlot, endSlot, step);
+    return blocksInRangeRequests.sendRequest(request, request, QUERY_TIMEOUT);
+  }
+
   public SafeFuture<Optional<BeaconState>> getFinalizedStateAtSlot(final UnsignedLong slot) {
     return stateAtSlotRequests.sendRequest(
         slot, new GetFinalizedStateAtSlotRequest(slot), QUERY_TIMEOUT);
@@ -91,6 +104,12 @@ public class HistoricalChainData {
     latestBlockAtSlotRequests.onResponse(response.getSlot(), response.getBlock());
   }
 
+  @Subscribe
+  @AllowConcurrentEvents
+  public void onBlocksInRangeResponse(final GetFinalizedBlocksInRangeResponse response) {
+    blocksInRangeRequests.onResponse(response.getRequest(), response.getBlocks());
+  }
+
   @Subscribe
   @AllowConcurrentEvents
   public void onStateAtSlotResponse(final GetFinalizedStateAtSlotResponse response) {
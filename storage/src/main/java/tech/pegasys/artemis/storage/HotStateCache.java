@@ -0,0 +1,126 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.artemis.storage;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+import java.util.function.Predicate;
+import org.apache.tuweni.bytes.Bytes32;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
+import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
+import tech.pegasys.artemis.datastructures.blocks.SignedBeaconBlock;
+import tech.pegasys.artemis.datastructures.state.BeaconState;
+import tech.pegasys.artemis.metrics.ArtemisMetricCategory;
+
+/**
+ * Tracks how recently each block state held by the {@link Store} was used so that the least
+ * recently used states can be evicted once more than {@code maxStates} unpinned states are held.
+ */
+final class HotStateCache {
+  private final int maxStates;
+  private final StateRegenerator regenerator;
+  private final Map<Bytes32, Boolean> accessOrder = new LinkedHashMap<>(16, 0.75f, true);
+  private final Counter hitCounter;
+  private final Counter regeneratedCounter;
+  private final Counter unavailableCounter;
+  private final Counter regeneratedBlocksCounter;
+  private final Counter regenerationTimeCounter;
+
+  HotStateCache(
+      final int maxStates,
+      final StateRegenerator regenerator,
+      final MetricsSystem metricsSystem,
+      final IntSupplier retainedStateCount) {
+    checkArgument(maxStates > 0, "Hot state cache size must be greater than 0");
+    this.maxStates = maxStates;
+    this.regenerator = regenerator;
+    final LabelledMetric<Counter> requestCounter =
+        metricsSystem.createLabelledCounter(
+            ArtemisMetricCategory.BEACONCHAIN,
+            "hot_state_requests_total",
+            "Total number of block state requests by whether the state was held in memory",
+            "result");
+    this.hitCounter = requestCounter.labels("hit");
+    this.regeneratedCounter = requestCounter.labels("regenerated");
+    this.unavailableCounter = requestCounter.labels("unavailable");
+    this.regeneratedBlocksCounter =
+        metricsSystem.createCounter(
+            ArtemisMetricCategory.BEACONCHAIN,
+            "state_regeneration_blocks_total",
+            "Total number of blocks replayed to regenerate evicted states");
+    this.regenerationTimeCounter =
+        metricsSystem.createCounter(
+            ArtemisMetricCategory.BEACONCHAIN,
+            "state_regeneration_time_ms_total",
+            "Total milliseconds spent regenerating evicted states");
+    metricsSystem.createGauge(
+        ArtemisMetricCategory.BEACONCHAIN,
+        "hot_states_retained",
+        "Number of block states currently held in memory",
+        retainedStateCount::getAsInt);
+  }
+
+  synchronized void onStateAccessed(final Bytes32 blockRoot) {
+    accessOrder.put(blockRoot, Boolean.TRUE);
+  }
+
+  synchronized void onStateRemoved(final Bytes32 blockRoot) {
+    accessOrder.remove(blockRoot);
+  }
+
+  void onHit(final Bytes32 blockRoot) {
+    hitCounter.inc();
+    onStateAccessed(blockRoot);
+  }
+
+  void onUnavailable() {
+    unavailableCounter.inc();
+  }
+
+  BeaconState regenerate(final BeaconState baseState, final List<SignedBeaconBlock> blocks) {
+    final long start = System.nanoTime();
+    final BeaconState state = regenerator.regenerate(baseState, blocks);
+    regenerationTimeCounter.inc(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    regeneratedBlocksCounter.inc(blocks.size());
+    regeneratedCounter.inc();
+    return state;
+  }
+
+  /**
+   * Selects the least recently used states to evict so that at most {@code maxStates} unpinned
+   * states remain. Pinned states are never selected and do not count towards the limit.
+   *
+   * @param isPinned identifies states which must be kept in memory
+   * @return the block roots of the states to evict, which are no longer tracked
+   */
+  synchronized List<Bytes32> selectStatesToEvict(final Predicate<Bytes32> isPinned) {
+    final List<Bytes32> unpinned = new ArrayList<>();
+    for (Bytes32 blockRoot : accessOrder.keySet()) {
+      if (!isPinned.test(blockRoot)) {
+        unpinned.add(blockRoot);
+      }
+    }
+    final List<Bytes32> toEvict =
+        new ArrayList<>(unpinned.subList(0, Math.max(unpinned.size() - maxStates, 0)));
+    toEvict.forEach(accessOrder::remove);
+    return toEvict;
+  }
+}
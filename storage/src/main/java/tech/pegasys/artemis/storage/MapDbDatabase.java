@@ -19,6 +19,7 @@ import java.io.File;
 import java.time.Instant;
 import java.util.Collections;
 import java.util.Map.Entry;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
@@ -26,6 +27,7 @@ import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ConcurrentNavigableMap;
 import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.tuweni.bytes.Bytes32;
@@ -38,10 +40,17 @@ import tech.pegasys.artemis.datastructures.blocks.SignedBeaconBlock;
 import tech.pegasys.artemis.datastructures.state.BeaconState;
 import tech.pegasys.artemis.datastructures.state.BeaconStateImpl;
 import tech.pegasys.artemis.datastructures.state.Checkpoint;
+import tech.pegasys.artemis.datastructures.util.RetainedSszEncodings;
+import tech.pegasys.artemis.pow.event.CacheEth1BlockEvent;
+import tech.pegasys.artemis.pow.event.DepositsFromBlockEvent;
+import tech.pegasys.artemis.pow.event.MinGenesisTimeBlockEvent;
 import tech.pegasys.artemis.storage.events.diskupdates.StorageUpdate;
 import tech.pegasys.artemis.storage.events.diskupdates.StorageUpdateResult;
 import tech.pegasys.artemis.storage.utils.Bytes32Serializer;
+import tech.pegasys.artemis.storage.utils.CacheEth1BlockEventSerializer;
+import tech.pegasys.artemis.storage.utils.DepositsFromBlockEventSerializer;
 import tech.pegasys.artemis.storage.utils.MapDBSerializer;
+import tech.pegasys.artemis.storage.utils.MinGenesisTimeBlockEventSerializer;
 import tech.pegasys.artemis.storage.utils.UnsignedLongSerializer;
 
 public class MapDbDatabase implements Database {
@@ -63,23 +72,32 @@ public class MapDbDatabase implements Database {
   private final ConcurrentMap<Checkpoint, BeaconState> checkpointStates;
   private final ConcurrentMap<UnsignedLong, Checkpoint> latestMessages;
 
+  private final ConcurrentNavigableMap<UnsignedLong, DepositsFromBlockEvent> depositsByBlockNumber;
+  private final Atomic.Var<MinGenesisTimeBlockEvent> minGenesisTimeBlock;
+  private final ConcurrentNavigableMap<UnsignedLong, CacheEth1BlockEvent> eth1BlocksByNumber;
+
   // In memory only
   private final ConcurrentNavigableMap<UnsignedLong, Set<Bytes32>> hotRootsBySlotCache =
       new ConcurrentSkipListMap<>();
   private final StateStorageMode stateStorageMode;
 
   public static Database createOnDisk(
-      final File directory, final StateStorageMode stateStorageMode) {
+      final File directory,
+      final StateStorageMode stateStorageMode,
+      final RetainedSszEncodings retainedSszEncodings) {
     final File databaseFile = new File(directory, "teku.db");
-    return new MapDbDatabase(DBMaker.fileDB(databaseFile), stateStorageMode);
+    return new MapDbDatabase(DBMaker.fileDB(databaseFile), stateStorageMode, retainedSszEncodings);
   }
 
   @VisibleForTesting
   static Database createInMemory(final StateStorageMode stateStorageMode) {
-    return new MapDbDatabase(DBMaker.memoryDB(), stateStorageMode);
+    return new MapDbDatabase(DBMaker.memoryDB(), stateStorageMode, RetainedSszEncodings.disabled());
   }
 
-  private MapDbDatabase(final Maker dbMaker, final StateStorageMode stateStorageMode) {
+  private MapDbDatabase(
+      final Maker dbMaker,
+      final StateStorageMode stateStorageMode,
+      final RetainedSszEncodings retainedSszEncodings) {
     this.stateStorageMode = stateStorageMode;
     db = dbMaker.transactionEnable().make();
     genesisTime = db.atomicVar("genesisTime", new UnsignedLongSerializer()).createOrOpen();
@@ -98,7 +116,7 @@ public class MapDbDatabase implements Database {
         db.hashMap(
                 "finalizedBlocksByRoot",
                 new Bytes32Serializer(),
-                new MapDBSerializer<>(SignedBeaconBlock.class))
+                new MapDBSerializer<>(SignedBeaconBlock.class, retainedSszEncodings))
             .createOrOpen();
     finalizedStatesByRoot =
         db.hashMap(
@@ -111,7 +129,7 @@ public class MapDbDatabase implements Database {
         db.hashMap(
                 "hotBlocksByRoot",
                 new Bytes32Serializer(),
-                new MapDBSerializer<>(SignedBeaconBlock.class))
+                new MapDBSerializer<>(SignedBeaconBlock.class, retainedSszEncodings))
             .createOrOpen();
     hotStatesByRoot =
         db.hashMap(
@@ -134,6 +152,22 @@ public class MapDbDatabase implements Database {
                 new MapDBSerializer<>(Checkpoint.class))
             .createOrOpen();
 
+    depositsByBlockNumber =
+        db.treeMap(
+                "depositsByBlockNumber",
+                new UnsignedLongSerializer(),
+                new DepositsFromBlockEventSerializer())
+            .createOrOpen();
+    minGenesisTimeBlock =
+        db.atomicVar("minGenesisTimeBlock", new MinGenesisTimeBlockEventSerializer())
+            .createOrOpen();
+    eth1BlocksByNumber =
+        db.treeMap(
+                "eth1BlocksByNumber",
+                new UnsignedLongSerializer(),
+                new CacheEth1BlockEventSerializer())
+            .createOrOpen();
+
     // Recreate hotRootsBySlotCache
     hotBlocksByRoot.forEach(this::addToHotRootsBySlotCache);
   }
@@ -349,6 +383,19 @@ public class MapDbDatabase implements Database {
         : Optional.ofNullable(finalizedBlocksByRoot.get(root));
   }
 
+  @Override
+  public Stream<SignedBeaconBlock> streamFinalizedBlocks(
+      final UnsignedLong startSlot, final UnsignedLong endSlot, final UnsignedLong step) {
+    if (startSlot.compareTo(endSlot) > 0) {
+      return Stream.empty();
+    }
+    // Walk the slot index in order and only load the blocks that will actually be returned
+    return finalizedRootsBySlot.subMap(startSlot, true, endSlot, true).entrySet().stream()
+        .filter(entry -> entry.getKey().minus(startSlot).mod(step).equals(UnsignedLong.ZERO))
+        .map(entry -> finalizedBlocksByRoot.get(entry.getValue()))
+        .filter(Objects::nonNull);
+  }
+
   @Override
   public Optional<BeaconState> getState(final Bytes32 root) {
     final BeaconState state = hotStatesByRoot.get(root);
@@ -357,6 +404,83 @@ public class MapDbDatabase implements Database {
         : Optional.ofNullable(finalizedStatesByRoot.get(root));
   }
 
+  @Override
+  public synchronized void addDepositsFromBlockEvent(final DepositsFromBlockEvent event) {
+    if (depositsByBlockNumber.containsKey(event.getBlockNumber())) {
+      return;
+    }
+    try {
+      depositsByBlockNumber.put(event.getBlockNumber(), event);
+      db.commit();
+    } catch (final RuntimeException | Error e) {
+      db.rollback();
+      throw e;
+    }
+  }
+
+  @Override
+  public Stream<DepositsFromBlockEvent> streamDepositsFromBlocks() {
+    return depositsByBlockNumber.values().stream();
+  }
+
+  @Override
+  public synchronized void addMinGenesisTimeBlock(final MinGenesisTimeBlockEvent event) {
+    if (minGenesisTimeBlock.get() != null) {
+      return;
+    }
+    try {
+      minGenesisTimeBlock.set(event);
+      db.commit();
+    } catch (final RuntimeException | Error e) {
+      db.rollback();
+      throw e;
+    }
+  }
+
+  @Override
+  public Optional<MinGenesisTimeBlockEvent> getMinGenesisTimeBlock() {
+    return Optional.ofNullable(minGenesisTimeBlock.get());
+  }
+
+  @Override
+  public synchronized void addEth1Block(final CacheEth1BlockEvent event) {
+    final CacheEth1BlockEvent existing = eth1BlocksByNumber.get(event.getBlockNumber());
+    if (existing != null && existing.getBlockHash().equals(event.getBlockHash())) {
+      return;
+    }
+    try {
+      eth1BlocksByNumber.put(event.getBlockNumber(), event);
+      db.commit();
+    } catch (final RuntimeException | Error e) {
+      db.rollback();
+      throw e;
+    }
+  }
+
+  @Override
+  public synchronized void pruneEth1BlocksBefore(final UnsignedLong timestamp) {
+    final Set<UnsignedLong> prunedBlockNumbers =
+        eth1BlocksByNumber.values().stream()
+            .takeWhile(block -> block.getBlockTimestamp().compareTo(timestamp) < 0)
+            .map(CacheEth1BlockEvent::getBlockNumber)
+            .collect(Collectors.toSet());
+    if (prunedBlockNumbers.isEmpty()) {
+      return;
+    }
+    try {
+      eth1BlocksByNumber.keySet().removeAll(prunedBlockNumbers);
+      db.commit();
+    } catch (final RuntimeException | Error e) {
+      db.rollback();
+      throw e;
+    }
+  }
+
+  @Override
+  public Stream<CacheEth1BlockEvent> streamEth1Blocks() {
+    return eth1BlocksByNumber.values().stream();
+  }
+
   @Override
   public void close() {
     db.close();
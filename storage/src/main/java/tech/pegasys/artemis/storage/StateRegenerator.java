@@ -0,0 +1,31 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.artemis.storage;
+
+import java.util.List;
+import tech.pegasys.artemis.datastructures.blocks.SignedBeaconBlock;
+import tech.pegasys.artemis.datastructures.state.BeaconState;
+
+/** Rebuilds a state that has been evicted from the {@link Store} by replaying blocks. */
+public interface StateRegenerator {
+
+  /**
+   * Applies the given blocks, in order, on top of {@code baseState}.
+   *
+   * @param baseState the post-state of the parent of the first block
+   * @param blocks the blocks to replay, each the child of the previous one
+   * @return the post-state of the last block
+   */
+  BeaconState regenerate(BeaconState baseState, List<SignedBeaconBlock> blocks);
+}
@@ -13,11 +13,16 @@
 
 package tech.pegasys.artemis.storage;
 
+import static tech.pegasys.artemis.datastructures.util.BeaconStateUtil.compute_epoch_at_slot;
 import static tech.pegasys.artemis.util.config.Constants.GENESIS_EPOCH;
 
 import com.google.common.collect.Sets;
 import com.google.common.primitives.UnsignedLong;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
@@ -33,6 +38,7 @@ import javax.annotation.CheckReturnValue;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.tuweni.bytes.Bytes32;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
 import tech.pegasys.artemis.datastructures.blocks.BeaconBlock;
 import tech.pegasys.artemis.datastructures.blocks.SignedBeaconBlock;
 import tech.pegasys.artemis.datastructures.state.BeaconState;
@@ -55,6 +61,8 @@ public class Store implements ReadOnlyStore {
   private Map<Bytes32, BeaconState> block_states;
   private Map<Checkpoint, BeaconState> checkpoint_states;
   private Map<UnsignedLong, Checkpoint> latest_messages;
+  private volatile Optional<HotStateCache> hotStateCache = Optional.empty();
+  private volatile Optional<Bytes32> headBlockRoot = Optional.empty();
 
   public Store(
       final UnsignedLong time,
@@ -104,6 +112,44 @@ public class Store implements ReadOnlyStore {
         latest_messages);
   }
 
+  /**
+   * Bounds the number of block states held in memory. States for the justified, best justified
+   * and finalized checkpoints, the head and the first block of each epoch are always retained. Of
+   * the remaining states only the {@code maxHotStates} most recently used are kept and the rest are
+   * regenerated on demand by replaying blocks from the nearest retained ancestor state.
+   *
+   * <p>Checkpoint states more than an epoch older than the latest checkpoint state are also
+   * dropped as fork choice recalculates them from the block states when required.
+   *
+   * @param maxHotStates the maximum number of unpinned states to keep in memory
+   * @param regenerator used to regenerate evicted states
+   * @param metricsSystem the metrics system to report cache performance to
+   */
+  public void limitHotStates(
+      final int maxHotStates,
+      final StateRegenerator regenerator,
+      final MetricsSystem metricsSystem) {
+    final Lock writeLock = lock.writeLock();
+    writeLock.lock();
+    try {
+      final HotStateCache cache =
+          new HotStateCache(maxHotStates, regenerator, metricsSystem, block_states::size);
+      // Treat older states as least recently used so they are the first to be evicted
+      block_states.keySet().stream()
+          .filter(blocks::containsKey)
+          .sorted(Comparator.comparing(root -> blocks.get(root).getSlot()))
+          .forEach(cache::onStateAccessed);
+      hotStateCache = Optional.of(cache);
+      evictStates();
+    } finally {
+      writeLock.unlock();
+    }
+  }
+
+  void setHeadBlockRoot(final Bytes32 headBlockRoot) {
+    this.headBlockRoot = Optional.of(headBlockRoot);
+  }
+
   Transaction startTransaction(final StorageUpdateChannel storageUpdateChannel) {
     return startTransaction(storageUpdateChannel, StoreUpdateHandler.NOOP);
   }
@@ -201,19 +247,129 @@ public class Store implements ReadOnlyStore {
 
   @Override
   public BeaconState getBlockState(Bytes32 blockRoot) {
+    final Optional<HotStateCache> cache = hotStateCache;
     readLock.lock();
     try {
-      return block_states.get(blockRoot);
+      final BeaconState state = block_states.get(blockRoot);
+      if (state != null) {
+        cache.ifPresent(c -> c.onHit(blockRoot));
+        return state;
+      }
+      if (cache.isEmpty() || !blocks.containsKey(blockRoot)) {
+        return null;
+      }
     } finally {
       readLock.unlock();
     }
+    return regenerateBlockState(cache.get(), blockRoot);
+  }
+
+  private BeaconState regenerateBlockState(final HotStateCache cache, final Bytes32 blockRoot) {
+    final Deque<SignedBeaconBlock> blocksToReplay = new ArrayDeque<>();
+    BeaconState baseState = null;
+    readLock.lock();
+    try {
+      Bytes32 root = blockRoot;
+      while (baseState == null) {
+        final SignedBeaconBlock block = blocks.get(root);
+        if (block == null) {
+          LOG.warn("Unable to regenerate state for block {}: no ancestor state held", blockRoot);
+          cache.onUnavailable();
+          return null;
+        }
+        blocksToReplay.addFirst(block);
+        root = block.getParent_root();
+        baseState = block_states.get(root);
+      }
+    } finally {
+      readLock.unlock();
+    }
+
+    final BeaconState state;
+    try {
+      state = cache.regenerate(baseState, new ArrayList<>(blocksToReplay));
+    } catch (final RuntimeException e) {
+      LOG.error("Failed to regenerate state for block {}", blockRoot, e);
+      cache.onUnavailable();
+      return null;
+    }
+
+    final Lock writeLock = lock.writeLock();
+    writeLock.lock();
+    try {
+      // The block may have been pruned while the state was regenerated
+      if (blocks.containsKey(blockRoot)) {
+        block_states.putIfAbsent(blockRoot, state);
+        cache.onStateAccessed(blockRoot);
+        evictStates();
+      }
+    } finally {
+      writeLock.unlock();
+    }
+    return state;
+  }
+
+  /** Must be called while holding the write lock. */
+  private void evictStates() {
+    hotStateCache.ifPresent(
+        cache -> {
+          cache.selectStatesToEvict(this::isStatePinned).forEach(block_states::remove);
+          evictCheckpointStates();
+        });
+  }
+
+  private void evictCheckpointStates() {
+    final Optional<UnsignedLong> latestEpoch =
+        checkpoint_states.keySet().stream()
+            .map(Checkpoint::getEpoch)
+            .max(Comparator.naturalOrder());
+    if (latestEpoch.isEmpty()) {
+      return;
+    }
+    // Attestations may only target the current or previous epoch
+    final UnsignedLong earliestRetainedEpoch =
+        latestEpoch.get().compareTo(UnsignedLong.ONE) > 0
+            ? latestEpoch.get().minus(UnsignedLong.ONE)
+            : UnsignedLong.ZERO;
+    checkpoint_states
+        .keySet()
+        .removeIf(
+            checkpoint ->
+                checkpoint.getEpoch().compareTo(earliestRetainedEpoch) < 0
+                    && !isCheckpointPinned(checkpoint));
+  }
+
+  private boolean isCheckpointPinned(final Checkpoint checkpoint) {
+    return checkpoint.equals(justified_checkpoint)
+        || checkpoint.equals(best_justified_checkpoint)
+        || checkpoint.equals(finalized_checkpoint);
+  }
+
+  private boolean isStatePinned(final Bytes32 blockRoot) {
+    return blockRoot.equals(justified_checkpoint.getRoot())
+        || blockRoot.equals(best_justified_checkpoint.getRoot())
+        || blockRoot.equals(finalized_checkpoint.getRoot())
+        || headBlockRoot.map(blockRoot::equals).orElse(false)
+        || isEpochBoundaryBlock(blockRoot);
+  }
+
+  private boolean isEpochBoundaryBlock(final Bytes32 blockRoot) {
+    final SignedBeaconBlock block = blocks.get(blockRoot);
+    if (block == null) {
+      return true;
+    }
+    final SignedBeaconBlock parent = blocks.get(block.getParent_root());
+    // States without a parent block are the base every other state is regenerated from
+    return parent == null
+        || !compute_epoch_at_slot(block.getSlot()).equals(compute_epoch_at_slot(parent.getSlot()));
   }
 
   @Override
   public boolean containsBlockState(Bytes32 blockRoot) {
     readLock.lock();
     try {
-      return block_states.containsKey(blockRoot);
+      return block_states.containsKey(blockRoot)
+          || (hotStateCache.isPresent() && blocks.containsKey(blockRoot));
     } finally {
       readLock.unlock();
     }
@@ -348,6 +504,8 @@ public class Store implements ReadOnlyStore {
                   Store.this.block_states.putAll(block_states);
                   Store.this.checkpoint_states.putAll(checkpoint_states);
                   Store.this.latest_messages.putAll(latest_messages);
+                  hotStateCache.ifPresent(
+                      cache -> block_states.keySet().forEach(cache::onStateAccessed));
                   // Prune old data
                   updateResult.getPrunedCheckpoints().forEach(Store.this.checkpoint_states::remove);
                   updateResult
@@ -356,7 +514,9 @@ public class Store implements ReadOnlyStore {
                           prunedRoot -> {
                             Store.this.blocks.remove(prunedRoot);
                             Store.this.block_states.remove(prunedRoot);
+                            hotStateCache.ifPresent(cache -> cache.onStateRemoved(prunedRoot));
                           });
+                  evictStates();
                 } finally {
                   writeLock.unlock();
                 }
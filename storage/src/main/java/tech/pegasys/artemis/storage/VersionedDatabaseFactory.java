@@ -21,6 +21,7 @@ import java.nio.file.Paths;
 import java.nio.file.StandardOpenOption;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import tech.pegasys.artemis.datastructures.util.RetainedSszEncodings;
 import tech.pegasys.artemis.util.config.ArtemisConfiguration;
 
 public class VersionedDatabaseFactory {
@@ -30,12 +31,15 @@ public class VersionedDatabaseFactory {
   @VisibleForTesting static final String DB_VERSION_PATH = "db.version";
 
   private final ArtemisConfiguration config;
+  private final RetainedSszEncodings retainedSszEncodings;
   private final File dataDirectory;
   private final File dbDirectory;
   private final File dbVersionFile;
 
-  public VersionedDatabaseFactory(final ArtemisConfiguration config) {
+  public VersionedDatabaseFactory(
+      final ArtemisConfiguration config, final RetainedSszEncodings retainedSszEncodings) {
     this.config = config;
+    this.retainedSszEncodings = retainedSszEncodings;
 
     this.dataDirectory = Paths.get(config.getDataPath()).toFile();
     this.dbDirectory = this.dataDirectory.toPath().resolve(DB_PATH).toFile();
@@ -62,7 +66,7 @@ public class VersionedDatabaseFactory {
   private Database createV1Database() {
     final StateStorageMode stateStorageMode =
         StateStorageMode.fromString(config.getDataStorageMode());
-    return MapDbDatabase.createOnDisk(dbDirectory, stateStorageMode);
+    return MapDbDatabase.createOnDisk(dbDirectory, stateStorageMode, retainedSszEncodings);
   }
 
   private void validateDataPaths() {
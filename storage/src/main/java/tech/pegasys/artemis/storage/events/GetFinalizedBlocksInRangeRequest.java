@@ -0,0 +1,61 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.artemis.storage.events;
+
+import com.google.common.primitives.UnsignedLong;
+import java.util.Objects;
+
+public class GetFinalizedBlocksInRangeRequest {
+  private final UnsignedLong startSlot;
+  private final UnsignedLong endSlot;
+  private final UnsignedLong step;
+
+  public GetFinalizedBlocksInRangeRequest(
+      final UnsignedLong startSlot, final UnsignedLong endSlot, final UnsignedLong step) {
+    this.startSlot = startSlot;
+    this.endSlot = endSlot;
+    this.step = step;
+  }
+
+  public UnsignedLong getStartSlot() {
+    return startSlot;
+  }
+
+  public UnsignedLong getEndSlot() {
+    return endSlot;
+  }
+
+  public UnsignedLong getStep() {
+    return step;
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    final GetFinalizedBlocksInRangeRequest that = (GetFinalizedBlocksInRangeRequest) o;
+    return Objects.equals(startSlot, that.startSlot)
+        && Objects.equals(endSlot, that.endSlot)
+        && Objects.equals(step, that.step);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(startSlot, endSlot, step);
+  }
+}
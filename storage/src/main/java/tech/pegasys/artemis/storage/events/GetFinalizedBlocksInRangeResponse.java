@@ -0,0 +1,36 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.artemis.storage.events;
+
+import java.util.List;
+import tech.pegasys.artemis.datastructures.blocks.SignedBeaconBlock;
+
+public class GetFinalizedBlocksInRangeResponse {
+  private final GetFinalizedBlocksInRangeRequest request;
+  private final List<SignedBeaconBlock> blocks;
+
+  public GetFinalizedBlocksInRangeResponse(
+      final GetFinalizedBlocksInRangeRequest request, final List<SignedBeaconBlock> blocks) {
+    this.request = request;
+    this.blocks = blocks;
+  }
+
+  public GetFinalizedBlocksInRangeRequest getRequest() {
+    return request;
+  }
+
+  public List<SignedBeaconBlock> getBlocks() {
+    return blocks;
+  }
+}
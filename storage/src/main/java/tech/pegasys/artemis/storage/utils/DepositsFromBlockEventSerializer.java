@@ -0,0 +1,77 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.artemis.storage.utils;
+
+import com.google.common.primitives.UnsignedLong;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import org.jetbrains.annotations.NotNull;
+import org.mapdb.DataInput2;
+import org.mapdb.DataOutput2;
+import org.mapdb.Serializer;
+import tech.pegasys.artemis.pow.event.Deposit;
+import tech.pegasys.artemis.pow.event.DepositsFromBlockEvent;
+import tech.pegasys.artemis.util.bls.BLSPublicKey;
+import tech.pegasys.artemis.util.bls.BLSSignature;
+
+public class DepositsFromBlockEventSerializer implements Serializer<DepositsFromBlockEvent> {
+  private static final int PUBKEY_SIZE = 48;
+  private static final int SIGNATURE_SIZE = 96;
+
+  @Override
+  public void serialize(@NotNull final DataOutput2 out, @NotNull final DepositsFromBlockEvent value)
+      throws IOException {
+    out.writeLong(value.getBlockNumber().longValue());
+    out.write(value.getBlockHash().toArrayUnsafe());
+    out.writeLong(value.getBlockTimestamp().longValue());
+    out.packInt(value.getDeposits().size());
+    for (Deposit deposit : value.getDeposits()) {
+      out.write(deposit.getPubkey().toBytesCompressed().toArrayUnsafe());
+      out.write(deposit.getWithdrawal_credentials().toArrayUnsafe());
+      out.write(deposit.getSignature().toBytes().toArrayUnsafe());
+      out.writeLong(deposit.getAmount().longValue());
+      out.writeLong(deposit.getMerkle_tree_index().longValue());
+    }
+  }
+
+  @Override
+  public DepositsFromBlockEvent deserialize(@NotNull final DataInput2 input, final int available)
+      throws IOException {
+    final UnsignedLong blockNumber = UnsignedLong.fromLongBits(input.readLong());
+    final Bytes32 blockHash = Bytes32.wrap(readBytes(input, Bytes32.SIZE));
+    final UnsignedLong blockTimestamp = UnsignedLong.fromLongBits(input.readLong());
+    final int depositCount = input.unpackInt();
+    final List<Deposit> deposits = new ArrayList<>(depositCount);
+    for (int i = 0; i < depositCount; i++) {
+      final BLSPublicKey pubkey =
+          BLSPublicKey.fromBytesCompressed(Bytes.wrap(readBytes(input, PUBKEY_SIZE)));
+      final Bytes32 withdrawalCredentials = Bytes32.wrap(readBytes(input, Bytes32.SIZE));
+      final BLSSignature signature =
+          BLSSignature.fromBytes(Bytes.wrap(readBytes(input, SIGNATURE_SIZE)));
+      final UnsignedLong amount = UnsignedLong.fromLongBits(input.readLong());
+      final UnsignedLong index = UnsignedLong.fromLongBits(input.readLong());
+      deposits.add(new Deposit(pubkey, withdrawalCredentials, signature, amount, index));
+    }
+    return new DepositsFromBlockEvent(blockNumber, blockHash, blockTimestamp, deposits);
+  }
+
+  private static byte[] readBytes(final DataInput2 input, final int size) throws IOException {
+    final byte[] data = new byte[size];
+    input.readFully(data);
+    return data;
+  }
+}
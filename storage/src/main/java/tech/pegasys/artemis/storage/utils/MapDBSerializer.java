@@ -18,27 +18,34 @@ import org.apache.tuweni.bytes.Bytes;
 import org.mapdb.DataInput2;
 import org.mapdb.DataOutput2;
 import org.mapdb.Serializer;
-import tech.pegasys.artemis.datastructures.util.SimpleOffsetSerializer;
+import tech.pegasys.artemis.datastructures.util.RetainedSszEncodings;
 import tech.pegasys.artemis.util.sos.SimpleOffsetSerializable;
 
 public class MapDBSerializer<T extends SimpleOffsetSerializable> implements Serializer<T> {
 
   private Class<? extends T> classInfo;
+  private final RetainedSszEncodings retainedSszEncodings;
 
   public MapDBSerializer(Class<? extends T> classInformation) {
+    this(classInformation, RetainedSszEncodings.disabled());
+  }
+
+  public MapDBSerializer(
+      Class<? extends T> classInformation, final RetainedSszEncodings retainedSszEncodings) {
     this.classInfo = classInformation;
+    this.retainedSszEncodings = retainedSszEncodings;
   }
 
   @Override
   public void serialize(DataOutput2 out, T value) throws IOException {
-    final byte[] data = SimpleOffsetSerializer.serialize(value).toArrayUnsafe();
+    final byte[] data = retainedSszEncodings.serialize(value).toArrayUnsafe();
     Serializer.BYTE_ARRAY.serialize(out, data);
   }
 
   @Override
   public T deserialize(DataInput2 in, int available) throws IOException {
     final byte[] data = Serializer.BYTE_ARRAY.deserialize(in, available);
-    return SimpleOffsetSerializer.deserialize(Bytes.wrap(data), classInfo);
+    return retainedSszEncodings.deserialize(Bytes.wrap(data), classInfo);
   }
 
   @Override
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.artemis.storage.utils;
+
+import com.google.common.primitives.UnsignedLong;
+import java.io.IOException;
+import org.apache.tuweni.bytes.Bytes32;
+import org.jetbrains.annotations.NotNull;
+import org.mapdb.DataInput2;
+import org.mapdb.DataOutput2;
+import org.mapdb.Serializer;
+import tech.pegasys.artemis.pow.event.MinGenesisTimeBlockEvent;
+
+public class MinGenesisTimeBlockEventSerializer implements Serializer<MinGenesisTimeBlockEvent> {
+
+  @Override
+  public void serialize(
+      @NotNull final DataOutput2 out, @NotNull final MinGenesisTimeBlockEvent value)
+      throws IOException {
+    out.writeLong(value.getTimestamp().longValue());
+    out.writeLong(value.getBlockNumber().longValue());
+    out.write(value.getBlockHash().toArrayUnsafe());
+  }
+
+  @Override
+  public MinGenesisTimeBlockEvent deserialize(@NotNull final DataInput2 input, final int available)
+      throws IOException {
+    final UnsignedLong timestamp = UnsignedLong.fromLongBits(input.readLong());
+    final UnsignedLong blockNumber = UnsignedLong.fromLongBits(input.readLong());
+    final byte[] blockHash = new byte[Bytes32.SIZE];
+    input.readFully(blockHash);
+    return new MinGenesisTimeBlockEvent(timestamp, blockNumber, Bytes32.wrap(blockHash));
+  }
+}
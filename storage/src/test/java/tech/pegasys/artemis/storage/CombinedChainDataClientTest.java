@@ -17,6 +17,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static tech.pegasys.artemis.util.async.SafeFuture.completedFuture;
 import static tech.pegasys.artemis.util.config.Constants.SLOTS_PER_EPOCH;
@@ -116,6 +117,33 @@ class CombinedChainDataClientTest {
         .isCompletedWithValue(Optional.of(block));
   }
 
+  @Test
+  public void getFinalizedBlocksInRange_returnEmptyWhenStartSlotIsNotFinalized() {
+    when(recentChainData.getFinalizedEpoch()).thenReturn(UnsignedLong.ONE);
+    final UnsignedLong startSlot = UnsignedLong.valueOf(SLOTS_PER_EPOCH + 1);
+
+    assertThat(
+            client.getFinalizedBlocksInRange(
+                startSlot, startSlot.plus(UnsignedLong.ONE), UnsignedLong.ONE))
+        .isCompletedWithValue(List.of());
+    verifyNoInteractions(historicalChainData);
+  }
+
+  @Test
+  public void getFinalizedBlocksInRange_limitRangeToFinalizedSlot() {
+    final SignedBeaconBlock block = block(UnsignedLong.ONE);
+    final UnsignedLong finalizedSlot = UnsignedLong.valueOf(SLOTS_PER_EPOCH);
+    when(recentChainData.getFinalizedEpoch()).thenReturn(UnsignedLong.ONE);
+    when(historicalChainData.getFinalizedBlocksInRange(
+            UnsignedLong.ONE, finalizedSlot, UnsignedLong.ONE))
+        .thenReturn(completedFuture(List.of(block)));
+
+    assertThat(
+            client.getFinalizedBlocksInRange(
+                UnsignedLong.ONE, UnsignedLong.valueOf(100), UnsignedLong.ONE))
+        .isCompletedWithValue(List.of(block));
+  }
+
   @Test
   public void getBlockAtSlotExact_returnBlockInHeadSlot() {
     final UnsignedLong slot = UnsignedLong.ONE;
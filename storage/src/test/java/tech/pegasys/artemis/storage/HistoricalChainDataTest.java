@@ -20,6 +20,7 @@ import static org.mockito.Mockito.verify;
 
 import com.google.common.eventbus.EventBus;
 import com.google.common.primitives.UnsignedLong;
+import java.util.List;
 import java.util.Optional;
 import org.apache.tuweni.bytes.Bytes32;
 import org.junit.jupiter.api.Test;
@@ -30,6 +31,8 @@ import tech.pegasys.artemis.storage.events.GetBlockByBlockRootRequest;
 import tech.pegasys.artemis.storage.events.GetBlockByBlockRootResponse;
 import tech.pegasys.artemis.storage.events.GetFinalizedBlockAtSlotRequest;
 import tech.pegasys.artemis.storage.events.GetFinalizedBlockAtSlotResponse;
+import tech.pegasys.artemis.storage.events.GetFinalizedBlocksInRangeRequest;
+import tech.pegasys.artemis.storage.events.GetFinalizedBlocksInRangeResponse;
 import tech.pegasys.artemis.storage.events.GetFinalizedStateAtSlotRequest;
 import tech.pegasys.artemis.storage.events.GetFinalizedStateAtSlotResponse;
 import tech.pegasys.artemis.storage.events.GetFinalizedStateByBlockRootRequest;
@@ -141,6 +144,34 @@ class HistoricalChainDataTest {
     assertThat(result2).isCompletedWithValue(BLOCK);
   }
 
+  @Test
+  public void getFinalizedBlocksInRange_shouldRetrieveAllBlocksWithOneRequest() {
+    final UnsignedLong endSlot = UnsignedLong.valueOf(10);
+    final GetFinalizedBlocksInRangeRequest request =
+        new GetFinalizedBlocksInRangeRequest(ONE, endSlot, ONE);
+    final SafeFuture<List<SignedBeaconBlock>> result =
+        historicalChainData.getFinalizedBlocksInRange(ONE, endSlot, ONE);
+    verify(eventBus).post(request);
+    assertThat(result).isNotDone();
+
+    historicalChainData.onBlocksInRangeResponse(
+        new GetFinalizedBlocksInRangeResponse(request, List.of(BLOCK.get())));
+    assertThat(result).isCompletedWithValue(List.of(BLOCK.get()));
+  }
+
+  @Test
+  public void getFinalizedBlocksInRange_shouldIgnoreResponsesForDifferentRanges() {
+    final UnsignedLong endSlot = UnsignedLong.valueOf(10);
+    final SafeFuture<List<SignedBeaconBlock>> result =
+        historicalChainData.getFinalizedBlocksInRange(ONE, endSlot, ONE);
+
+    historicalChainData.onBlocksInRangeResponse(
+        new GetFinalizedBlocksInRangeResponse(
+            new GetFinalizedBlocksInRangeRequest(ONE, endSlot, UnsignedLong.valueOf(2)),
+            List.of(BLOCK.get())));
+    assertThat(result).isNotDone();
+  }
+
   @Test
   public void getFinalizedStateAtSlot_shouldRetrieveStateBySlot() {
     final SafeFuture<Optional<BeaconState>> result =
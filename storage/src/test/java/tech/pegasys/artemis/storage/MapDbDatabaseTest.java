@@ -45,11 +45,17 @@ import tech.pegasys.artemis.datastructures.blocks.SignedBeaconBlock;
 import tech.pegasys.artemis.datastructures.state.BeaconState;
 import tech.pegasys.artemis.datastructures.state.Checkpoint;
 import tech.pegasys.artemis.datastructures.util.DataStructureUtil;
+import tech.pegasys.artemis.datastructures.util.RetainedSszEncodings;
+import tech.pegasys.artemis.pow.event.CacheEth1BlockEvent;
+import tech.pegasys.artemis.pow.event.Deposit;
+import tech.pegasys.artemis.pow.event.DepositsFromBlockEvent;
+import tech.pegasys.artemis.pow.event.MinGenesisTimeBlockEvent;
 import tech.pegasys.artemis.storage.Store.Transaction;
 import tech.pegasys.artemis.storage.api.StorageUpdateChannel;
 import tech.pegasys.artemis.storage.events.diskupdates.StorageUpdate;
 import tech.pegasys.artemis.storage.events.diskupdates.StorageUpdateResult;
 import tech.pegasys.artemis.util.async.SafeFuture;
+import tech.pegasys.artemis.util.bls.BLSPublicKey;
 import tech.pegasys.artemis.util.bls.BLSSignature;
 import tech.pegasys.artemis.util.config.Constants;
 
@@ -551,6 +557,43 @@ class MapDbDatabaseTest {
     }
   }
 
+  @Test
+  public void streamFinalizedBlocks_shouldReturnCanonicalBlocksInRange() {
+    final SignedBeaconBlock block1 = blockAtSlot(1, store.getFinalizedCheckpoint().getRoot());
+    final SignedBeaconBlock block2 = blockAtSlot(2, block1);
+    final SignedBeaconBlock block3 = blockAtSlot(3, block2);
+    final SignedBeaconBlock block5 = blockAtSlot(5, block3);
+    final SignedBeaconBlock block7 = blockAtSlot(7, block5);
+    final SignedBeaconBlock forkBlock6 = blockAtSlot(6, block1);
+    final Bytes32 block7Root = block7.getMessage().hash_tree_root();
+    add(
+        Map.of(block7Root, dataStructureUtil.randomBeaconState(block7.getSlot())),
+        block1,
+        block2,
+        block3,
+        block5,
+        block7,
+        forkBlock6);
+    finalizeEpoch(UnsignedLong.ONE, block7Root);
+
+    assertThat(streamFinalizedBlocks(2, 7, 1)).containsExactly(block2, block3, block5, block7);
+    assertThat(streamFinalizedBlocks(1, 7, 2)).containsExactly(block1, block3, block5, block7);
+    assertThat(streamFinalizedBlocks(2, 6, 2)).containsExactly(block2);
+    assertThat(streamFinalizedBlocks(4, 4, 1)).isEmpty();
+    assertThat(streamFinalizedBlocks(7, 2, 1)).isEmpty();
+  }
+
+  private List<SignedBeaconBlock> streamFinalizedBlocks(
+      final long startSlot, final long endSlot, final long step) {
+    try (Stream<SignedBeaconBlock> blocks =
+        database.streamFinalizedBlocks(
+            UnsignedLong.valueOf(startSlot),
+            UnsignedLong.valueOf(endSlot),
+            UnsignedLong.valueOf(step))) {
+      return blocks.collect(toList());
+    }
+  }
+
   @Test
   public void shouldPersistOnDisk_pruneMode(@TempDirectory final Path tempDir) throws Exception {
     testShouldPersistOnDisk(tempDir, StateStorageMode.PRUNE);
@@ -561,10 +604,86 @@ class MapDbDatabaseTest {
     testShouldPersistOnDisk(tempDir, StateStorageMode.ARCHIVE);
   }
 
+  @Test
+  public void shouldPersistEth1DepositsOnDisk(@TempDirectory final Path tempDir) throws Exception {
+    final DepositsFromBlockEvent deposits1 = depositsFromBlock(10, 0);
+    final DepositsFromBlockEvent deposits2 = depositsFromBlock(15, 1);
+    final MinGenesisTimeBlockEvent minGenesisTimeBlock =
+        new MinGenesisTimeBlockEvent(
+            UnsignedLong.valueOf(1000),
+            UnsignedLong.valueOf(12),
+            dataStructureUtil.randomBytes32());
+    try {
+      database =
+          MapDbDatabase.createOnDisk(
+              tempDir.toFile(), StateStorageMode.PRUNE, RetainedSszEncodings.create());
+      database.addDepositsFromBlockEvent(deposits2);
+      database.addDepositsFromBlockEvent(deposits1);
+      database.addMinGenesisTimeBlock(minGenesisTimeBlock);
+
+      database.close();
+      database =
+          MapDbDatabase.createOnDisk(
+              tempDir.toFile(), StateStorageMode.PRUNE, RetainedSszEncodings.create());
+      try (Stream<DepositsFromBlockEvent> stored = database.streamDepositsFromBlocks()) {
+        assertThat(stored).containsExactly(deposits1, deposits2);
+      }
+      assertThat(database.getMinGenesisTimeBlock())
+          .hasValueSatisfying(
+              event -> {
+                assertThat(event.getTimestamp()).isEqualTo(minGenesisTimeBlock.getTimestamp());
+                assertThat(event.getBlockNumber()).isEqualTo(minGenesisTimeBlock.getBlockNumber());
+                assertThat(event.getBlockHash()).isEqualTo(minGenesisTimeBlock.getBlockHash());
+              });
+    } finally {
+      database.close();
+      database = MapDbDatabase.createInMemory(StateStorageMode.PRUNE);
+    }
+  }
+
+  @Test
+  public void shouldPruneEth1BlocksBeforeTimestamp() {
+    database.addEth1Block(eth1Block(3, 30));
+    database.addEth1Block(eth1Block(1, 10));
+    database.addEth1Block(eth1Block(2, 20));
+
+    database.pruneEth1BlocksBefore(UnsignedLong.valueOf(20));
+
+    try (Stream<CacheEth1BlockEvent> blocks = database.streamEth1Blocks()) {
+      assertThat(blocks.map(CacheEth1BlockEvent::getBlockNumber))
+          .containsExactly(UnsignedLong.valueOf(2), UnsignedLong.valueOf(3));
+    }
+  }
+
+  private DepositsFromBlockEvent depositsFromBlock(final long blockNumber, final long index) {
+    final Deposit deposit =
+        new Deposit(
+            BLSPublicKey.random((int) index),
+            dataStructureUtil.randomBytes32(),
+            BLSSignature.random((int) index),
+            UnsignedLong.valueOf(32_000_000_000L),
+            UnsignedLong.valueOf(index));
+    return new DepositsFromBlockEvent(
+        UnsignedLong.valueOf(blockNumber),
+        dataStructureUtil.randomBytes32(),
+        UnsignedLong.valueOf(blockNumber * 14),
+        List.of(deposit));
+  }
+
+  private CacheEth1BlockEvent eth1Block(final long blockNumber, final long timestamp) {
+    return new CacheEth1BlockEvent(
+        UnsignedLong.valueOf(blockNumber),
+        dataStructureUtil.randomBytes32(),
+        UnsignedLong.valueOf(timestamp),
+        dataStructureUtil.randomBytes32(),
+        UnsignedLong.valueOf(blockNumber));
+  }
+
   private void testShouldPersistOnDisk(
       @TempDirectory final Path tempDir, final StateStorageMode storageMode) throws Exception {
     try {
-      database = MapDbDatabase.createOnDisk(tempDir.toFile(), storageMode);
+      database =
+          MapDbDatabase.createOnDisk(tempDir.toFile(), storageMode, RetainedSszEncodings.create());
       database.storeGenesis(store);
 
       // Create blocks
@@ -627,7 +746,8 @@ class MapDbDatabaseTest {
 
       // Close and re-read from disk store.
       database.close();
-      database = MapDbDatabase.createOnDisk(tempDir.toFile(), storageMode);
+      database =
+          MapDbDatabase.createOnDisk(tempDir.toFile(), storageMode, RetainedSszEncodings.create());
       assertOnlyHotBlocks(block7, block8, block9, forkBlock7, forkBlock8, forkBlock9);
       assertBlocksFinalized(block1, block2, block3, block7);
       assertGetLatestFinalizedRootAtSlotReturnsFinalizedBlocks(block1, block2, block3, block7);
@@ -18,12 +18,18 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import com.google.common.primitives.UnsignedLong;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import org.apache.tuweni.bytes.Bytes32;
+import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
 import org.junit.jupiter.api.Test;
 import tech.pegasys.artemis.datastructures.blocks.SignedBeaconBlock;
 import tech.pegasys.artemis.datastructures.state.BeaconState;
@@ -110,4 +116,95 @@ class StoreTest {
     assertEquals(time, store.getTime());
     assertEquals(genesisTime, store.getGenesisTime());
   }
+
+  @Test
+  public void shouldRegenerateEvictedStatesFromNearestRetainedAncestor() {
+    final List<SignedBeaconBlock> chain = createChain(4);
+    final Map<Bytes32, BeaconState> states = createStates(chain);
+    final Store store = createStore(chain, states, initialJustifiedCheckpoint);
+    final StateRegenerator regenerator = mock(StateRegenerator.class);
+    final BeaconState regeneratedState = dataStructureUtil.randomBeaconState();
+    when(regenerator.regenerate(any(), any())).thenReturn(regeneratedState);
+
+    store.limitHotStates(1, regenerator, new NoOpMetricsSystem());
+
+    // The first block has no parent so must be retained and the most recent state is kept
+    assertThat(store.getBlockState(root(chain, 0))).isSameAs(states.get(root(chain, 0)));
+    assertThat(store.getBlockState(root(chain, 3))).isSameAs(states.get(root(chain, 3)));
+    verifyNoInteractions(regenerator);
+
+    assertThat(store.containsBlockState(root(chain, 2))).isTrue();
+    assertThat(store.getBlockState(root(chain, 2))).isSameAs(regeneratedState);
+    verify(regenerator).regenerate(states.get(root(chain, 0)), List.of(chain.get(1), chain.get(2)));
+  }
+
+  @Test
+  public void shouldKeepAllStatesWhileWithinLimit() {
+    final List<SignedBeaconBlock> chain = createChain(4);
+    final Map<Bytes32, BeaconState> states = createStates(chain);
+    final Store store = createStore(chain, states, initialJustifiedCheckpoint);
+    final StateRegenerator regenerator = mock(StateRegenerator.class);
+
+    store.limitHotStates(32, regenerator, new NoOpMetricsSystem());
+
+    for (int i = 0; i < chain.size(); i++) {
+      assertThat(store.getBlockState(root(chain, i))).isSameAs(states.get(root(chain, i)));
+    }
+    verifyNoInteractions(regenerator);
+  }
+
+  @Test
+  public void shouldNotEvictJustifiedCheckpointState() {
+    final List<SignedBeaconBlock> chain = createChain(4);
+    final Map<Bytes32, BeaconState> states = createStates(chain);
+    final Checkpoint justifiedCheckpoint = new Checkpoint(UnsignedLong.ZERO, root(chain, 1));
+    final Store store = createStore(chain, states, justifiedCheckpoint);
+    final StateRegenerator regenerator = mock(StateRegenerator.class);
+
+    store.limitHotStates(1, regenerator, new NoOpMetricsSystem());
+
+    assertThat(store.getBlockState(root(chain, 1))).isSameAs(states.get(root(chain, 1)));
+    assertThat(store.getBlockState(root(chain, 3))).isSameAs(states.get(root(chain, 3)));
+    verifyNoInteractions(regenerator);
+  }
+
+  private List<SignedBeaconBlock> createChain(final int length) {
+    final List<SignedBeaconBlock> chain = new ArrayList<>();
+    chain.add(dataStructureUtil.randomSignedBeaconBlock(0));
+    for (int slot = 1; slot < length; slot++) {
+      final Bytes32 parentRoot = chain.get(slot - 1).getMessage().hash_tree_root();
+      chain.add(dataStructureUtil.randomSignedBeaconBlock(slot, parentRoot));
+    }
+    return chain;
+  }
+
+  private Map<Bytes32, BeaconState> createStates(final List<SignedBeaconBlock> chain) {
+    final Map<Bytes32, BeaconState> states = new HashMap<>();
+    chain.forEach(
+        block ->
+            states.put(block.getMessage().hash_tree_root(), dataStructureUtil.randomBeaconState()));
+    return states;
+  }
+
+  private Store createStore(
+      final List<SignedBeaconBlock> chain,
+      final Map<Bytes32, BeaconState> states,
+      final Checkpoint justifiedCheckpoint) {
+    final Map<Bytes32, SignedBeaconBlock> blocks = new HashMap<>();
+    chain.forEach(block -> blocks.put(block.getMessage().hash_tree_root(), block));
+    return new Store(
+        INITIAL_TIME,
+        INITIAL_GENESIS_TIME,
+        justifiedCheckpoint,
+        INITIAL_FINALIZED_CHECKPOINT,
+        initialBestJustifiedCheckpoint,
+        blocks,
+        states,
+        new HashMap<>(),
+        new HashMap<>());
+  }
+
+  private Bytes32 root(final List<SignedBeaconBlock> chain, final int index) {
+    return chain.get(index).getMessage().hash_tree_root();
+  }
 }
@@ -24,6 +24,7 @@ import java.nio.file.Paths;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
+import tech.pegasys.artemis.datastructures.util.RetainedSszEncodings;
 import tech.pegasys.artemis.util.config.ArtemisConfiguration;
 
 public class VersionedDatabaseFactoryTest {
@@ -38,7 +39,8 @@ public class VersionedDatabaseFactoryTest {
 
   @Test
   public void createDatabase_fromEmptyDataDir() throws Exception {
-    final VersionedDatabaseFactory dbFactory = new VersionedDatabaseFactory(config);
+    final VersionedDatabaseFactory dbFactory =
+        new VersionedDatabaseFactory(config, RetainedSszEncodings.create());
     final Database db = dbFactory.createDatabase();
     assertThat(db).isNotNull();
 
@@ -50,7 +52,8 @@ public class VersionedDatabaseFactoryTest {
     createDbDirectory(dataDir);
     createVersionFile(dataDir, DatabaseVersion.V1);
 
-    final VersionedDatabaseFactory dbFactory = new VersionedDatabaseFactory(config);
+    final VersionedDatabaseFactory dbFactory =
+        new VersionedDatabaseFactory(config, RetainedSszEncodings.create());
     final Database db = dbFactory.createDatabase();
     assertThat(db).isNotNull();
   }
@@ -60,7 +63,8 @@ public class VersionedDatabaseFactoryTest {
     createDbDirectory(dataDir);
     createVersionFile(dataDir, "bla");
 
-    final VersionedDatabaseFactory dbFactory = new VersionedDatabaseFactory(config);
+    final VersionedDatabaseFactory dbFactory =
+        new VersionedDatabaseFactory(config, RetainedSszEncodings.create());
     assertThatThrownBy(dbFactory::createDatabase)
         .isInstanceOf(DatabaseStorageException.class)
         .hasMessageContaining("Unrecognized database version: bla");
@@ -70,7 +74,8 @@ public class VersionedDatabaseFactoryTest {
   public void createDatabase_dbExistsButNoVersionIsSaved() throws Exception {
     createDbDirectory(dataDir);
 
-    final VersionedDatabaseFactory dbFactory = new VersionedDatabaseFactory(config);
+    final VersionedDatabaseFactory dbFactory =
+        new VersionedDatabaseFactory(config, RetainedSszEncodings.create());
     assertThatThrownBy(dbFactory::createDatabase)
         .isInstanceOf(DatabaseStorageException.class)
         .hasMessageContaining("No database version file was found");
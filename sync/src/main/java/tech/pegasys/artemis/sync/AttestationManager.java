@@ -26,8 +26,7 @@ import tech.pegasys.artemis.service.serviceutils.Service;
 import tech.pegasys.artemis.statetransition.StateTransition;
 import tech.pegasys.artemis.statetransition.attestation.AttestationProcessingResult;
 import tech.pegasys.artemis.statetransition.attestation.ForkChoiceAttestationProcessor;
-import tech.pegasys.artemis.statetransition.events.attestation.ProcessedAggregateEvent;
-import tech.pegasys.artemis.statetransition.events.attestation.ProcessedAttestationEvent;
+import tech.pegasys.artemis.statetransition.events.attestation.ProcessedAttestationsChannel;
 import tech.pegasys.artemis.statetransition.events.block.ImportedBlockEvent;
 import tech.pegasys.artemis.storage.ChainStorageClient;
 import tech.pegasys.artemis.util.async.SafeFuture;
@@ -38,29 +37,35 @@ public class AttestationManager extends Service implements SlotEventsChannel {
   private static final Logger LOG = LogManager.getLogger();
 
   private final EventBus eventBus;
+  private final ProcessedAttestationsChannel processedAttestationsChannel;
   private final ForkChoiceAttestationProcessor attestationProcessor;
   private final PendingPool<DelayableAttestation> pendingAttestations;
   private final FutureItems<DelayableAttestation> futureAttestations;
 
   AttestationManager(
       final EventBus eventBus,
+      final ProcessedAttestationsChannel processedAttestationsChannel,
       final ForkChoiceAttestationProcessor attestationProcessor,
       final PendingPool<DelayableAttestation> pendingAttestations,
       final FutureItems<DelayableAttestation> futureAttestations) {
     this.eventBus = eventBus;
+    this.processedAttestationsChannel = processedAttestationsChannel;
     this.attestationProcessor = attestationProcessor;
     this.pendingAttestations = pendingAttestations;
     this.futureAttestations = futureAttestations;
   }
 
   public static AttestationManager create(
-      final EventBus eventBus, final ChainStorageClient storageClient) {
+      final EventBus eventBus,
+      final ChainStorageClient storageClient,
+      final ProcessedAttestationsChannel processedAttestationsChannel) {
     final PendingPool<DelayableAttestation> pendingAttestations =
         PendingPool.createForAttestations(eventBus);
     final FutureItems<DelayableAttestation> futureAttestations =
         new FutureItems<>(DelayableAttestation::getEarliestSlotForProcessing);
     return new AttestationManager(
         eventBus,
+        processedAttestationsChannel,
         new ForkChoiceAttestationProcessor(storageClient, new StateTransition()),
         pendingAttestations,
         futureAttestations);
@@ -71,7 +76,8 @@ public class AttestationManager extends Service implements SlotEventsChannel {
   private void onGossipedAttestation(final Attestation attestation) {
     processAttestation(
         new DelayableAttestation(
-            attestation, () -> eventBus.post(new ProcessedAttestationEvent(attestation))));
+            attestation,
+            () -> processedAttestationsChannel.onProcessedAttestation(attestation)));
   }
 
   @Subscribe
@@ -80,7 +86,7 @@ public class AttestationManager extends Service implements SlotEventsChannel {
     final Attestation aggregate = aggregateAndProof.getAggregate();
     processAttestation(
         new DelayableAttestation(
-            aggregate, () -> eventBus.post(new ProcessedAggregateEvent(aggregate))));
+            aggregate, () -> processedAttestationsChannel.onProcessedAggregate(aggregate)));
   }
 
   @Override
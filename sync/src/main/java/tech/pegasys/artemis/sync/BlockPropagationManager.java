@@ -32,6 +32,7 @@ import tech.pegasys.artemis.statetransition.blockimport.BlockImportResult.Failur
 import tech.pegasys.artemis.statetransition.blockimport.BlockImporter;
 import tech.pegasys.artemis.statetransition.events.block.ImportedBlockEvent;
 import tech.pegasys.artemis.storage.ChainStorageClient;
+import tech.pegasys.artemis.util.async.AsyncRunner;
 import tech.pegasys.artemis.util.async.SafeFuture;
 import tech.pegasys.artemis.util.collections.LimitedSet;
 import tech.pegasys.artemis.util.collections.LimitedSet.Mode;
@@ -66,6 +67,7 @@ public class BlockPropagationManager extends Service implements SlotEventsChanne
   }
 
   public static BlockPropagationManager create(
+      final AsyncRunner asyncRunner,
       final EventBus eventBus,
       final P2PNetwork<Eth2Peer> eth2Network,
       final ChainStorageClient storageClient,
@@ -74,7 +76,7 @@ public class BlockPropagationManager extends Service implements SlotEventsChanne
     final FutureItems<SignedBeaconBlock> futureBlocks =
         new FutureItems<>(SignedBeaconBlock::getSlot);
     final FetchRecentBlocksService recentBlockFetcher =
-        FetchRecentBlocksService.create(eth2Network, pendingBlocks);
+        FetchRecentBlocksService.create(asyncRunner, eth2Network, pendingBlocks);
     return new BlockPropagationManager(
         eventBus, storageClient, blockImporter, pendingBlocks, futureBlocks, recentBlockFetcher);
   }
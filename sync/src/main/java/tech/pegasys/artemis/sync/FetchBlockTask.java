@@ -76,6 +76,8 @@ class FetchBlockTask {
             .filter(p -> !queriedPeers.contains(p.getId()))
             .min(
                 Comparator.comparing(Eth2Peer::getOutstandingRequests)
+                    .thenComparing(
+                        Comparator.comparingDouble(Eth2Peer::getPerformanceScore).reversed())
                     .thenComparing(SHUFFLING_COMPARATOR));
 
     if (maybePeer.isEmpty()) {
@@ -30,7 +30,6 @@ import tech.pegasys.artemis.networking.p2p.network.P2PNetwork;
 import tech.pegasys.artemis.service.serviceutils.Service;
 import tech.pegasys.artemis.sync.FetchBlockTask.FetchBlockResult;
 import tech.pegasys.artemis.util.async.AsyncRunner;
-import tech.pegasys.artemis.util.async.DelayedExecutorAsyncRunner;
 import tech.pegasys.artemis.util.async.SafeFuture;
 import tech.pegasys.artemis.util.events.Subscribers;
 
@@ -68,10 +67,11 @@ class FetchRecentBlocksService extends Service {
   }
 
   public static FetchRecentBlocksService create(
+      final AsyncRunner asyncRunner,
       final P2PNetwork<Eth2Peer> eth2Network,
       final PendingPool<SignedBeaconBlock> pendingBlocksPool) {
     return new FetchRecentBlocksService(
-        DelayedExecutorAsyncRunner.create(),
+        asyncRunner,
         eth2Network,
         pendingBlocksPool,
         FetchBlockTask::create,
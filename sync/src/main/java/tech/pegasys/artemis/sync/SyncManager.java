@@ -32,7 +32,6 @@ import tech.pegasys.artemis.service.serviceutils.Service;
 import tech.pegasys.artemis.statetransition.blockimport.BlockImporter;
 import tech.pegasys.artemis.storage.ChainStorageClient;
 import tech.pegasys.artemis.util.async.AsyncRunner;
-import tech.pegasys.artemis.util.async.DelayedExecutorAsyncRunner;
 import tech.pegasys.artemis.util.async.SafeFuture;
 
 public class SyncManager extends Service {
@@ -63,10 +62,10 @@ public class SyncManager extends Service {
   }
 
   public static SyncManager create(
+      final AsyncRunner asyncRunner,
       final P2PNetwork<Eth2Peer> network,
       final ChainStorageClient storageClient,
       final BlockImporter blockImporter) {
-    final AsyncRunner asyncRunner = DelayedExecutorAsyncRunner.create();
     return new SyncManager(
         asyncRunner,
         network,
@@ -192,7 +191,11 @@ public class SyncManager extends Service {
     return network
         .streamPeers()
         .filter(this::isPeerSyncSuitable)
-        .max(Comparator.comparing(Eth2Peer::finalizedEpoch).thenComparing(p -> Math.random()));
+        .max(
+            // Only use performance to choose between peers that are equally far ahead
+            Comparator.comparing((Eth2Peer peer) -> peer.getStatus().getFinalizedEpoch())
+                .thenComparingDouble(Eth2Peer::getPerformanceScore)
+                .thenComparing(p -> Math.random()));
   }
 
   private void onNewPeer(Eth2Peer peer) {
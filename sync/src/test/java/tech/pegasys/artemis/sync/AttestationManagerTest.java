@@ -25,6 +25,7 @@ import static tech.pegasys.artemis.statetransition.attestation.AttestationProces
 
 import com.google.common.eventbus.EventBus;
 import com.google.common.primitives.UnsignedLong;
+import java.util.ArrayList;
 import java.util.List;
 import org.apache.tuweni.bytes.Bytes32;
 import org.junit.jupiter.api.AfterEach;
@@ -38,10 +39,8 @@ import tech.pegasys.artemis.datastructures.state.Checkpoint;
 import tech.pegasys.artemis.datastructures.util.DataStructureUtil;
 import tech.pegasys.artemis.statetransition.attestation.AttestationProcessingResult;
 import tech.pegasys.artemis.statetransition.attestation.ForkChoiceAttestationProcessor;
-import tech.pegasys.artemis.statetransition.events.attestation.ProcessedAggregateEvent;
-import tech.pegasys.artemis.statetransition.events.attestation.ProcessedAttestationEvent;
+import tech.pegasys.artemis.statetransition.events.attestation.ProcessedAttestationsChannel;
 import tech.pegasys.artemis.statetransition.events.block.ImportedBlockEvent;
-import tech.pegasys.artemis.util.EventSink;
 import tech.pegasys.artemis.util.SSZTypes.Bitlist;
 import tech.pegasys.artemis.util.bls.BLSSignature;
 
@@ -55,14 +54,28 @@ class AttestationManagerTest {
 
   private final ForkChoiceAttestationProcessor attestationProcessor =
       mock(ForkChoiceAttestationProcessor.class);
-  private final List<ProcessedAttestationEvent> processedAttestationEvents =
-      EventSink.capture(eventBus, ProcessedAttestationEvent.class);
-  private final List<ProcessedAggregateEvent> processedAggregateEvents =
-      EventSink.capture(eventBus, ProcessedAggregateEvent.class);
+  private final List<Attestation> processedAttestationEvents = new ArrayList<>();
+  private final List<Attestation> processedAggregateEvents = new ArrayList<>();
+  private final ProcessedAttestationsChannel processedAttestationsChannel =
+      new ProcessedAttestationsChannel() {
+        @Override
+        public void onProcessedAttestation(final Attestation attestation) {
+          processedAttestationEvents.add(attestation);
+        }
+
+        @Override
+        public void onProcessedAggregate(final Attestation aggregate) {
+          processedAggregateEvents.add(aggregate);
+        }
+      };
 
   private final AttestationManager attestationManager =
       new AttestationManager(
-          eventBus, attestationProcessor, pendingAttestations, futureAttestations);
+          eventBus,
+          processedAttestationsChannel,
+          attestationProcessor,
+          pendingAttestations,
+          futureAttestations);
 
   @BeforeEach
   public void setup() {
@@ -83,8 +96,7 @@ class AttestationManagerTest {
     verify(attestationProcessor).processAttestation(attestation);
     assertThat(futureAttestations.size()).isZero();
     assertThat(pendingAttestations.size()).isZero();
-    assertThat(processedAttestationEvents)
-        .containsExactly(new ProcessedAttestationEvent(attestation));
+    assertThat(processedAttestationEvents).containsExactly(attestation);
     assertThat(processedAggregateEvents).isEmpty();
   }
 
@@ -98,8 +110,7 @@ class AttestationManagerTest {
     verify(attestationProcessor).processAttestation(aggregateAndProof.getAggregate());
     assertThat(futureAttestations.size()).isZero();
     assertThat(pendingAttestations.size()).isZero();
-    assertThat(processedAggregateEvents)
-        .containsExactly(new ProcessedAggregateEvent(aggregateAndProof.getAggregate()));
+    assertThat(processedAggregateEvents).containsExactly(aggregateAndProof.getAggregate());
     assertThat(processedAttestationEvents).isEmpty();
   }
 
@@ -126,8 +137,7 @@ class AttestationManagerTest {
     verify(attestationProcessor, times(2)).processAttestation(attestation);
     assertThat(futureAttestations.size()).isZero();
     assertThat(pendingAttestations.size()).isZero();
-    assertThat(processedAttestationEvents)
-        .containsExactly(new ProcessedAttestationEvent(attestation));
+    assertThat(processedAttestationEvents).containsExactly(attestation);
   }
 
   @Test
@@ -161,8 +171,7 @@ class AttestationManagerTest {
     verify(attestationProcessor, times(2)).processAttestation(attestation);
     assertThat(futureAttestations.size()).isZero();
     assertThat(pendingAttestations.size()).isZero();
-    assertThat(processedAttestationEvents)
-        .containsExactly(new ProcessedAttestationEvent(attestation));
+    assertThat(processedAttestationEvents).containsExactly(attestation);
   }
 
   @Test
@@ -220,7 +229,7 @@ class AttestationManagerTest {
     assertThat(futureAttestations.size()).isZero();
     assertThat(pendingAttestations.size()).isZero();
     assertThat(processedAttestationEvents).isEmpty();
-    assertThat(processedAggregateEvents).containsExactly(new ProcessedAggregateEvent(attestation));
+    assertThat(processedAggregateEvents).containsExactly(attestation);
   }
 
   private void assertNoProcessedEvents() {
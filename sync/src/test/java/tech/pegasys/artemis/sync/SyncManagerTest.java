@@ -111,6 +111,42 @@ public class SyncManagerTest {
     assertThat(syncManager.isSyncQueued()).isFalse();
   }
 
+  @Test
+  void sync_shouldPreferBetterPerformingPeers() {
+    final Eth2Peer fastPeer = mock(Eth2Peer.class);
+    when(fastPeer.getStatus()).thenReturn(PEER_STATUS);
+    when(fastPeer.getPerformanceScore()).thenReturn(0.8);
+    when(peer.getPerformanceScore()).thenReturn(0.2);
+    when(network.streamPeers()).thenReturn(Stream.of(peer, fastPeer));
+    when(peerSync.sync(fastPeer)).thenReturn(new SafeFuture<>());
+
+    assertThat(syncManager.start()).isCompleted();
+
+    verify(peerSync).sync(fastPeer);
+  }
+
+  @Test
+  void sync_shouldPreferPeersFurtherAheadOverBetterPerformingPeers() {
+    final Eth2Peer aheadPeer = mock(Eth2Peer.class);
+    when(aheadPeer.getStatus())
+        .thenReturn(
+            PeerStatus.fromStatusMessage(
+                new StatusMessage(
+                    Constants.GENESIS_FORK_VERSION,
+                    Bytes32.ZERO,
+                    PEER_FINALIZED_EPOCH.plus(UnsignedLong.ONE),
+                    PEER_HEAD_BLOCK_ROOT,
+                    PEER_HEAD_SLOT)));
+    when(aheadPeer.getPerformanceScore()).thenReturn(0.2);
+    when(peer.getPerformanceScore()).thenReturn(0.8);
+    when(network.streamPeers()).thenReturn(Stream.of(peer, aheadPeer));
+    when(peerSync.sync(aheadPeer)).thenReturn(new SafeFuture<>());
+
+    assertThat(syncManager.start()).isCompleted();
+
+    verify(peerSync).sync(aheadPeer);
+  }
+
   @Test
   void sync_retrySyncIfNotSuccessful() {
     when(network.streamPeers()).thenReturn(Stream.of(peer));
@@ -30,6 +30,8 @@ import tech.pegasys.artemis.statetransition.BeaconChainUtil;
 import tech.pegasys.artemis.statetransition.blockimport.BlockImporter;
 import tech.pegasys.artemis.storage.ChainStorageClient;
 import tech.pegasys.artemis.storage.StubStorageUpdateChannel;
+import tech.pegasys.artemis.util.async.AsyncRunner;
+import tech.pegasys.artemis.util.async.DelayedExecutorAsyncRunner;
 import tech.pegasys.artemis.util.async.SafeFuture;
 import tech.pegasys.artemis.util.bls.BLSKeyPair;
 import tech.pegasys.artemis.util.time.channels.SlotEventsChannel;
@@ -83,9 +85,12 @@ public class SyncingNodeManager {
     chainUtil.initializeStorage();
 
     BlockImporter blockImporter = new BlockImporter(storageClient, eventBus);
+    final AsyncRunner asyncRunner = DelayedExecutorAsyncRunner.create();
     BlockPropagationManager blockPropagationManager =
-        BlockPropagationManager.create(eventBus, eth2Network, storageClient, blockImporter);
-    SyncManager syncManager = SyncManager.create(eth2Network, storageClient, blockImporter);
+        BlockPropagationManager.create(
+            asyncRunner, eventBus, eth2Network, storageClient, blockImporter);
+    SyncManager syncManager =
+        SyncManager.create(asyncRunner, eth2Network, storageClient, blockImporter);
     SyncService syncService =
         new DefaultSyncService(blockPropagationManager, syncManager, storageClient);
 
@@ -18,6 +18,7 @@ import static tech.pegasys.artemis.util.async.SafeFuture.propagateResult;
 import com.google.common.annotations.VisibleForTesting;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 
@@ -37,6 +38,21 @@ public class DelayedExecutorAsyncRunner implements AsyncRunner {
         (delay, unit) -> CompletableFuture.delayedExecutor(delay, unit, executor));
   }
 
+  /**
+   * Creates a runner which executes tasks on {@code executor}, using {@code timer} only to wait
+   * out delays before handing tasks over. The timer should therefore never run tasks itself.
+   */
+  public static DelayedExecutorAsyncRunner create(
+      final Executor executor, final ScheduledExecutorService timer) {
+    return new DelayedExecutorAsyncRunner(
+        (delay, unit) -> {
+          if (delay <= 0) {
+            return executor;
+          }
+          return task -> timer.schedule(() -> executor.execute(task), delay, unit);
+        });
+  }
+
   @Override
   public <U> SafeFuture<U> runAsync(final Supplier<SafeFuture<U>> action) {
     final Executor executor = getAsyncExecutor();
@@ -28,6 +28,10 @@ import tech.pegasys.artemis.util.bls.BLSPublicKey;
 public class ArtemisConfiguration {
   // Network
   private final String network;
+  private final String blsBackend;
+  private final int eventBusThreads;
+  private final int asyncCpuThreads;
+  private final int asyncIoThreads;
 
   // P2P
   private final boolean p2pEnabled;
@@ -49,6 +53,7 @@ public class ArtemisConfiguration {
   private final String interopStartState;
   private final int interopNumberOfValidators;
   private final boolean interopEnabled;
+  private final String interopGenesisCacheDir;
 
   // Validator
   private final String validatorsKeyFile;
@@ -58,6 +63,8 @@ public class ArtemisConfiguration {
   private final List<String> validatorExternalSignerPublicKeys;
   private final String validatorExternalSignerUrl;
   private final int validatorExternalSignerTimeout;
+  private final boolean validatorKeyCacheEnabled;
+  private final String validatorKeyCacheSealingKeyFile;
 
   // Deposit
   private final String eth1DepositContractAddress;
@@ -72,6 +79,11 @@ public class ArtemisConfiguration {
 
   // Output
   private final String transitionRecordDirectory;
+  private final int transitionRecordQueueCapacity;
+  private final boolean transitionRecordCompressionEnabled;
+  private final boolean transitionRecordDiffStatesEnabled;
+  private final int transitionRecordMaxSlots;
+  private final long transitionRecordMaxBytes;
 
   // Metrics
   private final boolean metricsEnabled;
@@ -82,6 +94,7 @@ public class ArtemisConfiguration {
   // Database
   private final String dataPath;
   private final String dataStorageMode;
+  private final int hotStateCacheSize;
 
   // Beacon REST API
   private final int restApiPort;
@@ -95,6 +108,10 @@ public class ArtemisConfiguration {
 
   ArtemisConfiguration(
       final String network,
+      final String blsBackend,
+      final int eventBusThreads,
+      final int asyncCpuThreads,
+      final int asyncIoThreads,
       final boolean p2pEnabled,
       final String p2pInterface,
       final int p2pPort,
@@ -112,12 +129,15 @@ public class ArtemisConfiguration {
       final String interopStartState,
       final int interopNumberOfValidators,
       final boolean interopEnabled,
+      final String interopGenesisCacheDir,
       final String validatorsKeyFile,
       final List<String> validatorKeystoreFiles,
       final List<String> validatorKeystorePasswordFiles,
       final List<String> validatorExternalSignerPublicKeys,
       final String validatorExternalSignerUrl,
       final int validatorExternalSignerTimeout,
+      final boolean validatorKeyCacheEnabled,
+      final String validatorKeyCacheSealingKeyFile,
       final String eth1DepositContractAddress,
       final String eth1Endpoint,
       final boolean logColourEnabled,
@@ -126,17 +146,27 @@ public class ArtemisConfiguration {
       final String logFile,
       final String logFileNamePattern,
       final String transitionRecordDirectory,
+      final int transitionRecordQueueCapacity,
+      final boolean transitionRecordCompressionEnabled,
+      final boolean transitionRecordDiffStatesEnabled,
+      final int transitionRecordMaxSlots,
+      final long transitionRecordMaxBytes,
       final boolean metricsEnabled,
       final int metricsPort,
       final String metricsInterface,
       final List<String> metricsCategories,
       final String dataPath,
       final String dataStorageMode,
+      final int hotStateCacheSize,
       final int restApiPort,
       final boolean restApiDocsEnabled,
       final boolean restApiEnabled,
       final String restApiInterface) {
     this.network = network;
+    this.blsBackend = blsBackend;
+    this.eventBusThreads = eventBusThreads;
+    this.asyncCpuThreads = asyncCpuThreads;
+    this.asyncIoThreads = asyncIoThreads;
     this.p2pEnabled = p2pEnabled;
     this.p2pInterface = p2pInterface;
     this.p2pPort = p2pPort;
@@ -154,12 +184,15 @@ public class ArtemisConfiguration {
     this.interopStartState = interopStartState;
     this.interopNumberOfValidators = interopNumberOfValidators;
     this.interopEnabled = interopEnabled;
+    this.interopGenesisCacheDir = interopGenesisCacheDir;
     this.validatorsKeyFile = validatorsKeyFile;
     this.validatorKeystoreFiles = validatorKeystoreFiles;
     this.validatorKeystorePasswordFiles = validatorKeystorePasswordFiles;
     this.validatorExternalSignerPublicKeys = validatorExternalSignerPublicKeys;
     this.validatorExternalSignerUrl = validatorExternalSignerUrl;
     this.validatorExternalSignerTimeout = validatorExternalSignerTimeout;
+    this.validatorKeyCacheEnabled = validatorKeyCacheEnabled;
+    this.validatorKeyCacheSealingKeyFile = validatorKeyCacheSealingKeyFile;
     this.eth1DepositContractAddress = eth1DepositContractAddress;
     this.eth1Endpoint = eth1Endpoint;
     this.logColourEnabled = logColourEnabled;
@@ -168,12 +201,18 @@ public class ArtemisConfiguration {
     this.logFile = logFile;
     this.logFileNamePattern = logFileNamePattern;
     this.transitionRecordDirectory = transitionRecordDirectory;
+    this.transitionRecordQueueCapacity = transitionRecordQueueCapacity;
+    this.transitionRecordCompressionEnabled = transitionRecordCompressionEnabled;
+    this.transitionRecordDiffStatesEnabled = transitionRecordDiffStatesEnabled;
+    this.transitionRecordMaxSlots = transitionRecordMaxSlots;
+    this.transitionRecordMaxBytes = transitionRecordMaxBytes;
     this.metricsEnabled = metricsEnabled;
     this.metricsPort = metricsPort;
     this.metricsInterface = metricsInterface;
     this.metricsCategories = metricsCategories;
     this.dataPath = dataPath;
     this.dataStorageMode = dataStorageMode;
+    this.hotStateCacheSize = hotStateCacheSize;
     this.restApiPort = restApiPort;
     this.restApiDocsEnabled = restApiDocsEnabled;
     this.restApiEnabled = restApiEnabled;
@@ -184,6 +223,22 @@ public class ArtemisConfiguration {
     return network;
   }
 
+  public String getBlsBackend() {
+    return blsBackend;
+  }
+
+  public int getEventBusThreads() {
+    return eventBusThreads;
+  }
+
+  public int getAsyncCpuThreads() {
+    return asyncCpuThreads;
+  }
+
+  public int getAsyncIoThreads() {
+    return asyncIoThreads;
+  }
+
   public boolean isP2pEnabled() {
     return p2pEnabled;
   }
@@ -256,6 +311,10 @@ public class ArtemisConfiguration {
     return interopEnabled;
   }
 
+  public String getInteropGenesisCacheDir() {
+    return interopGenesisCacheDir;
+  }
+
   public String getValidatorsKeyFile() {
     return validatorsKeyFile;
   }
@@ -293,6 +352,14 @@ public class ArtemisConfiguration {
     return validatorExternalSignerTimeout;
   }
 
+  public boolean isValidatorKeyCacheEnabled() {
+    return validatorKeyCacheEnabled;
+  }
+
+  public String getValidatorKeyCacheSealingKeyFile() {
+    return validatorKeyCacheSealingKeyFile;
+  }
+
   public String getEth1DepositContractAddress() {
     return eth1DepositContractAddress;
   }
@@ -325,6 +392,26 @@ public class ArtemisConfiguration {
     return transitionRecordDirectory;
   }
 
+  public int getTransitionRecordQueueCapacity() {
+    return transitionRecordQueueCapacity;
+  }
+
+  public boolean isTransitionRecordCompressionEnabled() {
+    return transitionRecordCompressionEnabled;
+  }
+
+  public boolean isTransitionRecordDiffStatesEnabled() {
+    return transitionRecordDiffStatesEnabled;
+  }
+
+  public int getTransitionRecordMaxSlots() {
+    return transitionRecordMaxSlots;
+  }
+
+  public long getTransitionRecordMaxBytes() {
+    return transitionRecordMaxBytes;
+  }
+
   public boolean isMetricsEnabled() {
     return metricsEnabled;
   }
@@ -349,6 +436,10 @@ public class ArtemisConfiguration {
     return dataStorageMode;
   }
 
+  public int getHotStateCacheSize() {
+    return hotStateCacheSize;
+  }
+
   public int getRestApiPort() {
     return restApiPort;
   }
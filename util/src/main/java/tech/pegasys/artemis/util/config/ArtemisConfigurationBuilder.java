@@ -17,6 +17,10 @@ import java.util.List;
 
 public class ArtemisConfigurationBuilder {
   private String network;
+  private String blsBackend;
+  private int eventBusThreads;
+  private int asyncCpuThreads;
+  private int asyncIoThreads;
   private boolean p2pEnabled;
   private String p2pInterface;
   private int p2pPort;
@@ -34,12 +38,15 @@ public class ArtemisConfigurationBuilder {
   private String interopStartState;
   private int interopNumberOfValidators;
   private boolean interopEnabled;
+  private String interopGenesisCacheDir;
   private String validatorsKeyFile;
   private List<String> validatorKeystoreFiles;
   private List<String> validatorKeystorePasswordFiles;
   private List<String> validatorExternalSignerPublicKeys;
   private String validatorExternalSignerUrl;
   private int validatorExternalSignerTimeout;
+  private boolean validatorKeyCacheEnabled;
+  private String validatorKeyCacheSealingKeyFile;
   private String eth1DepositContractAddress;
   private String eth1Endpoint;
   private boolean logColourEnabled;
@@ -48,12 +55,18 @@ public class ArtemisConfigurationBuilder {
   private String logFile;
   private String logFileNamePattern;
   private String transitionRecordDirectory;
+  private int transitionRecordQueueCapacity;
+  private boolean transitionRecordCompressionEnabled;
+  private boolean transitionRecordDiffStatesEnabled;
+  private int transitionRecordMaxSlots;
+  private long transitionRecordMaxBytes;
   private boolean metricsEnabled;
   private int metricsPort;
   private String metricsInterface;
   private List<String> metricsCategories;
   private String dataPath;
   private String dataStorageMode;
+  private int hotStateCacheSize;
   private int restApiPort;
   private boolean restApiDocsEnabled;
   private boolean restApiEnabled;
@@ -64,6 +77,26 @@ public class ArtemisConfigurationBuilder {
     return this;
   }
 
+  public ArtemisConfigurationBuilder setBlsBackend(final String blsBackend) {
+    this.blsBackend = blsBackend;
+    return this;
+  }
+
+  public ArtemisConfigurationBuilder setEventBusThreads(final int eventBusThreads) {
+    this.eventBusThreads = eventBusThreads;
+    return this;
+  }
+
+  public ArtemisConfigurationBuilder setAsyncCpuThreads(final int asyncCpuThreads) {
+    this.asyncCpuThreads = asyncCpuThreads;
+    return this;
+  }
+
+  public ArtemisConfigurationBuilder setAsyncIoThreads(final int asyncIoThreads) {
+    this.asyncIoThreads = asyncIoThreads;
+    return this;
+  }
+
   public ArtemisConfigurationBuilder setP2pEnabled(final boolean p2pEnabled) {
     this.p2pEnabled = p2pEnabled;
     return this;
@@ -153,6 +186,12 @@ public class ArtemisConfigurationBuilder {
     return this;
   }
 
+  public ArtemisConfigurationBuilder setInteropGenesisCacheDir(
+      final String interopGenesisCacheDir) {
+    this.interopGenesisCacheDir = interopGenesisCacheDir;
+    return this;
+  }
+
   public ArtemisConfigurationBuilder setValidatorKeyFile(final String validatorsKeyFile) {
     this.validatorsKeyFile = validatorsKeyFile;
     return this;
@@ -188,6 +227,18 @@ public class ArtemisConfigurationBuilder {
     return this;
   }
 
+  public ArtemisConfigurationBuilder setValidatorKeyCacheEnabled(
+      final boolean validatorKeyCacheEnabled) {
+    this.validatorKeyCacheEnabled = validatorKeyCacheEnabled;
+    return this;
+  }
+
+  public ArtemisConfigurationBuilder setValidatorKeyCacheSealingKeyFile(
+      final String validatorKeyCacheSealingKeyFile) {
+    this.validatorKeyCacheSealingKeyFile = validatorKeyCacheSealingKeyFile;
+    return this;
+  }
+
   public ArtemisConfigurationBuilder setEth1DepositContractAddress(
       final String eth1DepositContractAddress) {
     this.eth1DepositContractAddress = eth1DepositContractAddress;
@@ -231,6 +282,36 @@ public class ArtemisConfigurationBuilder {
     return this;
   }
 
+  public ArtemisConfigurationBuilder setTransitionRecordQueueCapacity(
+      final int transitionRecordQueueCapacity) {
+    this.transitionRecordQueueCapacity = transitionRecordQueueCapacity;
+    return this;
+  }
+
+  public ArtemisConfigurationBuilder setTransitionRecordCompressionEnabled(
+      final boolean transitionRecordCompressionEnabled) {
+    this.transitionRecordCompressionEnabled = transitionRecordCompressionEnabled;
+    return this;
+  }
+
+  public ArtemisConfigurationBuilder setTransitionRecordDiffStatesEnabled(
+      final boolean transitionRecordDiffStatesEnabled) {
+    this.transitionRecordDiffStatesEnabled = transitionRecordDiffStatesEnabled;
+    return this;
+  }
+
+  public ArtemisConfigurationBuilder setTransitionRecordMaxSlots(
+      final int transitionRecordMaxSlots) {
+    this.transitionRecordMaxSlots = transitionRecordMaxSlots;
+    return this;
+  }
+
+  public ArtemisConfigurationBuilder setTransitionRecordMaxBytes(
+      final long transitionRecordMaxBytes) {
+    this.transitionRecordMaxBytes = transitionRecordMaxBytes;
+    return this;
+  }
+
   public ArtemisConfigurationBuilder setMetricsEnabled(final boolean metricsEnabled) {
     this.metricsEnabled = metricsEnabled;
     return this;
@@ -261,6 +342,11 @@ public class ArtemisConfigurationBuilder {
     return this;
   }
 
+  public ArtemisConfigurationBuilder setHotStateCacheSize(final int hotStateCacheSize) {
+    this.hotStateCacheSize = hotStateCacheSize;
+    return this;
+  }
+
   public ArtemisConfigurationBuilder setRestApiPort(final int restApiPort) {
     this.restApiPort = restApiPort;
     return this;
@@ -284,6 +370,10 @@ public class ArtemisConfigurationBuilder {
   public ArtemisConfiguration build() {
     return new ArtemisConfiguration(
         network,
+        blsBackend,
+        eventBusThreads,
+        asyncCpuThreads,
+        asyncIoThreads,
         p2pEnabled,
         p2pInterface,
         p2pPort,
@@ -301,12 +391,15 @@ public class ArtemisConfigurationBuilder {
         interopStartState,
         interopNumberOfValidators,
         interopEnabled,
+        interopGenesisCacheDir,
         validatorsKeyFile,
         validatorKeystoreFiles,
         validatorKeystorePasswordFiles,
         validatorExternalSignerPublicKeys,
         validatorExternalSignerUrl,
         validatorExternalSignerTimeout,
+        validatorKeyCacheEnabled,
+        validatorKeyCacheSealingKeyFile,
         eth1DepositContractAddress,
         eth1Endpoint,
         logColourEnabled,
@@ -315,12 +408,18 @@ public class ArtemisConfigurationBuilder {
         logFile,
         logFileNamePattern,
         transitionRecordDirectory,
+        transitionRecordQueueCapacity,
+        transitionRecordCompressionEnabled,
+        transitionRecordDiffStatesEnabled,
+        transitionRecordMaxSlots,
+        transitionRecordMaxBytes,
         metricsEnabled,
         metricsPort,
         metricsInterface,
         metricsCategories,
         dataPath,
         dataStorageMode,
+        hotStateCacheSize,
         restApiPort,
         restApiDocsEnabled,
         restApiEnabled,
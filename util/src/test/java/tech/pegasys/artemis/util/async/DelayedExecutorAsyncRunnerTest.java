@@ -15,14 +15,18 @@ package tech.pegasys.artemis.util.async;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static tech.pegasys.artemis.util.async.SafeFutureTest.assertExceptionallyCompletedWith;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -95,4 +99,42 @@ public class DelayedExecutorAsyncRunnerTest {
     verify(action, never()).get();
     assertExceptionallyCompletedWith(result, exception);
   }
+
+  @Test
+  public void runAsync_shouldRunOnExecutorWithoutUsingTimer() {
+    final Executor executor = mock(Executor.class);
+    final ScheduledExecutorService timer = mock(ScheduledExecutorService.class);
+    final DelayedExecutorAsyncRunner runner = DelayedExecutorAsyncRunner.create(executor, timer);
+
+    final SafeFuture<String> result = runner.runAsync(() -> SafeFuture.completedFuture("Yay"));
+
+    final ArgumentCaptor<Runnable> captor = ArgumentCaptor.forClass(Runnable.class);
+    verify(executor).execute(captor.capture());
+    verifyNoInteractions(timer);
+
+    captor.getValue().run();
+    assertThat(result).isCompletedWithValue("Yay");
+  }
+
+  @Test
+  public void runAfterDelay_shouldWaitOnTimerThenRunOnExecutor() {
+    final Executor executor = mock(Executor.class);
+    final ScheduledExecutorService timer = mock(ScheduledExecutorService.class);
+    final DelayedExecutorAsyncRunner runner = DelayedExecutorAsyncRunner.create(executor, timer);
+
+    final SafeFuture<String> result =
+        runner.runAfterDelay(() -> SafeFuture.completedFuture("Yay"), 5, TimeUnit.SECONDS);
+
+    final ArgumentCaptor<Runnable> timerCaptor = ArgumentCaptor.forClass(Runnable.class);
+    verify(timer).schedule(timerCaptor.capture(), eq(5L), eq(TimeUnit.SECONDS));
+    verifyNoInteractions(executor);
+
+    timerCaptor.getValue().run();
+    final ArgumentCaptor<Runnable> executorCaptor = ArgumentCaptor.forClass(Runnable.class);
+    verify(executor).execute(executorCaptor.capture());
+    assertThat(result).isNotDone();
+
+    executorCaptor.getValue().run();
+    assertThat(result).isCompletedWithValue("Yay");
+  }
 }
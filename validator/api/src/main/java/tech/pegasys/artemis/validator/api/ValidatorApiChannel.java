@@ -34,6 +34,12 @@ public interface ValidatorApiChannel {
   SafeFuture<Optional<BeaconBlock>> createUnsignedBlock(
       UnsignedLong slot, BLSSignature randaoReveal);
 
+  /**
+   * Hints that a block will be requested for the given slot so work that doesn't depend on the
+   * randao reveal or latest attestations can be done before the slot starts.
+   */
+  void prepareUnsignedBlock(UnsignedLong slot);
+
   SafeFuture<Optional<Attestation>> createUnsignedAttestation(
       UnsignedLong slot, int committeeIndex);
 
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.artemis.validator.coordinator;
+
+import com.google.common.primitives.UnsignedLong;
+import java.util.Optional;
+import org.apache.tuweni.bytes.Bytes32;
+import tech.pegasys.artemis.datastructures.state.BeaconState;
+import tech.pegasys.artemis.datastructures.state.MutableBeaconState;
+import tech.pegasys.artemis.statetransition.StateTransition;
+import tech.pegasys.artemis.statetransition.util.EpochProcessingException;
+import tech.pegasys.artemis.statetransition.util.SlotProcessingException;
+
+/**
+ * Caches the most recent state advanced through empty slots to the slot of a block being proposed.
+ *
+ * <p>Both the validator coordinator, to find the proposer, and the block factory, to build the
+ * block, need the parent state processed up to the new slot. Sharing it means empty slots and any
+ * epoch transition are only processed once per proposal.
+ */
+public class AdvancedStateCache {
+  private final StateTransition stateTransition;
+
+  private Optional<AdvancedState> latestState = Optional.empty();
+
+  public AdvancedStateCache(final StateTransition stateTransition) {
+    this.stateTransition = stateTransition;
+  }
+
+  synchronized BeaconState getAdvancedState(
+      final Bytes32 parentRoot, final BeaconState parentState, final UnsignedLong slot)
+      throws EpochProcessingException, SlotProcessingException {
+    final Optional<AdvancedState> cachedState =
+        latestState.filter(state -> state.isFor(parentRoot, slot));
+    if (cachedState.isPresent()) {
+      return cachedState.get().state;
+    }
+    final MutableBeaconState writableState = parentState.createWritableCopy();
+    // Process empty slots up to the new slot
+    stateTransition.process_slots(writableState, slot);
+    final BeaconState state = writableState.commitChanges();
+    latestState = Optional.of(new AdvancedState(parentRoot, slot, state));
+    return state;
+  }
+
+  private static class AdvancedState {
+    private final Bytes32 parentRoot;
+    private final UnsignedLong slot;
+    private final BeaconState state;
+
+    private AdvancedState(
+        final Bytes32 parentRoot, final UnsignedLong slot, final BeaconState state) {
+      this.parentRoot = parentRoot;
+      this.slot = slot;
+      this.state = state;
+    }
+
+    private boolean isFor(final Bytes32 parentRoot, final UnsignedLong slot) {
+      return this.parentRoot.equals(parentRoot) && this.slot.equals(slot);
+    }
+  }
+}
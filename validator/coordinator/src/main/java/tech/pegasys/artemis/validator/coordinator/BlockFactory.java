@@ -14,6 +14,7 @@
 package tech.pegasys.artemis.validator.coordinator;
 
 import com.google.common.primitives.UnsignedLong;
+import java.util.Optional;
 import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.artemis.datastructures.blocks.BeaconBlock;
 import tech.pegasys.artemis.datastructures.blocks.BeaconBlockBodyLists;
@@ -22,10 +23,8 @@ import tech.pegasys.artemis.datastructures.operations.Attestation;
 import tech.pegasys.artemis.datastructures.operations.Deposit;
 import tech.pegasys.artemis.datastructures.operations.ProposerSlashing;
 import tech.pegasys.artemis.datastructures.state.BeaconState;
-import tech.pegasys.artemis.datastructures.state.MutableBeaconState;
 import tech.pegasys.artemis.statetransition.BlockAttestationsPool;
 import tech.pegasys.artemis.statetransition.BlockProposalUtil;
-import tech.pegasys.artemis.statetransition.StateTransition;
 import tech.pegasys.artemis.statetransition.StateTransitionException;
 import tech.pegasys.artemis.statetransition.util.EpochProcessingException;
 import tech.pegasys.artemis.statetransition.util.SlotProcessingException;
@@ -34,54 +33,110 @@ import tech.pegasys.artemis.util.bls.BLSSignature;
 
 public class BlockFactory {
   private final BlockProposalUtil blockCreator;
-  private final StateTransition stateTransition;
+  private final AdvancedStateCache advancedStateCache;
   private final BlockAttestationsPool blockAttestationsPool;
   private final DepositProvider depositProvider;
   private final Eth1DataCache eth1DataCache;
 
+  private volatile Optional<PreparedBlock> preparedBlock = Optional.empty();
+
   public BlockFactory(
       final BlockProposalUtil blockCreator,
-      final StateTransition stateTransition,
+      final AdvancedStateCache advancedStateCache,
       final BlockAttestationsPool blockAttestationsPool,
       final DepositProvider depositProvider,
       final Eth1DataCache eth1DataCache) {
     this.blockCreator = blockCreator;
-    this.stateTransition = stateTransition;
+    this.advancedStateCache = advancedStateCache;
     this.blockAttestationsPool = blockAttestationsPool;
     this.depositProvider = depositProvider;
     this.eth1DataCache = eth1DataCache;
   }
 
+  /**
+   * Does the expensive parts of creating a block at {@code newSlot} before the slot starts:
+   * processing empty slots (including any epoch transition), hashing the resulting state and
+   * collecting deposits and the eth1 vote. Empty slots are only processed if the validator
+   * coordinator hasn't already advanced the same parent state while finding the proposer. {@link
+   * #createUnsignedBlock} reuses this work when it is called with the same parent block and slot,
+   * leaving only attestations to collect.
+   */
+  public void prepareUnsignedBlock(
+      final BeaconState previousState, final BeaconBlock previousBlock, final UnsignedLong newSlot)
+      throws EpochProcessingException, SlotProcessingException {
+    final PreparedBlock block =
+        prepareBlock(previousState, previousBlock.hash_tree_root(), newSlot);
+    // Hash the state now so the block's state root only rehashes what the block itself changes
+    block.state.hash_tree_root();
+    preparedBlock = Optional.of(block);
+  }
+
   public BeaconBlock createUnsignedBlock(
       final BeaconState previousState,
       final BeaconBlock previousBlock,
       final UnsignedLong newSlot,
       final BLSSignature randaoReveal)
       throws EpochProcessingException, SlotProcessingException, StateTransitionException {
+    final Bytes32 parentRoot = previousBlock.hash_tree_root();
+    final Optional<PreparedBlock> maybePreparedBlock =
+        preparedBlock.filter(block -> block.isFor(parentRoot, newSlot));
+    final PreparedBlock block =
+        maybePreparedBlock.isPresent()
+            ? maybePreparedBlock.get()
+            : prepareBlock(previousState, parentRoot, newSlot);
 
-    MutableBeaconState newState = previousState.createWritableCopy();
-    // Process empty slots up to the new slot
-    stateTransition.process_slots(newState, newSlot);
-
-    // Collect attestations to include
+    // Collect attestations to include. Aggregates keep arriving until the slot starts so these
+    // are never taken from a prepared block.
     SSZList<Attestation> attestations = blockAttestationsPool.getAttestationsForSlot(newSlot);
     // Collect slashing to include
     final SSZList<ProposerSlashing> slashingsInBlock =
         BeaconBlockBodyLists.createProposerSlashings();
-    // Collect deposits
-    final SSZList<Deposit> deposits = depositProvider.getDeposits(newState);
-
-    Eth1Data eth1Data = eth1DataCache.get_eth1_vote(newState);
-    final Bytes32 parentRoot = previousBlock.hash_tree_root();
 
     return blockCreator.createNewUnsignedBlock(
         newSlot,
         randaoReveal,
-        newState,
+        block.state,
         parentRoot,
-        eth1Data,
+        block.eth1Data,
         attestations,
         slashingsInBlock,
-        deposits);
+        block.deposits);
+  }
+
+  private PreparedBlock prepareBlock(
+      final BeaconState previousState, final Bytes32 parentRoot, final UnsignedLong newSlot)
+      throws EpochProcessingException, SlotProcessingException {
+    final BeaconState state =
+        advancedStateCache.getAdvancedState(parentRoot, previousState, newSlot);
+
+    // Collect deposits
+    final SSZList<Deposit> deposits = depositProvider.getDeposits(state);
+    final Eth1Data eth1Data = eth1DataCache.get_eth1_vote(state);
+    return new PreparedBlock(parentRoot, newSlot, state, deposits, eth1Data);
+  }
+
+  private static class PreparedBlock {
+    private final Bytes32 parentRoot;
+    private final UnsignedLong slot;
+    private final BeaconState state;
+    private final SSZList<Deposit> deposits;
+    private final Eth1Data eth1Data;
+
+    private PreparedBlock(
+        final Bytes32 parentRoot,
+        final UnsignedLong slot,
+        final BeaconState state,
+        final SSZList<Deposit> deposits,
+        final Eth1Data eth1Data) {
+      this.parentRoot = parentRoot;
+      this.slot = slot;
+      this.state = state;
+      this.deposits = deposits;
+      this.eth1Data = eth1Data;
+    }
+
+    private boolean isFor(final Bytes32 parentRoot, final UnsignedLong slot) {
+      return this.parentRoot.equals(parentRoot) && this.slot.equals(slot);
+    }
   }
 }
@@ -18,11 +18,8 @@ import static tech.pegasys.artemis.datastructures.util.BeaconStateUtil.bytes_to_
 import static tech.pegasys.artemis.datastructures.util.BeaconStateUtil.compute_epoch_at_slot;
 import static tech.pegasys.artemis.datastructures.util.BeaconStateUtil.compute_signing_root;
 import static tech.pegasys.artemis.datastructures.util.BeaconStateUtil.get_domain;
-import static tech.pegasys.artemis.datastructures.util.BeaconStateUtil.max;
-import static tech.pegasys.artemis.datastructures.util.CommitteeUtil.get_beacon_committee;
 import static tech.pegasys.artemis.util.config.Constants.COMMITTEE_INDEX_SUBSCRIPTION_LENGTH;
 import static tech.pegasys.artemis.util.config.Constants.DOMAIN_BEACON_ATTESTER;
-import static tech.pegasys.artemis.util.config.Constants.TARGET_AGGREGATORS_PER_COMMITTEE;
 
 import com.google.common.eventbus.EventBus;
 import com.google.common.primitives.UnsignedLong;
@@ -37,13 +34,12 @@ import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.crypto.Hash;
 import tech.pegasys.artemis.datastructures.state.BeaconState;
 import tech.pegasys.artemis.datastructures.state.Committee;
-import tech.pegasys.artemis.datastructures.state.CommitteeAssignment;
 import tech.pegasys.artemis.datastructures.validator.AttesterInformation;
 import tech.pegasys.artemis.statetransition.events.committee.CommitteeAssignmentEvent;
 import tech.pegasys.artemis.statetransition.events.committee.CommitteeDismissalEvent;
-import tech.pegasys.artemis.statetransition.util.CommitteeAssignmentUtil;
 import tech.pegasys.artemis.util.bls.BLSPublicKey;
 import tech.pegasys.artemis.util.bls.BLSSignature;
+import tech.pegasys.artemis.validator.coordinator.EpochDuties.AttesterDuty;
 
 public class CommitteeAssignmentManager {
 
@@ -51,12 +47,15 @@ public class CommitteeAssignmentManager {
 
   private final Map<BLSPublicKey, ValidatorInfo> validators;
   private final Map<UnsignedLong, List<AttesterInformation>> committeeAssignments;
+  private final EpochDutiesCache epochDutiesCache;
 
   CommitteeAssignmentManager(
       Map<BLSPublicKey, ValidatorInfo> validators,
-      Map<UnsignedLong, List<AttesterInformation>> committeeAssignments) {
+      Map<UnsignedLong, List<AttesterInformation>> committeeAssignments,
+      EpochDutiesCache epochDutiesCache) {
     this.validators = validators;
     this.committeeAssignments = committeeAssignments;
+    this.epochDutiesCache = epochDutiesCache;
   }
 
   void updateCommitteeAssignments(
@@ -105,42 +104,40 @@ public class CommitteeAssignmentManager {
   private Set<Integer> getNewCommitteeAssignments(BeaconState state, UnsignedLong epoch) {
 
     Set<Integer> committeeIndicesToSubscribe = new HashSet<>();
+    if (validators.isEmpty()) {
+      return committeeIndicesToSubscribe;
+    }
 
-    // For each validator, using the spec defined get_committee_assignment,
-    // get each validators committee assignment. i.e. learn to which
-    // committee they belong in this epoch, and when that committee is
-    // going to attest.
+    // Look up each validator's committee assignment for this epoch, i.e. learn to which
+    // committee they belong in this epoch, and when that committee is going to attest.
+    final EpochDuties epochDuties = epochDutiesCache.getDuties(state, epoch);
     validators.forEach(
         (pubKey, validatorInformation) -> {
-          Optional<CommitteeAssignment> committeeAssignment =
-              CommitteeAssignmentUtil.get_committee_assignment(
-                  state, epoch, validatorInformation.getValidatorIndex());
+          int validatorIndex = validatorInformation.getValidatorIndex();
+          Optional<AttesterDuty> attesterDuty = epochDuties.getAttesterDuty(validatorIndex);
 
           // If it exists, use the committee assignment information to update our
           // committeeAssignments map, which maps slots to Lists of AttesterInformation
           // objects, which contain all the information necessary to produce an attestation
           // for the given validator.
-          committeeAssignment.ifPresent(
-              assignment -> {
-                UnsignedLong slot = assignment.getSlot();
-                UnsignedLong committeeIndex = assignment.getCommitteeIndex();
+          attesterDuty.ifPresent(
+              duty -> {
+                UnsignedLong slot = duty.getSlot();
+                UnsignedLong committeeIndex = duty.getCommitteeIndex();
                 committeeIndicesToSubscribe.add(toIntExact(committeeIndex.longValue()));
                 BLSSignature slot_signature = get_slot_signature(state, slot, pubKey);
-                boolean is_aggregator = is_aggregator(state, slot, committeeIndex, slot_signature);
+                boolean is_aggregator = is_aggregator(duty.getAggregatorModulo(), slot_signature);
 
                 List<AttesterInformation> attesterInformationInSlot =
                     committeeAssignments.computeIfAbsent(slot, k -> new ArrayList<>());
 
-                List<Integer> indicesInCommittee = assignment.getCommittee();
-                Committee committee = new Committee(committeeIndex, indicesInCommittee);
-                int validatorIndex = validatorInformation.getValidatorIndex();
-                int indexIntoCommittee = indicesInCommittee.indexOf(validatorIndex);
+                Committee committee = new Committee(committeeIndex, duty.getCommittee());
 
                 attesterInformationInSlot.add(
                     new AttesterInformation(
                         validatorIndex,
                         pubKey,
-                        indexIntoCommittee,
+                        duty.getCommitteePosition(),
                         committee,
                         is_aggregator ? Optional.of(slot_signature) : Optional.empty()));
               });
@@ -155,16 +152,7 @@ public class CommitteeAssignmentManager {
     return validators.get(signer).getSignerService().signAttestation(signing_root).join();
   }
 
-  boolean is_aggregator(
-      BeaconState state,
-      UnsignedLong slot,
-      UnsignedLong committeeIndex,
-      BLSSignature slot_signature) {
-    List<Integer> committee = get_beacon_committee(state, slot, committeeIndex);
-    UnsignedLong modulo =
-        max(
-            UnsignedLong.ONE,
-            UnsignedLong.valueOf(committee.size()).dividedBy(TARGET_AGGREGATORS_PER_COMMITTEE));
+  boolean is_aggregator(UnsignedLong modulo, BLSSignature slot_signature) {
     return (bytes_to_int(Hash.sha2_256(slot_signature.toBytes()).slice(0, 8)) % modulo.longValue())
         == 0;
   }
@@ -0,0 +1,204 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.artemis.validator.coordinator;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static tech.pegasys.artemis.util.crypto.SecureRandomProvider.createSecureRandom;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.GeneralSecurityException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import org.apache.tuweni.crypto.Hash;
+
+/**
+ * Caches decrypted validator keys so restarts can skip the keystore KDF.
+ *
+ * <p>Entries are keyed by the hash of the keystore file contents and its password, so changing
+ * either invalidates the entry. The cache file is encrypted with AES-GCM using a randomly generated
+ * sealing key, readable only by the owner. The sealing key file is configured separately and should
+ * be kept outside the data directory, otherwise anyone who can read the data directory, or a backup
+ * of it, can decrypt the validator keys.
+ */
+class DecryptedKeyCache {
+  private static final Logger LOG = LogManager.getLogger();
+
+  static final String CACHE_FILE_NAME = "keys.dat";
+  private static final String CIPHER_ALGORITHM = "AES/GCM/NoPadding";
+  private static final int SEALING_KEY_LENGTH = 32;
+  private static final int IV_LENGTH = 12;
+  private static final int TAG_LENGTH_BITS = 128;
+  private static final int ENTRY_LENGTH = Bytes32.SIZE + KeystoresValidatorKeyProvider.KEY_LENGTH;
+
+  private final Path cacheDirectory;
+  private final Bytes sealingKey;
+  private final Map<Bytes32, Bytes> storedKeys;
+  private final Map<Bytes32, Bytes> usedKeys = new ConcurrentHashMap<>();
+
+  private DecryptedKeyCache(
+      final Path cacheDirectory, final Bytes sealingKey, final Map<Bytes32, Bytes> storedKeys) {
+    this.cacheDirectory = cacheDirectory;
+    this.sealingKey = sealingKey;
+    this.storedKeys = storedKeys;
+  }
+
+  static DecryptedKeyCache load(final Path cacheDirectory, final Path sealingKeyFile) {
+    try {
+      Files.createDirectories(cacheDirectory);
+      final Bytes sealingKey = loadOrCreateSealingKey(cacheDirectory, sealingKeyFile);
+      return new DecryptedKeyCache(
+          cacheDirectory, sealingKey, loadEntries(cacheDirectory, sealingKey));
+    } catch (final IOException e) {
+      throw new UncheckedIOException("Unable to load validator key cache: " + cacheDirectory, e);
+    }
+  }
+
+  /**
+   * Returns the cached key for the keystore and password, or loads and caches it if not present.
+   */
+  Bytes getOrLoad(final Path keystoreFile, final String password, final Supplier<Bytes> loader) {
+    final Optional<Bytes32> maybeId = calculateId(keystoreFile, password);
+    if (maybeId.isEmpty()) {
+      // Let the loader report the problem with the keystore file
+      return loader.get();
+    }
+    final Bytes32 id = maybeId.get();
+    final Bytes key = Optional.ofNullable(storedKeys.get(id)).orElseGet(loader);
+    usedKeys.put(id, key);
+    return key;
+  }
+
+  /** Writes the keys used since loading back to disk, dropping keystores no longer in use. */
+  void save() {
+    if (usedKeys.keySet().equals(storedKeys.keySet())) {
+      return;
+    }
+    try {
+      final Bytes plaintext =
+          Bytes.concatenate(
+              usedKeys.entrySet().stream()
+                  .map(entry -> Bytes.concatenate(entry.getKey(), entry.getValue()))
+                  .toArray(Bytes[]::new));
+      final Bytes iv = Bytes.random(IV_LENGTH, createSecureRandom());
+      final Bytes ciphertext = applyCipher(Cipher.ENCRYPT_MODE, sealingKey, iv, plaintext);
+      final Path cacheFile = cacheDirectory.resolve(CACHE_FILE_NAME);
+      final Path tempFile = cacheDirectory.resolve(CACHE_FILE_NAME + ".tmp");
+      Files.deleteIfExists(tempFile);
+      writeOwnerOnly(tempFile, Bytes.concatenate(iv, ciphertext));
+      Files.move(tempFile, cacheFile, StandardCopyOption.REPLACE_EXISTING);
+    } catch (final IOException | GeneralSecurityException e) {
+      LOG.warn("Unable to save validator key cache to {}", cacheDirectory, e);
+    }
+  }
+
+  private static Optional<Bytes32> calculateId(final Path keystoreFile, final String password) {
+    try {
+      final Bytes keystore = Bytes.wrap(Files.readAllBytes(keystoreFile));
+      final Bytes passwordBytes = Bytes.wrap(password.getBytes(UTF_8));
+      return Optional.of(Hash.sha2_256(Bytes.concatenate(keystore, passwordBytes)));
+    } catch (final IOException e) {
+      return Optional.empty();
+    }
+  }
+
+  private static Bytes loadOrCreateSealingKey(final Path cacheDirectory, final Path sealingKeyFile)
+      throws IOException {
+    if (Files.exists(sealingKeyFile)) {
+      final Bytes sealingKey = Bytes.wrap(Files.readAllBytes(sealingKeyFile));
+      if (sealingKey.size() != SEALING_KEY_LENGTH) {
+        // Never replace an existing file, it may have been specified by mistake
+        throw new IllegalArgumentException(
+            "Invalid validator key cache sealing key file, expected "
+                + SEALING_KEY_LENGTH
+                + " bytes: "
+                + sealingKeyFile);
+      }
+      return sealingKey;
+    }
+    final Bytes sealingKey = Bytes.random(SEALING_KEY_LENGTH, createSecureRandom());
+    final Path sealingKeyDirectory = sealingKeyFile.toAbsolutePath().getParent();
+    if (sealingKeyDirectory != null) {
+      Files.createDirectories(sealingKeyDirectory);
+    }
+    writeOwnerOnly(sealingKeyFile, sealingKey);
+    // Any existing entries were sealed with a different key and can't be read
+    Files.deleteIfExists(cacheDirectory.resolve(CACHE_FILE_NAME));
+    return sealingKey;
+  }
+
+  private static Map<Bytes32, Bytes> loadEntries(final Path cacheDirectory, final Bytes sealingKey)
+      throws IOException {
+    final Map<Bytes32, Bytes> entries = new HashMap<>();
+    final Path cacheFile = cacheDirectory.resolve(CACHE_FILE_NAME);
+    if (!Files.exists(cacheFile)) {
+      return entries;
+    }
+    final Bytes data = Bytes.wrap(Files.readAllBytes(cacheFile));
+    if (data.size() < IV_LENGTH) {
+      LOG.warn("Ignoring truncated validator key cache {}", cacheFile);
+      return entries;
+    }
+    try {
+      final Bytes iv = data.slice(0, IV_LENGTH);
+      final Bytes plaintext =
+          applyCipher(Cipher.DECRYPT_MODE, sealingKey, iv, data.slice(IV_LENGTH));
+      for (int offset = 0; offset + ENTRY_LENGTH <= plaintext.size(); offset += ENTRY_LENGTH) {
+        entries.put(
+            Bytes32.wrap(plaintext.slice(offset, Bytes32.SIZE)),
+            plaintext.slice(offset + Bytes32.SIZE, KeystoresValidatorKeyProvider.KEY_LENGTH));
+      }
+    } catch (final GeneralSecurityException e) {
+      LOG.warn("Ignoring unreadable validator key cache {}", cacheFile, e);
+    }
+    return entries;
+  }
+
+  private static Bytes applyCipher(
+      final int mode, final Bytes sealingKey, final Bytes iv, final Bytes input)
+      throws GeneralSecurityException {
+    final Cipher cipher = Cipher.getInstance(CIPHER_ALGORITHM);
+    cipher.init(
+        mode,
+        new SecretKeySpec(sealingKey.toArrayUnsafe(), "AES"),
+        new GCMParameterSpec(TAG_LENGTH_BITS, iv.toArrayUnsafe()));
+    return Bytes.wrap(cipher.doFinal(input.toArrayUnsafe()));
+  }
+
+  /** Creates a new file readable only by the owner, failing if the file already exists. */
+  private static void writeOwnerOnly(final Path file, final Bytes data) throws IOException {
+    try {
+      Files.createFile(
+          file, PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rw-------")));
+    } catch (final UnsupportedOperationException e) {
+      // Not a POSIX file system so rely on the permissions of the data directory
+      Files.createFile(file);
+    }
+    Files.write(file, data.toArrayUnsafe());
+  }
+}
@@ -13,7 +13,6 @@
 
 package tech.pegasys.artemis.validator.coordinator;
 
-import static java.lang.StrictMath.toIntExact;
 import static tech.pegasys.artemis.util.config.Constants.DEPOSIT_CONTRACT_TREE_DEPTH;
 import static tech.pegasys.artemis.util.config.Constants.MAX_DEPOSITS;
 
@@ -27,9 +26,8 @@ import org.apache.logging.log4j.Logger;
 import tech.pegasys.artemis.datastructures.operations.Deposit;
 import tech.pegasys.artemis.datastructures.operations.DepositWithIndex;
 import tech.pegasys.artemis.datastructures.state.BeaconState;
+import tech.pegasys.artemis.datastructures.util.DepositTree;
 import tech.pegasys.artemis.datastructures.util.DepositUtil;
-import tech.pegasys.artemis.datastructures.util.MerkleTree;
-import tech.pegasys.artemis.datastructures.util.OptimizedMerkleTree;
 import tech.pegasys.artemis.pow.api.Eth1EventsChannel;
 import tech.pegasys.artemis.pow.event.DepositsFromBlockEvent;
 import tech.pegasys.artemis.pow.event.MinGenesisTimeBlockEvent;
@@ -43,7 +41,7 @@ public class DepositProvider implements Eth1EventsChannel, FinalizedCheckpointEv
   private static final Logger LOG = LogManager.getLogger();
 
   private final ChainStorageClient chainStorageClient;
-  private final MerkleTree depositMerkleTree = new OptimizedMerkleTree(DEPOSIT_CONTRACT_TREE_DEPTH);
+  private final DepositTree depositMerkleTree = new DepositTree(DEPOSIT_CONTRACT_TREE_DEPTH);
 
   private NavigableMap<UnsignedLong, DepositWithIndex> depositNavigableMap = new TreeMap<>();
 
@@ -76,7 +74,11 @@ public class DepositProvider implements Eth1EventsChannel, FinalizedCheckpointEv
             .orElseThrow(
                 () -> new IllegalArgumentException("Finalized Checkpoint state can not be found."));
 
-    depositNavigableMap.headMap(finalizedState.getEth1_deposit_index()).clear();
+    final UnsignedLong finalizedDepositIndex = finalizedState.getEth1_deposit_index();
+    depositNavigableMap.headMap(finalizedDepositIndex).clear();
+    // Deposits before the finalized deposit index will never need proofs again
+    depositMerkleTree.prune(
+        Math.min(finalizedDepositIndex.longValue(), depositMerkleTree.getDepositCount()));
   }
 
   @Override
@@ -104,8 +106,6 @@ public class DepositProvider implements Eth1EventsChannel, FinalizedCheckpointEv
     return depositNavigableMap.size();
   }
 
-  // TODO: switch the MerkleTree to use UnsignedLongs instead of using toIntExact() here,
-  //  it will result in an overflow at some point
   /**
    * @param fromDepositIndex inclusive
    * @param toDepositIndex exclusive
@@ -119,8 +119,7 @@ public class DepositProvider implements Eth1EventsChannel, FinalizedCheckpointEv
             deposit ->
                 new DepositWithIndex(
                     depositMerkleTree.getProofWithViewBoundary(
-                        toIntExact(deposit.getIndex().longValue()),
-                        toIntExact(eth1DepositCount.longValue())),
+                        deposit.getIndex().longValue(), eth1DepositCount.longValue()),
                     deposit.getData(),
                     deposit.getIndex()))
         .collect(Collectors.toList());
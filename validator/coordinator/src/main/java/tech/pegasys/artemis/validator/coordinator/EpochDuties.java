@@ -0,0 +1,136 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.artemis.validator.coordinator;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Collections.emptyList;
+import static tech.pegasys.artemis.datastructures.util.BeaconStateUtil.compute_start_slot_at_epoch;
+import static tech.pegasys.artemis.datastructures.util.BeaconStateUtil.get_beacon_proposer_index;
+import static tech.pegasys.artemis.datastructures.util.BeaconStateUtil.get_committee_count_at_slot;
+import static tech.pegasys.artemis.datastructures.util.BeaconStateUtil.get_current_epoch;
+import static tech.pegasys.artemis.datastructures.util.BeaconStateUtil.max;
+import static tech.pegasys.artemis.datastructures.util.CommitteeUtil.get_beacon_committee;
+import static tech.pegasys.artemis.util.config.Constants.SLOTS_PER_EPOCH;
+import static tech.pegasys.artemis.util.config.Constants.TARGET_AGGREGATORS_PER_COMMITTEE;
+
+import com.google.common.primitives.UnsignedLong;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import tech.pegasys.artemis.datastructures.state.BeaconState;
+
+/**
+ * The attestation and block proposal duties of every validator in an epoch, calculated with a
+ * single pass over the epoch's committees so looking up the duties of a validator is O(1).
+ */
+class EpochDuties {
+
+  private final UnsignedLong epoch;
+  private final Map<Integer, AttesterDuty> attesterDuties;
+  private final Map<Integer, List<UnsignedLong>> proposalSlots;
+
+  private EpochDuties(
+      final UnsignedLong epoch,
+      final Map<Integer, AttesterDuty> attesterDuties,
+      final Map<Integer, List<UnsignedLong>> proposalSlots) {
+    this.epoch = epoch;
+    this.attesterDuties = attesterDuties;
+    this.proposalSlots = proposalSlots;
+  }
+
+  static EpochDuties calculate(final BeaconState state, final UnsignedLong epoch) {
+    final UnsignedLong nextEpoch = get_current_epoch(state).plus(UnsignedLong.ONE);
+    checkArgument(epoch.compareTo(nextEpoch) <= 0, "EpochDuties: Epoch number too high");
+
+    final UnsignedLong startSlot = compute_start_slot_at_epoch(epoch);
+    final UnsignedLong endSlot = startSlot.plus(UnsignedLong.valueOf(SLOTS_PER_EPOCH));
+    final Map<Integer, AttesterDuty> attesterDuties = new HashMap<>();
+    final Map<Integer, List<UnsignedLong>> proposalSlots = new HashMap<>();
+    for (UnsignedLong slot = startSlot;
+        slot.compareTo(endSlot) < 0;
+        slot = slot.plus(UnsignedLong.ONE)) {
+      final UnsignedLong committeeCount = get_committee_count_at_slot(state, slot);
+      for (UnsignedLong committeeIndex = UnsignedLong.ZERO;
+          committeeIndex.compareTo(committeeCount) < 0;
+          committeeIndex = committeeIndex.plus(UnsignedLong.ONE)) {
+        final List<Integer> committee = get_beacon_committee(state, slot, committeeIndex);
+        for (int position = 0; position < committee.size(); position++) {
+          attesterDuties.putIfAbsent(
+              committee.get(position), new AttesterDuty(slot, committeeIndex, position, committee));
+        }
+      }
+
+      final Integer proposer = get_beacon_proposer_index(state, slot);
+      proposalSlots.computeIfAbsent(proposer, key -> new ArrayList<>()).add(slot);
+    }
+    return new EpochDuties(epoch, attesterDuties, proposalSlots);
+  }
+
+  UnsignedLong getEpoch() {
+    return epoch;
+  }
+
+  Optional<AttesterDuty> getAttesterDuty(final int validatorIndex) {
+    return Optional.ofNullable(attesterDuties.get(validatorIndex));
+  }
+
+  List<UnsignedLong> getProposalSlots(final int validatorIndex) {
+    return proposalSlots.getOrDefault(validatorIndex, emptyList());
+  }
+
+  static class AttesterDuty {
+    private final UnsignedLong slot;
+    private final UnsignedLong committeeIndex;
+    private final int committeePosition;
+    private final List<Integer> committee;
+
+    private AttesterDuty(
+        final UnsignedLong slot,
+        final UnsignedLong committeeIndex,
+        final int committeePosition,
+        final List<Integer> committee) {
+      this.slot = slot;
+      this.committeeIndex = committeeIndex;
+      this.committeePosition = committeePosition;
+      this.committee = committee;
+    }
+
+    UnsignedLong getSlot() {
+      return slot;
+    }
+
+    UnsignedLong getCommitteeIndex() {
+      return committeeIndex;
+    }
+
+    int getCommitteePosition() {
+      return committeePosition;
+    }
+
+    List<Integer> getCommittee() {
+      return committee;
+    }
+
+    /**
+     * A validator is an aggregator when the hash of its slot signature is divisible by this value.
+     */
+    UnsignedLong getAggregatorModulo() {
+      return max(
+          UnsignedLong.ONE,
+          UnsignedLong.valueOf(committee.size()).dividedBy(TARGET_AGGREGATORS_PER_COMMITTEE));
+    }
+  }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.artemis.validator.coordinator;
+
+import static tech.pegasys.artemis.datastructures.util.BeaconStateUtil.compute_start_slot_at_epoch;
+import static tech.pegasys.artemis.datastructures.util.BeaconStateUtil.get_block_root_at_slot;
+import static tech.pegasys.artemis.datastructures.util.BeaconStateUtil.isBlockRootAvailableFromState;
+
+import com.google.common.primitives.UnsignedLong;
+import java.util.Optional;
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.tuweni.bytes.Bytes32;
+import tech.pegasys.artemis.datastructures.state.BeaconState;
+import tech.pegasys.artemis.datastructures.util.cache.Cache;
+import tech.pegasys.artemis.datastructures.util.cache.LRUCache;
+
+/**
+ * Caches {@link EpochDuties} by epoch and dependent root.
+ *
+ * <p>Duties for an epoch are calculated from a state in the previous epoch. The shuffling seed,
+ * active validators and effective balances they depend on are all fixed by the end of the epoch
+ * before that, so the duties only change if the block root at the last slot of that epoch (the
+ * dependent root) changes. A reorg that doesn't replace that block keeps using the cached duties.
+ */
+public class EpochDutiesCache {
+  // Enough for the current and next epoch on a couple of competing forks
+  private static final int MAX_CACHED_EPOCHS = 4;
+
+  private final Cache<Pair<UnsignedLong, Bytes32>, EpochDuties> duties =
+      new LRUCache<>(MAX_CACHED_EPOCHS);
+
+  EpochDuties getDuties(final BeaconState state, final UnsignedLong epoch) {
+    return getDependentRoot(state, epoch)
+        .map(root -> duties.get(Pair.of(epoch, root), key -> EpochDuties.calculate(state, epoch)))
+        .orElseGet(() -> EpochDuties.calculate(state, epoch));
+  }
+
+  private Optional<Bytes32> getDependentRoot(final BeaconState state, final UnsignedLong epoch) {
+    if (epoch.compareTo(UnsignedLong.ONE) <= 0) {
+      // Duties for the first two epochs depend on the genesis state which has no block roots
+      return Optional.empty();
+    }
+    final UnsignedLong dependentSlot =
+        compute_start_slot_at_epoch(epoch.minus(UnsignedLong.ONE)).minus(UnsignedLong.ONE);
+    if (!isBlockRootAvailableFromState(state, dependentSlot)) {
+      // The state is too old or too new to tell which chain it's on, so don't cache
+      return Optional.empty();
+    }
+    return Optional.of(get_block_root_at_slot(state, dependentSlot));
+  }
+}
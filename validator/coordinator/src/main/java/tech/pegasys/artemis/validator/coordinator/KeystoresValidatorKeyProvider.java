@@ -19,13 +19,25 @@ import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.stream.Collectors.toList;
 import static org.apache.commons.lang3.StringUtils.isEmpty;
 
+import com.google.common.base.Throwables;
 import com.google.common.io.Files;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 import org.apache.commons.lang3.tuple.Pair;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 import org.apache.tuweni.bytes.Bytes;
 import tech.pegasys.artemis.util.bls.BLSKeyPair;
 import tech.pegasys.artemis.util.bls.BLSSecretKey;
@@ -36,8 +48,13 @@ import tech.pegasys.signers.bls.keystore.KeyStoreValidationException;
 import tech.pegasys.signers.bls.keystore.model.KeyStoreData;
 
 public class KeystoresValidatorKeyProvider implements ValidatorKeyProvider {
+  private static final Logger LOG = LogManager.getLogger();
 
   static final int KEY_LENGTH = 48;
+  static final String KEY_CACHE_DIRECTORY = "validator-key-cache";
+  // Memory used by scrypt with the EIP-2335 recommended parameters (128 * r * n with r=8, n=2^18)
+  private static final long MAX_KDF_MEMORY_BYTES = 128L * 8 * (1 << 18);
+  private static final int PROGRESS_UPDATES = 10;
 
   @Override
   public List<BLSKeyPair> loadValidatorKeys(final ArtemisConfiguration config) {
@@ -45,14 +62,106 @@ public class KeystoresValidatorKeyProvider implements ValidatorKeyProvider {
         config.getValidatorKeystorePasswordFilePairs();
     checkNotNull(keystorePasswordFilePairs, "validator keystore and password pairs cannot be null");
 
+    final Optional<DecryptedKeyCache> keyCache = createKeyCache(config);
+    final List<Bytes> privateKeys = loadPrivateKeys(keystorePasswordFilePairs, keyCache);
+    keyCache.ifPresent(DecryptedKeyCache::save);
+
     // return distinct loaded key pairs
-    return keystorePasswordFilePairs.stream()
-        .map(pair -> padLeft(loadBLSPrivateKey(pair.getLeft(), loadPassword(pair.getRight()))))
+    return privateKeys.stream()
         .distinct()
         .map(privKey -> new BLSKeyPair(BLSSecretKey.fromBytes(privKey)))
         .collect(toList());
   }
 
+  /**
+   * Decrypts keystores in parallel. The KDFs are deliberately expensive in both CPU and memory so
+   * the number of threads is bounded by the available processors and heap.
+   */
+  private List<Bytes> loadPrivateKeys(
+      final List<Pair<Path, Path>> keystorePasswordFilePairs,
+      final Optional<DecryptedKeyCache> keyCache) {
+    final int threadCount =
+        Math.max(1, Math.min(getDecryptionThreadLimit(), keystorePasswordFilePairs.size()));
+    final ExecutorService executor =
+        Executors.newFixedThreadPool(
+            threadCount,
+            new ThreadFactoryBuilder().setDaemon(true).setNameFormat("keystore-loader-%d").build());
+    try {
+      final int total = keystorePasswordFilePairs.size();
+      final int progressInterval = Math.max(1, total / PROGRESS_UPDATES);
+      final AtomicInteger loadedCount = new AtomicInteger();
+      final List<Future<Bytes>> futures =
+          keystorePasswordFilePairs.stream()
+              .map(
+                  pair ->
+                      executor.submit(
+                          () -> {
+                            final Bytes privateKey = loadPrivateKey(pair, keyCache);
+                            final int loaded = loadedCount.incrementAndGet();
+                            if (loaded % progressInterval == 0 || loaded == total) {
+                              LOG.info("Loaded {} of {} validator keystores", loaded, total);
+                            }
+                            return privateKey;
+                          }))
+              .collect(toList());
+      // Collect in order so the error reported is for the first invalid keystore
+      final List<Bytes> privateKeys = new ArrayList<>();
+      for (Future<Bytes> future : futures) {
+        privateKeys.add(getPrivateKey(future));
+      }
+      return privateKeys;
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private Optional<DecryptedKeyCache> createKeyCache(final ArtemisConfiguration config) {
+    if (!config.isValidatorKeyCacheEnabled()) {
+      return Optional.empty();
+    }
+    if (config.getValidatorKeyCacheSealingKeyFile() == null) {
+      throw new IllegalArgumentException(
+          "A sealing key file must be configured to enable the validator key cache");
+    }
+    final Path dataPath = Path.of(config.getDataPath()).toAbsolutePath().normalize();
+    final Path sealingKeyFile =
+        Path.of(config.getValidatorKeyCacheSealingKeyFile()).toAbsolutePath().normalize();
+    if (sealingKeyFile.startsWith(dataPath)) {
+      LOG.warn(
+          "Validator key cache sealing key {} is inside the data directory. "
+              + "Anyone who can read the data directory can decrypt the cached validator keys.",
+          sealingKeyFile);
+    }
+    return Optional.of(
+        DecryptedKeyCache.load(dataPath.resolve(KEY_CACHE_DIRECTORY), sealingKeyFile));
+  }
+
+  private Bytes getPrivateKey(final Future<Bytes> future) {
+    try {
+      return future.get();
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while loading validator keystores", e);
+    } catch (final ExecutionException e) {
+      Throwables.throwIfUnchecked(e.getCause());
+      throw new IllegalStateException("Unable to load validator keystore", e.getCause());
+    }
+  }
+
+  private int getDecryptionThreadLimit() {
+    // Leave half the heap for the rest of the node
+    final long memoryLimit = Runtime.getRuntime().maxMemory() / 2 / MAX_KDF_MEMORY_BYTES;
+    return (int) Math.max(1, Math.min(Runtime.getRuntime().availableProcessors(), memoryLimit));
+  }
+
+  private Bytes loadPrivateKey(
+      final Pair<Path, Path> keystorePasswordFilePair, final Optional<DecryptedKeyCache> keyCache) {
+    final Path keystoreFile = keystorePasswordFilePair.getLeft();
+    final String password = loadPassword(keystorePasswordFilePair.getRight());
+    final Supplier<Bytes> loader = () -> padLeft(loadBLSPrivateKey(keystoreFile, password));
+    return keyCache.map(cache -> cache.getOrLoad(keystoreFile, password, loader)).orElseGet(loader);
+  }
+
   private Bytes loadBLSPrivateKey(final Path keystoreFile, final String password) {
     try {
       final KeyStoreData keyStoreData = KeyStoreLoader.loadFromFile(keystoreFile);
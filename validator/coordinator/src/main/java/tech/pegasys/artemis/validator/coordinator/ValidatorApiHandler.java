@@ -13,20 +13,15 @@
 
 package tech.pegasys.artemis.validator.coordinator;
 
-import static java.util.Collections.emptyList;
 import static java.util.stream.Collectors.toList;
 import static tech.pegasys.artemis.datastructures.util.BeaconStateUtil.compute_start_slot_at_epoch;
-import static tech.pegasys.artemis.datastructures.util.BeaconStateUtil.get_beacon_proposer_index;
 import static tech.pegasys.artemis.datastructures.util.BeaconStateUtil.get_committee_count_at_slot;
 import static tech.pegasys.artemis.util.config.Constants.MAX_VALIDATORS_PER_COMMITTEE;
 
 import com.google.common.eventbus.EventBus;
 import com.google.common.primitives.UnsignedLong;
-import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -37,23 +32,21 @@ import tech.pegasys.artemis.datastructures.blocks.SignedBeaconBlock;
 import tech.pegasys.artemis.datastructures.operations.Attestation;
 import tech.pegasys.artemis.datastructures.operations.AttestationData;
 import tech.pegasys.artemis.datastructures.state.BeaconState;
-import tech.pegasys.artemis.datastructures.state.CommitteeAssignment;
 import tech.pegasys.artemis.datastructures.state.Fork;
 import tech.pegasys.artemis.datastructures.util.AttestationUtil;
 import tech.pegasys.artemis.datastructures.util.CommitteeUtil;
 import tech.pegasys.artemis.datastructures.util.ValidatorsUtil;
 import tech.pegasys.artemis.statetransition.AttestationAggregator;
 import tech.pegasys.artemis.statetransition.events.block.ProposedBlockEvent;
-import tech.pegasys.artemis.statetransition.util.CommitteeAssignmentUtil;
 import tech.pegasys.artemis.storage.CombinedChainDataClient;
 import tech.pegasys.artemis.util.SSZTypes.Bitlist;
 import tech.pegasys.artemis.util.async.ExceptionThrowingFunction;
 import tech.pegasys.artemis.util.async.SafeFuture;
 import tech.pegasys.artemis.util.bls.BLSPublicKey;
 import tech.pegasys.artemis.util.bls.BLSSignature;
-import tech.pegasys.artemis.util.config.Constants;
 import tech.pegasys.artemis.validator.api.ValidatorApiChannel;
 import tech.pegasys.artemis.validator.api.ValidatorDuties;
+import tech.pegasys.artemis.validator.coordinator.EpochDuties.AttesterDuty;
 
 public class ValidatorApiHandler implements ValidatorApiChannel {
   private static final Logger LOG = LogManager.getLogger();
@@ -61,16 +54,19 @@ public class ValidatorApiHandler implements ValidatorApiChannel {
   private final BlockFactory blockFactory;
   private final AttestationAggregator attestationAggregator;
   private final EventBus eventBus;
+  private final EpochDutiesCache epochDutiesCache;
 
   public ValidatorApiHandler(
       final CombinedChainDataClient combinedChainDataClient,
       final BlockFactory blockFactory,
       final AttestationAggregator attestationAggregator,
-      final EventBus eventBus) {
+      final EventBus eventBus,
+      final EpochDutiesCache epochDutiesCache) {
     this.combinedChainDataClient = combinedChainDataClient;
     this.blockFactory = blockFactory;
     this.attestationAggregator = attestationAggregator;
     this.eventBus = eventBus;
+    this.epochDutiesCache = epochDutiesCache;
   }
 
   @Override
@@ -103,6 +99,20 @@ public class ValidatorApiHandler implements ValidatorApiChannel {
                 blockAndState.getState(), blockAndState.getBlock(), slot, randaoReveal));
   }
 
+  @Override
+  public void prepareUnsignedBlock(final UnsignedLong slot) {
+    createFromBlockAndState(
+            slot.minus(UnsignedLong.ONE),
+            blockAndState -> {
+              blockFactory.prepareUnsignedBlock(
+                  blockAndState.getState(), blockAndState.getBlock(), slot);
+              return blockAndState;
+            })
+        .finish(
+            () -> {},
+            error -> LOG.warn("Failed to prepare block production for slot {}", slot, error));
+  }
+
   private <T> SafeFuture<Optional<T>> createFromBlockAndState(
       final UnsignedLong maximumSlot,
       final ExceptionThrowingFunction<BeaconBlockAndState, T> creator) {
@@ -170,54 +180,27 @@ public class ValidatorApiHandler implements ValidatorApiChannel {
       final BeaconState state,
       final UnsignedLong epoch,
       final Collection<BLSPublicKey> publicKeys) {
-    final Map<Integer, List<UnsignedLong>> proposalSlotsByValidatorIndex =
-        getBeaconProposalSlotsByValidatorIndex(state, epoch);
+    final EpochDuties epochDuties = epochDutiesCache.getDuties(state, epoch);
     return publicKeys.stream()
-        .map(key -> getDutiesForValidator(key, state, epoch, proposalSlotsByValidatorIndex))
+        .map(key -> getDutiesForValidator(key, state, epochDuties))
         .collect(toList());
   }
 
   private ValidatorDuties getDutiesForValidator(
-      final BLSPublicKey key,
-      final BeaconState state,
-      final UnsignedLong epoch,
-      final Map<Integer, List<UnsignedLong>> proposalSlotsByValidatorIndex) {
+      final BLSPublicKey key, final BeaconState state, final EpochDuties epochDuties) {
     return ValidatorsUtil.getValidatorIndex(state, key)
-        .map(
-            index -> createValidatorDuties(proposalSlotsByValidatorIndex, key, state, epoch, index))
+        .map(index -> createValidatorDuties(epochDuties, key, index))
         .orElseGet(() -> ValidatorDuties.noDuties(key));
   }
 
   private ValidatorDuties createValidatorDuties(
-      final Map<Integer, List<UnsignedLong>> proposalSlotsByValidatorIndex,
-      final BLSPublicKey key,
-      final BeaconState state,
-      final UnsignedLong epoch,
-      final Integer validatorIndex) {
-    final List<UnsignedLong> proposerSlots =
-        proposalSlotsByValidatorIndex.getOrDefault(validatorIndex, emptyList());
-    final CommitteeAssignment committeeAssignment =
-        CommitteeAssignmentUtil.get_committee_assignment(state, epoch, validatorIndex)
-            .orElseThrow();
+      final EpochDuties epochDuties, final BLSPublicKey key, final Integer validatorIndex) {
+    final AttesterDuty attesterDuty = epochDuties.getAttesterDuty(validatorIndex).orElseThrow();
     return ValidatorDuties.withDuties(
         key,
         validatorIndex,
-        Math.toIntExact(committeeAssignment.getCommitteeIndex().longValue()),
-        proposerSlots,
-        committeeAssignment.getSlot());
-  }
-
-  private Map<Integer, List<UnsignedLong>> getBeaconProposalSlotsByValidatorIndex(
-      final BeaconState state, final UnsignedLong epoch) {
-    final UnsignedLong startSlot = compute_start_slot_at_epoch(epoch);
-    final UnsignedLong endSlot = startSlot.plus(UnsignedLong.valueOf(Constants.SLOTS_PER_EPOCH));
-    final Map<Integer, List<UnsignedLong>> proposalSlotsByValidatorIndex = new HashMap<>();
-    for (UnsignedLong slot = startSlot;
-        slot.compareTo(endSlot) < 0;
-        slot = slot.plus(UnsignedLong.ONE)) {
-      final Integer proposer = get_beacon_proposer_index(state, slot);
-      proposalSlotsByValidatorIndex.computeIfAbsent(proposer, key -> new ArrayList<>()).add(slot);
-    }
-    return proposalSlotsByValidatorIndex;
+        Math.toIntExact(attesterDuty.getCommitteeIndex().longValue()),
+        epochDuties.getProposalSlots(validatorIndex),
+        attesterDuty.getSlot());
   }
 }
@@ -47,7 +47,6 @@ import tech.pegasys.artemis.datastructures.operations.AggregateAndProof;
 import tech.pegasys.artemis.datastructures.operations.Attestation;
 import tech.pegasys.artemis.datastructures.operations.AttestationData;
 import tech.pegasys.artemis.datastructures.state.BeaconState;
-import tech.pegasys.artemis.datastructures.state.MutableBeaconState;
 import tech.pegasys.artemis.datastructures.state.Validator;
 import tech.pegasys.artemis.datastructures.validator.AttesterInformation;
 import tech.pegasys.artemis.datastructures.validator.MessageSignerService;
@@ -58,13 +57,15 @@ import tech.pegasys.artemis.statetransition.BlockProposalUtil;
 import tech.pegasys.artemis.statetransition.StateTransition;
 import tech.pegasys.artemis.statetransition.events.attestation.BroadcastAggregatesEvent;
 import tech.pegasys.artemis.statetransition.events.attestation.BroadcastAttestationEvent;
-import tech.pegasys.artemis.statetransition.events.attestation.ProcessedAggregateEvent;
-import tech.pegasys.artemis.statetransition.events.attestation.ProcessedAttestationEvent;
+import tech.pegasys.artemis.statetransition.events.attestation.ProcessedAttestationsChannel;
 import tech.pegasys.artemis.statetransition.events.block.ImportedBlockEvent;
+import tech.pegasys.artemis.statetransition.util.EpochProcessingException;
+import tech.pegasys.artemis.statetransition.util.SlotProcessingException;
 import tech.pegasys.artemis.storage.ChainStorageClient;
 import tech.pegasys.artemis.storage.Store;
 import tech.pegasys.artemis.util.SSZTypes.Bitlist;
 import tech.pegasys.artemis.util.SSZTypes.SSZList;
+import tech.pegasys.artemis.util.async.AsyncRunner;
 import tech.pegasys.artemis.util.async.SafeFuture;
 import tech.pegasys.artemis.util.bls.BLSPublicKey;
 import tech.pegasys.artemis.util.bls.BLSSignature;
@@ -73,25 +74,30 @@ import tech.pegasys.artemis.util.time.channels.SlotEventsChannel;
 import tech.pegasys.artemis.validator.api.ValidatorApiChannel;
 
 /** This class coordinates validator(s) to act correctly in the beacon chain */
-public class ValidatorCoordinator extends Service implements SlotEventsChannel {
+public class ValidatorCoordinator extends Service
+    implements SlotEventsChannel, ProcessedAttestationsChannel {
 
   private static final Logger LOG = LogManager.getLogger();
 
   private final EventBus eventBus;
   private final Map<BLSPublicKey, ValidatorInfo> validators;
-  private final StateTransition stateTransition;
   private final BlockProposalUtil blockCreator;
+  private final AdvancedStateCache advancedStateCache;
+  private final AsyncRunner asyncRunner;
   private final ChainStorageClient chainStorageClient;
   private final AttestationAggregator attestationAggregator;
   private final BlockAttestationsPool blockAttestationsPool;
   private final ValidatorApiChannel validatorApiChannel;
   private Eth1DataCache eth1DataCache;
+  private final EpochDutiesCache epochDutiesCache;
   private CommitteeAssignmentManager committeeAssignmentManager;
 
   //  maps slots to Lists of attestation information
   //  (which contain information for our validators to produce attestations)
   private Map<UnsignedLong, List<AttesterInformation>> committeeAssignments = new HashMap<>();
 
+  private volatile Optional<PreparedProposal> preparedProposal = Optional.empty();
+
   public ValidatorCoordinator(
       EventBus eventBus,
       ValidatorApiChannel validatorApiChannel,
@@ -99,16 +105,21 @@ public class ValidatorCoordinator extends Service implements SlotEventsChannel {
       AttestationAggregator attestationAggregator,
       BlockAttestationsPool blockAttestationsPool,
       Eth1DataCache eth1DataCache,
+      EpochDutiesCache epochDutiesCache,
+      AdvancedStateCache advancedStateCache,
+      AsyncRunner asyncRunner,
       ArtemisConfiguration config) {
     this.eventBus = eventBus;
     this.validatorApiChannel = validatorApiChannel;
     this.chainStorageClient = chainStorageClient;
-    this.stateTransition = new StateTransition();
-    this.blockCreator = new BlockProposalUtil(stateTransition);
+    this.blockCreator = new BlockProposalUtil(new StateTransition());
     this.validators = initializeValidators(config);
     this.attestationAggregator = attestationAggregator;
     this.blockAttestationsPool = blockAttestationsPool;
     this.eth1DataCache = eth1DataCache;
+    this.epochDutiesCache = epochDutiesCache;
+    this.advancedStateCache = advancedStateCache;
+    this.asyncRunner = asyncRunner;
   }
 
   @Override
@@ -132,7 +143,7 @@ public class ValidatorCoordinator extends Service implements SlotEventsChannel {
     getIndicesOfOurValidators(headState, validators);
 
     this.committeeAssignmentManager =
-        new CommitteeAssignmentManager(validators, committeeAssignments);
+        new CommitteeAssignmentManager(validators, committeeAssignments, epochDutiesCache);
     eth1DataCache.startBeaconChainMode(headState);
 
     // Update committee assignments and subscribe to required committee indices for the next 2
@@ -148,20 +159,21 @@ public class ValidatorCoordinator extends Service implements SlotEventsChannel {
     final Optional<Bytes32> headRoot = chainStorageClient.getBestBlockRoot();
     if (!isGenesis(slot) && headRoot.isPresent()) {
       BeaconState headState = chainStorageClient.getStore().getBlockState(headRoot.get());
-      createBlockIfNecessary(headState, slot);
+      createBlockIfNecessary(headRoot.get(), headState, slot);
     }
 
     eth1DataCache.onSlot(slot);
+    blockAttestationsPool.onSlot(slot);
   }
 
-  @Subscribe
-  public void onProcessedAttestationEvent(ProcessedAttestationEvent event) {
-    attestationAggregator.processAttestation(event.getAttestation());
+  @Override
+  public void onProcessedAttestation(final Attestation attestation) {
+    attestationAggregator.processAttestation(attestation);
   }
 
-  @Subscribe
-  public void onProcessedAggregateEvent(ProcessedAggregateEvent event) {
-    blockAttestationsPool.addUnprocessedAggregateAttestationToQueue(event.getAttestation());
+  @Override
+  public void onProcessedAggregate(final Attestation aggregate) {
+    blockAttestationsPool.addUnprocessedAggregateAttestationToQueue(aggregate);
   }
 
   @Subscribe
@@ -276,6 +288,10 @@ public class ValidatorCoordinator extends Service implements SlotEventsChannel {
       this.eventBus.post(aggregateAndProof);
     }
     attestationAggregator.reset();
+
+    // Get ready to propose in the next slot while there's nothing else to do
+    final UnsignedLong nextSlot = event.getNodeSlot().plus(UnsignedLong.ONE);
+    asyncRunner.runAsync(() -> prepareBlockIfNecessary(nextSlot)).reportExceptions();
   }
 
   private SafeFuture<BLSSignature> signAttestation(
@@ -287,32 +303,66 @@ public class ValidatorCoordinator extends Service implements SlotEventsChannel {
     return getSigner(attester).signAttestation(signing_root);
   }
 
-  private void createBlockIfNecessary(BeaconState previousState, UnsignedLong newSlot) {
+  private void prepareBlockIfNecessary(final UnsignedLong newSlot) {
+    final Optional<Bytes32> headRoot = chainStorageClient.getBestBlockRoot();
+    if (headRoot.isEmpty()) {
+      return;
+    }
     try {
-      MutableBeaconState newState = previousState.createWritableCopy();
-      // Process empty slots up to the new slot
-      stateTransition.process_slots(newState, newSlot);
+      final BeaconState headState = chainStorageClient.getStore().getBlockState(headRoot.get());
+      final PreparedProposal proposal = prepareProposal(headRoot.get(), headState, newSlot);
+      preparedProposal = Optional.of(proposal);
+      if (proposal.isLocalProposer()) {
+        validatorApiChannel.prepareUnsignedBlock(newSlot);
+      }
+    } catch (final Exception e) {
+      LOG.warn("Failed to prepare block production for slot {}", newSlot, e);
+    }
+  }
+
+  private PreparedProposal prepareProposal(
+      final Bytes32 headRoot, final BeaconState previousState, final UnsignedLong newSlot)
+      throws EpochProcessingException, SlotProcessingException {
+    final BeaconState newState =
+        advancedStateCache.getAdvancedState(headRoot, previousState, newSlot);
 
-      // Check if we should be proposing
-      final BLSPublicKey proposer = blockCreator.getProposerForSlot(newState, newSlot);
-      if (!validators.containsKey(proposer)) {
+    // Check if we should be proposing
+    final BLSPublicKey proposer = blockCreator.getProposerForSlot(newState, newSlot);
+    if (!validators.containsKey(proposer)) {
+      return new PreparedProposal(headRoot, newSlot, newState, proposer, Optional.empty());
+    }
+
+    final UnsignedLong epoch = compute_epoch_at_slot(newSlot);
+    final BLSSignature randaoReveal =
+        blockCreator.get_epoch_signature(newState, epoch, getSigner(proposer));
+    return new PreparedProposal(headRoot, newSlot, newState, proposer, Optional.of(randaoReveal));
+  }
+
+  private void createBlockIfNecessary(
+      final Bytes32 headRoot, final BeaconState previousState, final UnsignedLong newSlot) {
+    try {
+      final Optional<PreparedProposal> maybeProposal =
+          preparedProposal.filter(proposal -> proposal.isFor(headRoot, newSlot));
+      final PreparedProposal proposal =
+          maybeProposal.isPresent()
+              ? maybeProposal.get()
+              : prepareProposal(headRoot, previousState, newSlot);
+      if (!proposal.isLocalProposer()) {
         // We're not proposing now
         return;
       }
 
-      final MessageSignerService signer = getSigner(proposer);
-      final BLSSignature randaoReveal =
-          blockCreator.get_epoch_signature(newState, compute_epoch_at_slot(newSlot), signer);
+      final MessageSignerService signer = getSigner(proposal.proposer);
       final BeaconBlock unsignedBlock =
           validatorApiChannel
-              .createUnsignedBlock(newSlot, randaoReveal)
+              .createUnsignedBlock(newSlot, proposal.randaoReveal.orElseThrow())
               .orTimeout(10, TimeUnit.SECONDS)
               .join()
               .orElseThrow(
                   () -> new NoSuchElementException("No block created for slot " + newSlot));
 
       final BLSSignature blockSignature =
-          blockCreator.get_block_signature(newState, unsignedBlock, signer);
+          blockCreator.get_block_signature(proposal.state, unsignedBlock, signer);
 
       final SignedBeaconBlock newBlock = new SignedBeaconBlock(unsignedBlock, blockSignature);
 
@@ -340,4 +390,35 @@ public class ValidatorCoordinator extends Service implements SlotEventsChannel {
               }
             });
   }
+
+  /** The state and proposer for a slot, worked out before the slot starts where possible. */
+  private static class PreparedProposal {
+    private final Bytes32 parentRoot;
+    private final UnsignedLong slot;
+    private final BeaconState state;
+    private final BLSPublicKey proposer;
+    // Only present when one of our validators is the proposer
+    private final Optional<BLSSignature> randaoReveal;
+
+    private PreparedProposal(
+        final Bytes32 parentRoot,
+        final UnsignedLong slot,
+        final BeaconState state,
+        final BLSPublicKey proposer,
+        final Optional<BLSSignature> randaoReveal) {
+      this.parentRoot = parentRoot;
+      this.slot = slot;
+      this.state = state;
+      this.proposer = proposer;
+      this.randaoReveal = randaoReveal;
+    }
+
+    private boolean isFor(final Bytes32 parentRoot, final UnsignedLong slot) {
+      return this.parentRoot.equals(parentRoot) && this.slot.equals(slot);
+    }
+
+    private boolean isLocalProposer() {
+      return randaoReveal.isPresent();
+    }
+  }
 }
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.artemis.validator.coordinator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.google.common.primitives.UnsignedLong;
+import org.apache.tuweni.bytes.Bytes32;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.artemis.datastructures.state.BeaconState;
+import tech.pegasys.artemis.datastructures.util.DataStructureUtil;
+import tech.pegasys.artemis.statetransition.StateTransition;
+
+class AdvancedStateCacheTest {
+  private static final UnsignedLong SLOT = UnsignedLong.valueOf(5);
+
+  private final DataStructureUtil dataStructureUtil = new DataStructureUtil();
+  private final BeaconState parentState = dataStructureUtil.randomBeaconState(UnsignedLong.ONE);
+  private final Bytes32 parentRoot = dataStructureUtil.randomBytes32();
+  private final StateTransition stateTransition = mock(StateTransition.class);
+
+  private final AdvancedStateCache cache = new AdvancedStateCache(stateTransition);
+
+  @Test
+  void shouldOnlyProcessSlotsOnceForSameParentAndSlot() throws Exception {
+    final BeaconState state = cache.getAdvancedState(parentRoot, parentState, SLOT);
+
+    assertThat(cache.getAdvancedState(parentRoot, parentState, SLOT)).isSameAs(state);
+    verify(stateTransition, times(1)).process_slots(any(), eq(SLOT));
+  }
+
+  @Test
+  void shouldProcessSlotsAgainForDifferentSlot() throws Exception {
+    final UnsignedLong nextSlot = SLOT.plus(UnsignedLong.ONE);
+    cache.getAdvancedState(parentRoot, parentState, SLOT);
+    cache.getAdvancedState(parentRoot, parentState, nextSlot);
+
+    verify(stateTransition).process_slots(any(), eq(SLOT));
+    verify(stateTransition).process_slots(any(), eq(nextSlot));
+  }
+
+  @Test
+  void shouldProcessSlotsAgainForDifferentParent() throws Exception {
+    cache.getAdvancedState(parentRoot, parentState, SLOT);
+    cache.getAdvancedState(dataStructureUtil.randomBytes32(), parentState, SLOT);
+
+    verify(stateTransition, times(2)).process_slots(any(), eq(SLOT));
+  }
+}
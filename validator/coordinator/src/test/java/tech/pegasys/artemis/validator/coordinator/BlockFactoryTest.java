@@ -17,6 +17,9 @@ import static com.google.common.primitives.UnsignedLong.ONE;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static tech.pegasys.artemis.datastructures.blocks.BeaconBlockBodyLists.createAttestations;
 import static tech.pegasys.artemis.datastructures.blocks.BeaconBlockBodyLists.createDeposits;
@@ -61,7 +64,7 @@ class BlockFactoryTest {
   private final BlockFactory blockFactory =
       new BlockFactory(
           new BlockProposalUtil(stateTransition),
-          stateTransition,
+          new AdvancedStateCache(stateTransition),
           blockAttestationsPool,
           depositProvider,
           eth1DataCache);
@@ -92,6 +95,59 @@ class BlockFactoryTest {
     assertBlockCreated(newSlot);
   }
 
+  @Test
+  public void shouldCreateSameBlockWhenPrepared() throws Exception {
+    final UnsignedLong newSlot = chainStorageClient.getBestSlot().plus(UnsignedLong.valueOf(2));
+    final BLSSignature randaoReveal = dataStructureUtil.randomSignature();
+    final BeaconBlock unpreparedBlock = createBlock(newSlot, randaoReveal);
+
+    prepareBlock(newSlot);
+    final BeaconBlock preparedBlock = createBlock(newSlot, randaoReveal);
+
+    assertThat(preparedBlock).isEqualTo(unpreparedBlock);
+  }
+
+  @Test
+  public void shouldReuseDepositsButRefreshAttestationsWhenPrepared() throws Exception {
+    final UnsignedLong newSlot = chainStorageClient.getBestSlot().plus(ONE);
+    prepareBlock(newSlot);
+    verifyNoInteractions(blockAttestationsPool);
+
+    createBlock(newSlot, dataStructureUtil.randomSignature());
+
+    verify(blockAttestationsPool).getAttestationsForSlot(newSlot);
+    verify(depositProvider, times(1)).getDeposits(any());
+  }
+
+  @Test
+  public void shouldNotUsePreparedBlockForDifferentSlot() throws Exception {
+    final UnsignedLong preparedSlot = chainStorageClient.getBestSlot().plus(ONE);
+    prepareBlock(preparedSlot);
+
+    final UnsignedLong newSlot = preparedSlot.plus(ONE);
+    final BeaconBlock block = createBlock(newSlot, dataStructureUtil.randomSignature());
+
+    assertThat(block.getSlot()).isEqualTo(newSlot);
+    verify(depositProvider, times(2)).getDeposits(any());
+  }
+
+  private void prepareBlock(final UnsignedLong newSlot) throws Exception {
+    final Bytes32 bestBlockRoot = chainStorageClient.getBestBlockRoot().orElseThrow();
+    final BeaconBlock previousBlock =
+        chainStorageClient.getBlockByRoot(bestBlockRoot).orElseThrow();
+    final BeaconState previousState = chainStorageClient.getBlockState(bestBlockRoot).orElseThrow();
+    blockFactory.prepareUnsignedBlock(previousState, previousBlock, newSlot);
+  }
+
+  private BeaconBlock createBlock(final UnsignedLong newSlot, final BLSSignature randaoReveal)
+      throws Exception {
+    final Bytes32 bestBlockRoot = chainStorageClient.getBestBlockRoot().orElseThrow();
+    final BeaconBlock previousBlock =
+        chainStorageClient.getBlockByRoot(bestBlockRoot).orElseThrow();
+    final BeaconState previousState = chainStorageClient.getBlockState(bestBlockRoot).orElseThrow();
+    return blockFactory.createUnsignedBlock(previousState, previousBlock, newSlot, randaoReveal);
+  }
+
   private void assertBlockCreated(final UnsignedLong newSlot)
       throws EpochProcessingException, SlotProcessingException, StateTransitionException {
     final BLSSignature randaoReveal = dataStructureUtil.randomSignature();
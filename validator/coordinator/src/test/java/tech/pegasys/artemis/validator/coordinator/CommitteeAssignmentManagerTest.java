@@ -70,7 +70,9 @@ class CommitteeAssignmentManagerTest {
     getIndicesOfOurValidators(state, validators);
     committeeAssignments = new HashMap<>();
     committeeAssignmentManager =
-        spy(new CommitteeAssignmentManager(validators, committeeAssignments));
+        spy(
+            new CommitteeAssignmentManager(
+                validators, committeeAssignments, new EpochDutiesCache()));
     doReturn(BLSSignature.random(42))
         .when(committeeAssignmentManager)
         .get_slot_signature(any(), any(), any());
@@ -134,7 +136,7 @@ class CommitteeAssignmentManagerTest {
     Map<BLSPublicKey, ValidatorInfo> newValidators = new HashMap<>(validators);
     newValidators.remove(validatorKeys.get(0).getPublicKey());
     committeeAssignmentManager =
-        new CommitteeAssignmentManager(newValidators, committeeAssignments);
+        new CommitteeAssignmentManager(newValidators, committeeAssignments, new EpochDutiesCache());
 
     EventBus eventBus = mock(EventBus.class);
 
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.artemis.validator.coordinator;
+
+import static java.nio.file.Files.writeString;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import org.apache.tuweni.bytes.Bytes;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class DecryptedKeyCacheTest {
+  private static final String PASSWORD = "password";
+  private static final Bytes KEY = Bytes.random(KeystoresValidatorKeyProvider.KEY_LENGTH);
+  private static final Supplier<Bytes> FAILING_LOADER =
+      () -> {
+        throw new IllegalStateException("Should have used cached key");
+      };
+
+  @Test
+  void shouldReturnCachedKeyAfterRestart(@TempDir final Path tempDir) throws IOException {
+    final Path keystore = createKeystore(tempDir, "keystore");
+    final DecryptedKeyCache cache = loadCache(tempDir);
+    assertThat(cache.getOrLoad(keystore, PASSWORD, () -> KEY)).isEqualTo(KEY);
+    cache.save();
+
+    final DecryptedKeyCache reloadedCache = loadCache(tempDir);
+    assertThat(reloadedCache.getOrLoad(keystore, PASSWORD, FAILING_LOADER)).isEqualTo(KEY);
+  }
+
+  @Test
+  void shouldNotStoreKeysInPlaintext(@TempDir final Path tempDir) throws IOException {
+    final Path keystore = createKeystore(tempDir, "keystore");
+    final DecryptedKeyCache cache = loadCache(tempDir);
+    cache.getOrLoad(keystore, PASSWORD, () -> KEY);
+    cache.save();
+
+    final Path cacheFile = tempDir.resolve("cache").resolve(DecryptedKeyCache.CACHE_FILE_NAME);
+    final Bytes cacheContent = Bytes.wrap(Files.readAllBytes(cacheFile));
+    assertThat(cacheContent.toHexString()).doesNotContain(KEY.toUnprefixedHexString());
+  }
+
+  @Test
+  void shouldLoadKeyAgainWhenPasswordChanges(@TempDir final Path tempDir) throws IOException {
+    final Path keystore = createKeystore(tempDir, "keystore");
+    final DecryptedKeyCache cache = loadCache(tempDir);
+    cache.getOrLoad(keystore, PASSWORD, () -> KEY);
+    cache.save();
+
+    final Bytes otherKey = Bytes.random(KeystoresValidatorKeyProvider.KEY_LENGTH);
+    final DecryptedKeyCache reloadedCache = loadCache(tempDir);
+    assertThat(reloadedCache.getOrLoad(keystore, "otherPassword", () -> otherKey))
+        .isEqualTo(otherKey);
+  }
+
+  @Test
+  void shouldIgnoreCacheWhenSealingKeyIsReplaced(@TempDir final Path tempDir) throws IOException {
+    final Path keystore = createKeystore(tempDir, "keystore");
+    final DecryptedKeyCache cache = loadCache(tempDir);
+    cache.getOrLoad(keystore, PASSWORD, () -> KEY);
+    cache.save();
+
+    Files.delete(sealingKeyFile(tempDir));
+    final Bytes otherKey = Bytes.random(KeystoresValidatorKeyProvider.KEY_LENGTH);
+    final DecryptedKeyCache reloadedCache = loadCache(tempDir);
+    assertThat(reloadedCache.getOrLoad(keystore, PASSWORD, () -> otherKey)).isEqualTo(otherKey);
+  }
+
+  @Test
+  void shouldStoreSealingKeyOutsideCacheDirectory(@TempDir final Path tempDir) throws IOException {
+    final Path keystore = createKeystore(tempDir, "keystore");
+    final Path cacheDirectory = tempDir.resolve("cache");
+    final Path sealingKeyFile = tempDir.resolve("secrets").resolve("sealing.key");
+    final DecryptedKeyCache cache = DecryptedKeyCache.load(cacheDirectory, sealingKeyFile);
+    cache.getOrLoad(keystore, PASSWORD, () -> KEY);
+    cache.save();
+
+    assertThat(sealingKeyFile).exists();
+    try (Stream<Path> cacheFiles = Files.list(cacheDirectory)) {
+      assertThat(cacheFiles)
+          .containsExactly(cacheDirectory.resolve(DecryptedKeyCache.CACHE_FILE_NAME));
+    }
+  }
+
+  @Test
+  void shouldNotOverwriteInvalidSealingKeyFile(@TempDir final Path tempDir) throws IOException {
+    writeString(sealingKeyFile(tempDir), "not a sealing key");
+
+    assertThatThrownBy(() -> loadCache(tempDir)).isInstanceOf(IllegalArgumentException.class);
+    assertThat(sealingKeyFile(tempDir)).hasContent("not a sealing key");
+  }
+
+  private DecryptedKeyCache loadCache(final Path tempDir) {
+    return DecryptedKeyCache.load(tempDir.resolve("cache"), sealingKeyFile(tempDir));
+  }
+
+  private Path sealingKeyFile(final Path tempDir) {
+    return tempDir.resolve("sealing.key");
+  }
+
+  private Path createKeystore(final Path tempDir, final String name) throws IOException {
+    final Path keystore = tempDir.resolve(name);
+    writeString(keystore, "{\"keystore\": \"" + name + "\"}");
+    return keystore;
+  }
+}
@@ -119,6 +119,25 @@ public class DepositProviderTest {
     assertThat(depositProvider.getDepositMapSize()).isEqualTo(10);
   }
 
+  @Test
+  void depositProofsRemainValidAfterFinalizedDepositsArePruned() {
+    Bytes32 finalizedBlockRoot = Bytes32.fromHexString("0x01");
+    mockStateEth1DepositIndex(10);
+    mockDepositsFromEth1Block(0, 20);
+    when(chainStorageClient.getBlockState(eq(finalizedBlockRoot)))
+        .thenReturn(Optional.ofNullable(beaconState));
+    depositProvider.onFinalizedCheckpoint(
+        new FinalizedCheckpointEvent(new Checkpoint(UnsignedLong.ONE, finalizedBlockRoot)));
+
+    Constants.MAX_DEPOSITS = 16;
+    mockDepositsFromEth1Block(20, 5);
+    mockEth1DataDepositCount(25);
+
+    SSZList<Deposit> deposits = depositProvider.getDeposits(beaconState);
+    assertThat(deposits).hasSize(15);
+    checkThatDepositProofIsValid(deposits);
+  }
+
   private void checkThatDepositProofIsValid(SSZList<Deposit> deposits) {
     deposits.forEach(
         deposit ->
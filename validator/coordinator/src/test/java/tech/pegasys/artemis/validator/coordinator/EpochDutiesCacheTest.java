@@ -0,0 +1,99 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.artemis.validator.coordinator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static tech.pegasys.artemis.datastructures.util.BeaconStateUtil.compute_start_slot_at_epoch;
+
+import com.google.common.primitives.UnsignedLong;
+import java.util.List;
+import java.util.Optional;
+import org.apache.tuweni.bytes.Bytes32;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.artemis.datastructures.operations.DepositData;
+import tech.pegasys.artemis.datastructures.state.BeaconState;
+import tech.pegasys.artemis.datastructures.state.CommitteeAssignment;
+import tech.pegasys.artemis.datastructures.state.MutableBeaconState;
+import tech.pegasys.artemis.datastructures.util.MockStartBeaconStateGenerator;
+import tech.pegasys.artemis.datastructures.util.MockStartDepositGenerator;
+import tech.pegasys.artemis.datastructures.util.MockStartValidatorKeyPairFactory;
+import tech.pegasys.artemis.statetransition.util.CommitteeAssignmentUtil;
+import tech.pegasys.artemis.util.bls.BLSKeyPair;
+import tech.pegasys.artemis.util.config.Constants;
+import tech.pegasys.artemis.validator.coordinator.EpochDuties.AttesterDuty;
+
+class EpochDutiesCacheTest {
+  private static final UnsignedLong EPOCH = UnsignedLong.valueOf(2);
+  private static final UnsignedLong DEPENDENT_SLOT =
+      compute_start_slot_at_epoch(EPOCH.minus(UnsignedLong.ONE)).minus(UnsignedLong.ONE);
+
+  private final List<BLSKeyPair> validatorKeys =
+      new MockStartValidatorKeyPairFactory().generateKeyPairs(0, 64);
+  private final List<DepositData> depositDatas =
+      new MockStartDepositGenerator().createDeposits(validatorKeys);
+  private final BeaconState genesisState =
+      new MockStartBeaconStateGenerator().createInitialBeaconState(UnsignedLong.ONE, depositDatas);
+
+  private final EpochDutiesCache cache = new EpochDutiesCache();
+
+  @Test
+  void shouldMatchCommitteeAssignmentsForEveryValidator() {
+    final BeaconState state = createState(Bytes32.fromHexString("0x01"), Bytes32.ZERO);
+    final EpochDuties duties = cache.getDuties(state, EPOCH);
+
+    for (int validatorIndex = 0; validatorIndex < validatorKeys.size(); validatorIndex++) {
+      final Optional<CommitteeAssignment> expected =
+          CommitteeAssignmentUtil.get_committee_assignment(state, EPOCH, validatorIndex);
+      final Optional<AttesterDuty> actual = duties.getAttesterDuty(validatorIndex);
+      assertThat(actual).isPresent();
+      assertThat(actual.get().getSlot()).isEqualTo(expected.orElseThrow().getSlot());
+      assertThat(actual.get().getCommitteeIndex()).isEqualTo(expected.get().getCommitteeIndex());
+      assertThat(actual.get().getCommittee()).isEqualTo(expected.get().getCommittee());
+      assertThat(actual.get().getCommittee().get(actual.get().getCommitteePosition()))
+          .isEqualTo(validatorIndex);
+    }
+  }
+
+  @Test
+  void shouldReuseDutiesWhenOnlyLaterBlocksChange() {
+    final Bytes32 dependentRoot = Bytes32.fromHexString("0x01");
+    final EpochDuties duties =
+        cache.getDuties(createState(dependentRoot, Bytes32.fromHexString("0x02")), EPOCH);
+
+    assertThat(cache.getDuties(createState(dependentRoot, Bytes32.fromHexString("0x03")), EPOCH))
+        .isSameAs(duties);
+  }
+
+  @Test
+  void shouldRecalculateDutiesWhenDependentRootChanges() {
+    final EpochDuties duties =
+        cache.getDuties(createState(Bytes32.fromHexString("0x01"), Bytes32.ZERO), EPOCH);
+
+    assertThat(cache.getDuties(createState(Bytes32.fromHexString("0x02"), Bytes32.ZERO), EPOCH))
+        .isNotSameAs(duties);
+  }
+
+  private BeaconState createState(final Bytes32 dependentRoot, final Bytes32 laterBlockRoot) {
+    final MutableBeaconState state = genesisState.createWritableCopy();
+    state.setSlot(DEPENDENT_SLOT.plus(UnsignedLong.valueOf(2)));
+    state.getBlock_roots().set(blockRootIndex(DEPENDENT_SLOT), dependentRoot);
+    final UnsignedLong laterSlot = DEPENDENT_SLOT.plus(UnsignedLong.ONE);
+    state.getBlock_roots().set(blockRootIndex(laterSlot), laterBlockRoot);
+    return state.commitChanges();
+  }
+
+  private int blockRootIndex(final UnsignedLong slot) {
+    return slot.mod(UnsignedLong.valueOf(Constants.SLOTS_PER_HISTORICAL_ROOT)).intValue();
+  }
+}
@@ -65,6 +65,45 @@ class KeystoresValidatorKeyProviderTest {
     Assertions.assertThat(blsKeyPairs).containsExactly(EXPECTED_BLS_KEY_PAIR);
   }
 
+  @Test
+  void shouldLoadKeysThroughCacheWhenEnabled(@TempDir final Path tempDir) throws IOException {
+    final Path scryptKeystore = Path.of(Resources.getResource("scryptTestVector.json").getPath());
+    final Path pbkdf2Keystore = Path.of(Resources.getResource("pbkdf2TestVector.json").getPath());
+    final Path tempPasswordFile = createTempFile(tempDir, "pass", ".txt");
+    writeString(tempPasswordFile, EXPECTED_PASSWORD);
+    final Path dataPath = tempDir.resolve("data");
+
+    when(config.getValidatorKeystorePasswordFilePairs())
+        .thenReturn(
+            List.of(
+                Pair.of(scryptKeystore, tempPasswordFile),
+                Pair.of(pbkdf2Keystore, tempPasswordFile)));
+    when(config.isValidatorKeyCacheEnabled()).thenReturn(true);
+    when(config.getDataPath()).thenReturn(dataPath.toString());
+    when(config.getValidatorKeyCacheSealingKeyFile())
+        .thenReturn(tempDir.resolve("sealing.key").toString());
+
+    Assertions.assertThat(keystoresValidatorKeyProvider.loadValidatorKeys(config))
+        .containsExactly(EXPECTED_BLS_KEY_PAIR);
+    final Path cacheDirectory = dataPath.resolve(KeystoresValidatorKeyProvider.KEY_CACHE_DIRECTORY);
+    Assertions.assertThat(cacheDirectory.resolve(DecryptedKeyCache.CACHE_FILE_NAME)).exists();
+
+    // Loading again uses the cached keys
+    Assertions.assertThat(new KeystoresValidatorKeyProvider().loadValidatorKeys(config))
+        .containsExactly(EXPECTED_BLS_KEY_PAIR);
+  }
+
+  @Test
+  void shouldRequireSealingKeyFileWhenCacheEnabled(@TempDir final Path tempDir) {
+    when(config.getValidatorKeystorePasswordFilePairs()).thenReturn(List.of());
+    when(config.isValidatorKeyCacheEnabled()).thenReturn(true);
+    when(config.getDataPath()).thenReturn(tempDir.toString());
+
+    Assertions.assertThatExceptionOfType(IllegalArgumentException.class)
+        .isThrownBy(() -> keystoresValidatorKeyProvider.loadValidatorKeys(config))
+        .withMessage("A sealing key file must be configured to enable the validator key cache");
+  }
+
   @Test
   void emptyPasswordFileThrowsError(@TempDir final Path tempDir) throws IOException {
     // load keystores from resources
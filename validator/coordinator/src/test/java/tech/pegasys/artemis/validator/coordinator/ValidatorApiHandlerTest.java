@@ -61,7 +61,8 @@ class ValidatorApiHandlerTest {
   private final EventBus eventBus = mock(EventBus.class);
 
   private final ValidatorApiHandler validatorApiHandler =
-      new ValidatorApiHandler(chainDataClient, blockFactory, attestationAggregator, eventBus);
+      new ValidatorApiHandler(
+          chainDataClient, blockFactory, attestationAggregator, eventBus, new EpochDutiesCache());
 
   @Test
   public void getDuties_shouldReturnEmptyWhenStateIsUnavailable() {
@@ -175,6 +176,27 @@ class ValidatorApiHandlerTest {
     assertThat(result).isCompletedWithValue(Optional.of(createdBlock));
   }
 
+  @Test
+  public void prepareUnsignedBlock_shouldPrepareBlockOnParentInEffectAtPreviousSlot()
+      throws Exception {
+    final UnsignedLong newSlot = UnsignedLong.valueOf(25);
+    final Bytes32 blockRoot = dataStructureUtil.randomBytes32();
+    final BeaconState previousState = dataStructureUtil.randomBeaconState();
+    final BeaconBlock previousBlock =
+        dataStructureUtil.randomBeaconBlock(previousState.getSlot().longValue());
+
+    when(chainDataClient.getBestBlockRoot()).thenReturn(Optional.of(blockRoot));
+    when(chainDataClient.getBestSlot()).thenReturn(UnsignedLong.valueOf(24));
+    when(chainDataClient.getBlockAndStateInEffectAtSlot(newSlot.minus(UnsignedLong.ONE), blockRoot))
+        .thenReturn(
+            SafeFuture.completedFuture(
+                Optional.of(new BeaconBlockAndState(previousBlock, previousState))));
+
+    validatorApiHandler.prepareUnsignedBlock(newSlot);
+
+    verify(blockFactory).prepareUnsignedBlock(previousState, previousBlock, newSlot);
+  }
+
   @Test
   public void createUnsignedAttestation_shouldReturnEmptyWhenBestBlockNotSet() {
     when(chainDataClient.getBestBlockRoot()).thenReturn(Optional.empty());